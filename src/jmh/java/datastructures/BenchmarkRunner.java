@@ -0,0 +1,26 @@
+package jmh.java.datastructures;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point for the JMH benchmarks.
+ *
+ * <p>Runs every benchmark whose name matches the optional first argument (a regex, e.g. {@code ListBenchmark.get})
+ * with the GC profiler attached, so each result also reports the allocation rate ({@code gc.alloc.rate.norm}).
+ */
+public class BenchmarkRunner {
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : "jmh.java.datastructures.*";
+
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,188 @@
+package jmh.java.datastructures.cache;
+
+import main.java.datastructures.cache.CacheStats;
+import main.java.datastructures.cache.MyCache;
+import main.java.datastructures.cache.MyClockCache;
+import main.java.datastructures.cache.MyConcurrentCache;
+import main.java.datastructures.cache.MyLruCache;
+import main.java.datastructures.cache.MyTinyLfuCache;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a Zipfian trace of {@link #KEY_SPACE} keys against each cache policy behind a {@link MyConcurrentCache},
+ * and against a synchronized access-ordered {@link LinkedHashMap} as the usual hand-rolled baseline.
+ *
+ * <p>Every call looks up one key and, on a miss, puts it. JMH reports lookups per second, and the {@link Lookups}
+ * counters print hits and misses per second, whose ratio is the hit rate. {@link #tearDown()} also prints the hit
+ * rate of the whole trial. Run {@link #main(String[])} to repeat everything with 1, 2, 4, ... threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class CacheBenchmark {
+
+    private static final int KEY_SPACE = 1 << 20;
+    private static final int TRACE_LENGTH = 1 << 22; // power of two, see Cursor
+
+    @Param({"LRU", "CLOCK", "TinyLFU", "LinkedHashMap"})
+    public String policy;
+
+    @Param({"1000", "100000"})
+    public int maximumSize;
+
+    @Param({"0.8", "1.0"})
+    public double skew;
+
+    @Param({"16"})
+    public int segments;
+
+    private MyCache<Integer, Integer> cache;
+    private Map<Integer, Integer> baseline;
+    private Integer[] trace;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int position;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            position = (int) (Thread.currentThread().threadId() * 7919) & (TRACE_LENGTH - 1);
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Lookups {
+        public long hits;
+        public long misses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            hits = 0;
+            misses = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        trace = zipfTrace(KEY_SPACE, skew, TRACE_LENGTH, new SplittableRandom(42));
+        switch (policy) {
+            case "LRU":
+                cache = new MyConcurrentCache<>(segments, maximumSize, MyLruCache::new);
+                break;
+            case "CLOCK":
+                cache = new MyConcurrentCache<>(segments, maximumSize, MyClockCache::new);
+                break;
+            case "TinyLFU":
+                cache = new MyConcurrentCache<>(segments, maximumSize, MyTinyLfuCache::new);
+                break;
+            case "LinkedHashMap":
+                int max = maximumSize;
+                baseline = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+                        return size() > max;
+                    }
+                });
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown policy: " + policy);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (cache != null) {
+            CacheStats stats = cache.stats();
+            System.out.printf("%n%s hit rate: %.4f (%d lookups)%n", policy, stats.hitRate(), stats.requestCount());
+        }
+    }
+
+    @Benchmark
+    public Integer lookup(Cursor cursor, Lookups lookups) {
+        Integer key = trace[cursor.position++ & (TRACE_LENGTH - 1)];
+        if (baseline != null) {
+            Integer value = baseline.get(key);
+            if (value == null) {
+                lookups.misses++;
+                baseline.put(key, key);
+                return key;
+            }
+            lookups.hits++;
+            return value;
+        }
+
+        Integer value = cache.get(key);
+        if (value == null) {
+            lookups.misses++;
+            cache.put(key, key);
+            return key;
+        }
+        lookups.hits++;
+        return value;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        for (int threads = 1; threads <= cores; threads *= 2) {
+            Options options = new OptionsBuilder()
+                    .include(CacheBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+
+            new Runner(options).run();
+        }
+    }
+
+    // Helpers
+
+    /**
+     * Draws keys whose rank r (from 1) has probability proportional to {@code 1 / r^skew}, by inverting the
+     * cumulative distribution with a binary search. Ranks are scattered over the key space so that popular keys do
+     * not share hash buckets by construction.
+     */
+    private static Integer[] zipfTrace(int keySpace, double skew, int length, SplittableRandom random) {
+        double[] cumulative = new double[keySpace];
+        double sum = 0;
+        for (int rank = 0; rank < keySpace; rank++) {
+            sum += 1 / Math.pow(rank + 1, skew);
+            cumulative[rank] = sum;
+        }
+
+        Integer[] keys = new Integer[keySpace];
+        for (int rank = 0; rank < keySpace; rank++) {
+            keys[rank] = (int) ((rank * 0x9E3779B9L) & (keySpace - 1));
+        }
+
+        Integer[] trace = new Integer[length];
+        for (int i = 0; i < length; i++) {
+            double u = random.nextDouble() * sum;
+            int low = 0;
+            int high = keySpace - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cumulative[mid] < u) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            trace[i] = keys[low];
+        }
+        return trace;
+    }
+}
@@ -0,0 +1,109 @@
+package jmh.java.datastructures.codec;
+
+import main.java.datastructures.codec.ChunkedReader;
+import main.java.datastructures.codec.ChunkedWriter;
+import main.java.datastructures.codec.ElementCodec;
+import main.java.datastructures.codec.PrimitiveListCodec;
+import main.java.datastructures.list.IntArrayList;
+import main.java.datastructures.list.MyArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares loading a snapshot written by the chunked codecs with parsing the {@code toString()} output, the only
+ * serialization the lists had before.
+ *
+ * <p>The int list holds ascending ids with small gaps, where the delta encoding shines; the string list holds
+ * 20-character keys. Everything is read from and written to memory, so the numbers are pure encoding cost.
+ * {@link #setUp()} prints the encoded sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class CodecBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    private IntArrayList ints;
+    private MyArrayList<String> strings;
+    private byte[] encodedInts;
+    private byte[] encodedStrings;
+    private String intText;
+    private String stringText;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        SplittableRandom random = new SplittableRandom(7);
+        ints = new IntArrayList(size);
+        strings = new MyArrayList<>(size);
+        int id = 0;
+        for (int i = 0; i < size; i++) {
+            id += 1 + random.nextInt(16);
+            ints.addInt(id);
+            strings.add(Long.toString(random.nextLong() >>> 1, 36) + "-" + i);
+        }
+
+        encodedInts = this.writeInts();
+        encodedStrings = this.writeStrings();
+        intText = ints.toString();
+        stringText = strings.toString();
+
+        System.out.printf("%nints: %d bytes encoded, %d chars of text%nstrings: %d bytes encoded, %d chars of text%n",
+                encodedInts.length, intText.length(), encodedStrings.length, stringText.length());
+    }
+
+    @Benchmark
+    public byte[] writeInts() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrimitiveListCodec.write(ints, Channels.newChannel(bytes));
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public Object readInts() throws IOException {
+        return PrimitiveListCodec.readInts(Channels.newChannel(new ByteArrayInputStream(encodedInts)));
+    }
+
+    @Benchmark
+    public Object parseIntText() {
+        IntArrayList list = new IntArrayList(size);
+        for (String token : intText.substring(1, intText.length() - 1).split(", ")) {
+            list.addInt(Integer.parseInt(token));
+        }
+        return list;
+    }
+
+    @Benchmark
+    public byte[] writeStrings() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ChunkedWriter<String> writer = new ChunkedWriter<>(Channels.newChannel(bytes), ElementCodec.STRING)) {
+            writer.writeAll(strings);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public Object readStrings() throws IOException {
+        MyArrayList<String> list = new MyArrayList<>(size);
+        new ChunkedReader<>(Channels.newChannel(new ByteArrayInputStream(encodedStrings)), ElementCodec.STRING)
+                .readAll(list::add);
+        return list;
+    }
+
+    @Benchmark
+    public Object parseStringText() {
+        MyArrayList<String> list = new MyArrayList<>(size);
+        list.addAll(stringText.substring(1, stringText.length() - 1).split(", "));
+        return list;
+    }
+}
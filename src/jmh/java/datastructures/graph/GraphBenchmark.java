@@ -0,0 +1,140 @@
+package jmh.java.datastructures.graph;
+
+import main.java.datastructures.graph.CsrGraph;
+import main.java.datastructures.graph.GraphKernels;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link GraphKernels} on an undirected R-MAT graph with {@code 2^scale} vertices and 16 edges per
+ * vertex, the generator used by the Graph500 benchmark (a = 0.57, b = c = 0.19).
+ *
+ * <p>{@link #bfs(TraversedArcs)} reports the arcs it traversed as an auxiliary counter, so JMH prints traversed
+ * arcs per second next to the latency. {@link #setUp()} prints the bytes per arc of the frozen graph. Run
+ * {@link #main(String[])} to repeat everything with the common fork/join pool limited to 1, 2, 4, ... cores.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Thread)
+public class GraphBenchmark {
+
+    private static final int EDGE_FACTOR = 16;
+    private static final int SOURCE_COUNT = 16; // power of two, see bfs()
+
+    @Param({"16", "20"})
+    public int scale;
+
+    private CsrGraph graph;
+    private int[] sources;
+    private long[] reachableArcs;
+    private int cursor;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class TraversedArcs {
+        public long arcs;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            arcs = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        graph = rmat(scale, new SplittableRandom(7));
+
+        // Only sources with neighbours, so that every search explores the giant component
+        SplittableRandom random = new SplittableRandom(11);
+        sources = new int[SOURCE_COUNT];
+        reachableArcs = new long[SOURCE_COUNT];
+        for (int i = 0; i < SOURCE_COUNT; i++) {
+            int source;
+            do {
+                source = random.nextInt(graph.vertexCount());
+            } while (graph.outDegree(source) == 0);
+            sources[i] = source;
+
+            int[] depth = GraphKernels.bfs(graph, source);
+            for (int v = 0; v < depth.length; v++) {
+                if (depth[v] != -1) reachableArcs[i] += graph.outDegree(v);
+            }
+        }
+
+        System.out.printf("%n%s: %.2f bytes per arc%n", graph, (double) graph.footprint() / graph.edgeCount());
+    }
+
+    @Benchmark
+    public Object bfs(TraversedArcs counter) {
+        int i = cursor++ & (SOURCE_COUNT - 1);
+        counter.arcs += reachableArcs[i];
+        return GraphKernels.bfs(graph, sources[i]);
+    }
+
+    @Benchmark
+    public Object connectedComponents() {
+        return GraphKernels.connectedComponents(graph);
+    }
+
+    @Benchmark
+    public Object pageRank() {
+        // A fixed number of iterations, so every run does the same work
+        return GraphKernels.pageRank(graph, 0.85, 0, 20);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public Object freeze() {
+        return rmat(scale, new SplittableRandom(7));
+    }
+
+    private static CsrGraph rmat(int scale, SplittableRandom random) {
+        int n = 1 << scale;
+        long edges = (long) EDGE_FACTOR * n;
+        CsrGraph.Builder builder = CsrGraph.builder(true).ensureVertices(n);
+
+        for (long e = 0; e < edges; e++) {
+            int u = 0;
+            int v = 0;
+            for (int bit = 0; bit < scale; bit++) {
+                double p = random.nextDouble();
+                if (p >= 0.57) {
+                    if (p < 0.76) {
+                        v |= 1 << bit;
+                    } else if (p < 0.95) {
+                        u |= 1 << bit;
+                    } else {
+                        u |= 1 << bit;
+                        v |= 1 << bit;
+                    }
+                }
+            }
+            builder.addEdge(u, v);
+        }
+        return builder.freeze();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        for (int parallelism = 1; parallelism <= cores; parallelism *= 2) {
+            Options options = new OptionsBuilder()
+                    .include(GraphBenchmark.class.getSimpleName())
+                    .jvmArgsAppend("-Xms8g", "-Xmx8g", "-Djava.util.concurrent.ForkJoinPool.common.parallelism=" + parallelism)
+                    .build();
+
+            new Runner(options).run();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package jmh.java.datastructures.heap;
+
+import main.java.datastructures.heap.LongPriorityHeap;
+import main.java.datastructures.heap.MyDaryHeap;
+import main.java.datastructures.list.MyArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link MyDaryHeap} at several arities and {@link LongPriorityHeap} against {@link PriorityQueue}.
+ *
+ * <p>{@link #enqueueDequeue()} keeps the heap at {@code size} elements with random priorities, the steady state of
+ * a scheduler. {@link #build()} measures building a heap of {@code size} elements: bottom-up {@code heapify} for
+ * {@link MyDaryHeap}, the collection constructor for {@link PriorityQueue}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class HeapBenchmark {
+
+    private static final int PRIORITY_COUNT = 1024; // power of two, see nextPriority()
+
+    @Param({"MyDaryHeap-2", "MyDaryHeap-4", "MyDaryHeap-8", "LongPriorityHeap-4", "PriorityQueue"})
+    public String impl;
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private MyDaryHeap<Long> heap;
+    private LongPriorityHeap<Long> longHeap;
+    private PriorityQueue<Long> priorityQueue;
+
+    private Long[] priorities;
+    private MyArrayList<Long> source;
+    private ArrayList<Long> jdkSource;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7);
+        priorities = new Long[PRIORITY_COUNT];
+        for (int i = 0; i < PRIORITY_COUNT; i++) {
+            priorities[i] = random.nextLong();
+        }
+
+        source = new MyArrayList<>(size);
+        jdkSource = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Long priority = random.nextLong();
+            source.add(priority);
+            jdkSource.add(priority);
+        }
+
+        heap = null;
+        longHeap = null;
+        priorityQueue = null;
+        if (impl.startsWith("MyDaryHeap")) {
+            heap = MyDaryHeap.heapify(source, arity(), null);
+        } else if (impl.startsWith("LongPriorityHeap")) {
+            longHeap = new LongPriorityHeap<>(arity());
+            source.forEach(priority -> longHeap.enqueue(priority, priority));
+        } else if (impl.equals("PriorityQueue")) {
+            priorityQueue = new PriorityQueue<>(jdkSource);
+        } else {
+            throw new IllegalArgumentException("Unknown heap implementation: " + impl);
+        }
+    }
+
+    @Benchmark
+    public Object enqueueDequeue() {
+        Long priority = this.nextPriority();
+        if (heap != null) {
+            heap.enqueue(priority);
+            return heap.dequeue();
+        }
+        if (longHeap != null) {
+            longHeap.enqueue(priority, priority);
+            return longHeap.dequeue();
+        }
+        priorityQueue.add(priority);
+        return priorityQueue.poll();
+    }
+
+    @Benchmark
+    public Object build() {
+        if (heap != null) {
+            return MyDaryHeap.heapify(source, heap.arity(), null);
+        }
+        if (longHeap != null) {
+            LongPriorityHeap<Long> fresh = new LongPriorityHeap<>(arity());
+            source.forEach(priority -> fresh.enqueue(priority, priority));
+            return fresh;
+        }
+        return new PriorityQueue<>(jdkSource);
+    }
+
+    private Long nextPriority() {
+        return priorities[cursor++ & (PRIORITY_COUNT - 1)];
+    }
+
+    private int arity() {
+        return Integer.parseInt(impl.substring(impl.indexOf('-') + 1));
+    }
+}
@@ -0,0 +1,138 @@
+package jmh.java.datastructures.list;
+
+import main.java.datastructures.list.MyArrayList;
+import main.java.datastructures.list.MyConcurrentSegmentedList;
+import main.java.datastructures.list.MyList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures random-read throughput on a shared list while one thread keeps appending.
+ *
+ * <p>Compares {@link MyConcurrentSegmentedList} with a {@link MyArrayList} guarded by a single lock and with
+ * {@link CopyOnWriteArrayList}. The appender trims the list back to {@code size} elements every {@code size}
+ * appends, so the list stays bounded and readers also see the occasional element-moving write.
+ * Run {@link #main(String[])} to sweep the number of reader threads from 1 to all cores.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Group)
+public class ConcurrentListBenchmark {
+
+    private static final Integer ELEMENT = 42;
+
+    @Param({"MyConcurrentSegmentedList", "SynchronizedMyArrayList", "CopyOnWriteArrayList"})
+    public String impl;
+
+    @Param({"100000"})
+    public int size;
+
+    private Target list;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        switch (impl) {
+            case "MyConcurrentSegmentedList": list = new MyListTarget(new MyConcurrentSegmentedList<>()); break;
+            case "SynchronizedMyArrayList":   list = new SynchronizedTarget(new MyArrayList<>()); break;
+            case "CopyOnWriteArrayList":      list = new JdkListTarget(new CopyOnWriteArrayList<>()); break;
+            default: throw new IllegalArgumentException("Unknown list implementation: " + impl);
+        }
+
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+    }
+
+    @Benchmark
+    @Group("readWhileAppending")
+    public Object get() {
+        return list.get(ThreadLocalRandom.current().nextInt(size));
+    }
+
+    @Benchmark
+    @Group("readWhileAppending")
+    @GroupThreads(1)
+    public int append() {
+        list.add(ELEMENT);
+        int current = list.size();
+        if (current >= 2 * size) {
+            list.removeRange(size, current);
+        }
+        return current;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        for (int readers = 1; readers <= cores; readers *= 2) {
+            Options options = new OptionsBuilder()
+                    .include(ConcurrentListBenchmark.class.getSimpleName())
+                    // Thread counts are given in the alphabetical order of the group's methods: append, get
+                    .threadGroups(1, readers)
+                    .build();
+
+            new Runner(options).run();
+        }
+    }
+
+    /**
+     * The operations used by the benchmark. Only one implementation is loaded per fork,
+     * so calls through it stay monomorphic.
+     */
+    interface Target {
+        void add(Integer element);
+        Integer get(int index);
+        int size();
+        void removeRange(int fromIndex, int toIndex);
+    }
+
+    static final class MyListTarget implements Target {
+        private final MyList<Integer> list;
+
+        MyListTarget(MyList<Integer> list) {
+            this.list = list;
+        }
+
+        public void add(Integer element) { list.add(element); }
+        public Integer get(int index) { return list.get(index); }
+        public int size() { return list.size(); }
+        public void removeRange(int fromIndex, int toIndex) { list.removeRange(fromIndex, toIndex); }
+    }
+
+    static final class SynchronizedTarget implements Target {
+        private final MyList<Integer> list;
+
+        SynchronizedTarget(MyList<Integer> list) {
+            this.list = list;
+        }
+
+        public synchronized void add(Integer element) { list.add(element); }
+        public synchronized Integer get(int index) { return list.get(index); }
+        public synchronized int size() { return list.size(); }
+        public synchronized void removeRange(int fromIndex, int toIndex) { list.removeRange(fromIndex, toIndex); }
+    }
+
+    static final class JdkListTarget implements Target {
+        private final List<Integer> list;
+
+        JdkListTarget(List<Integer> list) {
+            this.list = list;
+        }
+
+        public void add(Integer element) { list.add(element); }
+        public Integer get(int index) { return list.get(index); }
+        public int size() { return list.size(); }
+        public void removeRange(int fromIndex, int toIndex) { list.subList(fromIndex, toIndex).clear(); }
+    }
+}
@@ -0,0 +1,195 @@
+package jmh.java.datastructures.list;
+
+import main.java.datastructures.list.MyArrayList;
+import main.java.datastructures.list.MyLinkedList;
+import main.java.datastructures.list.MyList;
+import main.java.datastructures.list.MyUnrolledLinkedList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Compares the positional operations of {@link MyArrayList}, {@link MyLinkedList} and {@link MyUnrolledLinkedList}
+ * against {@link ArrayList} and {@link LinkedList}.
+ *
+ * <p>Every benchmark except {@link #fill(Blackhole)} leaves the list at its original size,
+ * so the measured cost is the steady-state cost of one operation at {@code size} elements.
+ *
+ * <p>Run through {@link jmh.java.datastructures.BenchmarkRunner} to also get the allocation rate.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class ListBenchmark {
+
+    private static final Integer ELEMENT = 42;
+    private static final int INDEX_COUNT = 1024; // power of two, see nextIndex()
+
+    @Param({"MyArrayList", "ArrayList", "MyLinkedList", "MyUnrolledLinkedList", "LinkedList"})
+    public String impl;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private Target list;
+    private int[] indices;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = newTarget(impl);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+
+        // Random positions are drawn up front so the RNG is not part of the measurement
+        SplittableRandom random = new SplittableRandom(7);
+        indices = new int[INDEX_COUNT];
+        for (int i = 0; i < INDEX_COUNT; i++) {
+            indices[i] = random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public Object get() {
+        return list.get(nextIndex());
+    }
+
+    /**
+     * Reads a run of up to {@code INDEX_COUNT} consecutive indices from a random start, the pattern of an index-based loop.
+     */
+    @Benchmark
+    public void getSequential(Blackhole bh) {
+        int start = nextIndex();
+        int end = Math.min(size, start + INDEX_COUNT);
+        for (int i = start; i < end; i++) {
+            bh.consume(list.get(i));
+        }
+    }
+
+    /**
+     * Visits every element through the iterator, as a for-each loop does.
+     */
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        for (Integer element : list) {
+            bh.consume(element);
+        }
+    }
+
+    /**
+     * Visits every element through {@code forEach}, which needs no iterator object.
+     */
+    @Benchmark
+    public void forEach(Blackhole bh) {
+        list.forEach(bh::consume);
+    }
+
+    @Benchmark
+    public Object set() {
+        return list.set(nextIndex(), ELEMENT);
+    }
+
+    @Benchmark
+    public Object addRemoveLast() {
+        list.add(ELEMENT);
+        return list.remove(list.size() - 1);
+    }
+
+    @Benchmark
+    public Object addRemoveAt() {
+        int index = nextIndex();
+        list.add(index, ELEMENT);
+        return list.remove(index);
+    }
+
+    @Benchmark
+    public Object addRemoveFirst() {
+        list.add(0, ELEMENT);
+        return list.remove(0);
+    }
+
+    /**
+     * Builds a fresh list of {@code size} elements, so it includes every resize on the way.
+     */
+    @Benchmark
+    public void fill(Blackhole bh) {
+        Target fresh = newTarget(impl);
+        for (int i = 0; i < size; i++) {
+            fresh.add(ELEMENT);
+        }
+        bh.consume(fresh);
+    }
+
+    private int nextIndex() {
+        return indices[cursor++ & (INDEX_COUNT - 1)];
+    }
+
+    static Target newTarget(String impl) {
+        switch (impl) {
+            case "MyArrayList":  return new MyListTarget(new MyArrayList<>());
+            case "MyLinkedList": return new MyListTarget(new MyLinkedList<>());
+            case "MyUnrolledLinkedList": return new MyListTarget(new MyUnrolledLinkedList<>());
+            case "ArrayList":    return new JdkListTarget(new ArrayList<>());
+            case "LinkedList":   return new JdkListTarget(new LinkedList<>());
+            default: throw new IllegalArgumentException("Unknown list implementation: " + impl);
+        }
+    }
+
+    /**
+     * The common surface of {@link MyList} and {@link List} used by the benchmarks.
+     * Only one implementation is loaded per fork, so calls through it stay monomorphic.
+     */
+    interface Target extends Iterable<Integer> {
+        void add(Integer element);
+        void add(int index, Integer element);
+        Integer get(int index);
+        Integer set(int index, Integer element);
+        Integer remove(int index);
+        int size();
+    }
+
+    static final class MyListTarget implements Target {
+        private final MyList<Integer> list;
+
+        MyListTarget(MyList<Integer> list) {
+            this.list = list;
+        }
+
+        public void add(Integer element) { list.add(element); }
+        public void add(int index, Integer element) { list.add(index, element); }
+        public Integer get(int index) { return list.get(index); }
+        public Integer set(int index, Integer element) { return list.set(index, element); }
+        public Integer remove(int index) { return list.remove(index); }
+        public int size() { return list.size(); }
+        public Iterator<Integer> iterator() { return list.iterator(); }
+        public void forEach(Consumer<? super Integer> action) { list.forEach(action); }
+    }
+
+    static final class JdkListTarget implements Target {
+        private final List<Integer> list;
+
+        JdkListTarget(List<Integer> list) {
+            this.list = list;
+        }
+
+        public void add(Integer element) { list.add(element); }
+        public void add(int index, Integer element) { list.add(index, element); }
+        public Integer get(int index) { return list.get(index); }
+        public Integer set(int index, Integer element) { return list.set(index, element); }
+        public Integer remove(int index) { return list.remove(index); }
+        public int size() { return list.size(); }
+        public Iterator<Integer> iterator() { return list.iterator(); }
+        public void forEach(Consumer<? super Integer> action) { list.forEach(action); }
+    }
+}
@@ -0,0 +1,95 @@
+package jmh.java.datastructures.list;
+
+import main.java.datastructures.list.ListListener;
+import main.java.datastructures.list.ListMetrics;
+import main.java.datastructures.list.MyArrayList;
+import main.java.datastructures.list.MyLinkedList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what instrumentation costs {@link MyArrayList} and {@link MyLinkedList}: {@code off} runs without a
+ * listener, {@code noop} with a listener that ignores every event, which isolates the {@link System#nanoTime()}
+ * calls, and {@code metrics} with a {@link ListMetrics}. The {@code off} numbers should match
+ * {@link ListBenchmark} for the same list.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class ListMetricsBenchmark {
+
+    private static final Integer ELEMENT = 42;
+    private static final int INDEX_COUNT = 1024; // power of two, see nextIndex()
+
+    @Param({"off", "noop", "metrics"})
+    public String instrumentation;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private MyArrayList<Integer> arrayList;
+    private MyLinkedList<Integer> linkedList;
+    private int[] indices;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        arrayList = new MyArrayList<>();
+        linkedList = new MyLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            arrayList.add(i);
+            linkedList.add(i);
+        }
+
+        ListListener listener = newListener(instrumentation);
+        arrayList.setListener(listener);
+        linkedList.setListener(listener);
+
+        SplittableRandom random = new SplittableRandom(7);
+        indices = new int[INDEX_COUNT];
+        for (int i = 0; i < INDEX_COUNT; i++) {
+            indices[i] = random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public Object arrayListGet() {
+        return arrayList.get(nextIndex());
+    }
+
+    @Benchmark
+    public Object arrayListAppendRemove() {
+        arrayList.add(ELEMENT);
+        return arrayList.remove(size);
+    }
+
+    @Benchmark
+    public Object arrayListInsertRemove() {
+        int index = nextIndex();
+        arrayList.add(index, ELEMENT);
+        return arrayList.remove(index);
+    }
+
+    @Benchmark
+    public Object linkedListGet() {
+        return linkedList.get(nextIndex());
+    }
+
+    private int nextIndex() {
+        return indices[cursor++ & (INDEX_COUNT - 1)];
+    }
+
+    private static ListListener newListener(String instrumentation) {
+        switch (instrumentation) {
+            case "off": return null;
+            case "noop": return new ListListener() { };
+            case "metrics": return new ListMetrics();
+            default: throw new IllegalArgumentException("Unknown instrumentation: " + instrumentation);
+        }
+    }
+}
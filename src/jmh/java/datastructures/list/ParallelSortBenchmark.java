@@ -0,0 +1,129 @@
+package jmh.java.datastructures.list;
+
+import main.java.datastructures.list.IntArrayList;
+import main.java.datastructures.list.MyArrayList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the in-place sorts and parallel bulk operations of {@link MyArrayList} and {@link IntArrayList}.
+ *
+ * <p>The baseline, {@link #copyAndParallelSort()}, is what callers had to do before: copy the list into an array
+ * and sort it with {@link Arrays#parallelSort}. The sorting benchmarks restore the unsorted contents before every
+ * invocation, outside the measurement. Run {@link #main(String[])} to repeat everything with the common
+ * fork/join pool limited to 1, 2, 4, ... cores.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class ParallelSortBenchmark {
+
+    @Param({"100000", "10000000"})
+    public int size;
+
+    private Integer[] source;
+    private int[] primitiveSource;
+    private MyArrayList<Integer> list;
+    private IntArrayList primitiveList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7);
+        source = new Integer[size];
+        primitiveSource = new int[size];
+        for (int i = 0; i < size; i++) {
+            primitiveSource[i] = random.nextInt();
+            source[i] = primitiveSource[i];
+        }
+
+        list = new MyArrayList<>(size);
+        list.addAll(source);
+        primitiveList = new IntArrayList(size);
+        primitiveList.addAll(primitiveSource);
+    }
+
+    /**
+     * Puts back the unsorted elements, without allocating, so each sort starts from the same input.
+     */
+    @Setup(Level.Invocation)
+    public void restore() {
+        for (int i = 0; i < size; i++) {
+            list.set(i, source[i]);
+            primitiveList.setInt(i, primitiveSource[i]);
+        }
+    }
+
+    @Benchmark
+    public Object copyAndParallelSort() {
+        Integer[] copy = list.stream().toArray(Integer[]::new);
+        Arrays.parallelSort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public Object sort() {
+        list.sort(null);
+        return list;
+    }
+
+    @Benchmark
+    public Object parallelSort() {
+        list.parallelSort(null);
+        return list;
+    }
+
+    @Benchmark
+    public Object primitiveSort() {
+        primitiveList.sort();
+        return primitiveList;
+    }
+
+    @Benchmark
+    public Object primitiveParallelSort() {
+        primitiveList.parallelSort();
+        return primitiveList;
+    }
+
+    @Benchmark
+    public Object parallelReplaceAll() {
+        list.parallelReplaceAll(i -> i ^ 0x5bd1e995);
+        return list;
+    }
+
+    @Benchmark
+    public Object parallelReduce() {
+        return list.parallelReduce(0, Integer::sum);
+    }
+
+    @Benchmark
+    public Object reduce() {
+        int sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += list.get(i);
+        }
+        return sum;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        for (int parallelism = 1; parallelism <= cores; parallelism *= 2) {
+            Options options = new OptionsBuilder()
+                    .include(ParallelSortBenchmark.class.getSimpleName())
+                    .jvmArgsAppend("-Xms4g", "-Xmx4g", "-Djava.util.concurrent.ForkJoinPool.common.parallelism=" + parallelism)
+                    .build();
+
+            new Runner(options).run();
+        }
+    }
+}
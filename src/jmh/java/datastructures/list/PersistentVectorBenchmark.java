@@ -0,0 +1,75 @@
+package jmh.java.datastructures.list;
+
+import main.java.datastructures.list.MyArrayList;
+import main.java.datastructures.list.MyPersistentVector;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares making a changed version of a list: {@link MyPersistentVector#withSet(int, Object)} against copying a
+ * {@link MyArrayList} and setting one element, which is what callers had to do to keep the old version intact.
+ *
+ * <p>Run through {@link jmh.java.datastructures.BenchmarkRunner} to see the bytes allocated per version
+ * ({@code gc.alloc.rate.norm}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class PersistentVectorBenchmark {
+
+    private static final Integer ELEMENT = 42;
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private MyPersistentVector<Integer> vector;
+    private MyArrayList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MyPersistentVector.Builder<Integer> builder = MyPersistentVector.builder();
+        list = new MyArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            builder.add(i);
+            list.add(i);
+        }
+        vector = builder.build();
+    }
+
+    @Benchmark
+    public Object vectorWithSet() {
+        return vector.withSet(ThreadLocalRandom.current().nextInt(size), ELEMENT);
+    }
+
+    @Benchmark
+    public Object arrayListCopyAndSet() {
+        MyArrayList<Integer> copy = new MyArrayList<>(size);
+        list.forEach(copy::add);
+        copy.set(ThreadLocalRandom.current().nextInt(size), ELEMENT);
+        return copy;
+    }
+
+    @Benchmark
+    public Object vectorGet() {
+        return vector.get(ThreadLocalRandom.current().nextInt(size));
+    }
+
+    @Benchmark
+    public Object arrayListGet() {
+        return list.get(ThreadLocalRandom.current().nextInt(size));
+    }
+
+    @Benchmark
+    public Object vectorBuild() {
+        MyPersistentVector.Builder<Integer> builder = MyPersistentVector.builder();
+        for (int i = 0; i < size; i++) {
+            builder.add(ELEMENT);
+        }
+        return builder.build();
+    }
+}
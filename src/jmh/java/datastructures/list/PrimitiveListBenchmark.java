@@ -0,0 +1,53 @@
+package jmh.java.datastructures.list;
+
+import main.java.datastructures.list.IntArrayList;
+import main.java.datastructures.list.MyArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a full indexed scan of {@link IntArrayList} with the same scan over a boxed {@link MyArrayList}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class PrimitiveListBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    private IntArrayList primitive;
+    private MyArrayList<Integer> boxed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        primitive = new IntArrayList(size);
+        boxed = new MyArrayList<>();
+        for (int i = 0; i < size; i++) {
+            primitive.addInt(i);
+            boxed.add(i);
+        }
+    }
+
+    @Benchmark
+    public long sumIntArrayList() {
+        long sum = 0;
+        for (int i = 0; i < primitive.size(); i++) {
+            sum += primitive.getInt(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumMyArrayList() {
+        long sum = 0;
+        for (int i = 0; i < boxed.size(); i++) {
+            sum += boxed.get(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,172 @@
+package jmh.java.datastructures.map;
+
+import main.java.datastructures.map.IntObjectMap;
+import main.java.datastructures.map.LongLongMap;
+import main.java.datastructures.map.MyHashMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares lookups and updates of {@link MyHashMap}, {@link IntObjectMap} and {@link LongLongMap} against
+ * {@link HashMap}.
+ *
+ * <p>Keys are random ints, created up front both as primitives and as boxed {@code Integer}s, so the object maps
+ * see the same key objects and no boxing is measured for them. {@link #build()} fills a fresh map of {@code size}
+ * mappings; run it with the GC profiler to compare allocated bytes per mapping. The 50M case needs a large heap;
+ * the fork is started with 24 GB.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms24g", "-Xmx24g"})
+@State(Scope.Thread)
+public class MapBenchmark {
+
+    private static final int PROBE_COUNT = 1 << 16; // power of two, see next()
+
+    @Param({"MyHashMap", "IntObjectMap", "LongLongMap", "HashMap"})
+    public String impl;
+
+    @Param({"1000000", "50000000"})
+    public int size;
+
+    private Target target;
+    private int[] keys;
+    private Integer[] boxedKeys;
+    private int[] hits;
+    private int[] misses;
+    private Integer[] boxedHits;
+    private Integer[] boxedMisses;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7);
+        keys = new int[size];
+        boxedKeys = new Integer[size];
+        hits = new int[PROBE_COUNT];
+        misses = new int[PROBE_COUNT];
+        boxedHits = new Integer[PROBE_COUNT];
+        boxedMisses = new Integer[PROBE_COUNT];
+
+        // Even keys are members, odd keys are guaranteed misses
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextInt() & ~1;
+            boxedKeys[i] = keys[i];
+        }
+        for (int i = 0; i < PROBE_COUNT; i++) {
+            hits[i] = keys[i % size];
+            boxedHits[i] = boxedKeys[i % size];
+            misses[i] = random.nextInt() | 1;
+            boxedMisses[i] = misses[i];
+        }
+
+        target = (Target) this.build();
+    }
+
+    @Benchmark
+    public Object getHit() {
+        int i = this.next();
+        return target.get(hits[i], boxedHits[i]);
+    }
+
+    @Benchmark
+    public Object getMiss() {
+        int i = this.next();
+        return target.get(misses[i], boxedMisses[i]);
+    }
+
+    @Benchmark
+    public Object putRemove() {
+        int i = this.next();
+        target.put(misses[i], boxedMisses[i]);
+        return target.remove(misses[i], boxedMisses[i]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Object build() {
+        Target fresh = newTarget(impl);
+        for (int i = 0; i < size; i++) {
+            fresh.put(keys[i], boxedKeys[i]);
+        }
+        return fresh;
+    }
+
+    private int next() {
+        return cursor++ & (PROBE_COUNT - 1);
+    }
+
+    static Target newTarget(String impl) {
+        switch (impl) {
+            case "MyHashMap":    return new MyHashMapTarget(new MyHashMap<>());
+            case "IntObjectMap": return new IntObjectMapTarget(new IntObjectMap<>());
+            case "LongLongMap":  return new LongLongMapTarget(new LongLongMap());
+            case "HashMap":      return new JdkMapTarget(new HashMap<>());
+            default: throw new IllegalArgumentException("Unknown map implementation: " + impl);
+        }
+    }
+
+    /**
+     * The common surface of the maps used by the benchmarks. Each call gets the key both as a primitive and boxed,
+     * and every adapter uses the form its map takes.
+     */
+    interface Target {
+        void put(int key, Integer boxedKey);
+        Object get(int key, Integer boxedKey);
+        Object remove(int key, Integer boxedKey);
+    }
+
+    static final class MyHashMapTarget implements Target {
+        private final MyHashMap<Integer, Integer> map;
+
+        MyHashMapTarget(MyHashMap<Integer, Integer> map) {
+            this.map = map;
+        }
+
+        public void put(int key, Integer boxedKey) { map.put(boxedKey, boxedKey); }
+        public Object get(int key, Integer boxedKey) { return map.get(boxedKey); }
+        public Object remove(int key, Integer boxedKey) { return map.remove(boxedKey); }
+    }
+
+    static final class IntObjectMapTarget implements Target {
+        private final IntObjectMap<Integer> map;
+
+        IntObjectMapTarget(IntObjectMap<Integer> map) {
+            this.map = map;
+        }
+
+        public void put(int key, Integer boxedKey) { map.put(key, boxedKey); }
+        public Object get(int key, Integer boxedKey) { return map.get(key); }
+        public Object remove(int key, Integer boxedKey) { return map.remove(key); }
+    }
+
+    static final class LongLongMapTarget implements Target {
+        private final LongLongMap map;
+
+        LongLongMapTarget(LongLongMap map) {
+            this.map = map;
+        }
+
+        public void put(int key, Integer boxedKey) { map.put(key, key); }
+        public Object get(int key, Integer boxedKey) { return map.get(key) == key; }
+        public Object remove(int key, Integer boxedKey) { return map.remove(key) == key; }
+    }
+
+    static final class JdkMapTarget implements Target {
+        private final HashMap<Integer, Integer> map;
+
+        JdkMapTarget(HashMap<Integer, Integer> map) {
+            this.map = map;
+        }
+
+        public void put(int key, Integer boxedKey) { map.put(boxedKey, boxedKey); }
+        public Object get(int key, Integer boxedKey) { return map.get(boxedKey); }
+        public Object remove(int key, Integer boxedKey) { return map.remove(boxedKey); }
+    }
+}
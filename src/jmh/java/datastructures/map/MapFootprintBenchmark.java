@@ -0,0 +1,112 @@
+package jmh.java.datastructures.map;
+
+import main.java.datastructures.map.IntObjectMap;
+import main.java.datastructures.map.LongLongMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.HashMap;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the heap that {@link LongLongMap} and {@link IntObjectMap} retain per mapping, against
+ * {@code HashMap<Long, Long>} and {@code HashMap<Integer, Object>}.
+ *
+ * <p>Each iteration fills a map of {@code size} random keys with default settings and keeps it. The heap in use is
+ * read after a full GC before and after, and {@link #tearDown()} prints the difference divided by {@code size}.
+ * Keys are generated up front and every mapping of the object maps shares one value, so only the map's own nodes,
+ * boxes and tables are counted. The tables double at powers of two, so the result depends on how full the last
+ * table is: 50M mappings fill a table of 2^26 slots to 75%, while 1M fill one of 2^21 to 48%.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms24g", "-Xmx24g"})
+@State(Scope.Thread)
+public class MapFootprintBenchmark {
+
+    private static final Object VALUE = new Object();
+
+    @Param({"LongLongMap", "LongHashMap", "IntObjectMap", "IntegerHashMap"})
+    public String impl;
+
+    @Param({"1000000", "50000000"})
+    public int size;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private long[] keys;
+    private long usedBefore;
+    private Object map;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7);
+        keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            // Non-zero ints, so the same keys suit both key types
+            keys[i] = random.nextInt() | 1;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void measureBefore() {
+        map = null;
+        usedBefore = this.usedAfterGc();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        long retained = this.usedAfterGc() - usedBefore;
+        System.out.printf("%n%s of %d: %.1f bytes per mapping%n", impl, size, retained / (double) size);
+        map = null;
+    }
+
+    @Benchmark
+    public Object fill() {
+        switch (impl) {
+            case "LongLongMap":
+                LongLongMap longLongMap = new LongLongMap();
+                for (long key : keys) {
+                    longLongMap.put(key, key);
+                }
+                map = longLongMap;
+                break;
+            case "LongHashMap":
+                HashMap<Long, Long> longHashMap = new HashMap<>();
+                for (long key : keys) {
+                    longHashMap.put(key, key);
+                }
+                map = longHashMap;
+                break;
+            case "IntObjectMap":
+                IntObjectMap<Object> intObjectMap = new IntObjectMap<>();
+                for (long key : keys) {
+                    intObjectMap.put((int) key, VALUE);
+                }
+                map = intObjectMap;
+                break;
+            case "IntegerHashMap":
+                HashMap<Integer, Object> integerHashMap = new HashMap<>();
+                for (long key : keys) {
+                    integerHashMap.put((int) key, VALUE);
+                }
+                map = integerHashMap;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown map implementation: " + impl);
+        }
+        return map;
+    }
+
+    // Helpers
+
+    private long usedAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,104 @@
+package jmh.java.datastructures.map;
+
+import main.java.datastructures.list.MyArrayList;
+import main.java.datastructures.map.MyBTreeMap;
+import main.java.datastructures.map.MyRedBlackTreeMap;
+import main.java.datastructures.map.MySortedMap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares point and range lookups of {@link MyBTreeMap} at two node capacities and {@link MyRedBlackTreeMap}
+ * against {@link TreeMap}.
+ *
+ * <p>The maps hold the even numbers {@code 0, 2, ..., 2 * (size - 1)} as boxed {@code Long}s, so {@link #get()} always
+ * hits and {@link #floorKey()} misses half the time. Probe keys are random and created up front.
+ * {@link #rangeScan()} visits {@code RANGE_LENGTH} consecutive mappings starting at a random key.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Thread)
+public class SortedMapBenchmark {
+
+    private static final int PROBE_COUNT = 1 << 16; // power of two, see next()
+    private static final int RANGE_LENGTH = 100;
+
+    @Param({"MyBTreeMap-16", "MyBTreeMap-64", "MyRedBlackTreeMap", "TreeMap"})
+    public String impl;
+
+    @Param({"100000", "10000000"})
+    public int size;
+
+    private MySortedMap<Long, Long> myMap;
+    private TreeMap<Long, Long> treeMap;
+    private Long[] hits;
+    private Long[] probes;
+    private Long[] rangeEnds;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MyArrayList<Long> keys = new MyArrayList<>(size);
+        for (long i = 0; i < size; i++) {
+            keys.add(2 * i);
+        }
+
+        myMap = null;
+        treeMap = null;
+        if (impl.startsWith("MyBTreeMap")) {
+            int nodeCapacity = Integer.parseInt(impl.substring(impl.indexOf('-') + 1));
+            myMap = MyBTreeMap.bulkLoad(keys, keys, nodeCapacity, null);
+        } else if (impl.equals("MyRedBlackTreeMap")) {
+            myMap = MyRedBlackTreeMap.bulkLoad(keys, keys);
+        } else if (impl.equals("TreeMap")) {
+            treeMap = new TreeMap<>();
+            keys.forEach(key -> treeMap.put(key, key));
+        } else {
+            throw new IllegalArgumentException("Unknown sorted map implementation: " + impl);
+        }
+
+        SplittableRandom random = new SplittableRandom(7);
+        hits = new Long[PROBE_COUNT];
+        probes = new Long[PROBE_COUNT];
+        rangeEnds = new Long[PROBE_COUNT];
+        for (int i = 0; i < PROBE_COUNT; i++) {
+            long key = random.nextLong(2L * size);
+            hits[i] = key & ~1L;
+            probes[i] = key;
+            rangeEnds[i] = key + 2 * RANGE_LENGTH;
+        }
+    }
+
+    @Benchmark
+    public Object get() {
+        Long key = hits[this.next()];
+        return myMap != null ? myMap.get(key) : treeMap.get(key);
+    }
+
+    @Benchmark
+    public Object floorKey() {
+        Long key = probes[this.next()];
+        return myMap != null ? myMap.floorKey(key) : treeMap.floorKey(key);
+    }
+
+    @Benchmark
+    public void rangeScan(Blackhole bh) {
+        int i = this.next();
+        if (myMap != null) {
+            myMap.forEachInRange(probes[i], rangeEnds[i], (key, value) -> bh.consume(value));
+        } else {
+            treeMap.subMap(probes[i], rangeEnds[i]).forEach((key, value) -> bh.consume(value));
+        }
+    }
+
+    private int next() {
+        return cursor++ & (PROBE_COUNT - 1);
+    }
+}
@@ -0,0 +1,79 @@
+package jmh.java.datastructures.queue;
+
+import main.java.datastructures.queue.MyBoundedQueue;
+import main.java.datastructures.queue.MyMpscArrayQueue;
+import main.java.datastructures.queue.MySpscArrayQueue;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures handoff throughput between one producer thread and one consumer thread.
+ *
+ * <p>{@code offer}/{@code poll} move one element per call, {@code fill}/{@code drain} move up to {@code batch}.
+ * {@link ArrayBlockingQueue} is included as the lock-based baseline for the single-element handoff.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class BoundedQueueBenchmark {
+
+    private static final Integer ELEMENT = 42;
+
+    @Param({"MySpscArrayQueue", "MyMpscArrayQueue", "ArrayBlockingQueue"})
+    public String impl;
+
+    @Param({"1024"})
+    public int capacity;
+
+    @Param({"64"})
+    public int batch;
+
+    private MyBoundedQueue<Integer> queue;
+    private ArrayBlockingQueue<Integer> blockingQueue;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        switch (impl) {
+            case "MySpscArrayQueue":   queue = new MySpscArrayQueue<>(capacity); break;
+            case "MyMpscArrayQueue":   queue = new MyMpscArrayQueue<>(capacity); break;
+            case "ArrayBlockingQueue": blockingQueue = new ArrayBlockingQueue<>(capacity); break;
+            default: throw new IllegalArgumentException("Unknown queue implementation: " + impl);
+        }
+    }
+
+    @Benchmark
+    @Group("single")
+    @GroupThreads(1)
+    public boolean offer() {
+        return queue != null ? queue.offer(ELEMENT) : blockingQueue.offer(ELEMENT);
+    }
+
+    @Benchmark
+    @Group("single")
+    @GroupThreads(1)
+    public Object poll() {
+        return queue != null ? queue.poll() : blockingQueue.poll();
+    }
+
+    @Benchmark
+    @Group("batch")
+    @GroupThreads(1)
+    public int fill() {
+        if (queue == null) return 0;
+        return queue.fill(() -> ELEMENT, batch);
+    }
+
+    @Benchmark
+    @Group("batch")
+    @GroupThreads(1)
+    public int drain(Blackhole bh) {
+        if (queue == null) return 0;
+        return queue.drain(bh::consume, batch);
+    }
+}
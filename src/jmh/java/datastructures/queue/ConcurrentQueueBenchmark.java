@@ -0,0 +1,101 @@
+package jmh.java.datastructures.queue;
+
+import main.java.datastructures.list.MyLinkedList;
+import main.java.datastructures.queue.MyConcurrentLinkedQueue;
+import main.java.datastructures.queue.MyQueue;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how enqueue/dequeue throughput of a shared queue scales with the number of threads.
+ *
+ * <p>Compares {@link MyConcurrentLinkedQueue} with {@link ConcurrentLinkedQueue} and with a {@link MyLinkedList}
+ * guarded by a single lock, which is what callers had to do before. Each thread alternates enqueue and dequeue,
+ * so the queue stays near its initial size. Run {@link #main(String[])} to sweep from 1 thread to all cores.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentQueueBenchmark {
+
+    private static final Integer ELEMENT = 42;
+
+    @Param({"MyConcurrentLinkedQueue", "ConcurrentLinkedQueue", "SynchronizedMyLinkedList"})
+    public String impl;
+
+    @Param({"1000"})
+    public int size;
+
+    private MyQueue<Integer> queue;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        queue = newQueue(impl);
+        for (int i = 0; i < size; i++) {
+            queue.enqueue(i);
+        }
+    }
+
+    @Benchmark
+    public Object enqueueDequeue() {
+        queue.enqueue(ELEMENT);
+        return queue.dequeue();
+    }
+
+    static MyQueue<Integer> newQueue(String impl) {
+        switch (impl) {
+            case "MyConcurrentLinkedQueue":  return new MyConcurrentLinkedQueue<>();
+            case "ConcurrentLinkedQueue":    return new JdkQueue(new ConcurrentLinkedQueue<>());
+            case "SynchronizedMyLinkedList": return new SynchronizedQueue(new MyLinkedList<>());
+            default: throw new IllegalArgumentException("Unknown queue implementation: " + impl);
+        }
+    }
+
+    static final class JdkQueue implements MyQueue<Integer> {
+        private final ConcurrentLinkedQueue<Integer> queue;
+
+        JdkQueue(ConcurrentLinkedQueue<Integer> queue) {
+            this.queue = queue;
+        }
+
+        public void enqueue(Integer element) { queue.offer(element); }
+        public Integer peek() { return queue.peek(); }
+        public Integer dequeue() { return queue.poll(); }
+    }
+
+    static final class SynchronizedQueue implements MyQueue<Integer> {
+        private final MyQueue<Integer> queue;
+
+        SynchronizedQueue(MyQueue<Integer> queue) {
+            this.queue = queue;
+        }
+
+        public synchronized void enqueue(Integer element) { queue.enqueue(element); }
+        public synchronized Integer peek() { return queue.peek(); }
+        public synchronized Integer dequeue() { return queue.dequeue(); }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        for (int threads = 1; threads <= cores; threads *= 2) {
+            Options options = new OptionsBuilder()
+                    .include(ConcurrentQueueBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .build();
+
+            new Runner(options).run();
+        }
+    }
+}
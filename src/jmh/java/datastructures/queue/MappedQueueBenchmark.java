@@ -0,0 +1,109 @@
+package jmh.java.datastructures.queue;
+
+import main.java.datastructures.codec.ElementCodec;
+import main.java.datastructures.queue.MyMappedQueue;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures {@link MyMappedQueue} with 64-byte string records in a temporary directory.
+ *
+ * <p>{@link #enqueueDequeue()} keeps the queue at {@code backlog} elements, so it rolls over and deletes segments at
+ * the rate a steady producer and consumer would. {@link #get()} reads random elements of the backlog.
+ * {@link #enqueueFlush()} forces every record to disk, which is the price of surviving a power failure per
+ * element rather than per batch. {@link #recover()} reopens the queue after a crash that left one segment unflushed.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class MappedQueueBenchmark {
+
+    private static final int INDEX_COUNT = 1024; // power of two, see get()
+    private static final int SEGMENT_BYTES = 1 << 24;
+
+    @Param({"1000", "1000000"})
+    public int backlog;
+
+    private Path directory;
+    private MyMappedQueue<String> queue;
+    private String record;
+    private long[] indices;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("mapped-queue");
+        queue = MyMappedQueue.open(directory, ElementCodec.STRING, SEGMENT_BYTES);
+        record = "x".repeat(64);
+        for (int i = 0; i < backlog; i++) {
+            queue.enqueue(record);
+        }
+        queue.flush();
+
+        SplittableRandom random = new SplittableRandom(7);
+        indices = new long[INDEX_COUNT];
+        for (int i = 0; i < INDEX_COUNT; i++) {
+            indices[i] = random.nextInt(backlog);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        queue.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public Object enqueueDequeue() {
+        queue.enqueue(record);
+        return queue.dequeue();
+    }
+
+    @Benchmark
+    public Object get() {
+        return queue.get(indices[cursor++ & (INDEX_COUNT - 1)]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Object enqueueFlush() {
+        queue.enqueue(record);
+        queue.flush();
+        return queue.dequeue();
+    }
+
+    /**
+     * Reopens the queue after writing a segment's worth of records without a flush. The old instance is dropped
+     * without closing, as a crashed process would leave it. The measurement includes draining the queue back to
+     * the backlog, which every iteration needs to start from the same state.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public Object recover() throws IOException {
+        for (int i = 0; i < SEGMENT_BYTES / 72; i++) {
+            queue.enqueue(record);
+        }
+        queue = MyMappedQueue.open(directory, ElementCodec.STRING, SEGMENT_BYTES);
+        while (queue.size() > backlog) {
+            queue.dequeue();
+        }
+        return queue;
+    }
+}
@@ -0,0 +1,117 @@
+package jmh.java.datastructures.queue;
+
+import main.java.datastructures.list.MyLinkedList;
+import main.java.datastructures.list.MyUnrolledLinkedList;
+import main.java.datastructures.queue.MyArrayDeque;
+import main.java.datastructures.queue.MyDeque;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link MyDeque} operations (enqueue/dequeue and push/pop) of our implementations
+ * against {@link ArrayDeque} and {@link LinkedList}.
+ *
+ * <p>The paired benchmarks keep the queue at {@code size} elements, so they measure the steady-state
+ * cost including node allocation; {@link #fillDrain(Blackhole)} measures a full fill and drain cycle.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class QueueBenchmark {
+
+    private static final Integer ELEMENT = 42;
+
+    @Param({"MyLinkedList", "MyUnrolledLinkedList", "MyArrayDeque", "ArrayDeque", "LinkedList"})
+    public String impl;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private Target queue;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        queue = newTarget(impl);
+        for (int i = 0; i < size; i++) {
+            queue.enqueue(i);
+        }
+    }
+
+    @Benchmark
+    public Object enqueueDequeue() {
+        queue.enqueue(ELEMENT);
+        return queue.dequeue();
+    }
+
+    @Benchmark
+    public Object pushPop() {
+        queue.push(ELEMENT);
+        return queue.pop();
+    }
+
+    @Benchmark
+    public void fillDrain(Blackhole bh) {
+        Target fresh = newTarget(impl);
+        for (int i = 0; i < size; i++) {
+            fresh.enqueue(ELEMENT);
+        }
+        for (int i = 0; i < size; i++) {
+            bh.consume(fresh.dequeue());
+        }
+    }
+
+    static Target newTarget(String impl) {
+        switch (impl) {
+            case "MyLinkedList": return new MyDequeTarget(new MyLinkedList<>());
+            case "MyUnrolledLinkedList": return new MyDequeTarget(new MyUnrolledLinkedList<>());
+            case "MyArrayDeque": return new MyDequeTarget(new MyArrayDeque<>());
+            case "ArrayDeque":   return new JdkDequeTarget(new ArrayDeque<>());
+            case "LinkedList":   return new JdkDequeTarget(new LinkedList<>());
+            default: throw new IllegalArgumentException("Unknown deque implementation: " + impl);
+        }
+    }
+
+    /**
+     * The common surface of {@link MyDeque} and {@link Deque} used by the benchmarks.
+     */
+    interface Target {
+        void enqueue(Integer element);
+        Integer dequeue();
+        void push(Integer element);
+        Integer pop();
+    }
+
+    static final class MyDequeTarget implements Target {
+        private final MyDeque<Integer> deque;
+
+        MyDequeTarget(MyDeque<Integer> deque) {
+            this.deque = deque;
+        }
+
+        public void enqueue(Integer element) { deque.enqueue(element); }
+        public Integer dequeue() { return deque.dequeue(); }
+        public void push(Integer element) { deque.push(element); }
+        public Integer pop() { return deque.pop(); }
+    }
+
+    static final class JdkDequeTarget implements Target {
+        private final Deque<Integer> deque;
+
+        JdkDequeTarget(Deque<Integer> deque) {
+            this.deque = deque;
+        }
+
+        public void enqueue(Integer element) { deque.offerLast(element); }
+        public Integer dequeue() { return deque.pollFirst(); }
+        public void push(Integer element) { deque.offerFirst(element); }
+        public Integer pop() { return deque.pollFirst(); }
+    }
+}
@@ -0,0 +1,208 @@
+package jmh.java.datastructures.queue;
+
+import main.java.datastructures.queue.MyArrayBlockingQueue;
+import main.java.datastructures.queue.MyAsyncQueue;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to wake a consumer parked on an empty queue. Each call sends one element to an echo
+ * consumer waiting on a request queue and waits for the echo on a response queue, so the sample is the round trip
+ * of two wakeups: the echo consumer's and the benchmark thread's.
+ *
+ * <p>{@code threads} picks a platform or a virtual thread for the echo consumer. For {@link MyAsyncQueue} the echo
+ * is a callback run on an executor of that kind of thread, so a request wakes the executor instead of running the
+ * echo inline on the benchmark thread. {@code parked} adds idle consumers that wait the whole time on queues of
+ * their own, to show whether many parked waiters slow down the active ones: virtual threads blocked in
+ * {@code take()} for the blocking queues, whatever {@code threads} is, and pending {@code pollAsync()} futures for
+ * {@link MyAsyncQueue}.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class WakeupLatencyBenchmark {
+
+    private static final Integer ELEMENT = 42;
+
+    @Param({"MyArrayBlockingQueue", "ArrayBlockingQueue", "MyAsyncQueue"})
+    public String impl;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"0", "100000"})
+    public int parked;
+
+    private MyArrayBlockingQueue<Integer> myRequests;
+    private MyArrayBlockingQueue<Integer> myResponses;
+    private ArrayBlockingQueue<Integer> jdkRequests;
+    private ArrayBlockingQueue<Integer> jdkResponses;
+    private MyAsyncQueue<Integer> asyncRequests;
+    private MyAsyncQueue<Integer> asyncResponses;
+    private ExecutorService echoExecutor;
+
+    private Thread echoThread;
+    private Thread[] parkedThreads;
+    // Keeps the parked futures and their queue reachable for the whole trial
+    private MyAsyncQueue<Integer> idleQueue;
+    private CompletableFuture<?>[] parkedFutures;
+    private volatile boolean running;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ThreadFactory factory = threadFactory(threads);
+        ThreadFactory parkedFactory = Thread.ofVirtual().factory();
+        running = true;
+        parkedThreads = new Thread[0];
+        parkedFutures = new CompletableFuture<?>[0];
+
+        switch (impl) {
+            case "MyArrayBlockingQueue":
+                myRequests = new MyArrayBlockingQueue<>(1);
+                myResponses = new MyArrayBlockingQueue<>(1);
+                echoThread = factory.newThread(() -> echo(myRequests, myResponses));
+                parkedThreads = new Thread[parked];
+                for (int i = 0; i < parked; i++) {
+                    MyArrayBlockingQueue<Integer> idle = new MyArrayBlockingQueue<>(1);
+                    parkedThreads[i] = parkedFactory.newThread(() -> park(idle));
+                }
+                break;
+            case "ArrayBlockingQueue":
+                jdkRequests = new ArrayBlockingQueue<>(1);
+                jdkResponses = new ArrayBlockingQueue<>(1);
+                echoThread = factory.newThread(() -> echo(jdkRequests, jdkResponses));
+                parkedThreads = new Thread[parked];
+                for (int i = 0; i < parked; i++) {
+                    ArrayBlockingQueue<Integer> idle = new ArrayBlockingQueue<>(1);
+                    parkedThreads[i] = parkedFactory.newThread(() -> park(idle));
+                }
+                break;
+            case "MyAsyncQueue":
+                asyncRequests = new MyAsyncQueue<>(1);
+                asyncResponses = new MyAsyncQueue<>(1);
+                echoExecutor = threads.equals("virtual")
+                        ? Executors.newVirtualThreadPerTaskExecutor()
+                        : Executors.newSingleThreadExecutor(factory);
+                this.echoAsync();
+                idleQueue = new MyAsyncQueue<>(1);
+                parkedFutures = new CompletableFuture<?>[parked];
+                for (int i = 0; i < parked; i++) {
+                    parkedFutures[i] = idleQueue.pollAsync();
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown queue implementation: " + impl);
+        }
+
+        if (echoThread != null) echoThread.start();
+        for (Thread thread : parkedThreads) {
+            thread.start();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        running = false;
+        if (echoThread != null) {
+            echoThread.interrupt();
+            echoThread.join();
+        }
+        for (Thread thread : parkedThreads) {
+            thread.interrupt();
+        }
+        for (Thread thread : parkedThreads) {
+            thread.join();
+        }
+        if (echoExecutor != null) {
+            echoExecutor.shutdownNow();
+            echoExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        for (CompletableFuture<?> future : parkedFutures) {
+            future.cancel(false);
+        }
+    }
+
+    @Benchmark
+    public Integer roundTrip() throws InterruptedException {
+        switch (impl) {
+            case "MyArrayBlockingQueue":
+                myRequests.put(ELEMENT);
+                return myResponses.take();
+            case "ArrayBlockingQueue":
+                jdkRequests.put(ELEMENT);
+                return jdkResponses.take();
+            default:
+                asyncRequests.offer(ELEMENT);
+                return asyncResponses.pollAsync().join();
+        }
+    }
+
+    // Helpers
+
+    private void echo(MyArrayBlockingQueue<Integer> requests, MyArrayBlockingQueue<Integer> responses) {
+        try {
+            while (running) {
+                responses.put(requests.take());
+            }
+        } catch (InterruptedException e) {
+            // Trial over
+        }
+    }
+
+    private void echo(ArrayBlockingQueue<Integer> requests, ArrayBlockingQueue<Integer> responses) {
+        try {
+            while (running) {
+                responses.put(requests.take());
+            }
+        } catch (InterruptedException e) {
+            // Trial over
+        }
+    }
+
+    /**
+     * Waits for one request and re-arms itself once it has answered. The answer runs on the echo executor, so the
+     * request only wakes it and no thread is held between requests.
+     */
+    private void echoAsync() {
+        asyncRequests.pollAsync().thenAcceptAsync(element -> {
+            asyncResponses.offer(element);
+            if (running) this.echoAsync();
+        }, echoExecutor);
+    }
+
+    private static void park(MyArrayBlockingQueue<Integer> idle) {
+        try {
+            idle.take();
+        } catch (InterruptedException e) {
+            // Trial over
+        }
+    }
+
+    private static void park(ArrayBlockingQueue<Integer> idle) {
+        try {
+            idle.take();
+        } catch (InterruptedException e) {
+            // Trial over
+        }
+    }
+
+    private static ThreadFactory threadFactory(String kind) {
+        switch (kind) {
+            case "platform":
+                return Thread.ofPlatform().daemon().factory();
+            case "virtual":
+                return Thread.ofVirtual().factory();
+            default:
+                throw new IllegalArgumentException("Unknown thread kind: " + kind);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package jmh.java.datastructures.set;
+
+import main.java.datastructures.set.MyHashSet;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares membership checks and updates of {@link MyHashSet} against {@link HashSet}.
+ *
+ * <p>Keys are random {@code Integer}s created up front, so both sets see the same key objects and no boxing is measured.
+ * The 100M case needs a large heap; the fork is started with 24 GB.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms24g", "-Xmx24g"})
+@State(Scope.Thread)
+public class SetBenchmark {
+
+    private static final int PROBE_COUNT = 1 << 16; // power of two, see next()
+
+    @Param({"MyHashSet", "HashSet"})
+    public String impl;
+
+    @Param({"1000000", "10000000", "100000000"})
+    public int size;
+
+    private MyHashSet<Integer> mySet;
+    private HashSet<Integer> jdkSet;
+    private Integer[] hits;
+    private Integer[] misses;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7);
+        hits = new Integer[PROBE_COUNT];
+        misses = new Integer[PROBE_COUNT];
+
+        if (impl.equals("MyHashSet")) {
+            mySet = new MyHashSet<>();
+        } else {
+            jdkSet = new HashSet<>();
+        }
+
+        // Even keys are members, odd keys are guaranteed misses
+        for (int i = 0; i < size; i++) {
+            Integer key = random.nextInt() & ~1;
+            if (mySet != null) mySet.add(key); else jdkSet.add(key);
+            if (i < PROBE_COUNT) hits[i] = key;
+        }
+        for (int i = 0; i < PROBE_COUNT; i++) {
+            misses[i] = random.nextInt() | 1;
+        }
+    }
+
+    @Benchmark
+    public boolean containsHit() {
+        Integer key = hits[next()];
+        return mySet != null ? mySet.contains(key) : jdkSet.contains(key);
+    }
+
+    @Benchmark
+    public boolean containsMiss() {
+        Integer key = misses[next()];
+        return mySet != null ? mySet.contains(key) : jdkSet.contains(key);
+    }
+
+    @Benchmark
+    public boolean addRemove() {
+        Integer key = misses[next()];
+        if (mySet != null) {
+            mySet.add(key);
+            return mySet.remove(key);
+        }
+        jdkSet.add(key);
+        return jdkSet.remove(key);
+    }
+
+    private int next() {
+        return cursor++ & (PROBE_COUNT - 1);
+    }
+}
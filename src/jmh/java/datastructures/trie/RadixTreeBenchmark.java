@@ -0,0 +1,175 @@
+package jmh.java.datastructures.trie;
+
+import main.java.datastructures.trie.MyAdaptiveRadixTree;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link MyAdaptiveRadixTree} with character keys against {@link HashMap} and a naive trie with one node
+ * and one child map per character.
+ *
+ * <p>Keys look like URL paths ({@code /svc-12/users/k3j9...}): a few hundred shared prefixes followed by a random
+ * suffix. {@link #setUp()} prints the retained heap per key of the structure it built, measured as the growth of
+ * the used heap after full collections, so the fork log reports memory next to the lookup latencies.
+ * {@link #longestPrefix()} matches a key with an extra path segment; {@link HashMap} has to try every shorter prefix.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Thread)
+public class RadixTreeBenchmark {
+
+    private static final int PROBE_COUNT = 1 << 14; // power of two, see next()
+
+    @Param({"MyAdaptiveRadixTree", "HashMap", "NaiveTrie"})
+    public String impl;
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private MyAdaptiveRadixTree<CharSequence, String> tree;
+    private HashMap<String, String> hashMap;
+    private NaiveTrie naiveTrie;
+
+    private String[] hits;
+    private String[] misses;
+    private String[] extended;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7);
+        String[] keys = new String[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = randomKey(random);
+        }
+
+        long before = usedHeap();
+        tree = null;
+        hashMap = null;
+        naiveTrie = null;
+        switch (impl) {
+            case "MyAdaptiveRadixTree":
+                tree = MyAdaptiveRadixTree.forCharSequences();
+                for (String key : keys) tree.put(key, key);
+                break;
+            case "HashMap":
+                hashMap = new HashMap<>();
+                for (String key : keys) hashMap.put(key, key);
+                break;
+            case "NaiveTrie":
+                naiveTrie = new NaiveTrie();
+                for (String key : keys) naiveTrie.put(key, key);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown trie implementation: " + impl);
+        }
+        // The key strings are shared with the caller, so they are not part of the growth
+        long bytesPerKey = (usedHeap() - before) / size;
+        System.out.println(impl + " with " + size + " keys retains about " + bytesPerKey + " bytes per key");
+
+        hits = new String[PROBE_COUNT];
+        misses = new String[PROBE_COUNT];
+        extended = new String[PROBE_COUNT];
+        for (int i = 0; i < PROBE_COUNT; i++) {
+            // Copies, so that equal keys are not also identical
+            hits[i] = new String(keys[random.nextInt(size)]);
+            misses[i] = randomKey(random) + "~";
+            extended[i] = hits[i] + "/details";
+        }
+    }
+
+    @Benchmark
+    public Object getHit() {
+        return this.get(hits[this.next()]);
+    }
+
+    @Benchmark
+    public Object getMiss() {
+        return this.get(misses[this.next()]);
+    }
+
+    @Benchmark
+    public Object longestPrefix() {
+        String key = extended[this.next()];
+        if (tree != null) return tree.longestPrefixValue(key);
+        if (naiveTrie != null) return naiveTrie.longestPrefixValue(key);
+
+        for (int length = key.length(); length >= 0; length--) {
+            String value = hashMap.get(key.substring(0, length));
+            if (value != null) return value;
+        }
+        return null;
+    }
+
+    private Object get(String key) {
+        if (tree != null) return tree.get(key);
+        if (naiveTrie != null) return naiveTrie.get(key);
+        return hashMap.get(key);
+    }
+
+    private int next() {
+        return cursor++ & (PROBE_COUNT - 1);
+    }
+
+    private static String randomKey(SplittableRandom random) {
+        StringBuilder sb = new StringBuilder("/svc-");
+        sb.append(random.nextInt(300)).append(random.nextBoolean() ? "/users/" : "/orders/");
+        for (int i = 0; i < 10; i++) {
+            sb.append((char) ('a' + random.nextInt(26)));
+        }
+        return sb.toString();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * The textbook trie: one node per character, each with a {@link HashMap} of children.
+     */
+    static final class NaiveTrie {
+        private final Node root = new Node();
+
+        static final class Node {
+            final HashMap<Character, Node> children = new HashMap<>(4);
+            String value;
+        }
+
+        void put(String key, String value) {
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            }
+            node.value = value;
+        }
+
+        String get(String key) {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            return node == null ? null : node.value;
+        }
+
+        String longestPrefixValue(String key) {
+            Node node = root;
+            String best = node.value;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.get(key.charAt(i));
+                if (node == null) break;
+                if (node.value != null) best = node.value;
+            }
+            return best;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package main.java.datastructures.cache;
+
+import main.java.datastructures.map.MyHashMap;
+
+import java.util.Objects;
+
+/**
+ * The index, weight accounting and statistics shared by the cache policies.
+ *
+ * <p>Keys map to their {@link CacheNode} in a {@link MyHashMap}, so a lookup is one open-addressing probe. The policy
+ * sees every access through the hooks below and keeps its nodes in {@link NodeDeque}s, where any node can be moved
+ * or unlinked in O(1). After every put the policy's {@link #evict()} runs; it unlinks the victims it picks and hands
+ * each to {@link #evicted(CacheNode)}, which drops it from the index and tells the listener.
+ */
+abstract class AbstractCache<K, V> implements MyCache<K, V> {
+
+    final long maximumWeight;
+    long weightedSize;
+
+    private final MyHashMap<K, CacheNode<K, V>> index = new MyHashMap<>();
+    private final Weigher<? super K, ? super V> weigher;
+    private final EvictionListener<? super K, ? super V> listener;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long evictionWeight;
+
+    /**
+     * @param maximumWeight the total weight the cache may hold
+     * @param weigher computes the weight of each entry
+     * @param listener receives evicted entries, or null
+     * @throws IllegalArgumentException if the maximum weight is negative
+     */
+    AbstractCache(long maximumWeight, Weigher<? super K, ? super V> weigher,
+                  EvictionListener<? super K, ? super V> listener) {
+        if (maximumWeight < 0) {
+            throw new IllegalArgumentException("Illegal maximum weight: " + maximumWeight);
+        }
+        this.maximumWeight = maximumWeight;
+        this.weigher = Objects.requireNonNull(weigher);
+        this.listener = listener;
+    }
+
+    @Override
+    public V get(K key) {
+        Objects.requireNonNull(key);
+        CacheNode<K, V> node = index.get(key);
+        if (node == null) {
+            missCount++;
+            this.onMiss(key);
+            return null;
+        }
+        hitCount++;
+        this.onHit(node);
+        return node.value;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        int weight = weigher.weigh(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Illegal weight: " + weight);
+        }
+
+        CacheNode<K, V> node = index.get(key);
+        if (weight > maximumWeight) {
+            // Caching it would evict everything else and then the entry itself
+            V previous = node == null ? null : this.remove(key);
+            this.notifyEviction(key, value, weight);
+            return previous;
+        }
+
+        if (node != null) {
+            V previous = node.value;
+            int oldWeight = node.weight;
+            node.value = value;
+            node.weight = weight;
+            weightedSize += weight - oldWeight;
+            this.onUpdate(node, oldWeight);
+            this.evict();
+            return previous;
+        }
+
+        node = new CacheNode<>(key, value, weight);
+        index.put(key, node);
+        weightedSize += weight;
+        this.onInsert(node);
+        this.evict();
+        return null;
+    }
+
+    @Override
+    public V remove(K key) {
+        Objects.requireNonNull(key);
+        CacheNode<K, V> node = index.remove(key);
+        if (node == null) return null;
+        weightedSize -= node.weight;
+        this.onRemove(node);
+        return node.value;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        Objects.requireNonNull(key);
+        return index.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public long weightedSize() {
+        return weightedSize;
+    }
+
+    @Override
+    public long maximumWeight() {
+        return maximumWeight;
+    }
+
+    @Override
+    public CacheStats stats() {
+        return new CacheStats(hitCount, missCount, evictionCount, evictionWeight);
+    }
+
+    @Override
+    public void clear() {
+        index.clear();
+        weightedSize = 0;
+        this.onClear();
+    }
+
+    // Policy
+
+    /**
+     * Called when {@link #get(Object)} finds the node.
+     */
+    abstract void onHit(CacheNode<K, V> node);
+
+    /**
+     * Called when {@link #get(Object)} finds nothing for the key.
+     */
+    void onMiss(K key) {
+    }
+
+    /**
+     * Called when a new node has been added to the index; the policy must link it.
+     */
+    abstract void onInsert(CacheNode<K, V> node);
+
+    /**
+     * Called when a cached node has been given a new value and weight; the weighted size already includes the change.
+     */
+    abstract void onUpdate(CacheNode<K, V> node, int oldWeight);
+
+    /**
+     * Called when a node has been removed from the index by {@link #remove(Object)}; the policy must unlink it.
+     */
+    abstract void onRemove(CacheNode<K, V> node);
+
+    /**
+     * Called when the index has been cleared; the policy must forget all its nodes.
+     */
+    abstract void onClear();
+
+    /**
+     * Unlinks and {@linkplain #evicted(CacheNode) evicts} nodes until the weighted size is at most the maximum.
+     */
+    abstract void evict();
+
+    /**
+     * Drops a node the policy has already unlinked from the index, and counts and reports its eviction.
+     */
+    final void evicted(CacheNode<K, V> node) {
+        index.remove(node.key);
+        weightedSize -= node.weight;
+        this.notifyEviction(node.key, node.value, node.weight);
+    }
+
+    // Helpers
+
+    private void notifyEviction(K key, V value, int weight) {
+        evictionCount++;
+        evictionWeight += weight;
+        if (listener != null) {
+            listener.onEviction(key, value);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package main.java.datastructures.cache;
+
+/**
+ * A cache entry. It is also the link of the {@link NodeDeque} its policy keeps it in, so moving an entry within or
+ * between the policy's queues never allocates or searches.
+ */
+final class CacheNode<K, V> {
+
+    final K key;
+    V value;
+    int weight;
+
+    CacheNode<K, V> prev;
+    CacheNode<K, V> next;
+
+    // Policy state: the CLOCK reference bit and the W-TinyLFU queue
+    boolean referenced;
+    byte queue;
+
+    CacheNode(K key, V value, int weight) {
+        this.key = key;
+        this.value = value;
+        this.weight = weight;
+    }
+}
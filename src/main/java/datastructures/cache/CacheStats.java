@@ -0,0 +1,102 @@
+package main.java.datastructures.cache;
+
+/**
+ * An immutable snapshot of a cache's counters.
+ */
+public final class CacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long evictionWeight;
+
+    /**
+     * @throws IllegalArgumentException if a count is negative
+     */
+    public CacheStats(long hitCount, long missCount, long evictionCount, long evictionWeight) {
+        if (hitCount < 0 || missCount < 0 || evictionCount < 0 || evictionWeight < 0) {
+            throw new IllegalArgumentException("Illegal negative count.");
+        }
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.evictionWeight = evictionWeight;
+    }
+
+    /**
+     * @return the number of lookups that found a cached value
+     */
+    public long hitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of lookups that found nothing
+     */
+    public long missCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the number of lookups, hits and misses together
+     */
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * @return the fraction of lookups that were hits, or 1 if there were no lookups
+     */
+    public double hitRate() {
+        long requests = this.requestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    /**
+     * @return the number of evicted entries
+     */
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return the total weight of the evicted entries
+     */
+    public long evictionWeight() {
+        return evictionWeight;
+    }
+
+    /**
+     * Adds the counters of two snapshots, for example of the segments of one cache.
+     *
+     * @param other the other snapshot
+     * @return a snapshot holding the sums
+     */
+    public CacheStats plus(CacheStats other) {
+        return new CacheStats(hitCount + other.hitCount, missCount + other.missCount,
+                evictionCount + other.evictionCount, evictionWeight + other.evictionWeight);
+    }
+
+    // Object
+
+    @Override
+    public String toString() {
+        return "CacheStats{hitCount=" + hitCount + ", missCount=" + missCount + ", evictionCount=" + evictionCount
+                + ", evictionWeight=" + evictionWeight + "}";
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof CacheStats)) return false;
+        CacheStats other = (CacheStats) obj;
+        return hitCount == other.hitCount && missCount == other.missCount
+                && evictionCount == other.evictionCount && evictionWeight == other.evictionWeight;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(hitCount) * 31 * 31 * 31 + Long.hashCode(missCount) * 31 * 31
+                + Long.hashCode(evictionCount) * 31 + Long.hashCode(evictionWeight);
+    }
+}
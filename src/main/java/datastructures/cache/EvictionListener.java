@@ -0,0 +1,22 @@
+package main.java.datastructures.cache;
+
+/**
+ * Receives the entries a cache evicts.
+ *
+ * <p>The listener runs on the thread that caused the eviction, inside the cache operation and, for a
+ * {@link MyConcurrentCache}, while its segment is locked. It should be quick and must not call back into the cache.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+@FunctionalInterface
+public interface EvictionListener<K, V> {
+
+    /**
+     * Called once for every evicted entry, including entries too heavy to be cached at all.
+     *
+     * @param key the key of the evicted entry
+     * @param value the value of the evicted entry
+     */
+    void onEviction(K key, V value);
+}
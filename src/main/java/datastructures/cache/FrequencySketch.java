@@ -0,0 +1,119 @@
+package main.java.datastructures.cache;
+
+/**
+ * A count-min sketch of 4-bit counters that estimates how often each key was seen recently, for
+ * {@link MyTinyLfuCache}.
+ *
+ * <p>Sixteen counters are packed in each {@code long}. A key has one counter in each of four rows, picked by four
+ * seeded hashes, and its estimate is the smallest of them, so collisions can only overestimate. Counters saturate at
+ * 15. Once ten times as many increments as the table has words have been made, every counter is halved, so the
+ * estimates follow the recent workload rather than all of history, per Einziger, Friedman and Manes, "TinyLFU: A
+ * Highly Efficient Cache Admission Policy" (ACM TOS 2017).
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_TABLE_SIZE = 1 << 22;
+
+    private long[] table;
+    private int tableMask;
+    private int sampleSize;
+    private int additions;
+
+    /**
+     * @param expectedEntries the number of entries the cache is expected to hold
+     */
+    FrequencySketch(long expectedEntries) {
+        this.allocate(tableSize(expectedEntries));
+    }
+
+    /**
+     * Enlarges the table for a cache that now holds more entries than it was sized for. A larger table starts over
+     * with all counters at zero, and doubling keeps that to a few times over the life of the cache.
+     * Time Complexity: O(1) if the table is large enough, otherwise O(n) in the new table size
+     *
+     * @param expectedEntries the number of entries the cache holds
+     */
+    void ensureCapacity(long expectedEntries) {
+        int size = tableSize(expectedEntries);
+        if (size > table.length) {
+            this.allocate(size);
+        }
+    }
+
+    /**
+     * Time Complexity: O(1)
+     *
+     * @param hash the spread hash of the key
+     * @return the estimated number of recent occurrences of the key, at most 15
+     */
+    int frequency(int hash) {
+        int min = 15;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long h = this.rowHash(hash, i);
+            int count = (int) (table[(int) h & tableMask] >>> counterShift(h)) & 0xF;
+            min = Math.min(min, count);
+        }
+        return min;
+    }
+
+    /**
+     * Counts one occurrence of the key, halving all counters when the sample is complete.
+     * Time Complexity: O(1) amortized
+     *
+     * @param hash the spread hash of the key
+     */
+    void increment(int hash) {
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long h = this.rowHash(hash, i);
+            int slot = (int) h & tableMask;
+            int shift = counterShift(h);
+            if (((table[slot] >>> shift) & 0xF) != 0xF) {
+                table[slot] += 1L << shift;
+                added = true;
+            }
+        }
+        if (added && ++additions == sampleSize) {
+            this.reset();
+        }
+    }
+
+    // Helpers
+
+    /**
+     * One word per expected entry, rounded up to a power of two between 16 and {@code MAX_TABLE_SIZE}.
+     */
+    private static int tableSize(long expectedEntries) {
+        return (int) Math.min(MAX_TABLE_SIZE, Math.max(16, Long.highestOneBit(Math.max(1, expectedEntries - 1)) << 1));
+    }
+
+    private void allocate(int size) {
+        this.table = new long[size];
+        this.tableMask = size - 1;
+        this.sampleSize = 10 * size;
+        this.additions = 0;
+    }
+
+    private long rowHash(int hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        return h ^ (h >>> 32);
+    }
+
+    /**
+     * Picks one of the 16 counters in the word from bits the slot index does not use.
+     */
+    private static int counterShift(long h) {
+        return ((int) (h >>> 40) & 0xF) << 2;
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions >>>= 1;
+    }
+}
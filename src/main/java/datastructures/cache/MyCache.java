@@ -0,0 +1,121 @@
+package main.java.datastructures.cache;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A bounded key-value cache. Once the total weight of its entries exceeds {@link #maximumWeight()}, the cache evicts
+ * entries chosen by its policy until it fits again.
+ *
+ * <p>Every entry has a weight given by the cache's {@link Weigher}; with the default weigher each entry weighs 1, so
+ * the maximum weight is simply the maximum number of entries. Evicted entries are passed to the cache's
+ * {@link EvictionListener}, and {@link #get(Object)} counts hits and misses in {@link #stats()}.
+ *
+ * <p>Keys and values must not be {@code null}. Unless stated otherwise, implementations are not thread-safe; see
+ * {@link MyConcurrentCache}.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of cached values
+ */
+public interface MyCache<K, V> {
+
+    /**
+     * Returns the value cached for the key and records a hit, or records a miss. A hit counts as a use of the entry
+     * for the eviction policy.
+     * Time Complexity: O(1)
+     *
+     * @param key the key to look up
+     * @return the cached value, or null if the key is not cached
+     * @throws NullPointerException if the key is null
+     */
+    V get(K key);
+
+    /**
+     * Caches the value for the key, replacing any value cached before, and evicts entries if the cache is now too
+     * heavy. An entry heavier than the maximum weight is never cached: it is passed to the eviction listener at once
+     * and any previous entry for the key is removed.
+     * Time Complexity: O(1) amortized
+     *
+     * @param key the key
+     * @param value the value to cache
+     * @return the value previously cached for the key, or null
+     * @throws NullPointerException if the key or the value is null
+     */
+    V put(K key, V value);
+
+    /**
+     * Removes the entry for the key. Removal is not an eviction, so the listener is not called.
+     * Time Complexity: O(1)
+     *
+     * @param key the key
+     * @return the value that was cached for the key, or null
+     * @throws NullPointerException if the key is null
+     */
+    V remove(K key);
+
+    /**
+     * Returns whether the key is cached, without recording a hit or a miss and without touching the policy.
+     * Time Complexity: O(1)
+     *
+     * @param key the key
+     * @return {@code true} if the key is cached
+     * @throws NullPointerException if the key is null
+     */
+    boolean containsKey(K key);
+
+    /**
+     * Returns the cached value for the key, or computes, caches and returns it on a miss.
+     * Time Complexity: O(1) plus the cost of the mapping function
+     *
+     * @param key the key
+     * @param mappingFunction computes the value on a miss; it must not return null
+     * @return the cached or computed value
+     * @throws NullPointerException if the key is null or the mapping function returns null
+     */
+    default V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        V value = this.get(key);
+        if (value == null) {
+            value = Objects.requireNonNull(mappingFunction.apply(key), "Computed value is null.");
+            this.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of cached entries.
+     * Time Complexity: O(1)
+     *
+     * @return the number of cached entries
+     */
+    int size();
+
+    /**
+     * Returns the total weight of the cached entries, never more than {@link #maximumWeight()} between calls.
+     * Time Complexity: O(1)
+     *
+     * @return the total weight of the cached entries
+     */
+    long weightedSize();
+
+    /**
+     * Returns the total weight the cache may hold.
+     * Time Complexity: O(1)
+     *
+     * @return the maximum weight
+     */
+    long maximumWeight();
+
+    /**
+     * Returns a snapshot of the hit, miss and eviction counters since the cache was created.
+     * Time Complexity: O(1)
+     *
+     * @return the statistics
+     */
+    CacheStats stats();
+
+    /**
+     * Removes every entry. The entries are not evicted, so the listener is not called, and the statistics are kept.
+     * Time Complexity: O(N)
+     */
+    void clear();
+}
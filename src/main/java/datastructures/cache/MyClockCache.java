@@ -0,0 +1,79 @@
+package main.java.datastructures.cache;
+
+/**
+ * A cache that evicts with the CLOCK (second-chance) approximation of LRU.
+ *
+ * <p>Entries sit in insertion order and a hit only sets the entry's reference bit, so hits never write the list.
+ * To evict, the hand looks at the oldest entry: if its bit is set, the bit is cleared and the entry goes to the back
+ * for a second chance; otherwise it is the victim. New entries start with their bit set, so an entry just put is not
+ * evicted before the hand has passed it once. Every entry skipped has its bit cleared, so eviction is O(1) amortized.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of cached values
+ */
+public class MyClockCache<K, V> extends AbstractCache<K, V> {
+
+    // The hand points at the first node
+    private final NodeDeque<K, V> ring = new NodeDeque<>();
+
+    /**
+     * @param maximumSize the maximum number of entries
+     * @throws IllegalArgumentException if the maximum size is negative
+     */
+    public MyClockCache(long maximumSize) {
+        this(maximumSize, Weigher.singleton(), null);
+    }
+
+    /**
+     * @param maximumWeight the total weight the cache may hold
+     * @param weigher computes the weight of each entry
+     * @param listener receives evicted entries, or null
+     * @throws IllegalArgumentException if the maximum weight is negative
+     */
+    public MyClockCache(long maximumWeight, Weigher<? super K, ? super V> weigher,
+                        EvictionListener<? super K, ? super V> listener) {
+        super(maximumWeight, weigher, listener);
+    }
+
+    // Policy
+
+    @Override
+    void onHit(CacheNode<K, V> node) {
+        node.referenced = true;
+    }
+
+    @Override
+    void onInsert(CacheNode<K, V> node) {
+        node.referenced = true;
+        ring.addLast(node);
+    }
+
+    @Override
+    void onUpdate(CacheNode<K, V> node, int oldWeight) {
+        node.referenced = true;
+    }
+
+    @Override
+    void onRemove(CacheNode<K, V> node) {
+        ring.remove(node);
+    }
+
+    @Override
+    void onClear() {
+        ring.clear();
+    }
+
+    @Override
+    void evict() {
+        while (weightedSize > maximumWeight) {
+            CacheNode<K, V> node = ring.first();
+            if (node.referenced) {
+                node.referenced = false;
+                ring.moveToLast(node);
+            } else {
+                ring.remove(node);
+                this.evicted(node);
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package main.java.datastructures.cache;
+
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * A thread-safe cache made of independent segments, each a single-threaded {@link MyCache} guarded by its own
+ * {@link ReentrantLock}.
+ *
+ * <p>A key always goes to the same segment, picked from its hash, so threads working on keys in different segments
+ * never contend. Each segment holds an equal share of the maximum weight and runs its policy on its own entries
+ * only, so the cache as a whole evicts approximately, not exactly, in policy order. {@link #size()},
+ * {@link #weightedSize()} and {@link #stats()} lock the segments one at a time and are only estimates while other
+ * threads use the cache.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of cached values
+ */
+public class MyConcurrentCache<K, V> implements MyCache<K, V> {
+
+    private static final int MAX_SEGMENTS = 1 << 16;
+
+    private final MyCache<K, V>[] segments;
+    private final ReentrantLock[] locks;
+    private final int segmentShift;
+    private final long maximumWeight;
+
+    /**
+     * @param concurrencyLevel the expected number of threads using the cache; rounded up to a power of two segments
+     * @param maximumWeight the total weight the cache may hold, split evenly between the segments
+     * @param segmentFactory creates a segment from its share of the maximum weight, for example
+     *                       {@code MyTinyLfuCache::new}
+     * @throws IllegalArgumentException if the concurrency level is not positive or the maximum weight is negative
+     */
+    @SuppressWarnings("unchecked")
+    public MyConcurrentCache(int concurrencyLevel, long maximumWeight,
+                             LongFunction<? extends MyCache<K, V>> segmentFactory) {
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("Illegal concurrency level: " + concurrencyLevel);
+        }
+        if (maximumWeight < 0) {
+            throw new IllegalArgumentException("Illegal maximum weight: " + maximumWeight);
+        }
+
+        int count = concurrencyLevel >= MAX_SEGMENTS ? MAX_SEGMENTS : Integer.highestOneBit(concurrencyLevel - 1) << 1;
+        count = Math.max(1, count);
+        this.segments = (MyCache<K, V>[]) new MyCache<?, ?>[count];
+        this.locks = new ReentrantLock[count];
+        // The top bits pick the segment; with one segment the shift of 32 wraps to 0 and the mask keeps nothing
+        this.segmentShift = 32 - Integer.numberOfTrailingZeros(count);
+        this.maximumWeight = maximumWeight;
+
+        for (int i = 0; i < count; i++) {
+            long share = maximumWeight / count + (i < maximumWeight % count ? 1 : 0);
+            segments[i] = Objects.requireNonNull(segmentFactory.apply(share));
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public V get(K key) {
+        int i = this.segmentIndex(key);
+        locks[i].lock();
+        try {
+            return segments[i].get(key);
+        } finally {
+            locks[i].unlock();
+        }
+    }
+
+    @Override
+    public V put(K key, V value) {
+        int i = this.segmentIndex(key);
+        locks[i].lock();
+        try {
+            return segments[i].put(key, value);
+        } finally {
+            locks[i].unlock();
+        }
+    }
+
+    @Override
+    public V remove(K key) {
+        int i = this.segmentIndex(key);
+        locks[i].lock();
+        try {
+            return segments[i].remove(key);
+        } finally {
+            locks[i].unlock();
+        }
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        int i = this.segmentIndex(key);
+        locks[i].lock();
+        try {
+            return segments[i].containsKey(key);
+        } finally {
+            locks[i].unlock();
+        }
+    }
+
+    /**
+     * Looks up and, on a miss, computes and caches the value atomically: the mapping function runs at most once per
+     * miss, while the key's segment is locked. It should be quick and must not use this cache.
+     */
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        int i = this.segmentIndex(key);
+        locks[i].lock();
+        try {
+            return segments[i].computeIfAbsent(key, mappingFunction);
+        } finally {
+            locks[i].unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        long size = 0;
+        for (int i = 0; i < segments.length; i++) {
+            locks[i].lock();
+            try {
+                size += segments[i].size();
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        return (int) Math.min(Integer.MAX_VALUE, size);
+    }
+
+    @Override
+    public long weightedSize() {
+        long weightedSize = 0;
+        for (int i = 0; i < segments.length; i++) {
+            locks[i].lock();
+            try {
+                weightedSize += segments[i].weightedSize();
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        return weightedSize;
+    }
+
+    @Override
+    public long maximumWeight() {
+        return maximumWeight;
+    }
+
+    @Override
+    public CacheStats stats() {
+        CacheStats stats = new CacheStats(0, 0, 0, 0);
+        for (int i = 0; i < segments.length; i++) {
+            locks[i].lock();
+            try {
+                stats = stats.plus(segments[i].stats());
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        return stats;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < segments.length; i++) {
+            locks[i].lock();
+            try {
+                segments[i].clear();
+            } finally {
+                locks[i].unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of segments.
+     * Time Complexity: O(1)
+     *
+     * @return the number of segments
+     */
+    public int segmentCount() {
+        return segments.length;
+    }
+
+    // Helpers
+
+    /**
+     * Mixes the hash code with the MurmurHash3 finalizer and takes the top bits. The segments index their keys by the
+     * low bits of a Fibonacci hash, which stay evenly spread among the keys of one segment.
+     */
+    private int segmentIndex(K key) {
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return (h >>> segmentShift) & (segments.length - 1);
+    }
+}
@@ -0,0 +1,72 @@
+package main.java.datastructures.cache;
+
+/**
+ * A cache that evicts the least recently used entries.
+ *
+ * <p>Entries are kept in one {@link NodeDeque} in order of use, least recent first: a hit or an update moves the entry
+ * to the back and eviction takes from the front. Every operation is O(1), but each hit writes the list, and a single
+ * scan over more keys than the cache holds flushes everything that was in it; {@link MyTinyLfuCache} resists that.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of cached values
+ */
+public class MyLruCache<K, V> extends AbstractCache<K, V> {
+
+    // Least recently used first
+    private final NodeDeque<K, V> order = new NodeDeque<>();
+
+    /**
+     * @param maximumSize the maximum number of entries
+     * @throws IllegalArgumentException if the maximum size is negative
+     */
+    public MyLruCache(long maximumSize) {
+        this(maximumSize, Weigher.singleton(), null);
+    }
+
+    /**
+     * @param maximumWeight the total weight the cache may hold
+     * @param weigher computes the weight of each entry
+     * @param listener receives evicted entries, or null
+     * @throws IllegalArgumentException if the maximum weight is negative
+     */
+    public MyLruCache(long maximumWeight, Weigher<? super K, ? super V> weigher,
+                      EvictionListener<? super K, ? super V> listener) {
+        super(maximumWeight, weigher, listener);
+    }
+
+    // Policy
+
+    @Override
+    void onHit(CacheNode<K, V> node) {
+        order.moveToLast(node);
+    }
+
+    @Override
+    void onInsert(CacheNode<K, V> node) {
+        order.addLast(node);
+    }
+
+    @Override
+    void onUpdate(CacheNode<K, V> node, int oldWeight) {
+        order.moveToLast(node);
+    }
+
+    @Override
+    void onRemove(CacheNode<K, V> node) {
+        order.remove(node);
+    }
+
+    @Override
+    void onClear() {
+        order.clear();
+    }
+
+    @Override
+    void evict() {
+        while (weightedSize > maximumWeight) {
+            CacheNode<K, V> victim = order.first();
+            order.remove(victim);
+            this.evicted(victim);
+        }
+    }
+}
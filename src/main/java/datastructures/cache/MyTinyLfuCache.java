@@ -0,0 +1,220 @@
+package main.java.datastructures.cache;
+
+/**
+ * A cache with the W-TinyLFU policy of Einziger, Friedman and Manes, "TinyLFU: A Highly Efficient Cache Admission
+ * Policy" (ACM TOS 2017), which keeps frequently used entries through scans that would flush an LRU cache.
+ *
+ * <p>The weight is split between three LRU queues:
+ * <ul>
+ *     <li><b>Window</b> (1%): every new entry starts here, so a burst of accesses to a new key is served even before
+ *     its frequency has built up.</li>
+ *     <li><b>Probation</b> (20% of the rest): entries admitted from the window that have not been hit since.</li>
+ *     <li><b>Protected</b> (80% of the rest): entries hit while on probation. When it is full, its least recently
+ *     used entries are demoted back to probation.</li>
+ * </ul>
+ *
+ * <p>When the window overflows, its least recently used entry becomes a candidate for the main space. If the main
+ * space has no room, the candidate is admitted only if a {@link FrequencySketch} of recent accesses rates it more
+ * frequent than the main space's victim, the least recently used entry on probation; otherwise the candidate itself
+ * is evicted. A scan of keys seen once therefore passes through the window without displacing the working set. The
+ * sketch is sized for the number of entries, which with a weigher it learns only as they are inserted.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of cached values
+ */
+public class MyTinyLfuCache<K, V> extends AbstractCache<K, V> {
+
+    private static final byte WINDOW = 0;
+    private static final byte PROBATION = 1;
+    private static final byte PROTECTED = 2;
+
+    private final NodeDeque<K, V> window = new NodeDeque<>();
+    private final NodeDeque<K, V> probation = new NodeDeque<>();
+    private final NodeDeque<K, V> protectedQueue = new NodeDeque<>();
+    private final long windowMaximum;
+    private final long mainMaximum;
+    private final long protectedMaximum;
+    private long windowWeight;
+    private long probationWeight;
+    private long protectedWeight;
+
+    private final FrequencySketch sketch;
+
+    /**
+     * @param maximumSize the maximum number of entries
+     * @throws IllegalArgumentException if the maximum size is negative
+     */
+    public MyTinyLfuCache(long maximumSize) {
+        this(maximumSize, Weigher.singleton(), null, maximumSize);
+    }
+
+    /**
+     * @param maximumWeight the total weight the cache may hold
+     * @param weigher computes the weight of each entry
+     * @param listener receives evicted entries, or null
+     * @throws IllegalArgumentException if the maximum weight is negative
+     */
+    public MyTinyLfuCache(long maximumWeight, Weigher<? super K, ? super V> weigher,
+                          EvictionListener<? super K, ? super V> listener) {
+        this(maximumWeight, weigher, listener, 0);
+    }
+
+    /**
+     * @param expectedEntries the number of entries to size the sketch for; it grows as more are inserted
+     */
+    private MyTinyLfuCache(long maximumWeight, Weigher<? super K, ? super V> weigher,
+                           EvictionListener<? super K, ? super V> listener, long expectedEntries) {
+        super(maximumWeight, weigher, listener);
+        this.windowMaximum = Math.min(maximumWeight, Math.max(1, maximumWeight / 100));
+        this.mainMaximum = maximumWeight - windowMaximum;
+        this.protectedMaximum = mainMaximum / 5 * 4;
+        this.sketch = new FrequencySketch(expectedEntries);
+    }
+
+    // Policy
+
+    @Override
+    void onHit(CacheNode<K, V> node) {
+        sketch.increment(spread(node.key.hashCode()));
+        switch (node.queue) {
+            case WINDOW:
+                window.moveToLast(node);
+                break;
+            case PROBATION:
+                probation.remove(node);
+                probationWeight -= node.weight;
+                node.queue = PROTECTED;
+                protectedQueue.addLast(node);
+                protectedWeight += node.weight;
+                this.demoteProtected();
+                break;
+            default:
+                protectedQueue.moveToLast(node);
+        }
+    }
+
+    @Override
+    void onMiss(K key) {
+        sketch.increment(spread(key.hashCode()));
+    }
+
+    @Override
+    void onInsert(CacheNode<K, V> node) {
+        // The maximum weight says nothing about the number of entries when a weigher is used, so the sketch follows
+        // the size instead of being allocated for the maximum up front
+        sketch.ensureCapacity(this.size());
+        sketch.increment(spread(node.key.hashCode()));
+        node.queue = WINDOW;
+        window.addLast(node);
+        windowWeight += node.weight;
+    }
+
+    @Override
+    void onUpdate(CacheNode<K, V> node, int oldWeight) {
+        this.addQueueWeight(node.queue, node.weight - oldWeight);
+        this.onHit(node);
+    }
+
+    @Override
+    void onRemove(CacheNode<K, V> node) {
+        this.unlink(node);
+    }
+
+    @Override
+    void onClear() {
+        window.clear();
+        probation.clear();
+        protectedQueue.clear();
+        windowWeight = 0;
+        probationWeight = 0;
+        protectedWeight = 0;
+    }
+
+    @Override
+    void evict() {
+        while (windowWeight > windowMaximum) {
+            CacheNode<K, V> candidate = window.first();
+            window.remove(candidate);
+            windowWeight -= candidate.weight;
+
+            if (probationWeight + protectedWeight + candidate.weight > mainMaximum) {
+                CacheNode<K, V> victim = this.mainVictim();
+                if (victim != null && sketch.frequency(spread(candidate.key.hashCode()))
+                        <= sketch.frequency(spread(victim.key.hashCode()))) {
+                    this.evicted(candidate);
+                    continue;
+                }
+                // Make room first, so the candidate cannot be picked as a victim
+                while (probationWeight + protectedWeight + candidate.weight > mainMaximum
+                        && (victim = this.mainVictim()) != null) {
+                    this.unlink(victim);
+                    this.evicted(victim);
+                }
+            }
+
+            candidate.queue = PROBATION;
+            probation.addLast(candidate);
+            probationWeight += candidate.weight;
+        }
+
+        // An update may have made the main space heavier without touching the window
+        while (probationWeight + protectedWeight > mainMaximum) {
+            CacheNode<K, V> victim = this.mainVictim();
+            this.unlink(victim);
+            this.evicted(victim);
+        }
+    }
+
+    // Helpers
+
+    /**
+     * @return the least recently used entry on probation, or in the protected queue if probation is empty
+     */
+    private CacheNode<K, V> mainVictim() {
+        CacheNode<K, V> victim = probation.first();
+        return victim != null ? victim : protectedQueue.first();
+    }
+
+    private void demoteProtected() {
+        while (protectedWeight > protectedMaximum) {
+            CacheNode<K, V> node = protectedQueue.first();
+            protectedQueue.remove(node);
+            protectedWeight -= node.weight;
+            node.queue = PROBATION;
+            probation.addLast(node);
+            probationWeight += node.weight;
+        }
+    }
+
+    private void unlink(CacheNode<K, V> node) {
+        switch (node.queue) {
+            case WINDOW:
+                window.remove(node);
+                break;
+            case PROBATION:
+                probation.remove(node);
+                break;
+            default:
+                protectedQueue.remove(node);
+        }
+        this.addQueueWeight(node.queue, -node.weight);
+    }
+
+    private void addQueueWeight(byte queue, long delta) {
+        switch (queue) {
+            case WINDOW:
+                windowWeight += delta;
+                break;
+            case PROBATION:
+                probationWeight += delta;
+                break;
+            default:
+                protectedWeight += delta;
+        }
+    }
+
+    private static int spread(int hashCode) {
+        int h = hashCode * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
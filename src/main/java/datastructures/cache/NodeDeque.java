@@ -0,0 +1,57 @@
+package main.java.datastructures.cache;
+
+/**
+ * A doubly linked list threaded through the nodes themselves, with a sentinel so that no operation needs a null
+ * check. A node can be unlinked in O(1) from a reference to it, which {@link main.java.datastructures.list.MyLinkedList}
+ * cannot offer because its nodes are private and {@code remove(int)} has to walk to them.
+ */
+final class NodeDeque<K, V> {
+
+    private final CacheNode<K, V> sentinel = new CacheNode<>(null, null, 0);
+
+    NodeDeque() {
+        sentinel.prev = sentinel;
+        sentinel.next = sentinel;
+    }
+
+    /**
+     * @return the first node, or null if the deque is empty
+     */
+    CacheNode<K, V> first() {
+        CacheNode<K, V> first = sentinel.next;
+        return first == sentinel ? null : first;
+    }
+
+    boolean isEmpty() {
+        return sentinel.next == sentinel;
+    }
+
+    void addLast(CacheNode<K, V> node) {
+        CacheNode<K, V> last = sentinel.prev;
+        node.prev = last;
+        node.next = sentinel;
+        last.next = node;
+        sentinel.prev = node;
+    }
+
+    void remove(CacheNode<K, V> node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+    }
+
+    void moveToLast(CacheNode<K, V> node) {
+        if (sentinel.prev == node) return;
+        this.remove(node);
+        this.addLast(node);
+    }
+
+    /**
+     * Forgets every node. The nodes keep their stale links, so they must not be used with this deque again.
+     */
+    void clear() {
+        sentinel.prev = sentinel;
+        sentinel.next = sentinel;
+    }
+}
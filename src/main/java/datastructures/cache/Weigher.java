@@ -0,0 +1,28 @@
+package main.java.datastructures.cache;
+
+/**
+ * Computes the weight of a cache entry, for caches bounded by something other than their number of entries, such as
+ * the bytes their values hold. An entry's weight is computed once, when it is put.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+@FunctionalInterface
+public interface Weigher<K, V> {
+
+    /**
+     * @param key the key
+     * @param value the value
+     * @return the weight of the entry, not negative
+     */
+    int weigh(K key, V value);
+
+    /**
+     * Returns a weigher that gives every entry a weight of 1, which bounds a cache by its number of entries.
+     *
+     * @return the unit weigher
+     */
+    static <K, V> Weigher<K, V> singleton() {
+        return (key, value) -> 1;
+    }
+}
@@ -0,0 +1,118 @@
+package main.java.datastructures.codec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.zip.CRC32C;
+
+/**
+ * Reads the chunked stream format written by {@link ChunkOutput}, one verified chunk at a time.
+ */
+final class ChunkInput {
+
+    // Guards the allocation against a corrupted length
+    private static final int MAX_CHUNK_BYTES = 1 << 30;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer header = ByteBuffer.allocate(ChunkOutput.CHUNK_HEADER_BYTES);
+    private final CRC32C checksum = new CRC32C();
+    private ByteBuffer body = ByteBuffer.allocate(ChunkOutput.DEFAULT_CHUNK_BYTES);
+    private int count;
+    private boolean finished;
+
+    ChunkInput(ReadableByteChannel channel, byte kind) throws IOException {
+        this.channel = channel;
+
+        ByteBuffer start = ByteBuffer.allocate(ChunkOutput.HEADER_BYTES);
+        this.readFully(start);
+        start.flip();
+        if (start.getInt() != ChunkOutput.MAGIC) {
+            throw new IOException("Not a chunked list stream.");
+        }
+        byte version = start.get();
+        if (version != ChunkOutput.VERSION) {
+            throw new IOException("Unsupported stream version: " + version);
+        }
+        byte actual = start.get();
+        if (actual != kind) {
+            throw new IOException("Stream holds contents of kind " + actual + ", expected " + kind + ".");
+        }
+    }
+
+    /**
+     * Reads and verifies the next chunk.
+     *
+     * @return the chunk's body, positioned at its first byte, or {@code null} at the end of the stream
+     * @throws IOException if the channel fails, the stream is truncated or a chunk is corrupted
+     */
+    ByteBuffer next() throws IOException {
+        if (finished) return null;
+
+        header.clear();
+        this.readFully(header);
+        header.flip();
+        int length = header.getInt();
+        count = header.getInt();
+        int stored = header.getInt();
+
+        if (count == 0) {
+            // Only the exact all-zero terminator ends the stream; any other empty chunk is damage
+            if (length != 0 || stored != 0) {
+                throw new IOException("Corrupted chunk header.");
+            }
+            finished = true;
+            return null;
+        }
+        if (length < 0 || length > MAX_CHUNK_BYTES || count < 0) {
+            throw new IOException("Corrupted chunk header.");
+        }
+
+        if (body.capacity() < length) {
+            body = ByteBuffer.allocate(length);
+        }
+        body.clear().limit(length);
+        this.readFully(body);
+        body.flip();
+
+        checksum.reset();
+        checksum.update(header.array(), 0, 8);
+        checksum.update(body.duplicate());
+        if ((int) checksum.getValue() != stored) {
+            throw new IOException("Chunk checksum mismatch.");
+        }
+        return body;
+    }
+
+    /**
+     * Checks that decoding the chunk last returned by {@link #next()} used up its body exactly.
+     *
+     * @throws IOException if bytes are left over, so the body does not hold the elements its count claims
+     */
+    void checkConsumed() throws IOException {
+        if (body.hasRemaining()) {
+            throw new IOException("Chunk has " + body.remaining() + " bytes after its last element.");
+        }
+    }
+
+    /**
+     * Wraps the exception thrown while decoding a chunk whose body does not hold the elements its count claims.
+     */
+    static IOException corrupted(RuntimeException cause) {
+        return new IOException("Corrupted chunk body.", cause);
+    }
+
+    /**
+     * @return the number of elements in the chunk last returned by {@link #next()}
+     */
+    int count() {
+        return count;
+    }
+
+    private void readFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Truncated stream.");
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package main.java.datastructures.codec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.zip.CRC32C;
+
+/**
+ * Writes the chunked stream format shared by {@link ChunkedWriter} and {@link PrimitiveListCodec}.
+ *
+ * <p>A stream starts with a 6-byte header: the magic number {@code "MYLS"}, the format version and the kind of
+ * contents. Then come chunks, each an int body length, an int element count, the int CRC32C of the length, count
+ * and body, and the body. A chunk header of three zero ints ends the stream. Every chunk decodes on its own, so a reader needs to hold only
+ * one chunk in memory at a time, however long the stream.
+ */
+final class ChunkOutput {
+
+    static final int MAGIC = 0x4D594C53;
+    // Version 1 checksummed the body only
+    static final byte VERSION = 2;
+    static final byte ELEMENTS = 0;
+    static final byte INTS = 1;
+    static final byte LONGS = 2;
+    static final byte DOUBLES = 3;
+
+    static final int HEADER_BYTES = 6;
+    static final int CHUNK_HEADER_BYTES = 12;
+    static final int DEFAULT_CHUNK_BYTES = 1 << 16;
+
+    private final WritableByteChannel channel;
+    private final int chunkBytes;
+    private final ByteBuffer header = ByteBuffer.allocate(CHUNK_HEADER_BYTES);
+    private final CRC32C checksum = new CRC32C();
+    private ByteBuffer body;
+    private int count;
+    private boolean finished;
+
+    ChunkOutput(WritableByteChannel channel, byte kind, int chunkBytes) throws IOException {
+        if (chunkBytes <= 0) {
+            throw new IllegalArgumentException("Illegal chunk size: " + chunkBytes);
+        }
+        this.channel = channel;
+        this.chunkBytes = chunkBytes;
+        this.body = ByteBuffer.allocate(chunkBytes);
+
+        ByteBuffer start = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).put(VERSION).put(kind);
+        this.writeFully(start.flip());
+    }
+
+    /**
+     * Returns the body buffer with at least {@code bytes} remaining, first writing out the current chunk if the
+     * element would not fit. A chunk only exceeds the chunk size when a single element does.
+     */
+    ByteBuffer reserve(int bytes) throws IOException {
+        if (finished) {
+            throw new IllegalStateException("Stream has already been finished.");
+        }
+        if (body.remaining() < bytes) {
+            if (count > 0) this.flushChunk();
+            if (body.capacity() < bytes) body = ByteBuffer.allocate(bytes);
+        }
+        return body;
+    }
+
+    /**
+     * Counts an element written into the buffer returned by {@link #reserve(int)}.
+     */
+    void endElement() {
+        count += 1;
+    }
+
+    /**
+     * @return the number of elements in the current chunk; 0 right after a chunk was written out
+     */
+    int count() {
+        return count;
+    }
+
+    /**
+     * Writes out the last chunk and the end of the stream.
+     */
+    void finish() throws IOException {
+        if (finished) return;
+        if (count > 0) this.flushChunk();
+        finished = true;
+
+        header.clear();
+        header.putInt(0).putInt(0).putInt(0);
+        this.writeFully(header.flip());
+    }
+
+    private void flushChunk() throws IOException {
+        body.flip();
+        header.clear();
+        header.putInt(body.remaining()).putInt(count);
+
+        checksum.reset();
+        checksum.update(header.array(), 0, 8);
+        checksum.update(body.duplicate());
+        header.putInt((int) checksum.getValue());
+        this.writeFully(header.flip());
+        this.writeFully(body);
+
+        count = 0;
+        if (body.capacity() > chunkBytes) {
+            body = ByteBuffer.allocate(chunkBytes);
+        } else {
+            body.clear();
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
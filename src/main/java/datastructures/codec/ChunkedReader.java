@@ -0,0 +1,83 @@
+package main.java.datastructures.codec;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Reads a stream written by a {@link ChunkedWriter}, one chunk at a time.
+ *
+ * <p>Only the current chunk is held in memory, and every chunk's checksum, which covers its length and element count
+ * as well as its body, is verified before any of its elements is decoded, so a corrupted stream never yields garbage
+ * elements. A body that does not decode into exactly the counted elements is reported as an {@link IOException}. {@link #readChunk(Consumer)} loads a large stream
+ * incrementally; {@link #readAll(Consumer)} loads it all, for example into a list with {@code list::add}.
+ * The channel is not closed.
+ *
+ * @param <E> the type of elements read
+ */
+public final class ChunkedReader<E> {
+
+    private final ChunkInput in;
+    private final ElementCodec<E> codec;
+
+    /**
+     * Reads and checks the stream's header.
+     *
+     * @param channel the channel to read from
+     * @param codec converts bytes to elements; it must be the codec the stream was written with
+     * @throws IOException if the channel fails or does not start with a stream of elements
+     */
+    public ChunkedReader(ReadableByteChannel channel, ElementCodec<E> codec) throws IOException {
+        this.codec = Objects.requireNonNull(codec);
+        this.in = new ChunkInput(Objects.requireNonNull(channel), ChunkOutput.ELEMENTS);
+    }
+
+    /**
+     * Decodes the elements of the next chunk and passes them to the action, in order.
+     * Time Complexity: O(size of the chunk)
+     *
+     * @param action the action to be performed for each element
+     * @return the number of elements read, or -1 at the end of the stream
+     * @throws IOException if the channel fails, the stream is truncated or a chunk is corrupted
+     */
+    public int readChunk(Consumer<? super E> action) throws IOException {
+        ByteBuffer body = in.next();
+        if (body == null) return -1;
+
+        int count = in.count();
+        for (int i = 0; i < count; i++) {
+            E element;
+            try {
+                int length = (int) Varint.getUnsigned(body);
+                int start = body.position();
+                element = codec.decode(body.slice(start, length));
+                body.position(start + length);
+            } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+                throw ChunkInput.corrupted(e);
+            }
+            action.accept(element);
+        }
+        in.checkConsumed();
+        return count;
+    }
+
+    /**
+     * Decodes every remaining element and passes it to the action, in order.
+     * Time Complexity: O(N)
+     *
+     * @param action the action to be performed for each element
+     * @return the number of elements read
+     * @throws IOException if the channel fails, the stream is truncated or a chunk is corrupted
+     */
+    public long readAll(Consumer<? super E> action) throws IOException {
+        long total = 0;
+        int read;
+        while ((read = this.readChunk(action)) >= 0) {
+            total += read;
+        }
+        return total;
+    }
+}
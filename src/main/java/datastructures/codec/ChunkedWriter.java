@@ -0,0 +1,97 @@
+package main.java.datastructures.codec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * Streams elements to a channel in a chunked binary format, as they are written, without ever holding more than one
+ * chunk in memory. Read them back with a {@link ChunkedReader} and the same codec.
+ *
+ * <p>Each element is a varint length followed by the codec's bytes. Elements are gathered into chunks of about
+ * {@code chunkBytes}, each with its element count and a CRC32C, so a reader can verify and decode a multi-gigabyte
+ * stream one chunk at a time. Any {@link Iterable}, including every {@link main.java.datastructures.list.MyList},
+ * can be written with {@link #writeAll(Iterable)}.
+ *
+ * <p>{@link #close()} ends the stream. The channel itself is not closed.
+ *
+ * @param <E> the type of elements written
+ */
+public final class ChunkedWriter<E> implements AutoCloseable {
+
+    private final ChunkOutput out;
+    private final ElementCodec<E> codec;
+    private long count;
+
+    /**
+     * Starts a stream with 64 KB chunks.
+     *
+     * @see #ChunkedWriter(WritableByteChannel, ElementCodec, int)
+     */
+    public ChunkedWriter(WritableByteChannel channel, ElementCodec<E> codec) throws IOException {
+        this(channel, codec, ChunkOutput.DEFAULT_CHUNK_BYTES);
+    }
+
+    /**
+     * Starts a stream by writing its header to the channel.
+     *
+     * @param channel the channel to write to
+     * @param codec converts elements to bytes
+     * @param chunkBytes the body size above which a chunk is written out
+     * @throws IllegalArgumentException if the chunk size is not positive
+     * @throws IOException if the channel fails
+     */
+    public ChunkedWriter(WritableByteChannel channel, ElementCodec<E> codec, int chunkBytes) throws IOException {
+        this.codec = Objects.requireNonNull(codec);
+        this.out = new ChunkOutput(Objects.requireNonNull(channel), ChunkOutput.ELEMENTS, chunkBytes);
+    }
+
+    /**
+     * Appends the element to the current chunk, writing the chunk out first if the element does not fit.
+     * Time Complexity: O(size of the encoded element) amortized
+     *
+     * @throws IllegalStateException if the stream was closed, or the codec wrote a different number of bytes than it
+     *                               announced
+     * @throws IOException if the channel fails
+     */
+    public void write(E element) throws IOException {
+        int length = codec.encodedSize(element);
+        ByteBuffer body = out.reserve(Varint.size(length) + length);
+
+        Varint.putUnsigned(body, length);
+        int start = body.position();
+        codec.encode(element, body);
+        if (body.position() != start + length) {
+            throw new IllegalStateException("Codec wrote " + (body.position() - start) + " bytes instead of " + length + ".");
+        }
+
+        out.endElement();
+        count += 1;
+    }
+
+    /**
+     * Writes every element, in iteration order.
+     * Time Complexity: O(N)
+     */
+    public void writeAll(Iterable<? extends E> elements) throws IOException {
+        for (E element : elements) {
+            this.write(element);
+        }
+    }
+
+    /**
+     * @return the number of elements written so far
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Writes out the last chunk and the end of the stream. Calling this method more than once has no further effect.
+     */
+    @Override
+    public void close() throws IOException {
+        out.finish();
+    }
+}
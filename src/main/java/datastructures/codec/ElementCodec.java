@@ -0,0 +1,73 @@
+package main.java.datastructures.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts elements to and from a variable number of bytes, for structures that store or stream them in binary.
+ *
+ * <p>The caller frames every element: it asks for {@link #encodedSize(Object)}, reserves that many bytes, and later
+ * hands {@link #decode(ByteBuffer)} a buffer holding exactly those bytes. Codecs therefore never write a length
+ * themselves. Both methods use the relative get and put methods and must leave the position right after the
+ * element's bytes.
+ *
+ * <p>Unlike {@link main.java.datastructures.list.RecordCodec}, which gives every element the same width,
+ * an element codec suits strings, byte arrays and other elements whose size varies.
+ *
+ * @param <E> the type of elements this codec converts
+ */
+public interface ElementCodec<E> {
+
+    /** Stores a {@code byte[]} as is; {@code null} is not supported. */
+    ElementCodec<byte[]> BYTES = new ElementCodec<>() {
+        public int encodedSize(byte[] element) { return element.length; }
+        public void encode(byte[] element, ByteBuffer out) { out.put(element); }
+        public byte[] decode(ByteBuffer in) {
+            byte[] element = new byte[in.remaining()];
+            in.get(element);
+            return element;
+        }
+    };
+
+    /** Stores a {@code String} as UTF-8, without creating an intermediate byte array; {@code null} is not supported. */
+    ElementCodec<String> STRING = new ElementCodec<>() {
+        public int encodedSize(String element) { return Utf8.encodedLength(element); }
+        public void encode(String element, ByteBuffer out) { Utf8.encode(element, out); }
+        public String decode(ByteBuffer in) { return Utf8.decode(in); }
+    };
+
+    /** Stores an {@code Integer} as 4 big-endian bytes; {@code null} is not supported. */
+    ElementCodec<Integer> INT = new ElementCodec<>() {
+        public int encodedSize(Integer element) { return Integer.BYTES; }
+        public void encode(Integer element, ByteBuffer out) { out.putInt(element); }
+        public Integer decode(ByteBuffer in) { return in.getInt(); }
+    };
+
+    /** Stores a {@code Long} as 8 big-endian bytes; {@code null} is not supported. */
+    ElementCodec<Long> LONG = new ElementCodec<>() {
+        public int encodedSize(Long element) { return Long.BYTES; }
+        public void encode(Long element, ByteBuffer out) { out.putLong(element); }
+        public Long decode(ByteBuffer in) { return in.getLong(); }
+    };
+
+    /**
+     * @param element the element to measure
+     * @return the exact number of bytes {@link #encode(Object, ByteBuffer)} will write for the element
+     */
+    int encodedSize(E element);
+
+    /**
+     * Writes the element's {@code encodedSize(element)} bytes at the buffer's position.
+     *
+     * @param element the element to encode
+     * @param out the buffer to write to, with at least {@code encodedSize(element)} bytes remaining
+     */
+    void encode(E element, ByteBuffer out);
+
+    /**
+     * Reads an element from all the bytes remaining in the buffer.
+     *
+     * @param in a buffer whose remaining bytes are exactly one encoded element
+     * @return the decoded element
+     */
+    E decode(ByteBuffer in);
+}
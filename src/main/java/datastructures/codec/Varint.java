@@ -0,0 +1,73 @@
+package main.java.datastructures.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * LEB128 variable-length integers: seven bits per byte, least significant group first, with the high bit set on
+ * every byte but the last. Small values take one byte and a {@code long} at most ten.
+ *
+ * <p>Signed values are zigzag-mapped first ({@code 0, -1, 1, -2, ...} become {@code 0, 1, 2, 3, ...}), so small
+ * negative numbers stay short too. This is the encoding Protocol Buffers uses.
+ */
+public final class Varint {
+
+    /** The most bytes one value can take. */
+    public static final int MAX_BYTES = 10;
+
+    private Varint() {
+    }
+
+    /**
+     * @param value the value, read as unsigned
+     * @return the number of bytes {@link #putUnsigned(ByteBuffer, long)} writes for it
+     */
+    public static int size(long value) {
+        // One byte per started group of seven bits, and one byte for zero
+        int bits = 64 - Long.numberOfLeadingZeros(value | 1);
+        return (bits + 6) / 7;
+    }
+
+    /**
+     * Writes the value, read as unsigned, at the buffer's position.
+     * Time Complexity: O(size(value))
+     */
+    public static void putUnsigned(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    /**
+     * Reads an unsigned value at the buffer's position.
+     *
+     * @throws IllegalArgumentException if the value runs over ten bytes
+     * @throws java.nio.BufferUnderflowException if the buffer ends inside the value
+     */
+    public static long getUnsigned(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+        throw new IllegalArgumentException("Varint is longer than " + MAX_BYTES + " bytes.");
+    }
+
+    public static void putSigned(ByteBuffer out, long value) {
+        putUnsigned(out, zigZag(value));
+    }
+
+    public static long getSigned(ByteBuffer in) {
+        return unZigZag(getUnsigned(in));
+    }
+
+    public static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    public static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,301 @@
+package main.java.datastructures.graph;
+
+import main.java.datastructures.list.IntArrayList;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable directed graph in compressed sparse row (CSR) form: vertices are {@code 0 .. vertexCount - 1}, the
+ * out-neighbours of vertex {@code v} are {@code targets[offsets[v]] .. targets[offsets[v + 1] - 1]}, sorted ascending.
+ *
+ * <p>Every arc costs one {@code int} in {@code targets} and every vertex one {@code int} in {@code offsets}, with no
+ * object per vertex or edge. Scanning the neighbours of a vertex reads one contiguous slice of an array, which is
+ * what the kernels in {@link GraphKernels} spend their time doing.
+ *
+ * <p>Graphs are built with a {@link Builder}. An undirected builder stores each edge as two arcs and marks the graph
+ * as symmetric, so that it is its own {@link #transpose()}.
+ */
+public final class CsrGraph {
+
+    final int vertexCount;
+    final int[] offsets;
+    final int[] targets;
+    private final boolean symmetric;
+    private volatile CsrGraph transpose;
+
+    CsrGraph(int[] offsets, int[] targets, boolean symmetric) {
+        this.vertexCount = offsets.length - 1;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.symmetric = symmetric;
+    }
+
+    /**
+     * Returns a builder for a directed graph.
+     */
+    public static Builder builder() {
+        return new Builder(false);
+    }
+
+    /**
+     * Returns a builder for a directed graph ({@code undirected == false}) or for an undirected graph,
+     * where every added edge is stored in both directions.
+     */
+    public static Builder builder(boolean undirected) {
+        return new Builder(undirected);
+    }
+
+    public int vertexCount() {
+        return vertexCount;
+    }
+
+    /**
+     * Returns the number of arcs; an undirected edge between two distinct vertices counts twice.
+     * Time Complexity: O(1)
+     *
+     * @return the number of arcs in this graph
+     */
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    /**
+     * Time Complexity: O(1)
+     *
+     * @param vertex the vertex
+     * @return the number of arcs leaving the vertex
+     * @throws IndexOutOfBoundsException if the vertex does not exist
+     */
+    public int outDegree(int vertex) {
+        this.checkVertex(vertex);
+        return offsets[vertex + 1] - offsets[vertex];
+    }
+
+    /**
+     * Returns the {@code index}-th out-neighbour of a vertex, in ascending order.
+     * Time Complexity: O(1)
+     *
+     * @param vertex the vertex
+     * @param index the position among the vertex's out-neighbours
+     * @return the target of the arc
+     * @throws IndexOutOfBoundsException if the vertex does not exist or the index is out of range
+     */
+    public int neighbor(int vertex, int index) {
+        int degree = this.outDegree(vertex);
+        if (index < 0 || index >= degree) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds.");
+        }
+        return targets[offsets[vertex] + index];
+    }
+
+    /**
+     * Performs the action for every out-neighbour of a vertex, in ascending order, without allocating.
+     * Time Complexity: O(degree)
+     *
+     * @param vertex the vertex
+     * @param action the action to be performed for each out-neighbour
+     * @throws IndexOutOfBoundsException if the vertex does not exist
+     */
+    public void forEachNeighbor(int vertex, IntConsumer action) {
+        this.checkVertex(vertex);
+        for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+            action.accept(targets[i]);
+        }
+    }
+
+    /**
+     * Returns {@code true} if there is an arc from {@code source} to {@code target}.
+     * Time Complexity: O(log degree)
+     *
+     * @throws IndexOutOfBoundsException if either vertex does not exist
+     */
+    public boolean hasEdge(int source, int target) {
+        this.checkVertex(source);
+        this.checkVertex(target);
+        return Arrays.binarySearch(targets, offsets[source], offsets[source + 1], target) >= 0;
+    }
+
+    /**
+     * Returns {@code true} if every arc has a reverse arc, as in a graph from an undirected builder.
+     */
+    public boolean isSymmetric() {
+        return symmetric;
+    }
+
+    /**
+     * Returns the graph with every arc reversed, whose rows list the in-neighbours of each vertex.
+     * It is built on first use and cached; a symmetric graph returns itself.
+     * Time Complexity: O(V + E) on first call, O(1) afterwards
+     *
+     * @return the transposed graph
+     */
+    public CsrGraph transpose() {
+        if (symmetric) return this;
+
+        CsrGraph result = transpose;
+        if (result == null) {
+            int[] inOffsets = new int[vertexCount + 1];
+            for (int target : targets) {
+                inOffsets[target + 1] += 1;
+            }
+            for (int v = 0; v < vertexCount; v++) {
+                inOffsets[v + 1] += inOffsets[v];
+            }
+
+            // Visiting sources in ascending order leaves every row of the transpose sorted
+            int[] next = Arrays.copyOf(inOffsets, vertexCount);
+            int[] sources = new int[targets.length];
+            for (int v = 0; v < vertexCount; v++) {
+                for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                    sources[next[targets[i]]++] = v;
+                }
+            }
+
+            result = new CsrGraph(inOffsets, sources, false);
+            result.transpose = this;
+            transpose = result;
+        }
+        return result;
+    }
+
+    /**
+     * Estimates the heap occupied by the offset and target arrays, excluding a cached transpose.
+     * Assumes 16-byte array headers.
+     * Time Complexity: O(1)
+     *
+     * @return the estimated size of the graph in bytes
+     */
+    public long footprint() {
+        return 16L + 4L * offsets.length + 16L + 4L * targets.length;
+    }
+
+    @Override
+    public String toString() {
+        return "CsrGraph[vertices=" + vertexCount + ", arcs=" + targets.length + "]";
+    }
+
+    private void checkVertex(int vertex) {
+        if (vertex < 0 || vertex >= vertexCount) {
+            throw new IndexOutOfBoundsException("Vertex " + vertex + " is out of bounds.");
+        }
+    }
+
+    /**
+     * Collects edges in any order and freezes them into a {@link CsrGraph}.
+     *
+     * <p>The vertex count grows to cover the largest vertex seen. Edges are buffered in two {@link IntArrayList}s,
+     * 8 bytes per arc, until {@link #freeze()} sorts them into rows with a counting sort and releases the buffers.
+     * Parallel edges and self-loops are kept. A builder can be frozen once.
+     */
+    public static final class Builder {
+
+        private final boolean undirected;
+        private IntArrayList sources = new IntArrayList();
+        private IntArrayList targets = new IntArrayList();
+        private int vertexCount;
+
+        private Builder(boolean undirected) {
+            this.undirected = undirected;
+        }
+
+        /**
+         * Makes sure vertices {@code 0 .. count - 1} exist, including isolated ones without edges.
+         *
+         * @param count the minimum number of vertices
+         * @return this builder
+         */
+        public Builder ensureVertices(int count) {
+            this.checkNotFrozen();
+            if (count < 0) {
+                throw new IllegalArgumentException("Illegal vertex count: " + count);
+            }
+            vertexCount = Math.max(vertexCount, count);
+            return this;
+        }
+
+        /**
+         * Adds an arc from {@code source} to {@code target}, and the reverse arc if this builder is undirected.
+         * Time Complexity: O(1) amortized
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if a vertex is negative
+         * @throws IllegalStateException if the builder was frozen or the graph would exceed the maximum arc count
+         */
+        public Builder addEdge(int source, int target) {
+            this.checkNotFrozen();
+            if (source < 0 || target < 0) {
+                throw new IllegalArgumentException("Illegal vertex: " + Math.min(source, target));
+            }
+            if (source == Integer.MAX_VALUE || target == Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Illegal vertex: " + Integer.MAX_VALUE);
+            }
+            if (sources.size() >= Integer.MAX_VALUE - 9) {
+                throw new IllegalStateException("CsrGraph cannot hold more than " + (Integer.MAX_VALUE - 8) + " arcs.");
+            }
+
+            sources.addInt(source);
+            targets.addInt(target);
+            if (undirected && source != target) {
+                sources.addInt(target);
+                targets.addInt(source);
+            }
+            vertexCount = Math.max(vertexCount, Math.max(source, target) + 1);
+            return this;
+        }
+
+        public int vertexCount() {
+            return vertexCount;
+        }
+
+        /**
+         * Returns the number of arcs added so far; an undirected edge between two distinct vertices counts twice.
+         */
+        public int edgeCount() {
+            this.checkNotFrozen();
+            return sources.size();
+        }
+
+        /**
+         * Sorts the buffered arcs into a CSR graph and releases the buffers.
+         * Time Complexity: O(V + E log(max degree)), with the rows sorted in parallel
+         *
+         * @return the frozen graph
+         * @throws IllegalStateException if the builder was already frozen
+         */
+        public CsrGraph freeze() {
+            this.checkNotFrozen();
+            int n = vertexCount;
+            int m = sources.size();
+
+            int[] offsets = new int[n + 1];
+            for (int i = 0; i < m; i++) {
+                offsets[sources.getInt(i) + 1] += 1;
+            }
+            for (int v = 0; v < n; v++) {
+                offsets[v + 1] += offsets[v];
+            }
+
+            int[] next = Arrays.copyOf(offsets, n);
+            int[] rows = new int[m];
+            for (int i = 0; i < m; i++) {
+                rows[next[sources.getInt(i)]++] = targets.getInt(i);
+            }
+            sources = null;
+            targets = null;
+
+            ParallelRange.forEach(0, n, ParallelRange.DEFAULT_SEQUENTIAL_THRESHOLD, (from, to) -> {
+                for (int v = from; v < to; v++) {
+                    Arrays.sort(rows, offsets[v], offsets[v + 1]);
+                }
+            });
+            return new CsrGraph(offsets, rows, undirected);
+        }
+
+        private void checkNotFrozen() {
+            if (sources == null) {
+                throw new IllegalStateException("Builder has already been frozen.");
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package main.java.datastructures.graph;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Streams a text edge list into a {@link CsrGraph.Builder}.
+ *
+ * <p>Each line holds a source and a target vertex as non-negative decimal integers separated by spaces, tabs or a
+ * comma, as in the SNAP and KONECT datasets. Anything after the second number, such as a weight or a timestamp,
+ * is ignored. Blank lines and lines starting with {@code #} or {@code %} are skipped.
+ *
+ * <p>The input is parsed byte by byte from a fixed buffer, so memory stays flat however large the file is and no
+ * {@code String} is created per line. The only growth is the builder's edge buffer.
+ */
+public final class EdgeListReader {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private EdgeListReader() {
+    }
+
+    /**
+     * Reads the edge list in the file and freezes it into a graph.
+     *
+     * @param path the edge list file
+     * @param undirected whether every edge should be stored in both directions
+     * @return the graph
+     * @throws IOException if the file cannot be read or a line is malformed
+     */
+    public static CsrGraph read(Path path, boolean undirected) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return read(in, undirected);
+        }
+    }
+
+    /**
+     * Reads an edge list from the stream until it ends and freezes it into a graph. The stream is not closed.
+     *
+     * @param in the edge list
+     * @param undirected whether every edge should be stored in both directions
+     * @return the graph
+     * @throws IOException if the stream cannot be read or a line is malformed
+     */
+    public static CsrGraph read(InputStream in, boolean undirected) throws IOException {
+        CsrGraph.Builder builder = CsrGraph.builder(undirected);
+        readInto(in, builder);
+        return builder.freeze();
+    }
+
+    /**
+     * Adds every edge of the edge list to the builder. The stream is not closed.
+     *
+     * @param in the edge list
+     * @param builder the builder to add edges to
+     * @return the number of edge lines read
+     * @throws IOException if the stream cannot be read or a line is malformed
+     */
+    public static long readInto(InputStream in, CsrGraph.Builder builder) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long line = 1;
+        long edges = 0;
+        long value = 0;
+        boolean inNumber = false;
+        int column = 0;
+        int source = 0;
+        boolean skipLine = false;
+
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                byte c = buffer[i];
+
+                if (c == '\n') {
+                    if (inNumber) {
+                        if (column == 0) throw malformed(line);
+                        builder.addEdge(source, (int) value);
+                        edges += 1;
+                    } else if (column == 1) {
+                        throw malformed(line);
+                    }
+                    line += 1;
+                    value = 0;
+                    inNumber = false;
+                    column = 0;
+                    skipLine = false;
+                    continue;
+                }
+                if (skipLine) continue;
+
+                if (c >= '0' && c <= '9') {
+                    value = 10 * value + (c - '0');
+                    if (value > Integer.MAX_VALUE - 1) {
+                        throw new IOException("Vertex id too large at line " + line + ".");
+                    }
+                    inNumber = true;
+                    continue;
+                }
+
+                if (inNumber) {
+                    if (column == 0) {
+                        source = (int) value;
+                        column = 1;
+                    } else {
+                        // The rest of the line is extra columns
+                        builder.addEdge(source, (int) value);
+                        edges += 1;
+                        column = 2;
+                        skipLine = true;
+                    }
+                    value = 0;
+                    inNumber = false;
+                }
+
+                if (c == ' ' || c == '\t' || c == '\r' || c == ',') continue;
+                if ((c == '#' || c == '%') && column == 0) {
+                    skipLine = true;
+                    continue;
+                }
+                if (!skipLine) throw malformed(line);
+            }
+        }
+
+        if (inNumber) {
+            if (column == 0) throw malformed(line);
+            builder.addEdge(source, (int) value);
+            edges += 1;
+        } else if (column == 1) {
+            throw malformed(line);
+        }
+        return edges;
+    }
+
+    private static IOException malformed(long line) {
+        return new IOException("Malformed edge list at line " + line + ".");
+    }
+}
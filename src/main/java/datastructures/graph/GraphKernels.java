@@ -0,0 +1,347 @@
+package main.java.datastructures.graph;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Parallel graph kernels over a {@link CsrGraph}, running in the common {@link ForkJoinPool}.
+ *
+ * <p>Every kernel splits a vertex range into fork/join tasks and touches the graph only through its offset and target
+ * arrays. Results are plain arrays indexed by vertex.
+ */
+public final class GraphKernels {
+
+    /**
+     * Switch to bottom-up once the frontier has more than 1/ALPHA of the unexplored arcs, per Beamer, Asanovic and
+     * Patterson, "Direction-Optimizing Breadth-First Search" (SC 2012).
+     */
+    static final int ALPHA = 14;
+
+    /**
+     * Switch back to top-down once the frontier holds fewer than 1/BETA of the vertices.
+     */
+    static final int BETA = 24;
+
+    private static final int FRONTIER_THRESHOLD = 1 << 8;
+    private static final VarHandle INT_ARRAY = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private GraphKernels() {
+    }
+
+    /**
+     * Computes the breadth-first distance of every vertex from {@code source}, following arcs forwards.
+     *
+     * <p>Each level is expanded either top-down, where the frontier's vertices claim their unvisited out-neighbours
+     * with a CAS, or bottom-up, where every unvisited vertex looks for any in-neighbour in the frontier and stops at
+     * the first one. Bottom-up skips most arcs once the frontier covers a large part of the graph, so the kernel
+     * switches direction per level on the arc counts of the frontier and of the unexplored vertices.
+     * Time Complexity: O(V + E) work
+     *
+     * @param graph the graph to search; bottom-up levels use its {@link CsrGraph#transpose()}
+     * @param source the vertex to start from
+     * @return the number of levels from the source to each vertex, or -1 for vertices that cannot be reached
+     * @throws IndexOutOfBoundsException if the source does not exist
+     */
+    public static int[] bfs(CsrGraph graph, int source) {
+        graph.outDegree(source);
+        int n = graph.vertexCount;
+        int[] depth = new int[n];
+        Arrays.fill(depth, -1);
+        depth[source] = 0;
+
+        int[] frontier = new int[n];
+        int[] next = new int[n];
+        frontier[0] = source;
+        int frontierSize = 1;
+        boolean frontierQueued = true;
+        long frontierArcs = graph.outDegree(source);
+        long unexploredArcs = graph.edgeCount() - frontierArcs;
+        boolean bottomUp = false;
+
+        for (int level = 0; frontierSize > 0; level++) {
+            if (!bottomUp && frontierArcs > unexploredArcs / ALPHA) {
+                bottomUp = true;
+            } else if (bottomUp && frontierSize < n / BETA) {
+                bottomUp = false;
+            }
+
+            LongAdder arcs = new LongAdder();
+            if (bottomUp) {
+                frontierSize = bottomUpStep(graph, depth, level, arcs);
+                frontierQueued = false;
+            } else {
+                if (!frontierQueued) {
+                    gather(depth, level, frontier);
+                }
+                frontierSize = topDownStep(graph, depth, frontier, frontierSize, next, level, arcs);
+                int[] swap = frontier;
+                frontier = next;
+                next = swap;
+                frontierQueued = true;
+            }
+
+            frontierArcs = arcs.sum();
+            unexploredArcs -= frontierArcs;
+        }
+
+        return depth;
+    }
+
+    /**
+     * Labels the weakly connected components: two vertices get the same label if a path connects them when arcs
+     * are followed in either direction. The label of a component is its smallest vertex.
+     *
+     * <p>Arcs are merged into a lock-free union-find in parallel. A root is only ever linked below a smaller root
+     * with a CAS, so parent links always point to smaller vertices and no cycle can form; finds halve their paths.
+     * Time Complexity: O(E * alpha(V)) expected work
+     *
+     * @param graph the graph
+     * @return the component label of each vertex
+     */
+    public static int[] connectedComponents(CsrGraph graph) {
+        int n = graph.vertexCount;
+        int[] offsets = graph.offsets;
+        int[] targets = graph.targets;
+        int[] parent = new int[n];
+
+        ParallelRange.forEach(0, n, ParallelRange.DEFAULT_SEQUENTIAL_THRESHOLD, (from, to) -> {
+            for (int v = from; v < to; v++) {
+                parent[v] = v;
+            }
+        });
+        ParallelRange.forEach(0, n, ParallelRange.DEFAULT_SEQUENTIAL_THRESHOLD, (from, to) -> {
+            for (int u = from; u < to; u++) {
+                for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+                    union(parent, u, targets[i]);
+                }
+            }
+        });
+        ParallelRange.forEach(0, n, ParallelRange.DEFAULT_SEQUENTIAL_THRESHOLD, (from, to) -> {
+            for (int v = from; v < to; v++) {
+                parent[v] = find(parent, v);
+            }
+        });
+
+        return parent;
+    }
+
+    /**
+     * Computes PageRank with damping 0.85, stopping when the ranks change by less than 1e-6 in total
+     * or after 100 iterations.
+     *
+     * @see #pageRank(CsrGraph, double, double, int)
+     */
+    public static double[] pageRank(CsrGraph graph) {
+        return pageRank(graph, 0.85, 1e-6, 100);
+    }
+
+    /**
+     * Computes PageRank by power iteration. Each iteration pulls, in parallel, the rank contributions of every
+     * vertex's in-neighbours, so every rank is written by one task and no atomics are needed. The rank of vertices
+     * without out-arcs is spread evenly over all vertices. The ranks sum to 1.
+     * Time Complexity: O(iterations * (V + E))
+     *
+     * @param graph the graph; iterations read its {@link CsrGraph#transpose()}
+     * @param damping the probability of following an arc rather than jumping to a random vertex, in [0, 1)
+     * @param tolerance stop once the L1 distance between two successive rank vectors is below this value
+     * @param maxIterations the maximum number of iterations
+     * @return the rank of each vertex
+     * @throws IllegalArgumentException if a parameter is out of range
+     */
+    public static double[] pageRank(CsrGraph graph, double damping, double tolerance, int maxIterations) {
+        if (!(damping >= 0 && damping < 1)) {
+            throw new IllegalArgumentException("Illegal damping factor: " + damping);
+        }
+        if (!(tolerance >= 0)) {
+            throw new IllegalArgumentException("Illegal tolerance: " + tolerance);
+        }
+        if (maxIterations < 0) {
+            throw new IllegalArgumentException("Illegal iteration count: " + maxIterations);
+        }
+
+        int n = graph.vertexCount;
+        int[] outOffsets = graph.offsets;
+        CsrGraph in = graph.transpose();
+        int[] inOffsets = in.offsets;
+        int[] sources = in.targets;
+
+        double[] rank = new double[n];
+        double[] next = new double[n];
+        double[] contribution = new double[n];
+        Arrays.fill(rank, 1.0 / n);
+
+        for (int iteration = 0; iteration < maxIterations; iteration++) {
+            double[] current = rank;
+            double[] updated = next;
+
+            DoubleAdder dangling = new DoubleAdder();
+            ParallelRange.forEach(0, n, ParallelRange.DEFAULT_SEQUENTIAL_THRESHOLD, (from, to) -> {
+                double localDangling = 0;
+                for (int u = from; u < to; u++) {
+                    int degree = outOffsets[u + 1] - outOffsets[u];
+                    if (degree == 0) {
+                        localDangling += current[u];
+                        contribution[u] = 0;
+                    } else {
+                        contribution[u] = current[u] / degree;
+                    }
+                }
+                dangling.add(localDangling);
+            });
+
+            double base = (1 - damping) / n + damping * dangling.sum() / n;
+            DoubleAdder delta = new DoubleAdder();
+            ParallelRange.forEach(0, n, ParallelRange.DEFAULT_SEQUENTIAL_THRESHOLD, (from, to) -> {
+                double localDelta = 0;
+                for (int v = from; v < to; v++) {
+                    double sum = 0;
+                    for (int i = inOffsets[v]; i < inOffsets[v + 1]; i++) {
+                        sum += contribution[sources[i]];
+                    }
+                    updated[v] = base + damping * sum;
+                    localDelta += Math.abs(updated[v] - current[v]);
+                }
+                delta.add(localDelta);
+            });
+
+            rank = updated;
+            next = current;
+            if (delta.sum() < tolerance) break;
+        }
+
+        return rank;
+    }
+
+    // Helpers
+
+    /**
+     * Expands the queued frontier: each frontier vertex claims its unvisited out-neighbours with a CAS on their
+     * depth, and every task appends the vertices it claimed to {@code next} in one block.
+     *
+     * @return the size of the next frontier
+     */
+    private static int topDownStep(CsrGraph graph, int[] depth, int[] frontier, int frontierSize, int[] next,
+                                   int level, LongAdder arcs) {
+        int[] offsets = graph.offsets;
+        int[] targets = graph.targets;
+        AtomicInteger tail = new AtomicInteger();
+
+        ParallelRange.forEach(0, frontierSize, FRONTIER_THRESHOLD, (from, to) -> {
+            int[] claimed = new int[64];
+            int count = 0;
+            long localArcs = 0;
+
+            for (int f = from; f < to; f++) {
+                int u = frontier[f];
+                for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+                    int v = targets[i];
+                    // The plain read filters most visited vertices before the CAS
+                    if (depth[v] == -1 && INT_ARRAY.compareAndSet(depth, v, -1, level + 1)) {
+                        if (count == claimed.length) {
+                            claimed = Arrays.copyOf(claimed, 2 * count);
+                        }
+                        claimed[count++] = v;
+                        localArcs += offsets[v + 1] - offsets[v];
+                    }
+                }
+            }
+
+            int start = tail.getAndAdd(count);
+            System.arraycopy(claimed, 0, next, start, count);
+            arcs.add(localArcs);
+        });
+
+        return tail.get();
+    }
+
+    /**
+     * Visits every unvisited vertex and adds it to the next level if any of its in-neighbours is in the frontier.
+     * Each vertex writes only its own depth, so no CAS is needed.
+     *
+     * @return the size of the next frontier
+     */
+    private static int bottomUpStep(CsrGraph graph, int[] depth, int level, LongAdder arcs) {
+        int[] outOffsets = graph.offsets;
+        CsrGraph in = graph.transpose();
+        int[] inOffsets = in.offsets;
+        int[] sources = in.targets;
+        LongAdder awakened = new LongAdder();
+
+        ParallelRange.forEach(0, graph.vertexCount, ParallelRange.DEFAULT_SEQUENTIAL_THRESHOLD, (from, to) -> {
+            int count = 0;
+            long localArcs = 0;
+
+            for (int v = from; v < to; v++) {
+                if (depth[v] != -1) continue;
+
+                for (int i = inOffsets[v]; i < inOffsets[v + 1]; i++) {
+                    if (depth[sources[i]] == level) {
+                        depth[v] = level + 1;
+                        count += 1;
+                        localArcs += outOffsets[v + 1] - outOffsets[v];
+                        break;
+                    }
+                }
+            }
+
+            awakened.add(count);
+            arcs.add(localArcs);
+        });
+
+        return awakened.intValue();
+    }
+
+    /**
+     * Collects the vertices at the given depth into {@code out}, in no particular order.
+     */
+    private static void gather(int[] depth, int level, int[] out) {
+        AtomicInteger tail = new AtomicInteger();
+
+        ParallelRange.forEach(0, depth.length, ParallelRange.DEFAULT_SEQUENTIAL_THRESHOLD, (from, to) -> {
+            int count = 0;
+            for (int v = from; v < to; v++) {
+                if (depth[v] == level) count += 1;
+            }
+
+            int start = tail.getAndAdd(count);
+            for (int v = from; v < to; v++) {
+                if (depth[v] == level) out[start++] = v;
+            }
+        });
+    }
+
+    private static int find(int[] parent, int vertex) {
+        while (true) {
+            int p = (int) INT_ARRAY.getAcquire(parent, vertex);
+            if (p == vertex) return vertex;
+
+            int grandparent = (int) INT_ARRAY.getAcquire(parent, p);
+            if (grandparent != p) {
+                // Path halving; losing the race only means the path is not shortened this time
+                INT_ARRAY.compareAndSet(parent, vertex, p, grandparent);
+            }
+            vertex = grandparent;
+        }
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        while (true) {
+            a = find(parent, a);
+            b = find(parent, b);
+            if (a == b) return;
+
+            if (a < b) {
+                int swap = a;
+                a = b;
+                b = swap;
+            }
+            // Link the larger root below the smaller one, unless another thread linked it first
+            if (INT_ARRAY.compareAndSet(parent, a, a, b)) return;
+        }
+    }
+}
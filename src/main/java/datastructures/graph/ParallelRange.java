@@ -0,0 +1,65 @@
+package main.java.datastructures.graph;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs an action over an index range in the common {@link ForkJoinPool}, used by the graph kernels.
+ *
+ * <p>The range is halved until it is at most {@code threshold} indices long, and each piece runs the action on
+ * its sub-range. Actions accumulate into local variables and publish once per sub-range, for example into a
+ * {@link java.util.concurrent.atomic.LongAdder}, so that sharing stays off the inner loops. Ranges no longer than
+ * the threshold run on the calling thread.
+ */
+final class ParallelRange {
+
+    static final int DEFAULT_SEQUENTIAL_THRESHOLD = 1 << 10;
+
+    private ParallelRange() {
+    }
+
+    /**
+     * The body of a parallel loop over {@code [from, to)}.
+     */
+    @FunctionalInterface
+    interface RangeAction {
+        void run(int from, int to);
+    }
+
+    static void forEach(int from, int to, int threshold, RangeAction action) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Illegal sequential threshold: " + threshold);
+        }
+        if (to - from <= threshold) {
+            action.run(from, to);
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(new RangeTask(from, to, threshold, action));
+    }
+
+    private static final class RangeTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final int threshold;
+        private final RangeAction action;
+
+        RangeTask(int from, int to, int threshold, RangeAction action) {
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                action.run(from, to);
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeTask(from, mid, threshold, action),
+                      new RangeTask(mid, to, threshold, action));
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package main.java.datastructures.heap;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A d-ary min-heap of elements keyed by a primitive {@code long} priority, such as a deadline in nanoseconds.
+ *
+ * <p>Priorities live in a {@code long[]} parallel to the element array, so sifting compares primitives read
+ * sequentially from one array: no {@link java.util.Comparator} call, no unboxing, and no dereference of the elements.
+ * Elements with equal priority come out in no particular order.
+ *
+ * @param <E> the type of elements in this heap
+ */
+public class LongPriorityHeap<E> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final int arity;
+    private long[] priorities;
+    private Object[] elements;
+    private int size;
+
+    public LongPriorityHeap() {
+        this(MyDaryHeap.DEFAULT_ARITY);
+    }
+
+    /**
+     * @param arity the number of children per node
+     * @throws IllegalArgumentException if arity is less than 2
+     */
+    public LongPriorityHeap(int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Illegal arity: " + arity);
+        }
+        this.arity = arity;
+        this.priorities = new long[DEFAULT_CAPACITY];
+        this.elements = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Adds the element with the given priority; lower values come out first.
+     * Time Complexity: O(log N)
+     *
+     * @param element the element to add, may be null
+     * @param priority the priority of the element
+     */
+    public void enqueue(E element, long priority) {
+        if (size == priorities.length) {
+            int capacity = grownCapacity(size);
+            priorities = Arrays.copyOf(priorities, capacity);
+            elements = Arrays.copyOf(elements, capacity);
+        }
+
+        int index = size;
+        while (index > 0) {
+            int parent = (index - 1) / arity;
+            if (priority >= priorities[parent]) break;
+
+            priorities[index] = priorities[parent];
+            elements[index] = elements[parent];
+            index = parent;
+        }
+        priorities[index] = priority;
+        elements[index] = element;
+        size += 1;
+    }
+
+    /**
+     * Returns the element with the lowest priority without removing it.
+     * Time Complexity: O(1)
+     *
+     * @return the element with the lowest priority, or null if this heap is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        return size == 0 ? null : (E) elements[0];
+    }
+
+    /**
+     * Returns the lowest priority in the heap.
+     * Time Complexity: O(1)
+     *
+     * @return the priority of the element {@link #peek()} returns
+     * @throws NoSuchElementException if this heap is empty
+     */
+    public long peekPriority() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty.");
+        }
+        return priorities[0];
+    }
+
+    /**
+     * Removes and returns the element with the lowest priority.
+     * Time Complexity: O(arity * log N / log arity)
+     *
+     * @return the element with the lowest priority, or null if this heap is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E dequeue() {
+        if (size == 0) return null;
+
+        E smallest = (E) elements[0];
+        size -= 1;
+        long priority = priorities[size];
+        Object element = elements[size];
+        elements[size] = null;
+        if (size == 0) return smallest;
+
+        int index = 0;
+        while (true) {
+            int firstChild = index * arity + 1;
+            if (firstChild >= size) break;
+
+            int end = Math.min(firstChild + arity, size);
+            int child = firstChild;
+            long childPriority = priorities[firstChild];
+            for (int i = firstChild + 1; i < end; i++) {
+                if (priorities[i] < childPriority) {
+                    child = i;
+                    childPriority = priorities[i];
+                }
+            }
+
+            if (childPriority >= priority) break;
+
+            priorities[index] = childPriority;
+            elements[index] = elements[child];
+            index = child;
+        }
+        priorities[index] = priority;
+        elements[index] = element;
+
+        return smallest;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all the elements from this heap.
+     * Time Complexity: O(N)
+     */
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Returns the doubled capacity, clamped to the largest array the JVM can allocate.
+     *
+     * @throws OutOfMemoryError if the capacity is already the maximum
+     */
+    private static int grownCapacity(int capacity) {
+        if (capacity >= MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required capacity " + (capacity + 1L) + " exceeds the maximum array size.");
+        }
+        return (int) Math.min(MAX_CAPACITY, 2L * capacity);
+    }
+}
@@ -0,0 +1,234 @@
+package main.java.datastructures.heap;
+
+import main.java.datastructures.list.MyArrayList;
+import main.java.datastructures.queue.MyQueue;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * An array-backed d-ary min-heap implementing {@link MyQueue} as a priority queue:
+ * {@link #dequeue()} returns the smallest element according to the comparator, or the natural ordering.
+ *
+ * <p>The children of the element at index {@code i} are at {@code arity * i + 1} to {@code arity * i + arity}.
+ * A wider heap is shallower, log_d N levels instead of log_2 N, so {@link #enqueue(Object)} does fewer comparisons
+ * and {@link #dequeue()} touches fewer cache lines, at the cost of comparing up to {@code arity} children per level
+ * on the way down. The default arity of 4 keeps all siblings of a node within one or two cache lines.
+ *
+ * <p>Null elements are not permitted. {@link #toString()} lists the elements in array order, not priority order.
+ *
+ * @param <E> the type of elements in this heap
+ */
+public class MyDaryHeap<E> implements MyQueue<E> {
+
+    static final int DEFAULT_ARITY = 4;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final int arity;
+    private final Comparator<? super E> comparator;
+    private Object[] heap;
+    private int size;
+
+    public MyDaryHeap() {
+        this(DEFAULT_ARITY, null);
+    }
+
+    /**
+     * @param comparator orders the elements, or {@code null} for their natural ordering
+     */
+    public MyDaryHeap(Comparator<? super E> comparator) {
+        this(DEFAULT_ARITY, comparator);
+    }
+
+    /**
+     * @param arity the number of children per node
+     * @param comparator orders the elements, or {@code null} for their natural ordering
+     * @throws IllegalArgumentException if arity is less than 2
+     */
+    public MyDaryHeap(int arity, Comparator<? super E> comparator) {
+        this(arity, comparator, new Object[DEFAULT_CAPACITY], 0);
+    }
+
+    private MyDaryHeap(int arity, Comparator<? super E> comparator, Object[] heap, int size) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Illegal arity: " + arity);
+        }
+        this.arity = arity;
+        this.comparator = comparator;
+        this.heap = heap;
+        this.size = size;
+    }
+
+    /**
+     * Builds a heap of the elements in their natural ordering, see {@link #heapify(MyArrayList, int, Comparator)}.
+     */
+    public static <E extends Comparable<? super E>> MyDaryHeap<E> heapify(MyArrayList<E> elements) {
+        return heapify(elements, DEFAULT_ARITY, null);
+    }
+
+    /**
+     * Builds a heap of the elements bottom-up: each inner node is sifted down once, starting from the last one.
+     * Most nodes are near the leaves and sift only a level or two, so this is O(N) rather than the O(N log N)
+     * of enqueueing one by one. The list is not modified.
+     * Time Complexity: O(N)
+     *
+     * @param elements the elements of the heap
+     * @param arity the number of children per node
+     * @param comparator orders the elements, or {@code null} for their natural ordering
+     * @return a heap holding the elements
+     * @throws NullPointerException if any element is null
+     */
+    public static <E> MyDaryHeap<E> heapify(MyArrayList<? extends E> elements, int arity, Comparator<? super E> comparator) {
+        Object[] heap = new Object[Math.max(DEFAULT_CAPACITY, elements.size())];
+        int[] count = new int[1];
+        elements.forEach(element -> heap[count[0]++] = Objects.requireNonNull(element));
+
+        MyDaryHeap<E> result = new MyDaryHeap<>(arity, comparator, heap, count[0]);
+        result.heapify();
+        return result;
+    }
+
+    // Queue
+    /**
+     * Time Complexity: O(log N)
+     *
+     * @throws NullPointerException if the element is null
+     */
+    @Override
+    public void enqueue(E element) {
+        Objects.requireNonNull(element);
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, grownCapacity(heap.length));
+        }
+        this.siftUp(size, element);
+        size += 1;
+    }
+
+    /**
+     * Returns the smallest element without removing it.
+     * Time Complexity: O(1)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        return (E) heap[0];
+    }
+
+    /**
+     * Removes and returns the smallest element.
+     * Time Complexity: O(arity * log N / log arity)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E dequeue() {
+        if (size == 0) return null;
+
+        E smallest = (E) heap[0];
+        size -= 1;
+        E last = (E) heap[size];
+        heap[size] = null;
+        if (size > 0) {
+            this.siftDown(0, last);
+        }
+        return smallest;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all the elements from this heap.
+     * Time Complexity: O(N)
+     */
+    public void clear() {
+        Arrays.fill(heap, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * @return the number of children per node
+     */
+    public int arity() {
+        return arity;
+    }
+
+    // Helpers
+    /**
+     * Moves the hole at {@code index} up until the element is not smaller than its parent, then fills it.
+     */
+    @SuppressWarnings("unchecked")
+    private void siftUp(int index, E element) {
+        while (index > 0) {
+            int parent = (index - 1) / arity;
+            E parentElement = (E) heap[parent];
+            if (this.compare(element, parentElement) >= 0) break;
+
+            heap[index] = parentElement;
+            index = parent;
+        }
+        heap[index] = element;
+    }
+
+    /**
+     * Moves the hole at {@code index} down to the smallest child until no child is smaller than the element,
+     * then fills it.
+     */
+    @SuppressWarnings("unchecked")
+    private void siftDown(int index, E element) {
+        while (true) {
+            int firstChild = index * arity + 1;
+            if (firstChild >= size) break;
+
+            int end = Math.min(firstChild + arity, size);
+            int smallest = firstChild;
+            for (int child = firstChild + 1; child < end; child++) {
+                if (this.compare((E) heap[child], (E) heap[smallest]) < 0) {
+                    smallest = child;
+                }
+            }
+
+            if (this.compare((E) heap[smallest], element) >= 0) break;
+
+            heap[index] = heap[smallest];
+            index = smallest;
+        }
+        heap[index] = element;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void heapify() {
+        for (int i = (size - 2) / arity; i >= 0; i--) {
+            this.siftDown(i, (E) heap[i]);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(E a, E b) {
+        return comparator != null ? comparator.compare(a, b) : ((Comparable<? super E>) a).compareTo(b);
+    }
+
+    /**
+     * Returns the doubled capacity, clamped to the largest array the JVM can allocate.
+     *
+     * @throws OutOfMemoryError if the capacity is already the maximum
+     */
+    private static int grownCapacity(int capacity) {
+        if (capacity >= MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required capacity " + (capacity + 1L) + " exceeds the maximum array size.");
+        }
+        return (int) Math.min(MAX_CAPACITY, 2L * capacity);
+    }
+
+    // Object
+    @Override
+    public String toString() {
+        return Arrays.toString(Arrays.copyOf(heap, size));
+    }
+}
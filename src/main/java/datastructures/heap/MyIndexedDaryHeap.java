@@ -0,0 +1,252 @@
+package main.java.datastructures.heap;
+
+import main.java.datastructures.queue.MyQueue;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * A d-ary min-heap whose entries can be found again after insertion, for algorithms such as Dijkstra's or a
+ * scheduler that reprioritizes or cancels pending work.
+ *
+ * <p>{@link #insert(Object)} returns a {@link Handle} that always knows its entry's current index in the heap array,
+ * so {@link #decreaseKey(Handle, Object)} and {@link #remove(Handle)} sift from there in O(log N) instead of
+ * searching the heap in O(N). Otherwise it behaves like {@link MyDaryHeap}.
+ *
+ * @param <E> the type of elements in this heap
+ */
+public class MyIndexedDaryHeap<E> implements MyQueue<E> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * A reference to an entry of the heap, valid until the entry is dequeued or removed.
+     *
+     * @param <E> the type of the element
+     */
+    public static final class Handle<E> {
+        private E element;
+        // The entry's index in the heap array, or -1 once it has left the heap
+        private int index;
+
+        private Handle(E element) {
+            this.element = element;
+        }
+
+        /**
+         * @return the element of this entry
+         */
+        public E element() {
+            return element;
+        }
+
+        /**
+         * @return {@code true} while the entry is in the heap
+         */
+        public boolean isQueued() {
+            return index >= 0;
+        }
+    }
+
+    private final int arity;
+    private final Comparator<? super E> comparator;
+    private Handle<E>[] heap;
+    private int size;
+
+    public MyIndexedDaryHeap() {
+        this(MyDaryHeap.DEFAULT_ARITY, null);
+    }
+
+    /**
+     * @param arity the number of children per node
+     * @param comparator orders the elements, or {@code null} for their natural ordering
+     * @throws IllegalArgumentException if arity is less than 2
+     */
+    @SuppressWarnings("unchecked")
+    public MyIndexedDaryHeap(int arity, Comparator<? super E> comparator) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Illegal arity: " + arity);
+        }
+        this.arity = arity;
+        this.comparator = comparator;
+        this.heap = (Handle<E>[]) new Handle<?>[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Adds the element and returns a handle to its entry.
+     * Time Complexity: O(log N)
+     *
+     * @param element the element to add
+     * @return a handle for {@link #decreaseKey(Handle, Object)} and {@link #remove(Handle)}
+     * @throws NullPointerException if the element is null
+     */
+    public Handle<E> insert(E element) {
+        Objects.requireNonNull(element);
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, grownCapacity(heap.length));
+        }
+
+        Handle<E> handle = new Handle<>(element);
+        size += 1;
+        this.siftUp(size - 1, handle);
+        return handle;
+    }
+
+    /**
+     * Replaces the entry's element with a smaller or equal one and restores the heap order.
+     * Time Complexity: O(log N)
+     *
+     * @param handle the entry, as returned by {@link #insert(Object)}
+     * @param element the new element
+     * @throws IllegalArgumentException if the handle is not queued in this heap, or the element is greater than the current one
+     */
+    public void decreaseKey(Handle<E> handle, E element) {
+        Objects.requireNonNull(element);
+        this.checkQueued(handle);
+        if (this.compare(element, handle.element) > 0) {
+            throw new IllegalArgumentException("New element " + element + " is greater than " + handle.element + ".");
+        }
+
+        handle.element = element;
+        this.siftUp(handle.index, handle);
+    }
+
+    /**
+     * Removes the entry from the heap. The last entry takes its place and sifts up or down.
+     * Time Complexity: O(log N)
+     *
+     * @param handle the entry, as returned by {@link #insert(Object)}
+     * @return {@code true} if the entry was in this heap
+     */
+    public boolean remove(Handle<E> handle) {
+        if (!this.isQueuedHere(handle)) return false;
+
+        int index = handle.index;
+        handle.index = -1;
+        size -= 1;
+        Handle<E> last = heap[size];
+        heap[size] = null;
+
+        if (last != handle) {
+            this.siftDown(index, last);
+            if (heap[index] == last) {
+                this.siftUp(index, last);
+            }
+        }
+        return true;
+    }
+
+    // Queue
+    @Override
+    public void enqueue(E element) {
+        this.insert(element);
+    }
+
+    @Override
+    public E peek() {
+        return size == 0 ? null : heap[0].element;
+    }
+
+    @Override
+    public E dequeue() {
+        if (size == 0) return null;
+
+        Handle<E> smallest = heap[0];
+        this.remove(smallest);
+        return smallest.element;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Helpers
+    private void siftUp(int index, Handle<E> handle) {
+        while (index > 0) {
+            int parent = (index - 1) / arity;
+            Handle<E> parentHandle = heap[parent];
+            if (this.compare(handle.element, parentHandle.element) >= 0) break;
+
+            this.place(index, parentHandle);
+            index = parent;
+        }
+        this.place(index, handle);
+    }
+
+    private void siftDown(int index, Handle<E> handle) {
+        while (true) {
+            int firstChild = index * arity + 1;
+            if (firstChild >= size) break;
+
+            int end = Math.min(firstChild + arity, size);
+            int smallest = firstChild;
+            for (int child = firstChild + 1; child < end; child++) {
+                if (this.compare(heap[child].element, heap[smallest].element) < 0) {
+                    smallest = child;
+                }
+            }
+
+            if (this.compare(heap[smallest].element, handle.element) >= 0) break;
+
+            this.place(index, heap[smallest]);
+            index = smallest;
+        }
+        this.place(index, handle);
+    }
+
+    private void place(int index, Handle<E> handle) {
+        heap[index] = handle;
+        handle.index = index;
+    }
+
+    private boolean isQueuedHere(Handle<E> handle) {
+        int index = handle.index;
+        return index >= 0 && index < size && heap[index] == handle;
+    }
+
+    private void checkQueued(Handle<E> handle) {
+        if (!this.isQueuedHere(handle)) {
+            throw new IllegalArgumentException("Handle is not queued in this heap.");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(E a, E b) {
+        return comparator != null ? comparator.compare(a, b) : ((Comparable<? super E>) a).compareTo(b);
+    }
+
+    /**
+     * Returns the doubled capacity, clamped to the largest array the JVM can allocate.
+     *
+     * @throws OutOfMemoryError if the capacity is already the maximum
+     */
+    private static int grownCapacity(int capacity) {
+        if (capacity >= MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required capacity " + (capacity + 1L) + " exceeds the maximum array size.");
+        }
+        return (int) Math.min(MAX_CAPACITY, 2L * capacity);
+    }
+
+    // Object
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+
+        for (int i = 0; i < size; i++) {
+            sb.append(heap[i].element);
+            if (i < size - 1) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,42 @@
+package main.java.datastructures.list;
+
+/**
+ * Decides how large the backing array of a {@link MyArrayList} becomes when it runs out of room.
+ *
+ * <p>Geometric growth ({@link #DOUBLING}, {@link #ONE_AND_A_HALF}) keeps appends O(1) amortized; a smaller factor
+ * wastes less space after a resize but resizes more often. {@link #chunked(int)} grows by a fixed amount, which
+ * bounds the slack of very large lists at the cost of O(N / chunk) copies per append.
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    /** Doubles the capacity. This is the default. */
+    GrowthPolicy DOUBLING = (currentCapacity, minCapacity) -> 2L * currentCapacity;
+
+    /** Grows the capacity by half, as {@link java.util.ArrayList} does. */
+    GrowthPolicy ONE_AND_A_HALF = (currentCapacity, minCapacity) -> currentCapacity + (currentCapacity >> 1);
+
+    /**
+     * Grows the capacity by a fixed number of slots.
+     *
+     * @param chunkSize the number of slots added per resize
+     * @return a policy that adds {@code chunkSize} slots per resize
+     * @throws IllegalArgumentException if chunkSize is not positive
+     */
+    static GrowthPolicy chunked(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Illegal chunk size: " + chunkSize);
+        }
+        return (currentCapacity, minCapacity) -> (long) currentCapacity + chunkSize;
+    }
+
+    /**
+     * Returns the proposed new capacity. The list always grows to at least {@code minCapacity},
+     * even if the proposal is smaller, and never beyond the largest array the JVM can allocate.
+     *
+     * @param currentCapacity the length of the current backing array
+     * @param minCapacity the number of elements the list must be able to hold after the resize
+     * @return the proposed capacity, as a long so that policies need not worry about overflow
+     */
+    long grow(int currentCapacity, int minCapacity);
+}
@@ -0,0 +1,234 @@
+package main.java.datastructures.list;
+
+import java.util.Arrays;
+
+/**
+ * A resizable array-based list of primitive {@code int} values.
+ *
+ * <p>Mirrors the {@link MyList} contract of {@link MyArrayList}, but stores the values in an {@code int[]}
+ * instead of boxing them into an {@code Object[]}. Each element costs 4 bytes and {@link #getInt(int)}
+ * reads it straight out of the array, with no pointer to follow.
+ */
+public class IntArrayList {
+
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private int size;
+    private int[] list;
+
+    public IntArrayList() {
+        this(10);
+    }
+
+    /**
+     * @param initialCapacity the number of elements the list can hold before it has to grow
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    public IntArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.size = 0;
+        this.list = new int[initialCapacity];
+    }
+
+    /**
+     * Appends the specified value to the end of the list.
+     * Time Complexity: O(1) amortized
+     *
+     * @param value the value to be appended to this list
+     */
+    public void addInt(int value) {
+        this.ensureCapacity(size + 1);
+        list[size] = value;
+        size += 1;
+    }
+
+    /**
+     * Inserts the specified value at the specified index in the list,
+     * shifting the value currently at that index and any subsequent values to the right.
+     * Time Complexity: O(N)
+     *
+     * @param index the index at which the value is to be inserted
+     * @param value the value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size())
+     */
+    public void addInt(int index, int value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds.");
+        }
+
+        this.ensureCapacity(size + 1);
+        System.arraycopy(list, index, list, index + 1, size - index);
+        list[index] = value;
+        size += 1;
+    }
+
+    /**
+     * Appends all the specified values to the end of the list, growing the backing array at most once.
+     * Time Complexity: O(K)
+     *
+     * @param values the values to be appended to this list
+     */
+    public void addAll(int[] values) {
+        this.ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, list, size, values.length);
+        size += values.length;
+    }
+
+    /**
+     * Returns the value at the specified position in this list.
+     * Time Complexity: O(1)
+     *
+     * @param index the index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    public int getInt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds.");
+        }
+        return list[index];
+    }
+
+    /**
+     * Replaces the value at the specified position in this list with the specified value.
+     * Time Complexity: O(1)
+     *
+     * @param index the index of the value to replace
+     * @param value the value to be stored at the specified position
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    public int setInt(int index, int value) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds.");
+        }
+
+        int old = list[index];
+        list[index] = value;
+        return old;
+    }
+
+    /**
+     * Removes the value at the specified position in this list, shifting any subsequent values to the left.
+     * Time Complexity: O(N)
+     *
+     * @param index the index of the value to be removed
+     * @return the value that was removed from the list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    public int removeInt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds.");
+        }
+
+        int removed = list[index];
+        System.arraycopy(list, index + 1, list, index, size - index - 1);
+        size -= 1;
+        return removed;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value in this list.
+     * Time Complexity: O(N)
+     *
+     * @param value the value to search for
+     * @return the index of the first occurrence of the value, or -1 if this list does not contain it
+     */
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (list[i] == value) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     * Time Complexity: O(1)
+     *
+     * @return the number of values in this list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * There are no references to release, so this does not touch the backing array.
+     * Time Complexity: O(1)
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Sorts the values in ascending order, in place on the backing array.
+     * Time Complexity: O(N log N)
+     */
+    public void sort() {
+        Arrays.sort(list, 0, size);
+    }
+
+    /**
+     * Sorts the values in ascending order, in place on the backing array, with a parallel sort in the
+     * common {@link java.util.concurrent.ForkJoinPool}. Small lists are sorted sequentially.
+     * Time Complexity: O(N log N) work, O(N log N / P) on P cores
+     */
+    public void parallelSort() {
+        Arrays.parallelSort(list, 0, size);
+    }
+
+    /**
+     * Returns a new {@code int[]} holding the values of this list in order.
+     * Time Complexity: O(N)
+     *
+     * @return a copy of the values in this list
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(list, size);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.toArray());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+
+        if (obj == null || this.getClass() != obj.getClass()) return false;
+
+        IntArrayList other = (IntArrayList) obj;
+
+        return Arrays.equals(list, 0, size, other.list, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Integer.hashCode(list[i]);
+        }
+        return hash;
+    }
+
+    /**
+     * Doubles the capacity of the list until it can hold {@code minCapacity} values, up to the largest array the
+     * JVM can allocate.
+     * Time Complexity: O(N)
+     *
+     * @throws OutOfMemoryError if minCapacity exceeds the largest array the JVM can allocate
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > list.length) {
+            if (minCapacity > MAX_CAPACITY) {
+                throw new OutOfMemoryError("Required capacity " + minCapacity + " exceeds the maximum array size.");
+            }
+
+            int newCapacity = (int) Math.min(MAX_CAPACITY, Math.max(minCapacity, 2L * list.length));
+            list = Arrays.copyOf(list, newCapacity);
+        }
+    }
+}
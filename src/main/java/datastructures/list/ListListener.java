@@ -0,0 +1,64 @@
+package main.java.datastructures.list;
+
+/**
+ * Receives the internal work done by a {@link MyArrayList} or {@link MyLinkedList}, for finding the call sites where
+ * a list does more copying or walking than expected. Attach one with {@code setListener}; {@link ListMetrics}
+ * aggregates the events into counters and histograms.
+ *
+ * <p>Lists have no listener by default, and then each instrumented method only pays a null check. With a listener,
+ * the timed operations also read {@link System#nanoTime()} twice. Callbacks run on the thread that called the list,
+ * inside the operation, so they should be cheap and must not modify the list.
+ */
+public interface ListListener {
+
+    /**
+     * The single-element operations whose latency is reported to {@link #onOperation(Operation, long)}.
+     */
+    enum Operation {
+        /** {@code add(element)} */
+        APPEND,
+        /** {@code add(index, element)} */
+        INSERT,
+        /** {@code get(index)} */
+        GET,
+        /** {@code set(index, element)} */
+        SET,
+        /** {@code remove(index)} */
+        REMOVE
+    }
+
+    /**
+     * Called when an array list replaces its backing array, either to grow or in {@code trimToSize()}.
+     *
+     * @param oldCapacity the length of the old array
+     * @param newCapacity the length of the new array
+     * @param copiedElements the number of elements copied into the new array
+     */
+    default void onResize(int oldCapacity, int newCapacity, int copiedElements) {
+    }
+
+    /**
+     * Called when an array list moves its tail to open or close a gap, including moves of zero elements.
+     *
+     * @param movedElements the number of elements moved
+     */
+    default void onShift(int movedElements) {
+    }
+
+    /**
+     * Called when a linked list walks its nodes to find an index.
+     *
+     * @param steps the number of links followed
+     */
+    default void onTraversal(int steps) {
+    }
+
+    /**
+     * Called when a timed operation completes normally.
+     *
+     * @param operation the operation
+     * @param nanos the elapsed time, including the other callbacks made during the operation
+     */
+    default void onOperation(Operation operation, long nanos) {
+    }
+}
@@ -0,0 +1,157 @@
+package main.java.datastructures.list;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link ListListener} that aggregates resizes, copied bytes, shift and traversal distances and per-operation
+ * latencies, and can publish them over JMX.
+ *
+ * <p>Attach one instance per call site to compare them: a list whose shift histogram sits in the thousands would be
+ * better off as a linked or unrolled list, and a linked list with long traversals should be an array list. One
+ * instance may also be shared by lists used on different threads, since every counter is a {@link LongAdder}.
+ *
+ * <p>Copied bytes count 4 bytes per element for both resizes and shifts, assuming compressed references as
+ * {@link MyArrayList#footprint()} does.
+ */
+public final class ListMetrics implements ListListener, ListMetricsMXBean {
+
+    private static final int REFERENCE_BYTES = 4;
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    private final LongAdder resizes = new LongAdder();
+    private final LongAdder bytesCopied = new LongAdder();
+    private final LogHistogram shifts = new LogHistogram();
+    private final LogHistogram traversals = new LogHistogram();
+    private final LogHistogram[] latencies = new LogHistogram[OPERATIONS.length];
+
+    public ListMetrics() {
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = new LogHistogram();
+        }
+    }
+
+    // ListListener
+    @Override
+    public void onResize(int oldCapacity, int newCapacity, int copiedElements) {
+        resizes.increment();
+        bytesCopied.add((long) REFERENCE_BYTES * copiedElements);
+    }
+
+    @Override
+    public void onShift(int movedElements) {
+        shifts.record(movedElements);
+        bytesCopied.add((long) REFERENCE_BYTES * movedElements);
+    }
+
+    @Override
+    public void onTraversal(int steps) {
+        traversals.record(steps);
+    }
+
+    @Override
+    public void onOperation(Operation operation, long nanos) {
+        latencies[operation.ordinal()].record(nanos);
+    }
+
+    // Histograms
+    public LogHistogram shiftHistogram() {
+        return shifts;
+    }
+
+    public LogHistogram traversalHistogram() {
+        return traversals;
+    }
+
+    public LogHistogram latencyHistogram(Operation operation) {
+        return latencies[operation.ordinal()];
+    }
+
+    // ListMetricsMXBean
+    @Override
+    public long getResizeCount() {
+        return resizes.sum();
+    }
+
+    @Override
+    public long getBytesCopied() {
+        return bytesCopied.sum();
+    }
+
+    @Override
+    public long[] getShiftHistogram() {
+        return shifts.buckets();
+    }
+
+    @Override
+    public long[] getTraversalHistogram() {
+        return traversals.buckets();
+    }
+
+    @Override
+    public Map<String, Long> getOperationCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Operation operation : OPERATIONS) {
+            counts.put(operation.name(), latencies[operation.ordinal()].count());
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getMedianLatencyNanos() {
+        return this.latencyPercentiles(0.5);
+    }
+
+    @Override
+    public Map<String, Long> getP99LatencyNanos() {
+        return this.latencyPercentiles(0.99);
+    }
+
+    /**
+     * Clears every counter and histogram.
+     */
+    @Override
+    public void reset() {
+        resizes.reset();
+        bytesCopied.reset();
+        shifts.reset();
+        traversals.reset();
+        for (LogHistogram latency : latencies) {
+            latency.reset();
+        }
+    }
+
+    /**
+     * Registers this instance with the platform MBean server as
+     * {@code main.java.datastructures.list:type=ListMetrics,name=<name>}, where it can be read with JConsole or any
+     * JMX client. Unregister it through the MBean server with the returned name.
+     *
+     * @param name identifies the call site, e.g. {@code "OrderBook.bids"}
+     * @return the name the MBean was registered under
+     * @throws JMException if the name is malformed or already registered
+     */
+    public ObjectName register(String name) throws JMException {
+        ObjectName objectName = new ObjectName(
+                ListMetrics.class.getPackageName() + ":type=ListMetrics,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        return objectName;
+    }
+
+    @Override
+    public String toString() {
+        return "ListMetrics[resizes=" + resizes.sum() + ", bytesCopied=" + bytesCopied.sum()
+                + ", shifts=" + shifts + ", traversals=" + traversals + "]";
+    }
+
+    private Map<String, Long> latencyPercentiles(double fraction) {
+        Map<String, Long> percentiles = new LinkedHashMap<>();
+        for (Operation operation : OPERATIONS) {
+            percentiles.put(operation.name(), latencies[operation.ordinal()].percentile(fraction));
+        }
+        return percentiles;
+    }
+}
@@ -0,0 +1,26 @@
+package main.java.datastructures.list;
+
+import java.util.Map;
+
+/**
+ * The JMX view of a {@link ListMetrics}. Histograms are exposed as the bucket counts of a {@link LogHistogram},
+ * and per-operation values as maps keyed by {@link ListListener.Operation} name.
+ */
+public interface ListMetricsMXBean {
+
+    long getResizeCount();
+
+    long getBytesCopied();
+
+    long[] getShiftHistogram();
+
+    long[] getTraversalHistogram();
+
+    Map<String, Long> getOperationCounts();
+
+    Map<String, Long> getMedianLatencyNanos();
+
+    Map<String, Long> getP99LatencyNanos();
+
+    void reset();
+}
@@ -0,0 +1,122 @@
+package main.java.datastructures.list;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of non-negative longs with one bucket per power of two, safe to update from several threads.
+ *
+ * <p>Bucket 0 counts zeros and bucket {@code i > 0} counts the values in {@code [2^(i-1), 2^i)}, so any long fits in
+ * 65 buckets and recording is a leading-zero count plus an uncontended {@link LongAdder} increment.
+ * Percentiles are reported as the upper bound of their bucket, which is within a factor of two of the true value.
+ */
+public final class LogHistogram {
+
+    public static final int BUCKET_COUNT = 65;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    private final LongAdder sum = new LongAdder();
+
+    public LogHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a value; negative values are recorded as 0.
+     * Time Complexity: O(1)
+     *
+     * @param value the value to record
+     */
+    public void record(long value) {
+        if (value < 0) value = 0;
+        buckets[64 - Long.numberOfLeadingZeros(value)].increment();
+        sum.add(value);
+    }
+
+    /**
+     * Time Complexity: O(1)
+     *
+     * @return the number of recorded values
+     */
+    public long count() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * @return the sum of the recorded values
+     */
+    public long sum() {
+        return sum.sum();
+    }
+
+    /**
+     * Returns a snapshot of the bucket counts. Updates made while the snapshot is taken may be partly included.
+     *
+     * @return the count of each bucket, indexed as described above
+     */
+    public long[] buckets() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * Returns an upper bound of the value below which the given fraction of the recorded values fall.
+     * Time Complexity: O(1)
+     *
+     * @param fraction the percentile as a fraction, e.g. 0.99
+     * @return the upper bound of the bucket holding the percentile, or 0 if nothing was recorded
+     * @throws IllegalArgumentException if the fraction is not in [0, 1]
+     */
+    public long percentile(double fraction) {
+        if (!(fraction >= 0 && fraction <= 1)) {
+            throw new IllegalArgumentException("Illegal percentile: " + fraction);
+        }
+
+        long[] counts = this.buckets();
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0) return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(fraction * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) return upperBound(i);
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Clears every bucket. Values recorded concurrently may survive the reset.
+     */
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        sum.reset();
+    }
+
+    /**
+     * Returns the largest value counted by the bucket.
+     */
+    static long upperBound(int bucket) {
+        if (bucket == 0) return 0;
+        return bucket == 64 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "LogHistogram[count=" + this.count() + ", p50=" + this.percentile(0.5)
+                + ", p99=" + this.percentile(0.99) + "]";
+    }
+}
@@ -1,33 +1,80 @@
 package main.java.datastructures.list;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * A simplified, generic, resizable array-based list implementation.
  *
- * <p>Elements are stored in an internal array that doubles in capacity when full.
+ * <p>Elements are stored in an internal array that grows according to a {@link GrowthPolicy} when full
+ * (doubling by default). The capacity can be reserved up front with {@link #ensureCapacity(int)}
+ * and released with {@link #trimToSize()}.
  * This implementation is designed for educational purposes and does
  * not implement the full Java Collections Framework.
  *
+ * <p>A {@link ListListener} set with {@link #setListener(ListListener)} is told about every resize and shift of the
+ * backing array and about the latency of the single-element operations.
+ *
  * @param <E> the type of elements held in this list
  */
 public class MyArrayList<E> implements MyList<E> {
 
+    // Some JVMs reserve header words in arrays, so larger requests may fail with OutOfMemoryError
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
     private int size;
     private E[] list;
+    private final GrowthPolicy growthPolicy;
+    // Counts structural modifications, so iterators and spliterators can fail fast
+    private int modCount;
+    // Null unless instrumentation is switched on
+    private ListListener listener;
 
-    @SuppressWarnings("unchecked")
     public MyArrayList() {
+        this(10);
+    }
+
+    /**
+     * @param initialCapacity the number of elements the list can hold before it has to grow
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    public MyArrayList(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.DOUBLING);
+    }
+
+    /**
+     * @param initialCapacity the number of elements the list can hold before it has to grow
+     * @param growthPolicy decides the new capacity whenever the list is full
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    @SuppressWarnings("unchecked")
+    public MyArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
         this.size = 0;
-        this.list = (E[]) new Object[10]; // list.length is my capacity
+        this.list = (E[]) new Object[initialCapacity]; // list.length is my capacity
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
     }
 
     @Override
     public boolean add(E element) {
-        this.ensureCapacity();
+        long start = this.startTimer();
+        this.ensureCapacity(size + 1);
         list[size] = element;
         size += 1;
+        modCount += 1;
+        this.stopTimer(ListListener.Operation.APPEND, start);
         return true;
     }
 
@@ -37,14 +84,207 @@ public class MyArrayList<E> implements MyList<E> {
             throw new IndexOutOfBoundsException("Index " + index + " is out of bounds.");
         }
 
-        this.ensureCapacity();
-
-        for(int i = size - 1; i > index - 1; i--) {
-            list[i + 1] = list[i];
-        }
+        long start = this.startTimer();
+        this.ensureCapacity(size + 1);
+        System.arraycopy(list, index, list, index + 1, size - index);
+        this.shifted(size - index);
 
         list[index] = element;
         size += 1;
+        modCount += 1;
+        this.stopTimer(ListListener.Operation.INSERT, start);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> elements) {
+        return this.insertAll(size, elements.toArray());
+    }
+
+    @Override
+    public boolean addAll(E[] elements) {
+        return this.insertAll(size, elements);
+    }
+
+    @Override
+    public boolean addAll(int position, Collection<? extends E> elements) {
+        return this.insertAll(position, elements.toArray());
+    }
+
+    /**
+     * Inserts the elements with at most one resize and one shift of the tail, instead of one shift per element.
+     * Time Complexity: O(N + K)
+     */
+    @Override
+    public boolean addAll(int position, E[] elements) {
+        return this.insertAll(position, elements);
+    }
+
+    /**
+     * Removes the range with a single shift of the tail.
+     * Time Complexity: O(N)
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex + ") is out of bounds.");
+        }
+
+        System.arraycopy(list, toIndex, list, fromIndex, size - toIndex);
+        this.shifted(size - toIndex);
+
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(list, newSize, size, null);
+        size = newSize;
+        modCount += 1;
+    }
+
+    /**
+     * Compacts the kept elements towards the front in a single pass.
+     * If the predicate throws, the elements not yet tested are kept and the list stays consistent.
+     * Time Complexity: O(N)
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        int oldSize = size;
+        int kept = 0;
+        int read = 0;
+
+        try {
+            for (; read < oldSize; read++) {
+                E element = list[read];
+                if (!filter.test(element)) {
+                    list[kept++] = element;
+                }
+            }
+        } finally {
+            System.arraycopy(list, read, list, kept, oldSize - read);
+            kept += oldSize - read;
+            Arrays.fill(list, kept, oldSize, null);
+            if (kept != oldSize) {
+                size = kept;
+                modCount += 1;
+            }
+        }
+
+        return kept != oldSize;
+    }
+
+    /**
+     * Sorts the list in place, directly on the backing array. The sort is stable.
+     * Time Complexity: O(N log N)
+     *
+     * @param comparator orders the elements, or {@code null} for their natural ordering
+     */
+    public void sort(Comparator<? super E> comparator) {
+        Arrays.sort(list, 0, size, comparator);
+        modCount += 1;
+    }
+
+    /**
+     * Sorts the list in place with a parallel merge sort in the common {@link java.util.concurrent.ForkJoinPool},
+     * directly on the backing array. The sort is stable. Small lists are sorted sequentially.
+     * Time Complexity: O(N log N) work, O(N log N / P) on P cores
+     *
+     * @param comparator orders the elements, or {@code null} for their natural ordering
+     */
+    public void parallelSort(Comparator<? super E> comparator) {
+        Arrays.parallelSort(list, 0, size, comparator);
+        modCount += 1;
+    }
+
+    /**
+     * Replaces each element with the running result of {@code operator} over the elements up to it,
+     * computed in parallel. For example, a list [2, 1, 0, 3] becomes [2, 3, 3, 6] with addition.
+     * Time Complexity: O(N) work, O(N / P + log N) on P cores
+     *
+     * @param operator an associative, side-effect free function
+     */
+    public void parallelPrefix(BinaryOperator<E> operator) {
+        Arrays.parallelPrefix(list, 0, size, operator);
+    }
+
+    /**
+     * Replaces each element with the result of applying the operator to it, in parallel.
+     * Time Complexity: O(N) work, O(N / P) on P cores
+     *
+     * @param operator a side-effect free function, called concurrently from several threads
+     */
+    public void parallelReplaceAll(UnaryOperator<E> operator) {
+        this.parallelReplaceAll(operator, ParallelArrays.DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * @param operator a side-effect free function, called concurrently from several threads
+     * @param sequentialThreshold the largest range a single task processes without splitting
+     * @throws IllegalArgumentException if the threshold is not positive
+     */
+    public void parallelReplaceAll(UnaryOperator<E> operator, int sequentialThreshold) {
+        Objects.requireNonNull(operator);
+        ParallelArrays.replaceAll(list, 0, size, operator, sequentialThreshold);
+        modCount += 1;
+    }
+
+    /**
+     * Removes every element matching the filter. The filter is evaluated in parallel, then the kept
+     * elements are compacted in a single sequential pass. If the filter throws, the list is unchanged.
+     * Time Complexity: O(N) work, O(N / P) filtering on P cores plus an O(N) compaction
+     *
+     * @param filter a side-effect free predicate, called concurrently from several threads
+     * @return true if any element was removed
+     */
+    public boolean parallelRemoveIf(Predicate<? super E> filter) {
+        return this.parallelRemoveIf(filter, ParallelArrays.DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * @param filter a side-effect free predicate, called concurrently from several threads
+     * @param sequentialThreshold the largest range a single task processes without splitting
+     * @return true if any element was removed
+     * @throws IllegalArgumentException if the threshold is not positive
+     */
+    public boolean parallelRemoveIf(Predicate<? super E> filter, int sequentialThreshold) {
+        Objects.requireNonNull(filter);
+        final int oldSize = size;
+        boolean[] removed = ParallelArrays.mark(list, 0, oldSize, filter, sequentialThreshold);
+
+        int kept = 0;
+        for (int i = 0; i < oldSize; i++) {
+            if (!removed[i]) {
+                list[kept++] = list[i];
+            }
+        }
+
+        if (kept == oldSize) return false;
+
+        Arrays.fill(list, kept, oldSize, null);
+        size = kept;
+        modCount += 1;
+        return true;
+    }
+
+    /**
+     * Folds the elements with the accumulator, in parallel. Each task starts from {@code identity},
+     * so it must be a neutral element of the accumulator.
+     * Time Complexity: O(N) work, O(N / P + log N) on P cores
+     *
+     * @param identity the neutral element, e.g. 0 for addition
+     * @param accumulator an associative, side-effect free function
+     * @return the reduction of all the elements, or identity if the list is empty
+     */
+    public E parallelReduce(E identity, BinaryOperator<E> accumulator) {
+        return this.parallelReduce(identity, accumulator, ParallelArrays.DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * @param identity the neutral element, e.g. 0 for addition
+     * @param accumulator an associative, side-effect free function
+     * @param sequentialThreshold the largest range a single task processes without splitting
+     * @return the reduction of all the elements, or identity if the list is empty
+     * @throws IllegalArgumentException if the threshold is not positive
+     */
+    public E parallelReduce(E identity, BinaryOperator<E> accumulator, int sequentialThreshold) {
+        Objects.requireNonNull(accumulator);
+        return ParallelArrays.reduce(list, 0, size, identity, accumulator, sequentialThreshold);
     }
 
     /**
@@ -57,6 +297,7 @@ public class MyArrayList<E> implements MyList<E> {
             list[i] = null;
         }
         size = 0;
+        modCount += 1;
     }
 
     @Override
@@ -64,7 +305,12 @@ public class MyArrayList<E> implements MyList<E> {
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException("Index " + index + " is out of bounds.");
         }
-        return list[index];
+        if (listener == null) return list[index];
+
+        long start = System.nanoTime();
+        E element = list[index];
+        this.stopTimer(ListListener.Operation.GET, start);
+        return element;
     }
 
     @Override
@@ -73,14 +319,15 @@ public class MyArrayList<E> implements MyList<E> {
             throw new IndexOutOfBoundsException("Index " + index + " is out of bounds.");
         }
 
+        long start = this.startTimer();
         E removed = list[index];
-
-        for(int i = index + 1; i < size; i++) {
-            list[i - 1] = list[i];
-        }
+        System.arraycopy(list, index + 1, list, index, size - index - 1);
+        this.shifted(size - index - 1);
 
         list[size - 1] = null;
         size -= 1;
+        modCount += 1;
+        this.stopTimer(ListListener.Operation.REMOVE, start);
         return removed;
     }
 
@@ -90,8 +337,10 @@ public class MyArrayList<E> implements MyList<E> {
             throw new IndexOutOfBoundsException("Index " + index + " is out of bounds.");
         }
 
-        E old = this.get(index);
+        long start = this.startTimer();
+        E old = list[index];
         list[index] = element;
+        this.stopTimer(ListListener.Operation.SET, start);
         return old;
     }
 
@@ -100,6 +349,122 @@ public class MyArrayList<E> implements MyList<E> {
         return size;
     }
 
+    /**
+     * Returns a fail-fast iterator: it throws {@link ConcurrentModificationException} if the list is structurally
+     * modified other than through its own {@code remove()}.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Passes each element to the action, reading the backing array directly.
+     * No iterator object is created, so this is the cheapest way to visit every element.
+     * Time Complexity: O(N)
+     *
+     * @throws ConcurrentModificationException if the action structurally modifies this list
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        final E[] elements = list;
+        final int end = size;
+
+        for (int i = 0; i < end && modCount == expectedModCount; i++) {
+            action.accept(elements[i]);
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns a spliterator over the current index range that splits it exactly in half,
+     * so a parallel stream gets balanced, cheap-to-create subtasks. It reports
+     * {@link Spliterator#ORDERED}, {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}.
+     * The range is fixed when this method is called; a later structural modification makes traversal
+     * throw {@link ConcurrentModificationException}.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new ArraySpliterator(0, size, modCount);
+    }
+
+    /**
+     * Grows the backing array, if necessary, so that it can hold at least {@code minCapacity} elements.
+     * Calling this before a known number of appends avoids the intermediate resizes.
+     * Time Complexity: O(N) if the list grows, O(1) otherwise
+     *
+     * @param minCapacity the desired minimum capacity
+     * @throws OutOfMemoryError if minCapacity exceeds the largest array the JVM can allocate
+     */
+    @SuppressWarnings("unchecked")
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > list.length) {
+            if (minCapacity > MAX_CAPACITY) {
+                throw new OutOfMemoryError("Required capacity " + minCapacity + " exceeds the maximum array size.");
+            }
+
+            long proposed = growthPolicy.grow(list.length, minCapacity);
+            int newCapacity = (int) Math.min(MAX_CAPACITY, Math.max(minCapacity, proposed));
+            E[] newList = (E[]) new Object[newCapacity];
+
+            System.arraycopy(list, 0, newList, 0, size);
+            if (listener != null) listener.onResize(list.length, newCapacity, size);
+
+            list = newList;
+        }
+    }
+
+    /**
+     * Shrinks the backing array to exactly {@code size()} elements, releasing the unused slots.
+     * Time Complexity: O(N)
+     */
+    public void trimToSize() {
+        if (size < list.length) {
+            if (listener != null) listener.onResize(list.length, size, size);
+            list = Arrays.copyOf(list, size);
+        }
+    }
+
+    /**
+     * Starts reporting resizes, shifts and operation latencies to the listener, or stops if it is {@code null}.
+     *
+     * @param listener the listener, e.g. a {@link ListMetrics}, or {@code null} to switch instrumentation off
+     */
+    public void setListener(ListListener listener) {
+        this.listener = listener;
+    }
+
+    public ListListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Returns the length of the backing array.
+     * Time Complexity: O(1)
+     *
+     * @return the number of elements this list can hold before it has to grow
+     */
+    public int capacity() {
+        return list.length;
+    }
+
+    /**
+     * Estimates the heap occupied by the backing array, excluding the elements themselves.
+     * Assumes a 16-byte array header and 4-byte compressed references, the HotSpot default for heaps below 32 GB.
+     * {@code footprint() * (capacity() - size()) / capacity()} is the share taken by unused slots.
+     * Time Complexity: O(1)
+     *
+     * @return the estimated size of the backing array in bytes
+     */
+    public long footprint() {
+        return 16L + 4L * list.length;
+    }
+
     @Override
     public String toString() {
         return Arrays.toString(Arrays.copyOf(list, size));
@@ -140,20 +505,140 @@ public class MyArrayList<E> implements MyList<E> {
        return hash;
     }
 
+    private class Itr implements Iterator<E> {
+        private int cursor;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public E next() {
+            this.checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = cursor;
+            cursor += 1;
+            return list[lastReturned];
+        }
+
+        @Override
+        public void remove() {
+            this.checkForComodification();
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+
+            MyArrayList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private class ArraySpliterator implements Spliterator<E> {
+        private int index;
+        private final int fence;
+        private final int expectedModCount;
+
+        ArraySpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int lo = index;
+            int mid = (lo + fence) >>> 1;
+            if (lo >= mid) return null;
+
+            index = mid;
+            return new ArraySpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            if (index >= fence) return false;
+
+            E element = list[index++];
+            action.accept(element);
+            this.checkForComodification();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            final E[] elements = list;
+            this.checkForComodification();
+
+            for (int i = index; i < fence; i++) {
+                action.accept(elements[i]);
+            }
+            index = fence;
+
+            this.checkForComodification();
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
     /**
-     * Doubles the capacity of the list when full,
-     * If the current size is 0, capacity is increased to 1.
-     * Time Complexity: O(N)
+     * Shifts the tail right by {@code elements.length} in one copy, then copies the elements into the gap.
      */
-    @SuppressWarnings("unchecked")
-    private void ensureCapacity() {
-        if (size == list.length) {
-            int newCapacity = Math.max(1, 2 * size);
-            E[] newList = (E[]) new Object[newCapacity];
+    private boolean insertAll(int position, Object[] elements) {
+        if (position < 0 || position > size) {
+            throw new IndexOutOfBoundsException("Index " + position + " is out of bounds.");
+        }
 
-            System.arraycopy(list, 0, newList, 0, size);
+        int count = elements.length;
+        this.ensureCapacity(size + count);
 
-            list = newList;
-        }
+        System.arraycopy(list, position, list, position + count, size - position);
+        this.shifted(size - position);
+        System.arraycopy(elements, 0, list, position, count);
+
+        size += count;
+        modCount += 1;
+        return count > 0;
+    }
+
+    private long startTimer() {
+        return listener == null ? 0 : System.nanoTime();
+    }
+
+    private void stopTimer(ListListener.Operation operation, long start) {
+        if (listener != null) listener.onOperation(operation, System.nanoTime() - start);
+    }
+
+    private void shifted(int movedElements) {
+        if (listener != null) listener.onShift(movedElements);
     }
 }
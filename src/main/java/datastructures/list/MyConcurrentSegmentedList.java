@@ -0,0 +1,524 @@
+package main.java.datastructures.list;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+
+/**
+ * A thread-safe list that stores its elements in fixed-size segments, for lists shared by many readers
+ * and a few writers.
+ *
+ * <p>Element {@code i} lives in segment {@code i >>> segmentShift} at slot {@code i & segmentMask}. Growing allocates
+ * one more segment and copies nothing, so existing segments never move while readers use them.
+ *
+ * <ul>
+ *     <li><b>Reads</b> ({@link #get(int)}, {@link #size()}, iteration) take no lock. They read the published size
+ *     and segments under an optimistic {@link StampedLock} stamp, and only retry under the read lock if an
+ *     element-moving write ran at the same time.</li>
+ *     <li><b>Appends</b> from any number of threads claim their index with a CAS and write their slot in parallel.
+ *     They then publish in index order, so {@code size} never covers a slot that has not been written yet.</li>
+ *     <li><b>Other writes</b> ({@link #set(int, Object)}, insertion and removal at an index, {@link #clear()}) hold
+ *     the write lock. They replace the segments they change with copies instead of writing into them.</li>
+ * </ul>
+ *
+ * <p>Because published segments are never written below the size they were published with, {@link #iterator()}
+ * walks a consistent snapshot: the elements at the moment it was created, whatever happens to the list afterwards.
+ * Taking a snapshot copies only the segment directory, O(N / segmentSize).
+ *
+ * @param <E> the type of elements held in this list
+ */
+public class MyConcurrentSegmentedList<E> implements MyList<E> {
+
+    private static final int DEFAULT_SEGMENT_SIZE = 1024;
+    private static final int SPINS_BEFORE_YIELD = 64;
+
+    private static final VarHandle RESERVED;
+    private static final VarHandle SEGMENT = MethodHandles.arrayElementVarHandle(Object[][].class);
+
+    static {
+        try {
+            RESERVED = MethodHandles.lookup().findVarHandle(MyConcurrentSegmentedList.class, "reserved", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final int segmentShift;
+    private final int segmentMask;
+
+    // Appends hold the read lock, so they run concurrently with each other but never with a write that moves elements
+    private final StampedLock lock = new StampedLock();
+    // Serializes the allocation of new segments and the growth of the directory
+    private final ReentrantLock growLock = new ReentrantLock();
+
+    private volatile Object[][] segments;
+    // The number of elements visible to readers; every slot below it is written
+    private volatile int size;
+    // The number of indices claimed by appends; equal to size when no append is in flight
+    private volatile int reserved;
+
+    public MyConcurrentSegmentedList() {
+        this(DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * @param segmentSize the number of elements per segment, a power of two
+     * @throws IllegalArgumentException if segmentSize is not a positive power of two
+     */
+    public MyConcurrentSegmentedList(int segmentSize) {
+        if (segmentSize <= 0 || Integer.bitCount(segmentSize) != 1) {
+            throw new IllegalArgumentException("Segment size must be a positive power of two: " + segmentSize);
+        }
+        this.segmentShift = Integer.numberOfTrailingZeros(segmentSize);
+        this.segmentMask = segmentSize - 1;
+        this.segments = new Object[1][];
+    }
+
+    /**
+     * Appends the element without blocking other appends or readers.
+     * Time Complexity: O(1), plus a wait for earlier appends still in flight to publish
+     */
+    @Override
+    public boolean add(E element) {
+        long stamp = lock.readLock();
+        try {
+            int index = (int) RESERVED.getAndAdd(this, 1);
+            if (index < 0) {
+                RESERVED.getAndAdd(this, -1);
+                throw new IllegalStateException("List is full.");
+            }
+
+            Object[] segment = this.segmentFor(index);
+            segment[index & segmentMask] = element;
+            this.publish(index);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        return true;
+    }
+
+    /**
+     * Time Complexity: O(N)
+     */
+    @Override
+    public void add(int position, E element) {
+        long stamp = lock.writeLock();
+        try {
+            int n = size;
+            if (position < 0 || position > n) {
+                throw new IndexOutOfBoundsException("Index " + position + " is out of bounds.");
+            }
+
+            Object[] tail = new Object[n - position + 1];
+            tail[0] = element;
+            this.copyRange(position, n, tail, 1);
+            this.replaceFrom(position, tail);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Reads the element without taking a lock.
+     * Time Complexity: O(1)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int position) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            // Read size before the directory: any segment holding an index below size is in that directory or a newer one
+            int n = size;
+            Object[][] directory = segments;
+            int segmentIndex = position >>> segmentShift;
+
+            if (position < 0 || position >= n) {
+                if (lock.validate(stamp)) {
+                    throw new IndexOutOfBoundsException("Index " + position + " is out of bounds.");
+                }
+            } else if (segmentIndex < directory.length) {
+                Object[] segment = directory[segmentIndex];
+                if (segment != null) {
+                    E element = (E) segment[position & segmentMask];
+                    if (lock.validate(stamp)) {
+                        return element;
+                    }
+                }
+            }
+        }
+
+        // A write that moves elements ran concurrently; read again while it cannot
+        stamp = lock.readLock();
+        try {
+            if (position < 0 || position >= size) {
+                throw new IndexOutOfBoundsException("Index " + position + " is out of bounds.");
+            }
+            return (E) segments[position >>> segmentShift][position & segmentMask];
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Replaces the element in a copy of its segment, so snapshots taken earlier keep the old value.
+     * Time Complexity: O(segmentSize)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int position, E element) {
+        long stamp = lock.writeLock();
+        try {
+            if (position < 0 || position >= size) {
+                throw new IndexOutOfBoundsException("Index " + position + " is out of bounds.");
+            }
+
+            Object[][] directory = segments;
+            int segmentIndex = position >>> segmentShift;
+            Object[] copy = directory[segmentIndex].clone();
+
+            E old = (E) copy[position & segmentMask];
+            copy[position & segmentMask] = element;
+            SEGMENT.setRelease(directory, segmentIndex, copy);
+            return old;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Time Complexity: O(N)
+     */
+    @Override
+    public E remove(int position) {
+        long stamp = lock.writeLock();
+        try {
+            int n = size;
+            if (position < 0 || position >= n) {
+                throw new IndexOutOfBoundsException("Index " + position + " is out of bounds.");
+            }
+
+            E removed = this.element(position);
+            Object[] tail = new Object[n - position - 1];
+            this.copyRange(position + 1, n, tail, 0);
+            this.replaceFrom(position, tail);
+            return removed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Time Complexity: O(N)
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        long stamp = lock.writeLock();
+        try {
+            int n = size;
+            if (fromIndex < 0 || toIndex > n || fromIndex > toIndex) {
+                throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex + ") is out of bounds.");
+            }
+            if (fromIndex == toIndex) return;
+
+            Object[] tail = new Object[n - toIndex];
+            this.copyRange(toIndex, n, tail, 0);
+            this.replaceFrom(fromIndex, tail);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Tests every element under the write lock, then replaces the segments from the first removed element on.
+     * If the predicate throws, the list is unchanged.
+     * Time Complexity: O(N)
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        long stamp = lock.writeLock();
+        try {
+            int n = size;
+            int first = 0;
+            while (first < n && !filter.test(this.element(first))) {
+                first += 1;
+            }
+            if (first == n) return false;
+
+            Object[] kept = new Object[n - first - 1];
+            int count = 0;
+            for (int i = first + 1; i < n; i++) {
+                E element = this.element(i);
+                if (!filter.test(element)) {
+                    kept[count++] = element;
+                }
+            }
+
+            this.replaceFrom(first, Arrays.copyOf(kept, count));
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes all the elements from this list. Snapshots taken earlier are unaffected.
+     * Time Complexity: O(1)
+     */
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            segments = new Object[1][];
+            size = 0;
+            reserved = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an iterator over a snapshot of this list: it yields exactly the elements present when this method was
+     * called, never throws {@link java.util.ConcurrentModificationException}, and does not support {@code remove()}.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return this.snapshot().iterator();
+    }
+
+    /**
+     * Returns a {@link Spliterator#SIZED} spliterator over a snapshot of this list, see {@link #iterator()}.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        Snapshot<E> snapshot = this.snapshot();
+        return Spliterators.spliterator(snapshot.iterator(), snapshot.size,
+                                        Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    // Helpers
+    /**
+     * Returns the segment for an index claimed by an append, allocating it, and growing the directory, if needed.
+     */
+    private Object[] segmentFor(int index) {
+        int segmentIndex = index >>> segmentShift;
+        Object[][] directory = segments;
+        if (segmentIndex < directory.length) {
+            Object[] segment = (Object[]) SEGMENT.getAcquire(directory, segmentIndex);
+            if (segment != null) return segment;
+        }
+
+        growLock.lock();
+        try {
+            directory = segments;
+            if (segmentIndex >= directory.length) {
+                directory = Arrays.copyOf(directory, Math.max(segmentIndex + 1, directory.length * 2));
+                segments = directory;
+            }
+
+            Object[] segment = directory[segmentIndex];
+            if (segment == null) {
+                segment = new Object[segmentMask + 1];
+                SEGMENT.setRelease(directory, segmentIndex, segment);
+            }
+            return segment;
+        } finally {
+            growLock.unlock();
+        }
+    }
+
+    /**
+     * Waits until every earlier append has published, then makes this index visible.
+     */
+    private void publish(int index) {
+        // The earlier appends are usually a few instructions ahead, unless descheduled, in which case yielding lets them run
+        int spins = 0;
+        while (size != index) {
+            if (++spins % SPINS_BEFORE_YIELD == 0) {
+                Thread.yield();
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+        size = index + 1;
+    }
+
+    /**
+     * Replaces every element from {@code position} on with {@code tail}, writing only into new segment arrays and a
+     * new directory, then publishes them. Must hold the write lock.
+     */
+    private void replaceFrom(int position, Object[] tail) {
+        Object[][] old = segments;
+        int newSize = position + tail.length;
+        int segmentSize = segmentMask + 1;
+        int firstSegment = position >>> segmentShift;
+
+        Object[][] directory = new Object[Math.max(1, (newSize + segmentMask) >>> segmentShift)][];
+        System.arraycopy(old, 0, directory, 0, Math.min(firstSegment, directory.length));
+
+        int read = 0;
+        for (int segmentIndex = firstSegment; segmentIndex < directory.length; segmentIndex++) {
+            Object[] segment = new Object[segmentSize];
+            int slot = 0;
+            if (segmentIndex == firstSegment) {
+                // Keep the untouched prefix of the first affected segment
+                slot = position & segmentMask;
+                System.arraycopy(old[segmentIndex], 0, segment, 0, slot);
+            }
+
+            int count = Math.min(segmentSize - slot, tail.length - read);
+            System.arraycopy(tail, read, segment, slot, count);
+            read += count;
+            directory[segmentIndex] = segment;
+        }
+
+        segments = directory;
+        size = newSize;
+        reserved = newSize;
+    }
+
+    /**
+     * Copies the elements in {@code [from, to)} into the array. Must hold a lock that excludes element-moving writes.
+     */
+    private void copyRange(int from, int to, Object[] destination, int destinationPosition) {
+        Object[][] directory = segments;
+        while (from < to) {
+            int slot = from & segmentMask;
+            int count = Math.min(segmentMask + 1 - slot, to - from);
+            System.arraycopy(directory[from >>> segmentShift], slot, destination, destinationPosition, count);
+            from += count;
+            destinationPosition += count;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private E element(int position) {
+        return (E) segments[position >>> segmentShift][position & segmentMask];
+    }
+
+    /**
+     * Captures the directory and size as of one instant. Copying the directory suffices:
+     * no write changes a published slot below the size it was published with.
+     */
+    private Snapshot<E> snapshot() {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            int n = size;
+            Object[][] directory = segments;
+            int segmentCount = (n + segmentMask) >>> segmentShift;
+            if (segmentCount <= directory.length) {
+                Object[][] copy = Arrays.copyOf(directory, segmentCount);
+                if (lock.validate(stamp)) {
+                    return new Snapshot<>(copy, n, segmentShift, segmentMask);
+                }
+            }
+        }
+
+        stamp = lock.readLock();
+        try {
+            int n = size;
+            Object[][] copy = Arrays.copyOf(segments, (n + segmentMask) >>> segmentShift);
+            return new Snapshot<>(copy, n, segmentShift, segmentMask);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private static final class Snapshot<E> {
+        private final Object[][] segments;
+        private final int size;
+        private final int segmentShift;
+        private final int segmentMask;
+
+        Snapshot(Object[][] segments, int size, int segmentShift, int segmentMask) {
+            this.segments = segments;
+            this.size = size;
+            this.segmentShift = segmentShift;
+            this.segmentMask = segmentMask;
+        }
+
+        Iterator<E> iterator() {
+            return new Iterator<>() {
+                private int cursor;
+
+                @Override
+                public boolean hasNext() {
+                    return cursor < size;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public E next() {
+                    if (cursor >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    E element = (E) segments[cursor >>> segmentShift][cursor & segmentMask];
+                    cursor += 1;
+                    return element;
+                }
+            };
+        }
+    }
+
+    // Object
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+
+        Iterator<E> elements = this.iterator();
+        while (elements.hasNext()) {
+            sb.append(elements.next());
+            if (elements.hasNext()) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+
+        if (obj == null || this.getClass() != obj.getClass()) return false;
+
+        MyConcurrentSegmentedList<?> other = (MyConcurrentSegmentedList<?>) obj;
+
+        Snapshot<E> mine = this.snapshot();
+        Snapshot<?> theirs = other.snapshot();
+        if (mine.size != theirs.size) return false;
+
+        Iterator<E> thisElements = mine.iterator();
+        Iterator<?> otherElements = theirs.iterator();
+        while (thisElements.hasNext()) {
+            if (!Objects.equals(thisElements.next(), otherElements.next())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (E element : this) {
+            hash = 31 * hash + Objects.hashCode(element);
+        }
+        return hash;
+    }
+}
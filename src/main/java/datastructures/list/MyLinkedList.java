@@ -1,8 +1,29 @@
 package main.java.datastructures.list;
 
 import main.java.datastructures.queue.MyDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
-
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * A doubly linked implementation of {@link MyList} and {@link MyDeque}.
+ *
+ * <p>Positional methods walk from whichever is nearest of head, tail, or the <em>finger</em>: the node
+ * found by the previous positional lookup, cached together with its index. Accessing indices in order
+ * (or near each other) therefore costs O(distance) per call instead of O(N), so a {@code get(i)} loop is O(N) overall.
+ * For inserting or removing while walking, use {@link #listIterator(int)}, which does both in O(1).
+ *
+ * <p>A {@link ListListener} set with {@link #setListener(ListListener)} is told how many links every positional
+ * lookup follows and how long the single-element operations take.
+ *
+ * @param <E> the type of elements held in this list
+ */
 public class MyLinkedList<E> implements MyList<E>, MyDeque<E> {
     private static class ListNode<E> {
         private E val;
@@ -44,6 +65,14 @@ public class MyLinkedList<E> implements MyList<E>, MyDeque<E> {
     private ListNode<E> tail;
     private int size;
 
+    // The last node found by node(int) and its index, or null if unknown
+    private ListNode<E> finger;
+    private int fingerIndex;
+    // Counts structural modifications, so cursors can detect changes made behind their back
+    private int modCount;
+    // Null unless instrumentation is switched on
+    private ListListener listener;
+
     public MyLinkedList() {
         this.head = null;
         this.tail = null;
@@ -53,112 +82,153 @@ public class MyLinkedList<E> implements MyList<E>, MyDeque<E> {
     // List
     @Override
     public boolean add(E element) {
-        ListNode<E> newTail = new ListNode<>(element);
-
-        if (head == null) {
-            head = newTail;
-            tail = head;
-        } else {
-            tail.setNext(newTail);
-            newTail.setPrev(tail);
-            tail = newTail;
-        }
-        size += 1;
+        long start = this.startTimer();
+        this.linkBefore(element, null, size);
+        this.stopTimer(ListListener.Operation.APPEND, start);
         return true;
     }
 
+    /**
+     * Time Complexity: O(distance from the nearest of head, tail and the last accessed position)
+     */
     @Override
     public void add(int position, E element) {
         if (position < 0 || position > size) {
             throw new IndexOutOfBoundsException("Index " + position + " is out of bounds.");
         }
 
-        if (position == 0) {
-            this.push(element);
-        } else if (position == size) {
-            this.add(element);
-        } else {
-            ListNode<E> temp = head;
-
-            for (int i = 0; i < position - 1; i++) {
-                temp = temp.getNext();
-            }
-
-            ListNode<E> toInsert = new ListNode<>(element);
-            ListNode<E> toReplace = temp.getNext();
-
-            toInsert.setPrev(temp);
-            temp.setNext(toInsert);
-
-            toInsert.setNext(toReplace);
-            toReplace.setPrev(toInsert);
-
-            size += 1;
-        }
+        long start = this.startTimer();
+        ListNode<E> successor = position == size ? null : this.node(position);
+        this.linkBefore(element, successor, position);
+        this.stopTimer(ListListener.Operation.INSERT, start);
     }
 
+    /**
+     * Time Complexity: O(distance from the nearest of head, tail and the last accessed position)
+     */
     @Override
     public E get(int position) {
         if (position < 0 || position > size - 1) {
             throw new IndexOutOfBoundsException("Index " + position + " is out of bounds.");
         }
 
-        ListNode<E> toFind = head;
-        int idx = 0;
-
-        while(idx < position) {
-            toFind = toFind.getNext();
-            idx += 1;
-        }
-
-        return toFind.getVal();
+        long start = this.startTimer();
+        E element = this.node(position).getVal();
+        this.stopTimer(ListListener.Operation.GET, start);
+        return element;
     }
 
+    /**
+     * Time Complexity: O(distance from the nearest of head, tail and the last accessed position)
+     */
     @Override
     public E set(int position, E element) {
         if (position < 0 || position >= size) {
             throw new IndexOutOfBoundsException("Index " + position + " is out of bounds.");
         }
 
-        ListNode<E> temp = head;
-        for(int i = 0; i < position; i++) {
-            temp = temp.getNext();
-        }
+        long start = this.startTimer();
+        ListNode<E> temp = this.node(position);
 
         E oldValue = temp.getVal();
         temp.setVal(element);
+        this.stopTimer(ListListener.Operation.SET, start);
         return oldValue;
     }
 
+    /**
+     * Time Complexity: O(distance from the nearest of head, tail and the last accessed position)
+     */
     @Override
     public E remove(int position) {
         if (position < 0 || position >= size) {
             throw new IndexOutOfBoundsException("Index " + position + " is out of bounds.");
         }
 
-        E removed;
+        long start = this.startTimer();
+        ListNode<E> toRemove = this.node(position);
+        E removed = toRemove.getVal();
+        this.unlink(toRemove, position);
 
-        if (position == 0) {
-            removed = this.dequeue();
-        } else if (position == size - 1) {
-            removed = this.removeLast();
-        } else {
-            ListNode<E> temp = head;
+        this.stopTimer(ListListener.Operation.REMOVE, start);
+        return removed;
+    }
 
-            for(int i = 0; i < position - 1; i++) {
-                temp = temp.getNext();
-            }
+    @Override
+    public boolean addAll(Collection<? extends E> elements) {
+        return this.spliceAll(size, elements);
+    }
+
+    @Override
+    public boolean addAll(E[] elements) {
+        return this.spliceAll(size, Arrays.asList(elements));
+    }
+
+    @Override
+    public boolean addAll(int position, Collection<? extends E> elements) {
+        return this.spliceAll(position, elements);
+    }
+
+    /**
+     * Links the new elements into a chain first, then splices the whole chain in with four pointer updates.
+     * Time Complexity: O(position + K)
+     */
+    @Override
+    public boolean addAll(int position, E[] elements) {
+        return this.spliceAll(position, Arrays.asList(elements));
+    }
+
+    /**
+     * Finds both ends of the range once, then unlinks it as a whole.
+     * Time Complexity: O(toIndex)
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex + ") is out of bounds.");
+        }
+        if (fromIndex == toIndex) return;
+
+        ListNode<E> first = this.node(fromIndex);
+        ListNode<E> last = first;
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            last = last.getNext();
+        }
+        if (listener != null) listener.onTraversal(toIndex - fromIndex - 1);
+
+        ListNode<E> before = first.getPrev();
+        ListNode<E> after = last.getNext();
 
-            ListNode<E> toRemove = temp.getNext();
-            removed = toRemove.getVal();
+        if (before == null) head = after; else before.setNext(after);
+        if (after == null) tail = before; else after.setPrev(before);
 
-            toRemove.getNext().setPrev(temp);
-            temp.setNext(toRemove.getNext());
+        first.setPrev(null);
+        last.setNext(null);
 
-            toRemove.setNext(null);
-            toRemove.setPrev(null);
+        size -= toIndex - fromIndex;
+        modCount += 1;
+        finger = null;
+    }
+
+    /**
+     * Unlinks the matching nodes in a single walk from head.
+     * Time Complexity: O(N)
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        boolean removed = false;
 
-            size -= 1;
+        ListNode<E> curr = head;
+        int index = 0;
+        while (curr != null) {
+            ListNode<E> next = curr.getNext();
+            if (filter.test(curr.getVal())) {
+                this.unlink(curr, index);
+                removed = true;
+            } else {
+                index += 1;
+            }
+            curr = next;
         }
 
         return removed;
@@ -169,9 +239,79 @@ public class MyLinkedList<E> implements MyList<E>, MyDeque<E> {
         return size;
     }
 
+    /**
+     * Returns a fail-fast iterator that follows the links, so iterating the whole list is O(N).
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return this.listIterator();
+    }
+
+    /**
+     * Passes each element to the action while walking the links, without creating an iterator object.
+     * Time Complexity: O(N)
+     *
+     * @throws ConcurrentModificationException if the action structurally modifies this list
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+
+        for (ListNode<E> curr = head; curr != null && modCount == expectedModCount; curr = curr.getNext()) {
+            action.accept(curr.getVal());
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns a cursor positioned before the first element.
+     *
+     * @return a list iterator over the elements in this list
+     * @see #listIterator(int)
+     */
+    public ListIterator<E> listIterator() {
+        return this.listIterator(0);
+    }
+
+    /**
+     * Returns a cursor positioned before the element at the specified index.
+     * Moving the cursor, and inserting, removing or replacing at it, are all O(1).
+     * The cursor is fail-fast: it throws {@link ConcurrentModificationException} if the list is structurally
+     * modified other than through the cursor itself.
+     * Time Complexity: O(distance from the nearest of head, tail and the last accessed position) to position the cursor
+     *
+     * @param position the index of the first element to be returned by {@code next()}
+     * @return a list iterator starting at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size())
+     */
+    public ListIterator<E> listIterator(int position) {
+        if (position < 0 || position > size) {
+            throw new IndexOutOfBoundsException("Index " + position + " is out of bounds.");
+        }
+
+        return new Cursor(position == size ? null : this.node(position), position);
+    }
+
+    /**
+     * Starts reporting traversals and operation latencies to the listener, or stops if it is {@code null}.
+     *
+     * @param listener the listener, e.g. a {@link ListMetrics}, or {@code null} to switch instrumentation off
+     */
+    public void setListener(ListListener listener) {
+        this.listener = listener;
+    }
+
+    public ListListener getListener() {
+        return listener;
+    }
+
     // Queue
     public E peek() {
-        return head.getVal();
+        return head == null ? null : head.getVal();
     }
 
     @Override
@@ -179,33 +319,14 @@ public class MyLinkedList<E> implements MyList<E>, MyDeque<E> {
         if (head == null) return null;
 
         E firstElement = head.getVal();
-
-        if (head == tail) {
-            head = null;
-            tail = null;
-        } else {
-            head.getNext().setPrev(null);
-            head = head.getNext();
-        }
-
-        size -= 1;
+        this.unlink(head, 0);
 
         return firstElement;
     }
 
     @Override
     public void enqueue(E element) {
-        ListNode<E> newTail = new ListNode<>(element);
-
-        if (head == null) {
-            head = newTail;
-            tail = head;
-        } else {
-            tail.setNext(newTail);
-            newTail.setPrev(tail);
-            tail = newTail;
-        }
-        size += 1;
+        this.linkBefore(element, null, size);
     }
 
     // Deque
@@ -214,58 +335,264 @@ public class MyLinkedList<E> implements MyList<E>, MyDeque<E> {
         if (tail == null) return null;
 
         E lastElement = tail.getVal();
-
-        if (head == tail) {
-            head = null;
-            tail = null;
-        } else {
-            tail.getPrev().setNext(null);
-            tail = tail.getPrev();
-        }
-
-        size -= 1;
+        this.unlink(tail, size - 1);
 
         return lastElement;
     }
 
     @Override
     public E getLast() {
-        return tail.getVal();
+        return tail == null ? null : tail.getVal();
     }
 
     // Deque (Stack functionality)
     @Override
     public void push(E element) {
-        ListNode<E> newHead = new ListNode<>(element);
+        this.linkBefore(element, head, 0);
+    }
+
+    @Override
+    public E pop() {
+        return this.dequeue();
+    }
 
-        if (head == null) {
-            head = newHead;
-            tail = head;
+    // Helpers
+    /**
+     * Returns the node at the given index, which must be within bounds, and remembers it as the finger.
+     * Starts from whichever of head, tail and the finger is closest to the index.
+     */
+    private ListNode<E> node(int position) {
+        ListNode<E> temp;
+        int index;
+
+        if (position <= size - 1 - position) {
+            temp = head;
+            index = 0;
         } else {
-            head.setPrev(newHead);
-            newHead.setNext(head);
-            head = newHead;
+            temp = tail;
+            index = size - 1;
         }
-        size += 1;
+
+        if (finger != null && Math.abs(position - fingerIndex) < Math.abs(position - index)) {
+            temp = finger;
+            index = fingerIndex;
+        }
+
+        if (listener != null) listener.onTraversal(Math.abs(position - index));
+
+        while (index < position) {
+            temp = temp.getNext();
+            index += 1;
+        }
+        while (index > position) {
+            temp = temp.getPrev();
+            index -= 1;
+        }
+
+        finger = temp;
+        fingerIndex = position;
+        return temp;
     }
 
-    @Override
-    public E pop() {
-        if (head == null) return null;
+    /**
+     * Inserts a new node holding the element before {@code successor}, or at the end if it is null.
+     * {@code position} is the index the new element will have.
+     */
+    private void linkBefore(E element, ListNode<E> successor, int position) {
+        ListNode<E> toInsert = new ListNode<>(element);
+        ListNode<E> before = successor == null ? tail : successor.getPrev();
 
-        E firstElement = head.getVal();
+        toInsert.setPrev(before);
+        toInsert.setNext(successor);
 
-        if (head == tail) {
-            head = null;
-            tail = null;
-        } else {
-            head.getNext().setPrev(null);
-            head = head.getNext();
+        if (before == null) head = toInsert; else before.setNext(toInsert);
+        if (successor == null) tail = toInsert; else successor.setPrev(toInsert);
+
+        if (finger != null && position <= fingerIndex) {
+            fingerIndex += 1;
+        }
+
+        size += 1;
+        modCount += 1;
+    }
+
+    /**
+     * Removes the node at index {@code position} from the list, fixing head, tail and the finger as needed.
+     */
+    private void unlink(ListNode<E> node, int position) {
+        ListNode<E> before = node.getPrev();
+        ListNode<E> after = node.getNext();
+
+        if (before == null) head = after; else before.setNext(after);
+        if (after == null) tail = before; else after.setPrev(before);
+
+        if (node == finger) {
+            // The successor moves into the removed node's index
+            finger = after;
+        } else if (finger != null && position < fingerIndex) {
+            fingerIndex -= 1;
         }
 
+        node.setPrev(null);
+        node.setNext(null);
         size -= 1;
+        modCount += 1;
+    }
 
-        return firstElement;
+    private long startTimer() {
+        return listener == null ? 0 : System.nanoTime();
+    }
+
+    private void stopTimer(ListListener.Operation operation, long start) {
+        if (listener != null) listener.onOperation(operation, System.nanoTime() - start);
+    }
+
+    private boolean spliceAll(int position, Collection<? extends E> elements) {
+        if (position < 0 || position > size) {
+            throw new IndexOutOfBoundsException("Index " + position + " is out of bounds.");
+        }
+        if (elements.isEmpty()) return false;
+
+        ListNode<E> first = null;
+        ListNode<E> last = null;
+        int count = 0;
+
+        for (E element : elements) {
+            ListNode<E> node = new ListNode<>(element);
+            if (first == null) {
+                first = node;
+            } else {
+                last.setNext(node);
+                node.setPrev(last);
+            }
+            last = node;
+            count += 1;
+        }
+
+        ListNode<E> after = position == size ? null : this.node(position);
+        ListNode<E> before = after == null ? tail : after.getPrev();
+
+        first.setPrev(before);
+        last.setNext(after);
+
+        if (before == null) head = first; else before.setNext(first);
+        if (after == null) tail = last; else after.setPrev(last);
+
+        size += count;
+        modCount += 1;
+        finger = null;
+        return true;
+    }
+
+    /**
+     * A {@link ListIterator} that holds on to the node it is positioned at,
+     * so moving, inserting and removing never walk the list.
+     */
+    private class Cursor implements ListIterator<E> {
+        private ListNode<E> next;
+        private int nextIndex;
+        private ListNode<E> lastReturned;
+        private int expectedModCount;
+
+        Cursor(ListNode<E> next, int nextIndex) {
+            this.next = next;
+            this.nextIndex = nextIndex;
+            this.expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next() {
+            this.checkForComodification();
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = next;
+            next = next.getNext();
+            nextIndex += 1;
+            return lastReturned.getVal();
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            this.checkForComodification();
+            if (!this.hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+
+            next = next == null ? tail : next.getPrev();
+            lastReturned = next;
+            nextIndex -= 1;
+            return lastReturned.getVal();
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            this.checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+
+            ListNode<E> lastNext = lastReturned.getNext();
+            if (lastReturned == next) {
+                // Last move was previous(): the cursor stays at the same index, on the following node
+                MyLinkedList.this.unlink(lastReturned, nextIndex);
+                next = lastNext;
+            } else {
+                MyLinkedList.this.unlink(lastReturned, nextIndex - 1);
+                nextIndex -= 1;
+            }
+
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E element) {
+            this.checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+
+            lastReturned.setVal(element);
+        }
+
+        @Override
+        public void add(E element) {
+            this.checkForComodification();
+
+            MyLinkedList.this.linkBefore(element, next, nextIndex);
+            nextIndex += 1;
+
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
     }
 
     // Object
@@ -299,7 +626,7 @@ public class MyLinkedList<E> implements MyList<E>, MyDeque<E> {
         if(this.size() != other.size()) return false;
 
         ListNode<E> currThis = head;
-        ListNode<?> currOther = (ListNode<?>) other.peek();
+        ListNode<?> currOther = other.head;
 
         while (currThis != null && currOther != null) {
             if(!Objects.equals(currThis.getVal(), currOther.getVal())) {
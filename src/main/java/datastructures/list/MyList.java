@@ -1,13 +1,23 @@
 package main.java.datastructures.list;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A simple list interface defining basic operations.
  *
+ * <p>Lists are {@link Iterable}, so they work with for-each loops and, through {@link #stream()}, with streams.
+ *
  * @param <E> the type of elements in this list
  */
-public interface MyList<E> {
+public interface MyList<E> extends Iterable<E> {
 
     /**
      * Appends the specified element to the end of the list.
@@ -61,6 +71,164 @@ public interface MyList<E> {
      */
     E remove(int position);
 
+    /**
+     * Appends all the elements of the specified collection to the end of this list, in the collection's iteration order.
+     * Time Complexity: O(K) for array-backed and linked implementations
+     *
+     * @param elements the elements to be appended to this list
+     * @return {@code true} if this list changed as a result of the call
+     */
+    default boolean addAll(Collection<? extends E> elements) {
+        for (E element : elements) {
+            this.add(element);
+        }
+        return !elements.isEmpty();
+    }
+
+    /**
+     * Appends all the elements of the specified array to the end of this list, in order.
+     * Time Complexity: O(K) for array-backed and linked implementations
+     *
+     * @param elements the elements to be appended to this list
+     * @return {@code true} if this list changed as a result of the call
+     */
+    default boolean addAll(E[] elements) {
+        for (E element : elements) {
+            this.add(element);
+        }
+        return elements.length > 0;
+    }
+
+    /**
+     * Inserts all the elements of the specified collection at the specified index, in the collection's iteration order.
+     * Shifts the element currently at that index (if any) and any subsequent elements to the right by the number of inserted elements.
+     * Time Complexity: O(N + K) for array-backed and linked implementations, instead of O(N * K) for K single inserts
+     *
+     * @param position the index at which the first element is to be inserted
+     * @param elements the elements to be inserted
+     * @return {@code true} if this list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size())
+     */
+    default boolean addAll(int position, Collection<? extends E> elements) {
+        if (position < 0 || position > this.size()) {
+            throw new IndexOutOfBoundsException("Index " + position + " is out of bounds.");
+        }
+        for (E element : elements) {
+            this.add(position++, element);
+        }
+        return !elements.isEmpty();
+    }
+
+    /**
+     * Inserts all the elements of the specified array at the specified index, in order.
+     * Shifts the element currently at that index (if any) and any subsequent elements to the right by the number of inserted elements.
+     * Time Complexity: O(N + K) for array-backed and linked implementations, instead of O(N * K) for K single inserts
+     *
+     * @param position the index at which the first element is to be inserted
+     * @param elements the elements to be inserted
+     * @return {@code true} if this list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size())
+     */
+    default boolean addAll(int position, E[] elements) {
+        if (position < 0 || position > this.size()) {
+            throw new IndexOutOfBoundsException("Index " + position + " is out of bounds.");
+        }
+        for (E element : elements) {
+            this.add(position++, element);
+        }
+        return elements.length > 0;
+    }
+
+    /**
+     * Removes the elements whose index is between {@code fromIndex} (inclusive) and {@code toIndex} (exclusive).
+     * Shifts any subsequent elements to the left by {@code toIndex - fromIndex}.
+     * Time Complexity: O(N) for array-backed and linked implementations
+     *
+     * @param fromIndex the index of the first element to be removed
+     * @param toIndex the index after the last element to be removed
+     * @throws IndexOutOfBoundsException if fromIndex < 0 || toIndex > size() || fromIndex > toIndex
+     */
+    default void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > this.size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex + ") is out of bounds.");
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            this.remove(fromIndex);
+        }
+    }
+
+    /**
+     * Removes all the elements that satisfy the given predicate, keeping the order of the remaining elements.
+     * Time Complexity: O(N) for array-backed and linked implementations
+     *
+     * @param filter returns {@code true} for elements to be removed
+     * @return {@code true} if any elements were removed
+     */
+    default boolean removeIf(Predicate<? super E> filter) {
+        boolean removed = false;
+        for (int i = this.size() - 1; i >= 0; i--) {
+            if (filter.test(this.get(i))) {
+                this.remove(i);
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns an iterator over the elements in this list in order.
+     * The default implementation steps through the indices with {@link #get(int)}, which suits lists with O(1) access,
+     * and does not detect concurrent modification. Implementations that track modifications override it
+     * with a fail-fast iterator.
+     *
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    default Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int cursor = 0;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < MyList.this.size();
+            }
+
+            @Override
+            public E next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return MyList.this.get(cursor++);
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link Spliterator#SIZED} and {@link Spliterator#ORDERED} spliterator over the elements in this list.
+     * The default implementation wraps {@link #iterator()}, so it splits by copying batches into arrays;
+     * array-backed implementations override it to split their index range instead.
+     *
+     * @return a spliterator over the elements in this list
+     */
+    @Override
+    default Spliterator<E> spliterator() {
+        return Spliterators.spliterator(this.iterator(), this.size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * @return a sequential stream over the elements in this list
+     */
+    default Stream<E> stream() {
+        return StreamSupport.stream(this.spliterator(), false);
+    }
+
+    /**
+     * @return a possibly parallel stream over the elements in this list
+     */
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(this.spliterator(), true);
+    }
+
     /**
      * Returns the number of elements in this list.
      * Time Complexity: O(1)
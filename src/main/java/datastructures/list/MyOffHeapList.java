@@ -0,0 +1,245 @@
+package main.java.datastructures.list;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A list of fixed-width records stored in native memory, outside the Java heap.
+ *
+ * <p>Elements are encoded by a {@link RecordCodec} into direct {@link ByteBuffer} chunks of equal size.
+ * The garbage collector sees only the handful of chunk objects, never the records, so even hundreds of millions
+ * of elements add nothing to the work of a full GC. Growing allocates one more chunk and copies nothing;
+ * element {@code i} lives in chunk {@code i >>> chunkShift} at record {@code i & chunkMask}.
+ *
+ * <p>Any number of threads may call {@link #get(int)} and {@link #size()} concurrently, including while a single
+ * writer thread appends: {@code size} is published after the record is written, so a reader never sees an
+ * index whose bytes are not there yet. Concurrent writers, and writers that shift elements ({@link #add(int, Object)},
+ * {@link #remove(int)}) while others read, need external synchronization.
+ *
+ * <p>The chunks are direct buffers, so their total size is capped by {@code -XX:MaxDirectMemorySize}, which
+ * defaults to the maximum heap size; growing past it throws {@link OutOfMemoryError}. {@link #close()} drops the
+ * list's references to the chunks, but the native memory is only returned once the garbage collector has reclaimed
+ * the buffers, which may take until a later GC cycle. After closing, {@link #size()} returns 0 and every other
+ * operation throws {@link IllegalStateException}.
+ *
+ * @param <E> the type of elements held in this list
+ */
+public class MyOffHeapList<E> implements MyList<E>, AutoCloseable {
+
+    private static final int DEFAULT_CHUNK_BYTES = 1 << 20;
+
+    private final RecordCodec<E> codec;
+    private final int width;
+    private final int chunkShift;
+    private final int chunkMask;
+
+    private volatile ByteBuffer[] chunks;
+    private volatile int size;
+
+    public MyOffHeapList(RecordCodec<E> codec) {
+        this(codec, Math.max(1, Integer.highestOneBit(DEFAULT_CHUNK_BYTES / codec.width())));
+    }
+
+    /**
+     * @param codec converts elements to and from their fixed-width encoding
+     * @param recordsPerChunk the number of records per native chunk, a power of two
+     * @throws IllegalArgumentException if recordsPerChunk is not a positive power of two, or a chunk would exceed 2 GB
+     */
+    public MyOffHeapList(RecordCodec<E> codec, int recordsPerChunk) {
+        if (recordsPerChunk <= 0 || Integer.bitCount(recordsPerChunk) != 1) {
+            throw new IllegalArgumentException("Records per chunk must be a positive power of two: " + recordsPerChunk);
+        }
+        if ((long) recordsPerChunk * codec.width() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Chunk too large: " + recordsPerChunk + " records of " + codec.width() + " bytes.");
+        }
+
+        this.codec = codec;
+        this.width = codec.width();
+        this.chunkShift = Integer.numberOfTrailingZeros(recordsPerChunk);
+        this.chunkMask = recordsPerChunk - 1;
+        this.chunks = new ByteBuffer[0];
+        this.size = 0;
+    }
+
+    @Override
+    public boolean add(E element) {
+        int index = size;
+        this.ensureCapacity(index + 1);
+        this.write(index, element);
+        size = index + 1;
+        return true;
+    }
+
+    @Override
+    public void add(int position, E element) {
+        this.checkIndex(position, size + 1);
+        this.ensureCapacity(size + 1);
+
+        for (int i = size - 1; i >= position; i--) {
+            this.copyRecord(i, i + 1);
+        }
+
+        this.write(position, element);
+        size += 1;
+    }
+
+    @Override
+    public E get(int position) {
+        // Read size before chunks: a size that covers the position guarantees the chunk holding it is visible
+        this.checkIndex(position, size);
+        ByteBuffer[] current = this.chunks();
+        return codec.read(current[position >>> chunkShift], (position & chunkMask) * width);
+    }
+
+    @Override
+    public E set(int position, E element) {
+        this.checkIndex(position, size);
+
+        E old = this.get(position);
+        this.write(position, element);
+        return old;
+    }
+
+    @Override
+    public E remove(int position) {
+        this.checkIndex(position, size);
+
+        E removed = this.get(position);
+
+        for (int i = position + 1; i < size; i++) {
+            this.copyRecord(i, i - 1);
+        }
+
+        size -= 1;
+        return removed;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all the elements from this list, keeping the allocated chunks for reuse.
+     * Time Complexity: O(1)
+     */
+    public void clear() {
+        this.chunks();
+        size = 0;
+    }
+
+    /**
+     * Returns the number of native bytes currently allocated by this list.
+     * Time Complexity: O(1)
+     *
+     * @return the allocated native memory in bytes
+     */
+    public long footprint() {
+        return (long) this.chunks().length * (chunkMask + 1) * width;
+    }
+
+    /**
+     * Drops the native chunks and makes the list unusable: afterwards {@link #size()} returns 0 and every other
+     * operation throws {@link IllegalStateException}. The native memory is freed when the garbage collector reclaims
+     * the chunks, not by this call. Calling this method more than once has no further effect.
+     */
+    @Override
+    public void close() {
+        chunks = null;
+        size = 0;
+    }
+
+    // Object
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+
+        for (int i = 0; i < size; i++) {
+            sb.append(this.get(i));
+
+            if (i < size - 1) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+
+        if (obj == null || this.getClass() != obj.getClass()) return false;
+
+        MyOffHeapList<?> other = (MyOffHeapList<?>) obj;
+
+        if (this.size() != other.size()) return false;
+
+        for (int i = 0; i < this.size(); i++) {
+            if (!Objects.equals(this.get(i), other.get(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < this.size(); i++) {
+            hash = 31 * hash + Objects.hashCode(this.get(i));
+        }
+        return hash;
+    }
+
+    private void write(int index, E element) {
+        codec.write(this.chunks()[index >>> chunkShift], (index & chunkMask) * width, element);
+    }
+
+    private void copyRecord(int from, int to) {
+        ByteBuffer[] current = this.chunks();
+        current[to >>> chunkShift].put((to & chunkMask) * width, current[from >>> chunkShift], (from & chunkMask) * width, width);
+    }
+
+    /**
+     * Throws unless {@code 0 <= position < bound}. A closed list has size 0, so every position is out of bounds
+     * there; that is reported as the list being closed.
+     */
+    private void checkIndex(int position, int bound) {
+        if (position < 0 || position >= bound) {
+            this.chunks();
+            throw new IndexOutOfBoundsException("Index " + position + " is out of bounds.");
+        }
+    }
+
+    private ByteBuffer[] chunks() {
+        ByteBuffer[] current = chunks;
+        if (current == null) {
+            throw new IllegalStateException("MyOffHeapList has been closed.");
+        }
+        return current;
+    }
+
+    /**
+     * Allocates chunks until the list can hold {@code minCapacity} elements.
+     * Existing chunks are reused as they are, so growing never copies any records; only the small array of
+     * chunk references is copied.
+     */
+    private void ensureCapacity(int minCapacity) {
+        ByteBuffer[] current = this.chunks();
+        int needed = ((minCapacity - 1) >>> chunkShift) + 1;
+
+        if (needed > current.length) {
+            ByteBuffer[] grown = Arrays.copyOf(current, needed);
+            for (int i = current.length; i < grown.length; i++) {
+                grown[i] = ByteBuffer.allocateDirect((chunkMask + 1) * width).order(ByteOrder.nativeOrder());
+            }
+            chunks = grown;
+        }
+    }
+}
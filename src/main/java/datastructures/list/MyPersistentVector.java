@@ -0,0 +1,588 @@
+package main.java.datastructures.list;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * An immutable list that shares structure between versions, so a changed copy costs O(log32 N) instead of O(N).
+ *
+ * <p>Elements are stored in a 32-way bit-partitioned trie: each level of the index consumes 5 bits, so a million
+ * elements need only 4 levels. The last (up to) 32 elements live outside the trie in a <em>tail</em> array, which
+ * makes {@link #withAdded(Object)} and {@link #withoutLast()} O(1) in 31 of 32 cases. {@link #withSet(int, Object)}
+ * copies only the nodes on the path to the element, about 4 arrays of 32 references for a million elements,
+ * and shares everything else with the original.
+ *
+ * <p>This class implements the read side of {@link MyList}: {@link #add(Object)}, {@link #set(int, Object)} and the
+ * other mutators throw {@link UnsupportedOperationException}. Instances can be shared freely between threads.
+ * For bulk construction use a {@link Builder}, which fills nodes in place instead of copying paths.
+ *
+ * @param <E> the type of elements held in this vector
+ */
+public final class MyPersistentVector<E> implements MyList<E> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    /**
+     * A trie node: child nodes at inner levels, elements at the leaves. Nodes are immutable unless {@code owner} is
+     * the token of a {@link Builder} that is still building, which may then write into them.
+     */
+    private static final class Node {
+        private final Object owner;
+        private final Object[] array;
+
+        Node(Object owner, Object[] array) {
+            this.owner = owner;
+            this.array = array;
+        }
+
+        Node(Object owner) {
+            this(owner, new Object[WIDTH]);
+        }
+    }
+
+    private static final Node EMPTY_NODE = new Node(null);
+    private static final MyPersistentVector<?> EMPTY = new MyPersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    // The number of index bits below the root level
+    private final int shift;
+    private final Node root;
+    private final Object[] tail;
+
+    private MyPersistentVector(int size, int shift, Node root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * @return the empty vector
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> MyPersistentVector<E> empty() {
+        return (MyPersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * @return a vector holding the elements in order
+     */
+    @SafeVarargs
+    public static <E> MyPersistentVector<E> of(E... elements) {
+        Builder<E> builder = builder();
+        for (E element : elements) {
+            builder.add(element);
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return a vector holding the elements in iteration order
+     */
+    public static <E> MyPersistentVector<E> copyOf(Iterable<? extends E> elements) {
+        Builder<E> builder = builder();
+        for (E element : elements) {
+            builder.add(element);
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return a builder for a new vector
+     */
+    public static <E> Builder<E> builder() {
+        return MyPersistentVector.<E>empty().toBuilder();
+    }
+
+    /**
+     * Returns a builder that starts from this vector. This vector is not affected by what the builder does.
+     * Time Complexity: O(1)
+     *
+     * @return a builder holding the elements of this vector
+     */
+    public Builder<E> toBuilder() {
+        return new Builder<>(size, shift, root, Arrays.copyOf(tail, WIDTH));
+    }
+
+    /**
+     * Time Complexity: O(log32 N)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Index " + position + " is out of bounds.");
+        }
+        return (E) this.leafFor(position)[position & MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a new version with the element appended. This vector is unchanged.
+     * Time Complexity: O(1) amortized, O(log32 N) when the tail is full and is pushed into the trie
+     *
+     * @param element the element to append
+     * @return the new version
+     */
+    public MyPersistentVector<E> withAdded(E element) {
+        if (size - this.tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new MyPersistentVector<>(size + 1, shift, root, newTail);
+        }
+
+        Node tailNode = new Node(null, tail);
+        Node newRoot;
+        int newShift = shift;
+
+        if ((size >>> BITS) > (1 << shift)) {
+            // The trie is full at this height: add a level
+            newRoot = new Node(null);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tailNode);
+            newShift += BITS;
+        } else {
+            newRoot = this.pushTail(shift, root, tailNode);
+        }
+
+        return new MyPersistentVector<>(size + 1, newShift, newRoot, new Object[]{element});
+    }
+
+    /**
+     * Returns a new version with the element at the position replaced. This vector is unchanged.
+     * Time Complexity: O(log32 N)
+     *
+     * @param position the index of the element to replace
+     * @param element the element to be stored at the position
+     * @return the new version
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    public MyPersistentVector<E> withSet(int position, E element) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Index " + position + " is out of bounds.");
+        }
+
+        if (position >= this.tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[position & MASK] = element;
+            return new MyPersistentVector<>(size, shift, root, newTail);
+        }
+
+        return new MyPersistentVector<>(size, shift, setInPath(shift, root, position, element), tail);
+    }
+
+    /**
+     * Returns a new version without the last element. This vector is unchanged.
+     * Time Complexity: O(1) amortized, O(log32 N) when the tail empties and the last leaf becomes the tail
+     *
+     * @return the new version
+     * @throws IllegalStateException if this vector is empty
+     */
+    public MyPersistentVector<E> withoutLast() {
+        if (size == 0) {
+            throw new IllegalStateException("Can't remove from an empty vector.");
+        }
+        if (size == 1) {
+            return empty();
+        }
+
+        if (size - this.tailOffset() > 1) {
+            return new MyPersistentVector<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+
+        Object[] newTail = this.leafFor(size - 2);
+        Node newRoot = this.popTail(shift, root);
+        int newShift = shift;
+
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && newRoot.array[1] == null) {
+            // Only one child is left under the root: drop a level
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+
+        return new MyPersistentVector<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    // Unsupported mutators
+    /**
+     * @throws UnsupportedOperationException always; use {@link #withAdded(Object)}
+     */
+    @Override
+    public boolean add(E element) {
+        throw new UnsupportedOperationException("MyPersistentVector is immutable; use withAdded.");
+    }
+
+    /**
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void add(int position, E element) {
+        throw new UnsupportedOperationException("MyPersistentVector is immutable.");
+    }
+
+    /**
+     * @throws UnsupportedOperationException always; use {@link #withSet(int, Object)}
+     */
+    @Override
+    public E set(int position, E element) {
+        throw new UnsupportedOperationException("MyPersistentVector is immutable; use withSet.");
+    }
+
+    /**
+     * @throws UnsupportedOperationException always; use {@link #withoutLast()} to remove the last element
+     */
+    @Override
+    public E remove(int position) {
+        throw new UnsupportedOperationException("MyPersistentVector is immutable; use withoutLast.");
+    }
+
+    /**
+     * Returns an iterator that reads each leaf array once, rather than descending the trie per element.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int cursor;
+            private Object[] leaf;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                if ((cursor & MASK) == 0 || leaf == null) {
+                    leaf = MyPersistentVector.this.leafFor(cursor);
+                }
+                return (E) leaf[cursor++ & MASK];
+            }
+        };
+    }
+
+    /**
+     * Passes each element to the action, one leaf array at a time.
+     * Time Complexity: O(N)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (int base = 0; base < size; base += WIDTH) {
+            Object[] leaf = this.leafFor(base);
+            int end = Math.min(WIDTH, size - base);
+            for (int i = 0; i < end; i++) {
+                action.accept((E) leaf[i]);
+            }
+        }
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(this.iterator(), size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    // Helpers
+    /**
+     * @return the index of the first element in the tail
+     */
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * @return the leaf array (or the tail) holding the index
+     */
+    private Object[] leafFor(int position) {
+        if (position >= this.tailOffset()) {
+            return tail;
+        }
+
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(position >>> level) & MASK];
+        }
+        return node.array;
+    }
+
+    /**
+     * Copies the path to the rightmost free leaf slot and places the full tail there.
+     */
+    private Node pushTail(int level, Node parent, Node tailNode) {
+        int child = ((size - 1) >>> level) & MASK;
+        Node copy = new Node(null, parent.array.clone());
+
+        Node inserted;
+        if (level == BITS) {
+            inserted = tailNode;
+        } else {
+            Node existing = (Node) parent.array[child];
+            inserted = existing != null
+                    ? this.pushTail(level - BITS, existing, tailNode)
+                    : newPath(null, level - BITS, tailNode);
+        }
+
+        copy.array[child] = inserted;
+        return copy;
+    }
+
+    /**
+     * Copies the path to the last leaf without that leaf, or returns null if the subtree becomes empty.
+     */
+    private Node popTail(int level, Node node) {
+        int child = ((size - 2) >>> level) & MASK;
+
+        if (level > BITS) {
+            Node newChild = this.popTail(level - BITS, (Node) node.array[child]);
+            if (newChild == null && child == 0) {
+                return null;
+            }
+            Node copy = new Node(null, node.array.clone());
+            copy.array[child] = newChild;
+            return copy;
+        }
+
+        if (child == 0) {
+            return null;
+        }
+        Node copy = new Node(null, node.array.clone());
+        copy.array[child] = null;
+        return copy;
+    }
+
+    private static Node setInPath(int level, Node node, int position, Object element) {
+        Node copy = new Node(null, node.array.clone());
+        if (level == 0) {
+            copy.array[position & MASK] = element;
+        } else {
+            int child = (position >>> level) & MASK;
+            copy.array[child] = setInPath(level - BITS, (Node) node.array[child], position, element);
+        }
+        return copy;
+    }
+
+    /**
+     * @return a chain of single-child nodes of the given height ending in the node
+     */
+    private static Node newPath(Object owner, int level, Node node) {
+        if (level == 0) {
+            return node;
+        }
+        Node path = new Node(owner);
+        path.array[0] = newPath(owner, level - BITS, node);
+        return path;
+    }
+
+    /**
+     * Builds a {@link MyPersistentVector} by writing into nodes it created itself, instead of copying a path
+     * for every element. Nodes shared with an existing vector are copied the first time the builder writes to them.
+     *
+     * <p>A builder is not thread-safe, and is spent once {@link #build()} has been called.
+     *
+     * @param <E> the type of elements held in the vector
+     */
+    public static final class Builder<E> {
+        private int size;
+        private int shift;
+        private Node root;
+        // Always WIDTH long; only the first size - tailOffset() slots are used
+        private Object[] tail;
+        // Identifies the nodes this builder may write into; null once built
+        private Object owner = new Object();
+
+        private Builder(int size, int shift, Node root, Object[] tail) {
+            this.size = size;
+            this.shift = shift;
+            this.root = root;
+            this.tail = tail;
+        }
+
+        /**
+         * Appends the element.
+         * Time Complexity: O(1) amortized
+         *
+         * @param element the element to append
+         * @return this builder
+         * @throws IllegalStateException if {@link #build()} was already called
+         */
+        public Builder<E> add(E element) {
+            this.ensureBuilding();
+
+            if (size - this.tailOffset() < WIDTH) {
+                tail[size & MASK] = element;
+                size += 1;
+                return this;
+            }
+
+            Node tailNode = new Node(owner, tail);
+            tail = new Object[WIDTH];
+            tail[0] = element;
+
+            if ((size >>> BITS) > (1 << shift)) {
+                Node newRoot = new Node(owner);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(owner, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = this.pushTail(shift, root, tailNode);
+            }
+
+            size += 1;
+            return this;
+        }
+
+        /**
+         * Replaces the element at the position.
+         * Time Complexity: O(log32 N)
+         *
+         * @param position the index of the element to replace
+         * @param element the element to be stored at the position
+         * @return this builder
+         * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+         * @throws IllegalStateException if {@link #build()} was already called
+         */
+        public Builder<E> set(int position, E element) {
+            this.ensureBuilding();
+            if (position < 0 || position >= size) {
+                throw new IndexOutOfBoundsException("Index " + position + " is out of bounds.");
+            }
+
+            if (position >= this.tailOffset()) {
+                tail[position & MASK] = element;
+                return this;
+            }
+
+            Node node = root = this.editable(root);
+            for (int level = shift; level > 0; level -= BITS) {
+                int child = (position >>> level) & MASK;
+                Node next = this.editable((Node) node.array[child]);
+                node.array[child] = next;
+                node = next;
+            }
+            node.array[position & MASK] = element;
+            return this;
+        }
+
+        /**
+         * @return the number of elements added so far
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Returns the vector. Afterwards this builder can no longer be used, because the vector shares its nodes.
+         * Time Complexity: O(1)
+         *
+         * @return the built vector
+         * @throws IllegalStateException if this method was already called
+         */
+        public MyPersistentVector<E> build() {
+            this.ensureBuilding();
+            owner = null;
+            return new MyPersistentVector<>(size, shift, root, Arrays.copyOf(tail, size - this.tailOffset()));
+        }
+
+        private int tailOffset() {
+            return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+        }
+
+        private void ensureBuilding() {
+            if (owner == null) {
+                throw new IllegalStateException("Builder has already built its vector.");
+            }
+        }
+
+        /**
+         * @return the node itself if this builder created it, otherwise a copy this builder may write into
+         */
+        private Node editable(Node node) {
+            return node.owner == owner ? node : new Node(owner, node.array.clone());
+        }
+
+        private Node pushTail(int level, Node parent, Node tailNode) {
+            Node node = this.editable(parent);
+            int child = ((size - 1) >>> level) & MASK;
+
+            Node inserted;
+            if (level == BITS) {
+                inserted = tailNode;
+            } else {
+                Node existing = (Node) node.array[child];
+                inserted = existing != null
+                        ? this.pushTail(level - BITS, existing, tailNode)
+                        : newPath(owner, level - BITS, tailNode);
+            }
+
+            node.array[child] = inserted;
+            return node;
+        }
+    }
+
+    // Object
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+
+        Iterator<E> elements = this.iterator();
+        while (elements.hasNext()) {
+            sb.append(elements.next());
+            if (elements.hasNext()) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+
+        if (obj == null || this.getClass() != obj.getClass()) return false;
+
+        MyPersistentVector<?> other = (MyPersistentVector<?>) obj;
+
+        if (this.size() != other.size()) return false;
+
+        Iterator<E> thisElements = this.iterator();
+        Iterator<?> otherElements = other.iterator();
+        while (thisElements.hasNext()) {
+            if (!Objects.equals(thisElements.next(), otherElements.next())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (E element : this) {
+            hash = 31 * hash + Objects.hashCode(element);
+        }
+        return hash;
+    }
+}
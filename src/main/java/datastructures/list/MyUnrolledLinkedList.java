@@ -0,0 +1,697 @@
+package main.java.datastructures.list;
+
+import main.java.datastructures.queue.MyDeque;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * An unrolled linked list: a doubly linked list of nodes that each hold up to {@code nodeCapacity} elements
+ * in a small array. Implements {@link MyList} and {@link MyDeque}.
+ *
+ * <p>Compared with {@link MyLinkedList}, a scan touches one node per {@code nodeCapacity} elements and reads the
+ * rest from a contiguous array, and the per-element overhead drops from a 24-byte node to a 4-byte slot
+ * (plus the amortized node header). Each node keeps its elements in a window {@code [start, start + count)} of its
+ * array, so both ends grow and shrink in O(1).
+ *
+ * <p>Inserting into a full node splits it in half; after a removal, a node is merged with a neighbour when both fit
+ * in half a node, so nodes stay at least a quarter full on average. Positional methods skip whole nodes, starting
+ * from whichever is nearest of head, tail or the node found by the previous lookup, so they cost
+ * O(N / nodeCapacity) node steps plus O(nodeCapacity) to shift within a node.
+ *
+ * @param <E> the type of elements held in this list
+ */
+public class MyUnrolledLinkedList<E> implements MyList<E>, MyDeque<E> {
+
+    private static final int DEFAULT_NODE_CAPACITY = 64;
+    private static final int MIN_NODE_CAPACITY = 4;
+
+    private static class Node<E> {
+        private final Object[] items;
+        private int start;
+        private int count;
+        private Node<E> next;
+        private Node<E> prev;
+
+        Node(int capacity, int start) {
+            this.items = new Object[capacity];
+            this.start = start;
+        }
+
+        @SuppressWarnings("unchecked")
+        E get(int offset) {
+            return (E) items[start + offset];
+        }
+
+        void set(int offset, E element) {
+            items[start + offset] = element;
+        }
+
+        /**
+         * Inserts into a node that is not full, shifting whichever side is shorter and has room.
+         */
+        void insert(int offset, E element) {
+            if (start > 0 && (offset < count - offset || start + count == items.length)) {
+                System.arraycopy(items, start, items, start - 1, offset);
+                start -= 1;
+            } else {
+                System.arraycopy(items, start + offset, items, start + offset + 1, count - offset);
+            }
+            items[start + offset] = element;
+            count += 1;
+        }
+
+        /**
+         * Removes the element at the offset, shifting whichever side is shorter.
+         */
+        E remove(int offset) {
+            E removed = this.get(offset);
+            if (offset < count - 1 - offset) {
+                System.arraycopy(items, start, items, start + 1, offset);
+                items[start] = null;
+                start += 1;
+            } else {
+                System.arraycopy(items, start + offset + 1, items, start + offset, count - 1 - offset);
+                items[start + count - 1] = null;
+            }
+            count -= 1;
+            return removed;
+        }
+
+        void removeRange(int fromOffset, int toOffset) {
+            int removed = toOffset - fromOffset;
+            System.arraycopy(items, start + toOffset, items, start + fromOffset, count - toOffset);
+            Arrays.fill(items, start + count - removed, start + count, null);
+            count -= removed;
+        }
+
+        /**
+         * Moves the window of elements so it begins at {@code newStart}, clearing the slots it leaves.
+         */
+        void moveTo(int newStart) {
+            System.arraycopy(items, start, items, newStart, count);
+            if (newStart < start) {
+                Arrays.fill(items, Math.max(newStart + count, start), start + count, null);
+            } else {
+                Arrays.fill(items, start, Math.min(start + count, newStart), null);
+            }
+            start = newStart;
+        }
+    }
+
+    private final int nodeCapacity;
+    private Node<E> head;
+    private Node<E> tail;
+    private int size;
+    private int nodeCount;
+
+    // The node found by the previous positional lookup and the index of its first element, or null if unknown
+    private Node<E> finger;
+    private int fingerIndex;
+    // Counts structural modifications, so iterators can fail fast
+    private int modCount;
+
+    public MyUnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * @param nodeCapacity the number of elements each node can hold; 32 to 128 suits most element types
+     * @throws IllegalArgumentException if nodeCapacity is less than 4
+     */
+    public MyUnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < MIN_NODE_CAPACITY) {
+            throw new IllegalArgumentException("Illegal node capacity: " + nodeCapacity);
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    // List
+    @Override
+    public boolean add(E element) {
+        this.linkLast(element);
+        return true;
+    }
+
+    /**
+     * Time Complexity: O(N / nodeCapacity + nodeCapacity)
+     */
+    @Override
+    public void add(int position, E element) {
+        if (position < 0 || position > size) {
+            throw new IndexOutOfBoundsException("Index " + position + " is out of bounds.");
+        }
+
+        if (position == size) {
+            this.linkLast(element);
+            return;
+        }
+
+        Node<E> node = this.node(position);
+        int first = fingerIndex;
+        int offset = position - first;
+
+        if (node.count == nodeCapacity) {
+            Node<E> upper = this.split(node);
+            if (offset > node.count) {
+                offset -= node.count;
+                node = upper;
+            }
+        }
+        node.insert(offset, element);
+
+        this.shiftFingerAfter(first, 1);
+        size += 1;
+        modCount += 1;
+    }
+
+    /**
+     * Time Complexity: O(N / nodeCapacity)
+     */
+    @Override
+    public E get(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Index " + position + " is out of bounds.");
+        }
+
+        Node<E> node = this.node(position);
+        return node.get(position - fingerIndex);
+    }
+
+    /**
+     * Time Complexity: O(N / nodeCapacity)
+     */
+    @Override
+    public E set(int position, E element) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Index " + position + " is out of bounds.");
+        }
+
+        Node<E> node = this.node(position);
+        int offset = position - fingerIndex;
+        E old = node.get(offset);
+        node.set(offset, element);
+        return old;
+    }
+
+    /**
+     * Time Complexity: O(N / nodeCapacity + nodeCapacity)
+     */
+    @Override
+    public E remove(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Index " + position + " is out of bounds.");
+        }
+
+        Node<E> node = this.node(position);
+        int first = fingerIndex;
+        return this.removeAt(node, first, position - first);
+    }
+
+    /**
+     * Removes the range by shifting within the first and last affected nodes only; the nodes in between are dropped.
+     * Time Complexity: O(N / nodeCapacity + nodeCapacity)
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex + ") is out of bounds.");
+        }
+        if (fromIndex == toIndex) return;
+
+        Node<E> node = this.node(fromIndex);
+        int offset = fromIndex - fingerIndex;
+        int remaining = toIndex - fromIndex;
+
+        while (remaining > 0) {
+            int removed = Math.min(remaining, node.count - offset);
+            node.removeRange(offset, offset + removed);
+            remaining -= removed;
+            node = node.next;
+            offset = 0;
+        }
+
+        size -= toIndex - fromIndex;
+        modCount += 1;
+        finger = null;
+        this.compactNodes();
+    }
+
+    /**
+     * Compacts each node in place, then drops empty nodes and merges sparse neighbours.
+     * If the predicate throws, the elements not yet tested are kept and the list stays consistent.
+     * Time Complexity: O(N)
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        int oldSize = size;
+
+        try {
+            for (Node<E> node = head; node != null; node = node.next) {
+                this.removeIf(node, filter);
+            }
+        } finally {
+            if (size != oldSize) {
+                modCount += 1;
+                finger = null;
+                this.compactNodes();
+            }
+        }
+
+        return size != oldSize;
+    }
+
+    /**
+     * Removes all the elements from this list.
+     * Time Complexity: O(1)
+     */
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        nodeCount = 0;
+        finger = null;
+        modCount += 1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a fail-fast iterator that walks each node's array in turn.
+     * It does not support {@code remove()}; use {@link #removeIf(Predicate)} instead.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Passes each element to the action, reading each node's array directly.
+     * Time Complexity: O(N)
+     *
+     * @throws ConcurrentModificationException if the action structurally modifies this list
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+
+        for (Node<E> node = head; node != null && modCount == expectedModCount; node = node.next) {
+            for (int i = 0; i < node.count && modCount == expectedModCount; i++) {
+                action.accept(node.get(i));
+            }
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Estimates the heap occupied by the nodes and their arrays, excluding the elements themselves.
+     * Assumes 12-byte object headers, 16-byte array headers and 4-byte compressed references,
+     * the HotSpot default for heaps below 32 GB.
+     * Time Complexity: O(1)
+     *
+     * @return the estimated size of the list structure in bytes
+     */
+    public long footprint() {
+        long nodeBytes = 32L + 16L + 4L * nodeCapacity;
+        return 24L + nodeBytes * nodeCount;
+    }
+
+    /**
+     * @return the number of elements each node can hold
+     */
+    public int nodeCapacity() {
+        return nodeCapacity;
+    }
+
+    // Queue
+    @Override
+    public E peek() {
+        return head == null ? null : head.get(0);
+    }
+
+    @Override
+    public E dequeue() {
+        if (head == null) return null;
+
+        return this.removeAt(head, 0, 0);
+    }
+
+    @Override
+    public void enqueue(E element) {
+        this.linkLast(element);
+    }
+
+    // Deque
+    @Override
+    public E removeLast() {
+        if (tail == null) return null;
+
+        return this.removeAt(tail, size - tail.count, tail.count - 1);
+    }
+
+    @Override
+    public E getLast() {
+        return tail == null ? null : tail.get(tail.count - 1);
+    }
+
+    // Deque (Stack functionality)
+    @Override
+    public void push(E element) {
+        Node<E> first = head;
+        if (first == null || first.count == nodeCapacity) {
+            // A new head fills from the end of its array, so further pushes need no shifting
+            first = new Node<>(nodeCapacity, nodeCapacity);
+            this.linkNodeBefore(first, head);
+        } else if (first.start == 0) {
+            first.moveTo(nodeCapacity - first.count);
+        }
+
+        first.start -= 1;
+        first.items[first.start] = element;
+        first.count += 1;
+
+        if (finger != null && finger != first) {
+            fingerIndex += 1;
+        }
+        size += 1;
+        modCount += 1;
+    }
+
+    @Override
+    public E pop() {
+        return this.dequeue();
+    }
+
+    // Helpers
+    /**
+     * Returns the node holding the given index, which must be within bounds, and remembers it as the finger.
+     * Afterwards {@code fingerIndex} is the index of the node's first element.
+     * Starts from whichever of head, tail and the finger is closest to the index.
+     */
+    private Node<E> node(int position) {
+        Node<E> node;
+        int first;
+
+        int fromHead = position;
+        int fromTail = size - position;
+        if (finger != null && Math.abs(position - fingerIndex) < Math.min(fromHead, fromTail)) {
+            node = finger;
+            first = fingerIndex;
+        } else if (fromHead <= fromTail) {
+            node = head;
+            first = 0;
+        } else {
+            node = tail;
+            first = size - tail.count;
+        }
+
+        while (position < first) {
+            node = node.prev;
+            first -= node.count;
+        }
+        while (position >= first + node.count) {
+            first += node.count;
+            node = node.next;
+        }
+
+        finger = node;
+        fingerIndex = first;
+        return node;
+    }
+
+    private void linkLast(E element) {
+        Node<E> last = tail;
+        if (last == null || last.count == nodeCapacity) {
+            last = new Node<>(nodeCapacity, 0);
+            this.linkNodeAfter(last, tail);
+        } else if (last.start + last.count == nodeCapacity) {
+            last.moveTo(0);
+        }
+
+        last.items[last.start + last.count] = element;
+        last.count += 1;
+        size += 1;
+        modCount += 1;
+    }
+
+    /**
+     * Removes the element at the offset of the node whose first element has index {@code first},
+     * then unlinks the node if it became empty or merges it with a sparse neighbour.
+     */
+    private E removeAt(Node<E> node, int first, int offset) {
+        E removed = node.remove(offset);
+
+        this.shiftFingerAfter(first, -1);
+        size -= 1;
+        modCount += 1;
+
+        if (node.count == 0) {
+            this.unlinkNode(node);
+        } else {
+            this.mergeIfSparse(node);
+        }
+        return removed;
+    }
+
+    /**
+     * Keeps the finger index in step when an element is inserted or removed in the node starting at {@code first}.
+     */
+    private void shiftFingerAfter(int first, int delta) {
+        if (finger != null && fingerIndex > first) {
+            fingerIndex += delta;
+        }
+    }
+
+    /**
+     * Moves the upper half of a full node into a new node linked after it.
+     *
+     * @return the new node
+     */
+    private Node<E> split(Node<E> node) {
+        int kept = node.count >>> 1;
+        int moved = node.count - kept;
+
+        Node<E> upper = new Node<>(nodeCapacity, 0);
+        System.arraycopy(node.items, node.start + kept, upper.items, 0, moved);
+        Arrays.fill(node.items, node.start + kept, node.start + node.count, null);
+        upper.count = moved;
+        node.count = kept;
+
+        this.linkNodeAfter(upper, node);
+        return upper;
+    }
+
+    private void mergeIfSparse(Node<E> node) {
+        int limit = nodeCapacity >>> 1;
+        if (node.next != null && node.count + node.next.count <= limit) {
+            this.mergeWithNext(node);
+        } else if (node.prev != null && node.prev.count + node.count <= limit) {
+            this.mergeWithNext(node.prev);
+        }
+    }
+
+    /**
+     * Appends the elements of the following node to this node and unlinks the following node.
+     */
+    private void mergeWithNext(Node<E> node) {
+        Node<E> next = node.next;
+        if (node.start + node.count + next.count > nodeCapacity) {
+            node.moveTo(0);
+        }
+        System.arraycopy(next.items, next.start, node.items, node.start + node.count, next.count);
+
+        if (finger == next) {
+            finger = node;
+            fingerIndex -= node.count;
+        }
+        node.count += next.count;
+        next.count = 0;
+        this.unlinkNode(next);
+    }
+
+    /**
+     * Drops empty nodes, then merges neighbours that fit in half a node. Used after bulk removals.
+     */
+    private void compactNodes() {
+        for (Node<E> node = head; node != null; ) {
+            Node<E> next = node.next;
+            if (node.count == 0) {
+                this.unlinkNode(node);
+            }
+            node = next;
+        }
+
+        int limit = nodeCapacity >>> 1;
+        for (Node<E> node = head; node != null; node = node.next) {
+            while (node.next != null && node.count + node.next.count <= limit) {
+                this.mergeWithNext(node);
+            }
+        }
+    }
+
+    /**
+     * Removes the matching elements of one node, updating {@code size} even if the predicate throws.
+     */
+    private void removeIf(Node<E> node, Predicate<? super E> filter) {
+        final Object[] items = node.items;
+        final int end = node.start + node.count;
+        int write = node.start;
+        int read = node.start;
+
+        try {
+            for (; read < end; read++) {
+                @SuppressWarnings("unchecked")
+                E element = (E) items[read];
+                if (!filter.test(element)) {
+                    items[write++] = element;
+                }
+            }
+        } finally {
+            System.arraycopy(items, read, items, write, end - read);
+            write += end - read;
+            Arrays.fill(items, write, end, null);
+            size -= end - write;
+            node.count = write - node.start;
+        }
+    }
+
+    private void linkNodeAfter(Node<E> node, Node<E> predecessor) {
+        node.prev = predecessor;
+        if (predecessor == null) {
+            node.next = head;
+            head = node;
+        } else {
+            node.next = predecessor.next;
+            predecessor.next = node;
+        }
+
+        if (node.next == null) {
+            tail = node;
+        } else {
+            node.next.prev = node;
+        }
+        nodeCount += 1;
+    }
+
+    private void linkNodeBefore(Node<E> node, Node<E> successor) {
+        this.linkNodeAfter(node, successor == null ? tail : successor.prev);
+    }
+
+    /**
+     * Unlinks an empty node. Indices of the other nodes are unaffected, so only a finger on this node is reset.
+     */
+    private void unlinkNode(Node<E> node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+
+        node.next = null;
+        node.prev = null;
+        nodeCount -= 1;
+        if (finger == node) {
+            finger = null;
+        }
+    }
+
+    private class Itr implements Iterator<E> {
+        private Node<E> node = head;
+        private int offset;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return node != null;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (node == null) {
+                throw new NoSuchElementException();
+            }
+
+            E element = node.get(offset);
+            offset += 1;
+            if (offset == node.count) {
+                node = node.next;
+                offset = 0;
+            }
+            return element;
+        }
+    }
+
+    // Object
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+
+        for (Node<E> node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                sb.append(node.get(i));
+                if (node.next != null || i < node.count - 1) {
+                    sb.append(", ");
+                }
+            }
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+
+        if (obj == null || this.getClass() != obj.getClass()) return false;
+
+        MyUnrolledLinkedList<?> other = (MyUnrolledLinkedList<?>) obj;
+
+        if (this.size() != other.size()) return false;
+
+        Iterator<E> thisElements = this.iterator();
+        Iterator<?> otherElements = other.iterator();
+        while (thisElements.hasNext()) {
+            if (!Objects.equals(thisElements.next(), otherElements.next())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+
+        for (Node<E> node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                hash = 31 * hash + Objects.hashCode(node.get(i));
+            }
+        }
+
+        return hash;
+    }
+}
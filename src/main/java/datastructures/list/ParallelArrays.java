@@ -0,0 +1,151 @@
+package main.java.datastructures.list;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Fork/join kernels over a range of an array, used by the parallel bulk operations of {@link MyArrayList}.
+ *
+ * <p>Each kernel halves its range until it is at most {@code threshold} elements long and then loops
+ * sequentially. A larger threshold means fewer, bigger tasks: less scheduling overhead but worse load balancing.
+ * All kernels run in the common {@link ForkJoinPool}.
+ */
+final class ParallelArrays {
+
+    static final int DEFAULT_SEQUENTIAL_THRESHOLD = 1 << 13;
+
+    private ParallelArrays() {
+    }
+
+    static <E> void replaceAll(E[] array, int from, int to, UnaryOperator<E> operator, int threshold) {
+        checkThreshold(threshold);
+        ForkJoinPool.commonPool().invoke(new ReplaceAllTask<>(array, from, to, operator, threshold));
+    }
+
+    /**
+     * @return a flag per element of the range, {@code true} where the filter matched
+     */
+    static <E> boolean[] mark(E[] array, int from, int to, Predicate<? super E> filter, int threshold) {
+        checkThreshold(threshold);
+        boolean[] marks = new boolean[to - from];
+        // Tasks write disjoint ranges of a boolean[]; the JVM guarantees no word tearing between array elements
+        ForkJoinPool.commonPool().invoke(new MarkTask<>(array, from, to, filter, marks, from, threshold));
+        return marks;
+    }
+
+    static <E> E reduce(E[] array, int from, int to, E identity, BinaryOperator<E> accumulator, int threshold) {
+        checkThreshold(threshold);
+        return ForkJoinPool.commonPool().invoke(new ReduceTask<>(array, from, to, identity, accumulator, threshold));
+    }
+
+    private static void checkThreshold(int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Illegal sequential threshold: " + threshold);
+        }
+    }
+
+    private static final class ReplaceAllTask<E> extends RecursiveAction {
+        private final E[] array;
+        private final int from;
+        private final int to;
+        private final UnaryOperator<E> operator;
+        private final int threshold;
+
+        ReplaceAllTask(E[] array, int from, int to, UnaryOperator<E> operator, int threshold) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+            this.operator = operator;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                for (int i = from; i < to; i++) {
+                    array[i] = operator.apply(array[i]);
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new ReplaceAllTask<>(array, from, mid, operator, threshold),
+                      new ReplaceAllTask<>(array, mid, to, operator, threshold));
+        }
+    }
+
+    private static final class MarkTask<E> extends RecursiveAction {
+        private final E[] array;
+        private final int from;
+        private final int to;
+        private final Predicate<? super E> filter;
+        private final boolean[] marks;
+        private final int origin;
+        private final int threshold;
+
+        MarkTask(E[] array, int from, int to, Predicate<? super E> filter, boolean[] marks, int origin, int threshold) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+            this.filter = filter;
+            this.marks = marks;
+            this.origin = origin;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                for (int i = from; i < to; i++) {
+                    marks[i - origin] = filter.test(array[i]);
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new MarkTask<>(array, from, mid, filter, marks, origin, threshold),
+                      new MarkTask<>(array, mid, to, filter, marks, origin, threshold));
+        }
+    }
+
+    private static final class ReduceTask<E> extends RecursiveTask<E> {
+        private final E[] array;
+        private final int from;
+        private final int to;
+        private final E identity;
+        private final BinaryOperator<E> accumulator;
+        private final int threshold;
+
+        ReduceTask(E[] array, int from, int to, E identity, BinaryOperator<E> accumulator, int threshold) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+            this.identity = identity;
+            this.accumulator = accumulator;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected E compute() {
+            if (to - from <= threshold) {
+                E result = identity;
+                for (int i = from; i < to; i++) {
+                    result = accumulator.apply(result, array[i]);
+                }
+                return result;
+            }
+
+            int mid = (from + to) >>> 1;
+            ReduceTask<E> left = new ReduceTask<>(array, from, mid, identity, accumulator, threshold);
+            ReduceTask<E> right = new ReduceTask<>(array, mid, to, identity, accumulator, threshold);
+
+            left.fork();
+            E rightResult = right.compute();
+            return accumulator.apply(left.join(), rightResult);
+        }
+    }
+}
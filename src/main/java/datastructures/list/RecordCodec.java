@@ -0,0 +1,58 @@
+package main.java.datastructures.list;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts elements to and from a fixed number of bytes, so they can be stored outside the Java heap.
+ *
+ * <p>Implementations must only use the absolute (index-based) get and put methods of {@link ByteBuffer}.
+ * Those never touch the buffer's position, which is what allows several threads to read the same buffer at once.
+ *
+ * @param <E> the type of elements this codec converts
+ */
+public interface RecordCodec<E> {
+
+    /** Stores an {@code Integer} as 4 bytes; {@code null} is not supported. */
+    RecordCodec<Integer> INT = new RecordCodec<>() {
+        public int width() { return Integer.BYTES; }
+        public void write(ByteBuffer buffer, int offset, Integer element) { buffer.putInt(offset, element); }
+        public Integer read(ByteBuffer buffer, int offset) { return buffer.getInt(offset); }
+    };
+
+    /** Stores a {@code Long} as 8 bytes; {@code null} is not supported. */
+    RecordCodec<Long> LONG = new RecordCodec<>() {
+        public int width() { return Long.BYTES; }
+        public void write(ByteBuffer buffer, int offset, Long element) { buffer.putLong(offset, element); }
+        public Long read(ByteBuffer buffer, int offset) { return buffer.getLong(offset); }
+    };
+
+    /** Stores a {@code Double} as 8 bytes; {@code null} is not supported. */
+    RecordCodec<Double> DOUBLE = new RecordCodec<>() {
+        public int width() { return Double.BYTES; }
+        public void write(ByteBuffer buffer, int offset, Double element) { buffer.putDouble(offset, element); }
+        public Double read(ByteBuffer buffer, int offset) { return buffer.getDouble(offset); }
+    };
+
+    /**
+     * @return the number of bytes every encoded element occupies
+     */
+    int width();
+
+    /**
+     * Encodes the element into {@code width()} bytes starting at {@code offset}.
+     *
+     * @param buffer the buffer to write to
+     * @param offset the absolute index of the first byte
+     * @param element the element to encode
+     */
+    void write(ByteBuffer buffer, int offset, E element);
+
+    /**
+     * Decodes the element stored in {@code width()} bytes starting at {@code offset}.
+     *
+     * @param buffer the buffer to read from
+     * @param offset the absolute index of the first byte
+     * @return the decoded element
+     */
+    E read(ByteBuffer buffer, int offset);
+}
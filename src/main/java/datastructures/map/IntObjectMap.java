@@ -0,0 +1,419 @@
+package main.java.datastructures.map;
+
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * A hash map from primitive {@code int} keys to object values, using open addressing with linear probing.
+ *
+ * <p>Keys live in an {@code int[]} and values in a parallel {@code Object[]}, so there is no entry object and no
+ * boxed key per mapping: a lookup compares primitives read sequentially from one array and only touches the value
+ * array on a hit. With compressed references a slot costs 8 bytes, 11 to 21 bytes per mapping at the default load
+ * factor of 0.75, against about 54 to 59 bytes for the node, {@code Integer} and table slot of a
+ * {@code java.util.HashMap<Integer, V>} (see {@code MapFootprintBenchmark}).
+ *
+ * <p>Key {@code 0} marks an empty slot, so a mapping for key {@code 0} is kept in a separate field outside the table.
+ * {@code null} is a permitted value. Hashing and removal follow {@link MyHashMap}.
+ *
+ * @param <V> the type of mapped values
+ */
+public class IntObjectMap<V> {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private int[] keys;
+    private Object[] values;
+    private boolean hasZeroKey;
+    private Object zeroValue;
+    private int size;
+    private int threshold;
+    private int modCount;
+    private final float loadFactor;
+
+    /**
+     * Performs an action on an {@code int} key and its value, without boxing the key.
+     *
+     * @param <V> the type of the value
+     */
+    @FunctionalInterface
+    public interface IntObjectConsumer<V> {
+        void accept(int key, V value);
+    }
+
+    public IntObjectMap() {
+        this(16, 0.75f);
+    }
+
+    /**
+     * @param expectedSize the number of mappings the map should hold without resizing
+     * @param loadFactor the maximum ratio of mappings to slots before the table doubles, between 0 and 1 (exclusive).
+     *                   Lower values mean shorter probe sequences but more memory.
+     * @throws IllegalArgumentException if the expected size is negative or the load factor is out of range
+     */
+    public IntObjectMap(int expectedSize, float loadFactor) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Illegal expected size: " + expectedSize);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+
+        int capacity = tableSizeFor(expectedSize, loadFactor);
+        this.loadFactor = loadFactor;
+        this.keys = new int[capacity];
+        this.values = new Object[capacity];
+        this.threshold = (int) (capacity * loadFactor);
+        this.size = 0;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped.
+     * Time Complexity: O(1) expected
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value mapped to the key, or {@code null} if this map contains no mapping for the key
+     */
+    public V get(int key) {
+        return this.getOrDefault(key, null);
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code defaultValue} if there is no mapping.
+     * Time Complexity: O(1) expected
+     *
+     * @param key the key whose associated value is to be returned
+     * @param defaultValue the value to return if this map contains no mapping for the key
+     * @return the value mapped to the key, or {@code defaultValue} if this map contains no mapping for the key
+     */
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(int key, V defaultValue) {
+        if (key == 0) {
+            return hasZeroKey ? (V) zeroValue : defaultValue;
+        }
+        int index = this.indexOf(key);
+        return index >= 0 ? (V) values[index] : defaultValue;
+    }
+
+    /**
+     * Returns {@code true} if this map contains a mapping for the specified key.
+     * Time Complexity: O(1) expected
+     *
+     * @param key the key whose presence in this map is to be tested
+     * @return {@code true} if this map contains a mapping for the key
+     */
+    public boolean containsKey(int key) {
+        return key == 0 ? hasZeroKey : this.indexOf(key) >= 0;
+    }
+
+    /**
+     * Associates the specified value with the specified key, replacing any previous value.
+     * Time Complexity: O(1) expected
+     *
+     * @param key the key with which the value is to be associated
+     * @param value the value to be associated with the key
+     * @return the previous value mapped to the key, or {@code null} if there was no mapping
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (key == 0) {
+            V previous = (V) zeroValue;
+            zeroValue = value;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size += 1;
+                modCount += 1;
+            }
+            return previous;
+        }
+
+        int index = this.indexOf(key);
+        if (index >= 0) {
+            V previous = (V) values[index];
+            values[index] = value;
+            return previous;
+        }
+
+        this.insertAt(-index - 1, key, value);
+        return null;
+    }
+
+    /**
+     * Removes the mapping for the specified key if it is present.
+     * Time Complexity: O(1) expected
+     *
+     * @param key the key whose mapping is to be removed
+     * @return the previous value mapped to the key, or {@code null} if there was no mapping
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        V previous;
+        if (key == 0) {
+            if (!hasZeroKey) return null;
+
+            previous = (V) zeroValue;
+            hasZeroKey = false;
+            zeroValue = null;
+        } else {
+            int index = this.indexOf(key);
+            if (index < 0) return null;
+
+            previous = (V) values[index];
+            this.shiftBack(index);
+        }
+
+        size -= 1;
+        modCount += 1;
+        return previous;
+    }
+
+    /**
+     * Returns the value mapped to the key, computing and storing it first if the key is absent or mapped to
+     * {@code null}. If the function returns {@code null}, no mapping is recorded.
+     * Time Complexity: O(1) expected, plus the cost of the function
+     *
+     * @param key the key whose value is to be returned
+     * @param mappingFunction the function that computes a value for an absent key; it must not modify this map
+     * @return the current (existing or computed) value mapped to the key, or {@code null} if the computed value is null
+     * @throws ConcurrentModificationException if the mapping function modified this map
+     */
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(int key, IntFunction<? extends V> mappingFunction) {
+        int index = 0;
+        if (key == 0) {
+            if (zeroValue != null) return (V) zeroValue;
+        } else {
+            index = this.indexOf(key);
+            if (index >= 0 && values[index] != null) return (V) values[index];
+        }
+
+        int expectedModCount = modCount;
+        V value = mappingFunction.apply(key);
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+        if (value == null) return null;
+
+        if (key == 0) {
+            this.put(0, value);
+        } else if (index >= 0) {
+            values[index] = value;
+        } else {
+            this.insertAt(-index - 1, key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Performs the given action for every mapping in this map, without allocating.
+     * Time Complexity: O(N)
+     *
+     * @param action the action to be performed for each key and its value
+     * @throws ConcurrentModificationException if the action modified this map
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(IntObjectConsumer<? super V> action) {
+        int expectedModCount = modCount;
+        if (hasZeroKey) {
+            action.accept(0, (V) zeroValue);
+        }
+
+        int[] keyTable = keys;
+        Object[] valueTable = values;
+        for (int i = 0; i < keyTable.length; i++) {
+            if (keyTable[i] != 0) {
+                action.accept(keyTable[i], (V) valueTable[i]);
+            }
+        }
+
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all the mappings from this map.
+     * Time Complexity: O(N)
+     */
+    public void clear() {
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = 0;
+            values[i] = null;
+        }
+        hasZeroKey = false;
+        zeroValue = null;
+        size = 0;
+        modCount += 1;
+    }
+
+    /**
+     * Returns the number of slots in the backing table.
+     * Time Complexity: O(1)
+     *
+     * @return the number of slots in the backing table
+     */
+    public int capacity() {
+        return keys.length;
+    }
+
+    // Object
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+        this.forEach((key, value) -> {
+            if (sb.length() > 1) {
+                sb.append(",");
+            }
+            sb.append(key).append("=").append(value);
+        });
+        sb.append("}");
+
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+
+        if (!(obj instanceof IntObjectMap)) return false;
+
+        IntObjectMap<?> other = (IntObjectMap<?>) obj;
+
+        if (this.size() != other.size()) return false;
+        if (hasZeroKey && (!other.hasZeroKey || !Objects.equals(zeroValue, other.zeroValue))) return false;
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                int index = other.indexOf(keys[i]);
+                if (index < 0 || !Objects.equals(values[i], other.values[index])) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = hasZeroKey ? Objects.hashCode(zeroValue) : 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                hash += keys[i] ^ Objects.hashCode(values[i]);
+            }
+        }
+        return hash;
+    }
+
+    // Helpers
+    private void insertAt(int index, int key, Object value) {
+        keys[index] = key;
+        values[index] = value;
+        size += 1;
+        modCount += 1;
+
+        if (size > threshold) {
+            this.resize(2 * keys.length);
+        }
+    }
+
+    /**
+     * Probes for a non-zero key.
+     *
+     * @return the slot holding the key, or {@code -(empty slot) - 1} where the key would be inserted
+     */
+    private int indexOf(int key) {
+        int[] keyTable = keys;
+        int mask = keyTable.length - 1;
+        int index = spread(key) & mask;
+
+        while (true) {
+            int current = keyTable[index];
+            if (current == 0) return -index - 1;
+            if (current == key) return index;
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Empties the slot at {@code gap}, then moves later mappings of the same probe run back into the gap
+     * as long as the move does not put a key before its home slot.
+     */
+    private void shiftBack(int gap) {
+        int[] keyTable = keys;
+        Object[] valueTable = values;
+        int mask = keyTable.length - 1;
+        int index = gap;
+
+        while (true) {
+            index = (index + 1) & mask;
+            int current = keyTable[index];
+            if (current == 0) break;
+
+            int home = spread(current) & mask;
+            // Move the mapping only if its home slot is not in the cyclic range (gap, index]
+            if (((index - home) & mask) >= ((index - gap) & mask)) {
+                keyTable[gap] = current;
+                valueTable[gap] = valueTable[index];
+                gap = index;
+            }
+        }
+
+        keyTable[gap] = 0;
+        valueTable[gap] = null;
+    }
+
+    private void resize(int newCapacity) {
+        if (newCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException("IntObjectMap cannot grow beyond " + MAX_CAPACITY + " slots.");
+        }
+
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] newKeys = new int[newCapacity];
+        Object[] newValues = new Object[newCapacity];
+        int mask = newCapacity - 1;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != 0) {
+                int index = spread(key) & mask;
+                while (newKeys[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                newKeys[index] = key;
+                newValues[index] = oldValues[i];
+            }
+        }
+
+        keys = newKeys;
+        values = newValues;
+        threshold = (int) (newCapacity * loadFactor);
+    }
+
+    /**
+     * Multiplies by the golden ratio and folds the high bits down, so that every bit of the key
+     * influences the low bits used to pick a slot.
+     */
+    private static int spread(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSizeFor(int expectedSize, float loadFactor) {
+        long needed = (long) Math.ceil(expectedSize / (double) loadFactor) + 1;
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Expected size too large: " + expectedSize);
+        }
+        return Math.max(2, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+}
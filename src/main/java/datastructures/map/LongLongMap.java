@@ -0,0 +1,419 @@
+package main.java.datastructures.map;
+
+import java.util.ConcurrentModificationException;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A hash map from primitive {@code long} keys to primitive {@code long} values, using open addressing with linear
+ * probing.
+ *
+ * <p>Keys and values live in two parallel {@code long[]} arrays, so a mapping costs 16 bytes per slot and nothing
+ * else: no entry object and no boxed {@code Long} for either side. At the default load factor of 0.75 the table is
+ * between 37.5% and 75% full, which comes to 21 to 43 bytes per mapping. A {@code java.util.HashMap<Long, Long>}
+ * needs a node and two boxes per mapping, about 85 to 90 bytes with compressed references, so this map takes two to
+ * four times less memory (see {@code MapFootprintBenchmark}). Its probes also chase pointers into the nodes.
+ *
+ * <p>Since values are primitives, an absent key is reported as the <em>missing value</em> chosen at construction
+ * ({@code 0} by default); use {@link #containsKey(long)} when that value can also be stored. Key {@code 0} marks an
+ * empty slot, so a mapping for key {@code 0} is kept in a separate field outside the table.
+ * Hashing and removal follow {@link MyHashMap}.
+ */
+public class LongLongMap {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private long[] keys;
+    private long[] values;
+    private boolean hasZeroKey;
+    private long zeroValue;
+    private int size;
+    private int threshold;
+    private int modCount;
+    private final float loadFactor;
+    private final long missingValue;
+
+    /**
+     * Performs an action on a {@code long} key and its {@code long} value, without boxing either.
+     */
+    @FunctionalInterface
+    public interface LongLongConsumer {
+        void accept(long key, long value);
+    }
+
+    public LongLongMap() {
+        this(16, 0.75f, 0L);
+    }
+
+    /**
+     * @param expectedSize the number of mappings the map should hold without resizing
+     * @param loadFactor the maximum ratio of mappings to slots before the table doubles, between 0 and 1 (exclusive).
+     *                   Lower values mean shorter probe sequences but more memory.
+     * @param missingValue the value returned by {@link #get(long)}, {@link #put} and {@link #remove(long)}
+     *                     when there is no mapping for the key
+     * @throws IllegalArgumentException if the expected size is negative or the load factor is out of range
+     */
+    public LongLongMap(int expectedSize, float loadFactor, long missingValue) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Illegal expected size: " + expectedSize);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+
+        int capacity = tableSizeFor(expectedSize, loadFactor);
+        this.loadFactor = loadFactor;
+        this.missingValue = missingValue;
+        this.keys = new long[capacity];
+        this.values = new long[capacity];
+        this.threshold = (int) (capacity * loadFactor);
+        this.size = 0;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped.
+     * Time Complexity: O(1) expected
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value mapped to the key, or the missing value if this map contains no mapping for the key
+     */
+    public long get(long key) {
+        return this.getOrDefault(key, missingValue);
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code defaultValue} if there is no mapping.
+     * Time Complexity: O(1) expected
+     *
+     * @param key the key whose associated value is to be returned
+     * @param defaultValue the value to return if this map contains no mapping for the key
+     * @return the value mapped to the key, or {@code defaultValue} if this map contains no mapping for the key
+     */
+    public long getOrDefault(long key, long defaultValue) {
+        if (key == 0) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int index = this.indexOf(key);
+        return index >= 0 ? values[index] : defaultValue;
+    }
+
+    /**
+     * Returns {@code true} if this map contains a mapping for the specified key.
+     * Time Complexity: O(1) expected
+     *
+     * @param key the key whose presence in this map is to be tested
+     * @return {@code true} if this map contains a mapping for the key
+     */
+    public boolean containsKey(long key) {
+        return key == 0 ? hasZeroKey : this.indexOf(key) >= 0;
+    }
+
+    /**
+     * Associates the specified value with the specified key, replacing any previous value.
+     * Time Complexity: O(1) expected
+     *
+     * @param key the key with which the value is to be associated
+     * @param value the value to be associated with the key
+     * @return the previous value mapped to the key, or the missing value if there was no mapping
+     */
+    public long put(long key, long value) {
+        if (key == 0) {
+            long previous = hasZeroKey ? zeroValue : missingValue;
+            zeroValue = value;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size += 1;
+                modCount += 1;
+            }
+            return previous;
+        }
+
+        int index = this.indexOf(key);
+        if (index >= 0) {
+            long previous = values[index];
+            values[index] = value;
+            return previous;
+        }
+
+        this.insertAt(-index - 1, key, value);
+        return missingValue;
+    }
+
+    /**
+     * Removes the mapping for the specified key if it is present.
+     * Time Complexity: O(1) expected
+     *
+     * @param key the key whose mapping is to be removed
+     * @return the previous value mapped to the key, or the missing value if there was no mapping
+     */
+    public long remove(long key) {
+        long previous;
+        if (key == 0) {
+            if (!hasZeroKey) return missingValue;
+
+            previous = zeroValue;
+            hasZeroKey = false;
+        } else {
+            int index = this.indexOf(key);
+            if (index < 0) return missingValue;
+
+            previous = values[index];
+            this.shiftBack(index);
+        }
+
+        size -= 1;
+        modCount += 1;
+        return previous;
+    }
+
+    /**
+     * Returns the value mapped to the key, computing and storing it first if the key is absent.
+     * Time Complexity: O(1) expected, plus the cost of the function
+     *
+     * @param key the key whose value is to be returned
+     * @param mappingFunction the function that computes a value for an absent key; it must not modify this map
+     * @return the current (existing or computed) value mapped to the key
+     * @throws ConcurrentModificationException if the mapping function modified this map
+     */
+    public long computeIfAbsent(long key, LongUnaryOperator mappingFunction) {
+        int index = 0;
+        if (key == 0) {
+            if (hasZeroKey) return zeroValue;
+        } else {
+            index = this.indexOf(key);
+            if (index >= 0) return values[index];
+        }
+
+        int expectedModCount = modCount;
+        long value = mappingFunction.applyAsLong(key);
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+
+        if (key == 0) {
+            this.put(0, value);
+        } else {
+            this.insertAt(-index - 1, key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Performs the given action for every mapping in this map, without allocating.
+     * Time Complexity: O(N)
+     *
+     * @param action the action to be performed for each key and its value
+     * @throws ConcurrentModificationException if the action modified this map
+     */
+    public void forEach(LongLongConsumer action) {
+        int expectedModCount = modCount;
+        if (hasZeroKey) {
+            action.accept(0, zeroValue);
+        }
+
+        long[] keyTable = keys;
+        long[] valueTable = values;
+        for (int i = 0; i < keyTable.length; i++) {
+            if (keyTable[i] != 0) {
+                action.accept(keyTable[i], valueTable[i]);
+            }
+        }
+
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the value reported for keys that have no mapping.
+     * Time Complexity: O(1)
+     *
+     * @return the missing value chosen at construction
+     */
+    public long missingValue() {
+        return missingValue;
+    }
+
+    /**
+     * Removes all the mappings from this map.
+     * Time Complexity: O(N)
+     */
+    public void clear() {
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = 0;
+        }
+        hasZeroKey = false;
+        size = 0;
+        modCount += 1;
+    }
+
+    /**
+     * Returns the number of slots in the backing table.
+     * Time Complexity: O(1)
+     *
+     * @return the number of slots in the backing table
+     */
+    public int capacity() {
+        return keys.length;
+    }
+
+    // Object
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+        this.forEach((key, value) -> {
+            if (sb.length() > 1) {
+                sb.append(",");
+            }
+            sb.append(key).append("=").append(value);
+        });
+        sb.append("}");
+
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+
+        if (!(obj instanceof LongLongMap)) return false;
+
+        LongLongMap other = (LongLongMap) obj;
+
+        if (this.size() != other.size()) return false;
+        if (hasZeroKey && (!other.hasZeroKey || zeroValue != other.zeroValue)) return false;
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                int index = other.indexOf(keys[i]);
+                if (index < 0 || values[i] != other.values[index]) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = hasZeroKey ? Long.hashCode(zeroValue) : 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                hash += Long.hashCode(keys[i]) ^ Long.hashCode(values[i]);
+            }
+        }
+        return hash;
+    }
+
+    // Helpers
+    private void insertAt(int index, long key, long value) {
+        keys[index] = key;
+        values[index] = value;
+        size += 1;
+        modCount += 1;
+
+        if (size > threshold) {
+            this.resize(2 * keys.length);
+        }
+    }
+
+    /**
+     * Probes for a non-zero key.
+     *
+     * @return the slot holding the key, or {@code -(empty slot) - 1} where the key would be inserted
+     */
+    private int indexOf(long key) {
+        long[] keyTable = keys;
+        int mask = keyTable.length - 1;
+        int index = spread(key) & mask;
+
+        while (true) {
+            long current = keyTable[index];
+            if (current == 0) return -index - 1;
+            if (current == key) return index;
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Empties the slot at {@code gap}, then moves later mappings of the same probe run back into the gap
+     * as long as the move does not put a key before its home slot.
+     */
+    private void shiftBack(int gap) {
+        long[] keyTable = keys;
+        long[] valueTable = values;
+        int mask = keyTable.length - 1;
+        int index = gap;
+
+        while (true) {
+            index = (index + 1) & mask;
+            long current = keyTable[index];
+            if (current == 0) break;
+
+            int home = spread(current) & mask;
+            // Move the mapping only if its home slot is not in the cyclic range (gap, index]
+            if (((index - home) & mask) >= ((index - gap) & mask)) {
+                keyTable[gap] = current;
+                valueTable[gap] = valueTable[index];
+                gap = index;
+            }
+        }
+
+        keyTable[gap] = 0;
+    }
+
+    private void resize(int newCapacity) {
+        if (newCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException("LongLongMap cannot grow beyond " + MAX_CAPACITY + " slots.");
+        }
+
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        long[] newKeys = new long[newCapacity];
+        long[] newValues = new long[newCapacity];
+        int mask = newCapacity - 1;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != 0) {
+                int index = spread(key) & mask;
+                while (newKeys[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                newKeys[index] = key;
+                newValues[index] = oldValues[i];
+            }
+        }
+
+        keys = newKeys;
+        values = newValues;
+        threshold = (int) (newCapacity * loadFactor);
+    }
+
+    /**
+     * Multiplies by the 64-bit golden ratio and folds the high bits down, so that every bit of the key
+     * influences the low bits used to pick a slot.
+     */
+    private static int spread(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        return (int) (h ^ (h >>> 16));
+    }
+
+    private static int tableSizeFor(int expectedSize, float loadFactor) {
+        long needed = (long) Math.ceil(expectedSize / (double) loadFactor) + 1;
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Expected size too large: " + expectedSize);
+        }
+        return Math.max(2, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+}
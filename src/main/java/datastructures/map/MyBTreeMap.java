@@ -0,0 +1,786 @@
+package main.java.datastructures.map;
+
+import main.java.datastructures.list.MyArrayList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * A sorted map stored as an in-memory B+-tree with wide nodes.
+ *
+ * <p>Every mapping lives in a leaf; inner nodes only hold separator keys that route a search to the right child.
+ * A node holds up to {@code nodeCapacity} keys (64 by default) in a plain array, so a lookup does a binary search
+ * over one contiguous array per level and visits about {@code log(N) / log(nodeCapacity)} nodes. A binary tree such
+ * as {@link java.util.TreeMap} visits {@code log2(N)} nodes, each one a likely cache miss.
+ *
+ * <p>Leaves are linked in key order in both directions, so range scans, {@link #forEach} and the
+ * {@link #floorKey}/{@link #ceilingKey} fallbacks walk the leaf chain instead of going back up the tree.
+ * {@link #bulkLoad} builds the tree bottom-up from sorted input in O(N), using as few leaves as the entries need.
+ *
+ * <p>Nodes split when they overflow and borrow from or merge with a sibling when they drop below half full,
+ * so every node except the root stays at least half full.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ */
+public class MyBTreeMap<K, V> implements MySortedMap<K, V> {
+
+    static final int DEFAULT_NODE_CAPACITY = 64;
+    private static final int MIN_NODE_CAPACITY = 4;
+
+    private final Comparator<? super K> comparator;
+    private final int nodeCapacity;
+    private final int minKeys;
+
+    private Node root;
+    private Leaf head;
+    private Leaf tail;
+    private int size;
+    private int height;
+    private int modCount;
+
+    // Inner nodes and child slots on the way down to the current leaf, reused by put and remove
+    private Inner[] pathNodes = new Inner[8];
+    private int[] pathSlots = new int[8];
+
+    private abstract static class Node {
+        // One spare slot so a node can overflow by one key before it is split
+        final Object[] keys;
+        int count;
+
+        Node(int nodeCapacity) {
+            this.keys = new Object[nodeCapacity + 1];
+        }
+    }
+
+    private static final class Leaf extends Node {
+        final Object[] values;
+        Leaf next;
+        Leaf prev;
+
+        Leaf(int nodeCapacity) {
+            super(nodeCapacity);
+            this.values = new Object[nodeCapacity + 1];
+        }
+    }
+
+    /**
+     * Child {@code i} holds the keys in {@code [keys[i - 1], keys[i])}.
+     */
+    private static final class Inner extends Node {
+        final Node[] children;
+
+        Inner(int nodeCapacity) {
+            super(nodeCapacity);
+            this.children = new Node[nodeCapacity + 2];
+        }
+    }
+
+    public MyBTreeMap() {
+        this(DEFAULT_NODE_CAPACITY, null);
+    }
+
+    public MyBTreeMap(Comparator<? super K> comparator) {
+        this(DEFAULT_NODE_CAPACITY, comparator);
+    }
+
+    /**
+     * @param nodeCapacity the maximum number of keys per node, at least 4
+     * @param comparator the comparator that orders the keys, or {@code null} for their natural ordering
+     * @throws IllegalArgumentException if the node capacity is less than 4
+     */
+    public MyBTreeMap(int nodeCapacity, Comparator<? super K> comparator) {
+        if (nodeCapacity < MIN_NODE_CAPACITY) {
+            throw new IllegalArgumentException("Illegal node capacity: " + nodeCapacity);
+        }
+        this.nodeCapacity = nodeCapacity;
+        this.minKeys = nodeCapacity / 2;
+        this.comparator = comparator;
+        this.reset();
+    }
+
+    /**
+     * Builds a map from keys in ascending natural order and their values, using as few leaves as possible.
+     * Time Complexity: O(N)
+     *
+     * @see #bulkLoad(MyArrayList, MyArrayList, int, Comparator)
+     */
+    public static <K extends Comparable<? super K>, V> MyBTreeMap<K, V> bulkLoad(MyArrayList<? extends K> keys,
+                                                                                MyArrayList<? extends V> values) {
+        return bulkLoad(keys, values, DEFAULT_NODE_CAPACITY, null);
+    }
+
+    /**
+     * Builds a map bottom-up from strictly ascending keys and their values. It uses as few leaves as the entries
+     * need and spreads the entries evenly over them, so the leaves differ by at most one entry and each is at least
+     * half full. This is much faster than inserting the keys one by one.
+     * The lists are not modified.
+     * Time Complexity: O(N)
+     *
+     * @param keys the keys, strictly ascending according to the comparator
+     * @param values the values, where {@code values.get(i)} is mapped to {@code keys.get(i)}
+     * @param nodeCapacity the maximum number of keys per node, at least 4
+     * @param comparator the comparator that orders the keys, or {@code null} for their natural ordering
+     * @return a new map holding the given mappings
+     * @throws IllegalArgumentException if the lists differ in size, the keys are not strictly ascending
+     *                                  or the node capacity is less than 4
+     * @throws NullPointerException if a key is null
+     */
+    public static <K, V> MyBTreeMap<K, V> bulkLoad(MyArrayList<? extends K> keys, MyArrayList<? extends V> values,
+                                                   int nodeCapacity, Comparator<? super K> comparator) {
+        if (keys.size() != values.size()) {
+            throw new IllegalArgumentException("Key and value lists differ in size: " + keys.size() + " != "
+                    + values.size() + ".");
+        }
+
+        MyBTreeMap<K, V> map = new MyBTreeMap<>(nodeCapacity, comparator);
+        int n = keys.size();
+        for (int i = 0; i < n; i++) {
+            if (keys.get(i) == null) {
+                throw new NullPointerException("Key at index " + i + " is null.");
+            }
+            if (i > 0 && map.compare(keys.get(i - 1), keys.get(i)) >= 0) {
+                throw new IllegalArgumentException("Keys are not strictly ascending at index " + i + ".");
+            }
+        }
+        if (n == 0) return map;
+
+        // Spread the entries evenly, so that every leaf ends up at least half full
+        int leafCount = (n + nodeCapacity - 1) / nodeCapacity;
+        Node[] level = new Node[leafCount];
+        Object[] firstKeys = new Object[leafCount];
+        Leaf previous = null;
+        int from = 0;
+
+        for (int l = 0; l < leafCount; l++) {
+            int count = n / leafCount + (l < n % leafCount ? 1 : 0);
+            Leaf leaf = new Leaf(nodeCapacity);
+            for (int j = 0; j < count; j++) {
+                leaf.keys[j] = keys.get(from + j);
+                leaf.values[j] = values.get(from + j);
+            }
+            leaf.count = count;
+            from += count;
+
+            leaf.prev = previous;
+            if (previous != null) {
+                previous.next = leaf;
+            }
+            previous = leaf;
+            level[l] = leaf;
+            firstKeys[l] = leaf.keys[0];
+        }
+        map.head = (Leaf) level[0];
+        map.tail = previous;
+        map.height = 1;
+
+        while (level.length > 1) {
+            int childCount = level.length;
+            int groups = (childCount + nodeCapacity) / (nodeCapacity + 1);
+            Node[] parents = new Node[groups];
+            Object[] parentFirstKeys = new Object[groups];
+            int child = 0;
+
+            for (int g = 0; g < groups; g++) {
+                int count = childCount / groups + (g < childCount % groups ? 1 : 0);
+                Inner inner = new Inner(nodeCapacity);
+                for (int j = 0; j < count; j++) {
+                    inner.children[j] = level[child + j];
+                    if (j > 0) {
+                        inner.keys[j - 1] = firstKeys[child + j];
+                    }
+                }
+                inner.count = count - 1;
+                parents[g] = inner;
+                parentFirstKeys[g] = firstKeys[child];
+                child += count;
+            }
+
+            level = parents;
+            firstKeys = parentFirstKeys;
+            map.height += 1;
+        }
+
+        map.root = level[0];
+        map.size = n;
+        return map;
+    }
+
+    @Override
+    public Comparator<? super K> comparator() {
+        return comparator;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        Leaf leaf = this.findLeaf(key);
+        int index = this.search(leaf, key);
+        return index >= 0 ? (V) leaf.values[index] : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(Object key, V defaultValue) {
+        Leaf leaf = this.findLeaf(key);
+        int index = this.search(leaf, key);
+        return index >= 0 ? (V) leaf.values[index] : defaultValue;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        Leaf leaf = this.findLeaf(key);
+        return this.search(leaf, key) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if the key is null
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        Objects.requireNonNull(key, "Key is null.");
+
+        int depth = this.descend(key);
+        Leaf leaf = depth == 0 ? (Leaf) root : (Leaf) pathNodes[depth - 1].children[pathSlots[depth - 1]];
+        int index = this.search(leaf, key);
+
+        if (index >= 0) {
+            V previous = (V) leaf.values[index];
+            leaf.values[index] = value;
+            this.clearPath(depth);
+            return previous;
+        }
+
+        index = -index - 1;
+        System.arraycopy(leaf.keys, index, leaf.keys, index + 1, leaf.count - index);
+        System.arraycopy(leaf.values, index, leaf.values, index + 1, leaf.count - index);
+        leaf.keys[index] = key;
+        leaf.values[index] = value;
+        leaf.count += 1;
+        size += 1;
+        modCount += 1;
+
+        if (leaf.count > nodeCapacity) {
+            this.splitUpwards(leaf, depth);
+        }
+        this.clearPath(depth);
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        int depth = this.descend(key);
+        Leaf leaf = depth == 0 ? (Leaf) root : (Leaf) pathNodes[depth - 1].children[pathSlots[depth - 1]];
+        int index = this.search(leaf, key);
+
+        if (index < 0) {
+            this.clearPath(depth);
+            return null;
+        }
+
+        V previous = (V) leaf.values[index];
+        System.arraycopy(leaf.keys, index + 1, leaf.keys, index, leaf.count - index - 1);
+        System.arraycopy(leaf.values, index + 1, leaf.values, index, leaf.count - index - 1);
+        leaf.count -= 1;
+        leaf.keys[leaf.count] = null;
+        leaf.values[leaf.count] = null;
+        size -= 1;
+        modCount += 1;
+
+        Node node = leaf;
+        int level = depth;
+        while (level > 0 && node.count < minKeys) {
+            level -= 1;
+            this.rebalance(pathNodes[level], pathSlots[level]);
+            node = pathNodes[level];
+        }
+        if (root instanceof Inner && root.count == 0) {
+            root = ((Inner) root).children[0];
+            height -= 1;
+        }
+
+        this.clearPath(depth);
+        return previous;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ConcurrentModificationException if the mapping function modified this map
+     */
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        V value = this.get(key);
+        if (value != null) return value;
+
+        int expectedModCount = modCount;
+        value = mappingFunction.apply(key);
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+        if (value == null) return null;
+
+        this.put(key, value);
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public K firstKey() {
+        return head.count == 0 ? null : (K) head.keys[0];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public K lastKey() {
+        return tail.count == 0 ? null : (K) tail.keys[tail.count - 1];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public K floorKey(K key) {
+        Leaf leaf = this.findLeaf(key);
+        int index = this.search(leaf, key);
+        if (index >= 0) return (K) leaf.keys[index];
+
+        // The greatest key below the insertion point, possibly the last key of the previous leaf
+        index = -index - 2;
+        if (index >= 0) return (K) leaf.keys[index];
+        return leaf.prev == null ? null : (K) leaf.prev.keys[leaf.prev.count - 1];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public K ceilingKey(K key) {
+        Leaf leaf = this.findLeaf(key);
+        int index = this.search(leaf, key);
+        if (index >= 0) return (K) leaf.keys[index];
+
+        index = -index - 1;
+        if (index < leaf.count) return (K) leaf.keys[index];
+        return leaf.next == null ? null : (K) leaf.next.keys[0];
+    }
+
+    /**
+     * {@inheritDoc}
+     * After the first leaf is found, the scan follows the leaf chain without touching any inner node.
+     *
+     * @throws ConcurrentModificationException if the action modified this map
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEachInRange(K fromKey, K toKey, BiConsumer<? super K, ? super V> action) {
+        if (this.compare(fromKey, toKey) > 0) {
+            throw new IllegalArgumentException("Illegal range: fromKey is greater than toKey.");
+        }
+
+        int expectedModCount = modCount;
+        Leaf leaf = this.findLeaf(fromKey);
+        int index = this.search(leaf, fromKey);
+        if (index < 0) {
+            index = -index - 1;
+        }
+
+        scan:
+        while (leaf != null) {
+            for (; index < leaf.count; index++) {
+                if (this.compare(leaf.keys[index], toKey) >= 0) break scan;
+                action.accept((K) leaf.keys[index], (V) leaf.values[index]);
+            }
+            leaf = leaf.next;
+            index = 0;
+        }
+
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ConcurrentModificationException if the action modified this map
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        int expectedModCount = modCount;
+
+        for (Leaf leaf = head; leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.count; i++) {
+                action.accept((K) leaf.keys[i], (V) leaf.values[i]);
+            }
+        }
+
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        this.reset();
+        modCount += 1;
+    }
+
+    /**
+     * Returns the maximum number of keys per node.
+     * Time Complexity: O(1)
+     *
+     * @return the maximum number of keys per node
+     */
+    public int nodeCapacity() {
+        return nodeCapacity;
+    }
+
+    /**
+     * Returns the number of levels in the tree, counting the leaves; an empty map has height 1.
+     * Time Complexity: O(1)
+     *
+     * @return the number of levels in the tree
+     */
+    public int height() {
+        return height;
+    }
+
+    // Object
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+        this.forEach((key, value) -> {
+            if (sb.length() > 1) {
+                sb.append(",");
+            }
+            sb.append(key).append("=").append(value);
+        });
+        sb.append("}");
+
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+
+        if (!(obj instanceof MyMap)) return false;
+
+        MyMap<?, ?> other = (MyMap<?, ?>) obj;
+
+        if (this.size() != other.size()) return false;
+
+        for (Leaf leaf = head; leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.count; i++) {
+                Object key = leaf.keys[i];
+                Object value = leaf.values[i];
+                if (!Objects.equals(value, other.get(key)) || (value == null && !other.containsKey(key))) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (Leaf leaf = head; leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.count; i++) {
+                hash += Objects.hashCode(leaf.keys[i]) ^ Objects.hashCode(leaf.values[i]);
+            }
+        }
+        return hash;
+    }
+
+    // Helpers
+    /**
+     * Replaces the tree with a single empty leaf; private so that the constructor can use it.
+     */
+    private void reset() {
+        Leaf leaf = new Leaf(nodeCapacity);
+        root = leaf;
+        head = leaf;
+        tail = leaf;
+        size = 0;
+        height = 1;
+    }
+
+    private Leaf findLeaf(Object key) {
+        Node node = root;
+        while (node instanceof Inner) {
+            Inner inner = (Inner) node;
+            node = inner.children[this.childIndex(inner, key)];
+        }
+        return (Leaf) node;
+    }
+
+    /**
+     * Walks from the root to the leaf for the key, recording every inner node and the child slot taken.
+     *
+     * @return the number of inner nodes on the path
+     */
+    private int descend(Object key) {
+        Node node = root;
+        int depth = 0;
+
+        while (node instanceof Inner) {
+            Inner inner = (Inner) node;
+            int slot = this.childIndex(inner, key);
+            if (depth == pathNodes.length) {
+                pathNodes = Arrays.copyOf(pathNodes, 2 * depth);
+                pathSlots = Arrays.copyOf(pathSlots, 2 * depth);
+            }
+            pathNodes[depth] = inner;
+            pathSlots[depth] = slot;
+            depth += 1;
+            node = inner.children[slot];
+        }
+
+        return depth;
+    }
+
+    private void clearPath(int depth) {
+        Arrays.fill(pathNodes, 0, depth, null);
+    }
+
+    private int childIndex(Inner inner, Object key) {
+        int index = this.search(inner, key);
+        // Keys equal to a separator belong to the child on its right
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    /**
+     * Binary search over the keys of a node.
+     *
+     * @return the index of the key, or {@code -(insertion point) - 1}
+     */
+    private int search(Node node, Object key) {
+        Object[] keys = node.keys;
+        int low = 0;
+        int high = node.count - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = this.compare(keys[mid], key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(Object a, Object b) {
+        return comparator == null
+                ? ((Comparable<Object>) a).compareTo(b)
+                : comparator.compare((K) a, (K) b);
+    }
+
+    /**
+     * Splits an overflowing node and inserts the new right half into its parent, splitting ancestors
+     * as long as they overflow in turn. A split root makes the tree one level taller.
+     */
+    private void splitUpwards(Node node, int depth) {
+        while (true) {
+            Node right;
+            Object separator;
+            if (node instanceof Leaf) {
+                right = this.splitLeaf((Leaf) node);
+                separator = right.keys[0];
+            } else {
+                int mid = node.count / 2;
+                separator = node.keys[mid];
+                right = this.splitInner((Inner) node, mid);
+            }
+
+            if (depth == 0) {
+                Inner newRoot = new Inner(nodeCapacity);
+                newRoot.keys[0] = separator;
+                newRoot.children[0] = node;
+                newRoot.children[1] = right;
+                newRoot.count = 1;
+                root = newRoot;
+                height += 1;
+                return;
+            }
+
+            depth -= 1;
+            Inner parent = pathNodes[depth];
+            int slot = pathSlots[depth];
+            System.arraycopy(parent.keys, slot, parent.keys, slot + 1, parent.count - slot);
+            System.arraycopy(parent.children, slot + 1, parent.children, slot + 2, parent.count - slot);
+            parent.keys[slot] = separator;
+            parent.children[slot + 1] = right;
+            parent.count += 1;
+
+            if (parent.count <= nodeCapacity) return;
+            node = parent;
+        }
+    }
+
+    private Leaf splitLeaf(Leaf leaf) {
+        int leftCount = leaf.count / 2;
+        int rightCount = leaf.count - leftCount;
+        Leaf right = new Leaf(nodeCapacity);
+
+        System.arraycopy(leaf.keys, leftCount, right.keys, 0, rightCount);
+        System.arraycopy(leaf.values, leftCount, right.values, 0, rightCount);
+        Arrays.fill(leaf.keys, leftCount, leaf.count, null);
+        Arrays.fill(leaf.values, leftCount, leaf.count, null);
+        leaf.count = leftCount;
+        right.count = rightCount;
+
+        right.next = leaf.next;
+        right.prev = leaf;
+        if (leaf.next != null) {
+            leaf.next.prev = right;
+        } else {
+            tail = right;
+        }
+        leaf.next = right;
+        return right;
+    }
+
+    /**
+     * Moves the keys after {@code mid} and their children into a new node; the key at {@code mid} moves up.
+     */
+    private Inner splitInner(Inner inner, int mid) {
+        int rightCount = inner.count - mid - 1;
+        Inner right = new Inner(nodeCapacity);
+
+        System.arraycopy(inner.keys, mid + 1, right.keys, 0, rightCount);
+        System.arraycopy(inner.children, mid + 1, right.children, 0, rightCount + 1);
+        Arrays.fill(inner.keys, mid, inner.count, null);
+        Arrays.fill(inner.children, mid + 1, inner.count + 1, null);
+        inner.count = mid;
+        right.count = rightCount;
+        return right;
+    }
+
+    /**
+     * Restores the minimum fill of the child at {@code slot}: borrows a key from a sibling that can spare one,
+     * otherwise merges the child with a sibling, which removes one key from the parent.
+     */
+    private void rebalance(Inner parent, int slot) {
+        Node child = parent.children[slot];
+        Node left = slot > 0 ? parent.children[slot - 1] : null;
+        Node right = slot < parent.count ? parent.children[slot + 1] : null;
+
+        if (left != null && left.count > minKeys) {
+            this.borrowFromLeft(parent, slot, child, left);
+        } else if (right != null && right.count > minKeys) {
+            this.borrowFromRight(parent, slot, child, right);
+        } else if (left != null) {
+            this.merge(parent, slot - 1, left, child);
+        } else {
+            this.merge(parent, slot, child, right);
+        }
+    }
+
+    private void borrowFromLeft(Inner parent, int slot, Node child, Node left) {
+        System.arraycopy(child.keys, 0, child.keys, 1, child.count);
+        int last = left.count - 1;
+
+        if (child instanceof Leaf) {
+            Leaf leafChild = (Leaf) child;
+            Leaf leafLeft = (Leaf) left;
+            System.arraycopy(leafChild.values, 0, leafChild.values, 1, child.count);
+            leafChild.keys[0] = leafLeft.keys[last];
+            leafChild.values[0] = leafLeft.values[last];
+            leafLeft.values[last] = null;
+            parent.keys[slot - 1] = leafChild.keys[0];
+        } else {
+            Inner innerChild = (Inner) child;
+            Inner innerLeft = (Inner) left;
+            System.arraycopy(innerChild.children, 0, innerChild.children, 1, child.count + 1);
+            innerChild.keys[0] = parent.keys[slot - 1];
+            innerChild.children[0] = innerLeft.children[last + 1];
+            innerLeft.children[last + 1] = null;
+            parent.keys[slot - 1] = innerLeft.keys[last];
+        }
+
+        left.keys[last] = null;
+        left.count -= 1;
+        child.count += 1;
+    }
+
+    private void borrowFromRight(Inner parent, int slot, Node child, Node right) {
+        int rightCount = right.count;
+
+        if (child instanceof Leaf) {
+            Leaf leafChild = (Leaf) child;
+            Leaf leafRight = (Leaf) right;
+            leafChild.keys[child.count] = leafRight.keys[0];
+            leafChild.values[child.count] = leafRight.values[0];
+            System.arraycopy(leafRight.keys, 1, leafRight.keys, 0, rightCount - 1);
+            System.arraycopy(leafRight.values, 1, leafRight.values, 0, rightCount - 1);
+            leafRight.values[rightCount - 1] = null;
+            parent.keys[slot] = leafRight.keys[0];
+        } else {
+            Inner innerChild = (Inner) child;
+            Inner innerRight = (Inner) right;
+            innerChild.keys[child.count] = parent.keys[slot];
+            innerChild.children[child.count + 1] = innerRight.children[0];
+            parent.keys[slot] = innerRight.keys[0];
+            System.arraycopy(innerRight.keys, 1, innerRight.keys, 0, rightCount - 1);
+            System.arraycopy(innerRight.children, 1, innerRight.children, 0, rightCount);
+            innerRight.children[rightCount] = null;
+        }
+
+        right.keys[rightCount - 1] = null;
+        right.count -= 1;
+        child.count += 1;
+    }
+
+    /**
+     * Appends the node at {@code index + 1} to the node at {@code index} and removes it from the parent.
+     */
+    private void merge(Inner parent, int index, Node left, Node right) {
+        if (left instanceof Leaf) {
+            Leaf leafLeft = (Leaf) left;
+            Leaf leafRight = (Leaf) right;
+            System.arraycopy(leafRight.keys, 0, leafLeft.keys, left.count, right.count);
+            System.arraycopy(leafRight.values, 0, leafLeft.values, left.count, right.count);
+            left.count += right.count;
+
+            leafLeft.next = leafRight.next;
+            if (leafRight.next != null) {
+                leafRight.next.prev = leafLeft;
+            } else {
+                tail = leafLeft;
+            }
+        } else {
+            Inner innerLeft = (Inner) left;
+            Inner innerRight = (Inner) right;
+            // The separator between the two comes down from the parent
+            innerLeft.keys[left.count] = parent.keys[index];
+            System.arraycopy(innerRight.keys, 0, innerLeft.keys, left.count + 1, right.count);
+            System.arraycopy(innerRight.children, 0, innerLeft.children, left.count + 1, right.count + 1);
+            left.count += right.count + 1;
+        }
+
+        System.arraycopy(parent.keys, index + 1, parent.keys, index, parent.count - index - 1);
+        System.arraycopy(parent.children, index + 2, parent.children, index + 1, parent.count - index - 1);
+        parent.keys[parent.count - 1] = null;
+        parent.children[parent.count] = null;
+        parent.count -= 1;
+    }
+}
@@ -0,0 +1,344 @@
+package main.java.datastructures.map;
+
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * A hash map that stores its keys and values directly in one power-of-two array, using open addressing with linear
+ * probing.
+ *
+ * <p>Unlike {@link java.util.HashMap}, there is no entry object per mapping: each key sits in an even slot of the
+ * table with its value in the slot right after it, so a successful lookup reads the key and its value from the same
+ * cache line. Hash codes are spread with the same multiplicative (Fibonacci) hash as
+ * {@link main.java.datastructures.set.MyHashSet}, and removal uses backward-shift deletion, so no tombstones are
+ * left behind.
+ *
+ * <p>{@code null} is a permitted key and a permitted value; a {@code null} key is stored as a private sentinel object.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ */
+public class MyHashMap<K, V> implements MyMap<K, V> {
+
+    private static final Object NULL_KEY = new Object();
+    private static final int MAX_CAPACITY = 1 << 29;
+
+    // Key at an even index, its value at the following odd index
+    private Object[] table;
+    private int size;
+    private int threshold;
+    private int modCount;
+    private final float loadFactor;
+
+    public MyHashMap() {
+        this(16, 0.5f);
+    }
+
+    /**
+     * @param expectedSize the number of mappings the map should hold without resizing
+     * @param loadFactor the maximum ratio of mappings to slots before the table doubles, between 0 and 1 (exclusive).
+     *                   Lower values mean shorter probe sequences but more memory.
+     * @throws IllegalArgumentException if the expected size is negative or the load factor is out of range
+     */
+    public MyHashMap(int expectedSize, float loadFactor) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Illegal expected size: " + expectedSize);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+
+        int capacity = tableSizeFor(expectedSize, loadFactor);
+        this.loadFactor = loadFactor;
+        this.table = new Object[2 * capacity];
+        this.threshold = (int) (capacity * loadFactor);
+        this.size = 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int index = this.indexOf(mask(key));
+        return index >= 0 ? (V) table[index + 1] : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(Object key, V defaultValue) {
+        int index = this.indexOf(mask(key));
+        return index >= 0 ? (V) table[index + 1] : defaultValue;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return this.indexOf(mask(key)) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        Object masked = mask(key);
+        int index = this.indexOf(masked);
+
+        if (index >= 0) {
+            V previous = (V) table[index + 1];
+            table[index + 1] = value;
+            return previous;
+        }
+
+        this.insertAt(-index - 1, masked, value);
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        int index = this.indexOf(mask(key));
+        if (index < 0) return null;
+
+        V previous = (V) table[index + 1];
+        this.shiftBack(index);
+        size -= 1;
+        modCount += 1;
+        return previous;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ConcurrentModificationException if the mapping function modified this map
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Object masked = mask(key);
+        int index = this.indexOf(masked);
+
+        if (index >= 0 && table[index + 1] != null) {
+            return (V) table[index + 1];
+        }
+
+        int expectedModCount = modCount;
+        V value = mappingFunction.apply(key);
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+        if (value == null) return null;
+
+        if (index >= 0) {
+            table[index + 1] = value;
+        } else {
+            this.insertAt(-index - 1, masked, value);
+        }
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ConcurrentModificationException if the action modified this map
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        Object[] tab = table;
+        int expectedModCount = modCount;
+
+        for (int i = 0; i < tab.length; i += 2) {
+            if (tab[i] != null) {
+                action.accept(unmask(tab[i]), (V) tab[i + 1]);
+            }
+        }
+
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = null;
+        }
+        size = 0;
+        modCount += 1;
+    }
+
+    /**
+     * Returns the number of key slots in the backing table.
+     * Time Complexity: O(1)
+     *
+     * @return the number of key slots in the backing table
+     */
+    public int capacity() {
+        return table.length / 2;
+    }
+
+    // Object
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+
+        for (int i = 0; i < table.length; i += 2) {
+            if (table[i] != null) {
+                if (sb.length() > 1) {
+                    sb.append(",");
+                }
+                sb.append(MyHashMap.<K>unmask(table[i])).append("=").append(table[i + 1]);
+            }
+        }
+        sb.append("}");
+
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+
+        if (!(obj instanceof MyMap)) return false;
+
+        MyMap<?, ?> other = (MyMap<?, ?>) obj;
+
+        if (this.size() != other.size()) return false;
+
+        for (int i = 0; i < table.length; i += 2) {
+            if (table[i] != null) {
+                Object key = unmask(table[i]);
+                Object value = table[i + 1];
+                if (!Objects.equals(value, other.get(key)) || (value == null && !other.containsKey(key))) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < table.length; i += 2) {
+            if (table[i] != null) {
+                hash += Objects.hashCode(unmask(table[i])) ^ Objects.hashCode(table[i + 1]);
+            }
+        }
+        return hash;
+    }
+
+    // Helpers
+    private void insertAt(int index, Object key, Object value) {
+        table[index] = key;
+        table[index + 1] = value;
+        size += 1;
+        modCount += 1;
+
+        if (size > threshold) {
+            this.resize(2 * this.capacity());
+        }
+    }
+
+    /**
+     * Probes for the key.
+     *
+     * @return the table index holding the key, or {@code -(empty index) - 1} where the key would be inserted
+     */
+    private int indexOf(Object key) {
+        Object[] tab = table;
+        int mask = tab.length - 1;
+        int index = (spread(key.hashCode()) << 1) & mask;
+
+        while (true) {
+            Object current = tab[index];
+            if (current == null) return -index - 1;
+            if (current == key || current.equals(key)) return index;
+            index = (index + 2) & mask;
+        }
+    }
+
+    /**
+     * Empties the key slot at {@code gap}, then moves later mappings of the same probe run back into the gap
+     * as long as the move does not put a key before its home slot.
+     */
+    private void shiftBack(int gap) {
+        Object[] tab = table;
+        int mask = tab.length - 1;
+        int index = gap;
+
+        while (true) {
+            index = (index + 2) & mask;
+            Object current = tab[index];
+            if (current == null) break;
+
+            int home = (spread(current.hashCode()) << 1) & mask;
+            // Move the mapping only if its home slot is not in the cyclic range (gap, index]
+            if (((index - home) & mask) >= ((index - gap) & mask)) {
+                tab[gap] = current;
+                tab[gap + 1] = tab[index + 1];
+                gap = index;
+            }
+        }
+
+        tab[gap] = null;
+        tab[gap + 1] = null;
+    }
+
+    private void resize(int newCapacity) {
+        if (newCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException("MyHashMap cannot grow beyond " + MAX_CAPACITY + " slots.");
+        }
+
+        Object[] oldTable = table;
+        Object[] newTable = new Object[2 * newCapacity];
+        int mask = newTable.length - 1;
+
+        for (int i = 0; i < oldTable.length; i += 2) {
+            Object key = oldTable[i];
+            if (key != null) {
+                int index = (spread(key.hashCode()) << 1) & mask;
+                while (newTable[index] != null) {
+                    index = (index + 2) & mask;
+                }
+                newTable[index] = key;
+                newTable[index + 1] = oldTable[i + 1];
+            }
+        }
+
+        table = newTable;
+        threshold = (int) (newCapacity * loadFactor);
+    }
+
+    /**
+     * Multiplies by the golden ratio and folds the high bits down, so that every bit of the hash code
+     * influences the low bits used to pick a slot.
+     */
+    private static int spread(int hashCode) {
+        int h = hashCode * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSizeFor(int expectedSize, float loadFactor) {
+        long needed = (long) Math.ceil(expectedSize / (double) loadFactor) + 1;
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Expected size too large: " + expectedSize);
+        }
+        return Math.max(2, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    private static Object mask(Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> K unmask(Object key) {
+        return key == NULL_KEY ? null : (K) key;
+    }
+}
@@ -0,0 +1,128 @@
+package main.java.datastructures.map;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * An object that maps keys to values. A map cannot contain duplicate keys; each key maps to at most one value.
+ *
+ * <p>Two keys are duplicates if they are equal according to {@link Objects#equals(Object, Object)}.
+ * Iteration order is unspecified.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ */
+public interface MyMap<K, V> {
+
+    /**
+     * Returns the value to which the specified key is mapped.
+     * Time Complexity: O(1) expected
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value mapped to the key, or {@code null} if this map contains no mapping for the key
+     */
+    V get(Object key);
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code defaultValue} if there is no mapping.
+     * Time Complexity: O(1) expected
+     *
+     * @param key the key whose associated value is to be returned
+     * @param defaultValue the value to return if this map contains no mapping for the key
+     * @return the value mapped to the key, or {@code defaultValue} if this map contains no mapping for the key
+     */
+    default V getOrDefault(Object key, V defaultValue) {
+        V value = this.get(key);
+        return value != null || this.containsKey(key) ? value : defaultValue;
+    }
+
+    /**
+     * Returns {@code true} if this map contains a mapping for the specified key.
+     * Time Complexity: O(1) expected
+     *
+     * @param key the key whose presence in this map is to be tested
+     * @return {@code true} if this map contains a mapping for the key
+     */
+    boolean containsKey(Object key);
+
+    /**
+     * Associates the specified value with the specified key, replacing any previous value.
+     * Time Complexity: O(1) expected
+     *
+     * @param key the key with which the value is to be associated
+     * @param value the value to be associated with the key
+     * @return the previous value mapped to the key, or {@code null} if there was no mapping
+     */
+    V put(K key, V value);
+
+    /**
+     * Removes the mapping for the specified key if it is present.
+     * Time Complexity: O(1) expected
+     *
+     * @param key the key whose mapping is to be removed
+     * @return the previous value mapped to the key, or {@code null} if there was no mapping
+     */
+    V remove(Object key);
+
+    /**
+     * Returns the value mapped to the key, computing and storing it first if the key is absent or mapped to
+     * {@code null}. If the function returns {@code null}, no mapping is recorded.
+     * Time Complexity: O(1) expected, plus the cost of the function
+     *
+     * @param key the key whose value is to be returned
+     * @param mappingFunction the function that computes a value for an absent key; it must not modify this map
+     * @return the current (existing or computed) value mapped to the key, or {@code null} if the computed value is null
+     */
+    V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction);
+
+    /**
+     * Performs the given action for every mapping in this map.
+     * Time Complexity: O(N)
+     *
+     * @param action the action to be performed for each key and its value
+     */
+    void forEach(BiConsumer<? super K, ? super V> action);
+
+    /**
+     * Returns the number of mappings in this map.
+     * Time Complexity: O(1)
+     *
+     * @return the number of mappings in this map
+     */
+    int size();
+
+    /**
+     * Returns {@code true} if this map contains no mappings.
+     * Time Complexity: O(1)
+     *
+     * @return {@code true} if this map contains no mappings
+     */
+    default boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    /**
+     * Removes all the mappings from this map.
+     * Time Complexity: O(N)
+     */
+    void clear();
+
+    /**
+     * The method returns {@code true} if and only if the other object is also a MyMap of the same size
+     * that maps every key of this map to an equal value.
+     *
+     * @param obj the object to compare this map against
+     * @return {@code true} if the specified obj is equal to this map; {@code false} otherwise
+     */
+    boolean equals(Object obj);
+
+    /**
+     * Computes the hash code for this map as the sum of {@code hashCode(key) ^ hashCode(value)} over its mappings,
+     * so that it does not depend on the iteration order.
+     * A {@code null} key or value counts as zero.
+     *
+     * @return the computed hash code value for this map
+     */
+    int hashCode();
+}
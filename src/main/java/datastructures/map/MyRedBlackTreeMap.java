@@ -0,0 +1,636 @@
+package main.java.datastructures.map;
+
+import main.java.datastructures.list.MyArrayList;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * A sorted map stored as a Red-Black tree, a binary search tree that stays balanced by colouring its nodes
+ * red or black: no red node has a red child, and every path from the root to a missing child passes the same number
+ * of black nodes. The tree height therefore stays below {@code 2 * log2(N + 1)}.
+ *
+ * <p>This is the textbook layout {@link java.util.TreeMap} uses: one node per mapping with parent links, so
+ * in-order successors are found without a stack. It is kept next to {@link MyBTreeMap} as the baseline that the
+ * wide-node tree is measured against.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ */
+public class MyRedBlackTreeMap<K, V> implements MySortedMap<K, V> {
+
+    private final Comparator<? super K> comparator;
+    private Node<K, V> root;
+    private int size;
+    private int modCount;
+
+    private static final class Node<K, V> {
+        K key;
+        V value;
+        Node<K, V> left;
+        Node<K, V> right;
+        Node<K, V> parent;
+        boolean red;
+
+        Node(K key, V value, Node<K, V> parent) {
+            this.key = key;
+            this.value = value;
+            this.parent = parent;
+        }
+    }
+
+    public MyRedBlackTreeMap() {
+        this(null);
+    }
+
+    /**
+     * @param comparator the comparator that orders the keys, or {@code null} for their natural ordering
+     */
+    public MyRedBlackTreeMap(Comparator<? super K> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * Builds a map from keys in ascending natural order and their values.
+     * Time Complexity: O(N)
+     *
+     * @see #bulkLoad(MyArrayList, MyArrayList, Comparator)
+     */
+    public static <K extends Comparable<? super K>, V> MyRedBlackTreeMap<K, V> bulkLoad(
+            MyArrayList<? extends K> keys, MyArrayList<? extends V> values) {
+        return bulkLoad(keys, values, null);
+    }
+
+    /**
+     * Builds a perfectly balanced tree from strictly ascending keys and their values, without any rotation.
+     * Only the nodes on the deepest level of an incomplete tree are red. The lists are not modified.
+     * Time Complexity: O(N)
+     *
+     * @param keys the keys, strictly ascending according to the comparator
+     * @param values the values, where {@code values.get(i)} is mapped to {@code keys.get(i)}
+     * @param comparator the comparator that orders the keys, or {@code null} for their natural ordering
+     * @return a new map holding the given mappings
+     * @throws IllegalArgumentException if the lists differ in size or the keys are not strictly ascending
+     * @throws NullPointerException if a key is null
+     */
+    public static <K, V> MyRedBlackTreeMap<K, V> bulkLoad(MyArrayList<? extends K> keys,
+                                                          MyArrayList<? extends V> values,
+                                                          Comparator<? super K> comparator) {
+        if (keys.size() != values.size()) {
+            throw new IllegalArgumentException("Key and value lists differ in size: " + keys.size() + " != "
+                    + values.size() + ".");
+        }
+
+        MyRedBlackTreeMap<K, V> map = new MyRedBlackTreeMap<>(comparator);
+        int n = keys.size();
+        for (int i = 0; i < n; i++) {
+            if (keys.get(i) == null) {
+                throw new NullPointerException("Key at index " + i + " is null.");
+            }
+            if (i > 0 && map.compare(keys.get(i - 1), keys.get(i)) >= 0) {
+                throw new IllegalArgumentException("Keys are not strictly ascending at index " + i + ".");
+            }
+        }
+
+        // The levels above the deepest one are complete; colouring only the deepest level red keeps black heights equal
+        int redLevel = 31 - Integer.numberOfLeadingZeros(n + 1);
+        map.root = build(keys, values, 0, n - 1, 0, redLevel);
+        map.size = n;
+        return map;
+    }
+
+    @Override
+    public Comparator<? super K> comparator() {
+        return comparator;
+    }
+
+    @Override
+    public V get(Object key) {
+        Node<K, V> node = this.getNode(key);
+        return node == null ? null : node.value;
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        Node<K, V> node = this.getNode(key);
+        return node == null ? defaultValue : node.value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return this.getNode(key) != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if the key is null
+     */
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(key, "Key is null.");
+
+        if (root == null) {
+            root = new Node<>(key, value, null);
+            size = 1;
+            modCount += 1;
+            return null;
+        }
+
+        Node<K, V> parent;
+        Node<K, V> current = root;
+        int cmp;
+        do {
+            parent = current;
+            cmp = this.compare(key, current.key);
+            if (cmp < 0) {
+                current = current.left;
+            } else if (cmp > 0) {
+                current = current.right;
+            } else {
+                V previous = current.value;
+                current.value = value;
+                return previous;
+            }
+        } while (current != null);
+
+        Node<K, V> node = new Node<>(key, value, parent);
+        if (cmp < 0) {
+            parent.left = node;
+        } else {
+            parent.right = node;
+        }
+        this.fixAfterInsertion(node);
+        size += 1;
+        modCount += 1;
+        return null;
+    }
+
+    @Override
+    public V remove(Object key) {
+        Node<K, V> node = this.getNode(key);
+        if (node == null) return null;
+
+        V previous = node.value;
+        this.deleteNode(node);
+        return previous;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ConcurrentModificationException if the mapping function modified this map
+     */
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        V value = this.get(key);
+        if (value != null) return value;
+
+        int expectedModCount = modCount;
+        value = mappingFunction.apply(key);
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+        if (value == null) return null;
+
+        this.put(key, value);
+        return value;
+    }
+
+    @Override
+    public K firstKey() {
+        Node<K, V> node = this.firstNode();
+        return node == null ? null : node.key;
+    }
+
+    @Override
+    public K lastKey() {
+        Node<K, V> node = root;
+        if (node == null) return null;
+
+        while (node.right != null) {
+            node = node.right;
+        }
+        return node.key;
+    }
+
+    @Override
+    public K floorKey(K key) {
+        Node<K, V> node = root;
+        Node<K, V> candidate = null;
+
+        while (node != null) {
+            int cmp = this.compare(key, node.key);
+            if (cmp == 0) return node.key;
+            if (cmp > 0) {
+                candidate = node;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return candidate == null ? null : candidate.key;
+    }
+
+    @Override
+    public K ceilingKey(K key) {
+        Node<K, V> node = this.ceilingNode(key);
+        return node == null ? null : node.key;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ConcurrentModificationException if the action modified this map
+     */
+    @Override
+    public void forEachInRange(K fromKey, K toKey, BiConsumer<? super K, ? super V> action) {
+        if (this.compare(fromKey, toKey) > 0) {
+            throw new IllegalArgumentException("Illegal range: fromKey is greater than toKey.");
+        }
+
+        int expectedModCount = modCount;
+        for (Node<K, V> node = this.ceilingNode(fromKey); node != null; node = successor(node)) {
+            if (this.compare(node.key, toKey) >= 0) break;
+            action.accept(node.key, node.value);
+        }
+
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ConcurrentModificationException if the action modified this map
+     */
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        int expectedModCount = modCount;
+
+        for (Node<K, V> node = this.firstNode(); node != null; node = successor(node)) {
+            action.accept(node.key, node.value);
+        }
+
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        root = null;
+        size = 0;
+        modCount += 1;
+    }
+
+    /**
+     * Returns the number of nodes on the longest path from the root to a leaf; an empty map has height 0.
+     * Time Complexity: O(N)
+     *
+     * @return the height of the tree
+     */
+    public int height() {
+        return height(root);
+    }
+
+    // Object
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+        this.forEach((key, value) -> {
+            if (sb.length() > 1) {
+                sb.append(",");
+            }
+            sb.append(key).append("=").append(value);
+        });
+        sb.append("}");
+
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+
+        if (!(obj instanceof MyMap)) return false;
+
+        MyMap<?, ?> other = (MyMap<?, ?>) obj;
+
+        if (this.size() != other.size()) return false;
+
+        for (Node<K, V> node = this.firstNode(); node != null; node = successor(node)) {
+            if (!Objects.equals(node.value, other.get(node.key))
+                    || (node.value == null && !other.containsKey(node.key))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (Node<K, V> node = this.firstNode(); node != null; node = successor(node)) {
+            hash += Objects.hashCode(node.key) ^ Objects.hashCode(node.value);
+        }
+        return hash;
+    }
+
+    // Helpers
+    private Node<K, V> getNode(Object key) {
+        Node<K, V> node = root;
+        while (node != null) {
+            int cmp = this.compare(key, node.key);
+            if (cmp < 0) {
+                node = node.left;
+            } else if (cmp > 0) {
+                node = node.right;
+            } else {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private Node<K, V> firstNode() {
+        Node<K, V> node = root;
+        if (node == null) return null;
+
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node;
+    }
+
+    private Node<K, V> ceilingNode(K key) {
+        Node<K, V> node = root;
+        Node<K, V> candidate = null;
+
+        while (node != null) {
+            int cmp = this.compare(key, node.key);
+            if (cmp == 0) return node;
+            if (cmp < 0) {
+                candidate = node;
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        return candidate;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(Object a, Object b) {
+        return comparator == null
+                ? ((Comparable<Object>) a).compareTo(b)
+                : comparator.compare((K) a, (K) b);
+    }
+
+    private static <K, V> Node<K, V> successor(Node<K, V> node) {
+        if (node.right != null) {
+            Node<K, V> next = node.right;
+            while (next.left != null) {
+                next = next.left;
+            }
+            return next;
+        }
+
+        Node<K, V> parent = node.parent;
+        while (parent != null && node == parent.right) {
+            node = parent;
+            parent = parent.parent;
+        }
+        return parent;
+    }
+
+    private static int height(Node<?, ?> node) {
+        return node == null ? 0 : 1 + Math.max(height(node.left), height(node.right));
+    }
+
+    private static <K, V> Node<K, V> build(MyArrayList<? extends K> keys, MyArrayList<? extends V> values,
+                                           int low, int high, int level, int redLevel) {
+        if (high < low) return null;
+
+        int mid = (low + high) >>> 1;
+        Node<K, V> node = new Node<>(keys.get(mid), values.get(mid), null);
+        node.red = level == redLevel;
+
+        node.left = build(keys, values, low, mid - 1, level + 1, redLevel);
+        if (node.left != null) {
+            node.left.parent = node;
+        }
+        node.right = build(keys, values, mid + 1, high, level + 1, redLevel);
+        if (node.right != null) {
+            node.right.parent = node;
+        }
+        return node;
+    }
+
+    /**
+     * Unlinks the node, first swapping in the contents of its successor if it has two children,
+     * and restores the colour invariants.
+     */
+    private void deleteNode(Node<K, V> node) {
+        modCount += 1;
+        size -= 1;
+
+        if (node.left != null && node.right != null) {
+            Node<K, V> next = successor(node);
+            node.key = next.key;
+            node.value = next.value;
+            node = next;
+        }
+
+        Node<K, V> replacement = node.left != null ? node.left : node.right;
+
+        if (replacement != null) {
+            replacement.parent = node.parent;
+            if (node.parent == null) {
+                root = replacement;
+            } else if (node == node.parent.left) {
+                node.parent.left = replacement;
+            } else {
+                node.parent.right = replacement;
+            }
+            node.left = null;
+            node.right = null;
+            node.parent = null;
+
+            if (!node.red) {
+                this.fixAfterDeletion(replacement);
+            }
+        } else if (node.parent == null) {
+            root = null;
+        } else {
+            // A childless node stands in for its own missing child while the colours are fixed
+            if (!node.red) {
+                this.fixAfterDeletion(node);
+            }
+            if (node.parent != null) {
+                if (node == node.parent.left) {
+                    node.parent.left = null;
+                } else {
+                    node.parent.right = null;
+                }
+                node.parent = null;
+            }
+        }
+    }
+
+    private void fixAfterInsertion(Node<K, V> node) {
+        node.red = true;
+
+        while (node != root && isRed(node.parent)) {
+            Node<K, V> parent = node.parent;
+            Node<K, V> grandparent = parent.parent;
+
+            if (parent == grandparent.left) {
+                Node<K, V> uncle = grandparent.right;
+                if (isRed(uncle)) {
+                    parent.red = false;
+                    uncle.red = false;
+                    grandparent.red = true;
+                    node = grandparent;
+                } else {
+                    if (node == parent.right) {
+                        node = parent;
+                        this.rotateLeft(node);
+                    }
+                    node.parent.red = false;
+                    node.parent.parent.red = true;
+                    this.rotateRight(node.parent.parent);
+                }
+            } else {
+                Node<K, V> uncle = grandparent.left;
+                if (isRed(uncle)) {
+                    parent.red = false;
+                    uncle.red = false;
+                    grandparent.red = true;
+                    node = grandparent;
+                } else {
+                    if (node == parent.left) {
+                        node = parent;
+                        this.rotateRight(node);
+                    }
+                    node.parent.red = false;
+                    node.parent.parent.red = true;
+                    this.rotateLeft(node.parent.parent);
+                }
+            }
+        }
+
+        root.red = false;
+    }
+
+    private void fixAfterDeletion(Node<K, V> node) {
+        while (node != root && !isRed(node)) {
+            Node<K, V> parent = node.parent;
+
+            if (node == parent.left) {
+                Node<K, V> sibling = parent.right;
+                if (isRed(sibling)) {
+                    sibling.red = false;
+                    parent.red = true;
+                    this.rotateLeft(parent);
+                    sibling = parent.right;
+                }
+
+                if (!isRed(sibling.left) && !isRed(sibling.right)) {
+                    sibling.red = true;
+                    node = parent;
+                } else {
+                    if (!isRed(sibling.right)) {
+                        sibling.left.red = false;
+                        sibling.red = true;
+                        this.rotateRight(sibling);
+                        sibling = parent.right;
+                    }
+                    sibling.red = parent.red;
+                    parent.red = false;
+                    sibling.right.red = false;
+                    this.rotateLeft(parent);
+                    node = root;
+                }
+            } else {
+                Node<K, V> sibling = parent.left;
+                if (isRed(sibling)) {
+                    sibling.red = false;
+                    parent.red = true;
+                    this.rotateRight(parent);
+                    sibling = parent.left;
+                }
+
+                if (!isRed(sibling.left) && !isRed(sibling.right)) {
+                    sibling.red = true;
+                    node = parent;
+                } else {
+                    if (!isRed(sibling.left)) {
+                        sibling.right.red = false;
+                        sibling.red = true;
+                        this.rotateLeft(sibling);
+                        sibling = parent.left;
+                    }
+                    sibling.red = parent.red;
+                    parent.red = false;
+                    sibling.left.red = false;
+                    this.rotateRight(parent);
+                    node = root;
+                }
+            }
+        }
+
+        node.red = false;
+    }
+
+    private void rotateLeft(Node<K, V> node) {
+        Node<K, V> right = node.right;
+        node.right = right.left;
+        if (right.left != null) {
+            right.left.parent = node;
+        }
+        right.parent = node.parent;
+        if (node.parent == null) {
+            root = right;
+        } else if (node.parent.left == node) {
+            node.parent.left = right;
+        } else {
+            node.parent.right = right;
+        }
+        right.left = node;
+        node.parent = right;
+    }
+
+    private void rotateRight(Node<K, V> node) {
+        Node<K, V> left = node.left;
+        node.left = left.right;
+        if (left.right != null) {
+            left.right.parent = node;
+        }
+        left.parent = node.parent;
+        if (node.parent == null) {
+            root = left;
+        } else if (node.parent.right == node) {
+            node.parent.right = left;
+        } else {
+            node.parent.left = left;
+        }
+        left.right = node;
+        node.parent = left;
+    }
+
+    private static boolean isRed(Node<?, ?> node) {
+        return node != null && node.red;
+    }
+}
@@ -0,0 +1,70 @@
+package main.java.datastructures.map;
+
+import java.util.Comparator;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link MyMap} that keeps its keys in ascending order, either by their natural ordering or by a comparator
+ * supplied at construction. {@link #forEach} visits the mappings in key order.
+ *
+ * <p>Keys are compared with the comparator only, so it must be consistent with equals for the map to behave as a
+ * {@link MyMap}. {@code null} keys are not permitted; {@code null} values are.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ */
+public interface MySortedMap<K, V> extends MyMap<K, V> {
+
+    /**
+     * Returns the comparator used to order the keys.
+     * Time Complexity: O(1)
+     *
+     * @return the comparator, or {@code null} if the keys use their natural ordering
+     */
+    Comparator<? super K> comparator();
+
+    /**
+     * Returns the lowest key in this map.
+     * Time Complexity: O(log N)
+     *
+     * @return the lowest key, or {@code null} if this map is empty
+     */
+    K firstKey();
+
+    /**
+     * Returns the highest key in this map.
+     * Time Complexity: O(log N)
+     *
+     * @return the highest key, or {@code null} if this map is empty
+     */
+    K lastKey();
+
+    /**
+     * Returns the greatest key less than or equal to the given key.
+     * Time Complexity: O(log N)
+     *
+     * @param key the key to search from
+     * @return the greatest key {@code <= key}, or {@code null} if there is no such key
+     */
+    K floorKey(K key);
+
+    /**
+     * Returns the least key greater than or equal to the given key.
+     * Time Complexity: O(log N)
+     *
+     * @param key the key to search from
+     * @return the least key {@code >= key}, or {@code null} if there is no such key
+     */
+    K ceilingKey(K key);
+
+    /**
+     * Performs the given action, in key order, for every mapping whose key lies in {@code [fromKey, toKey)}.
+     * Time Complexity: O(log N + M) where M is the number of mappings in the range
+     *
+     * @param fromKey the lowest key of the range, inclusive
+     * @param toKey the end of the range, exclusive
+     * @param action the action to be performed for each key and its value
+     * @throws IllegalArgumentException if {@code fromKey} is greater than {@code toKey}
+     */
+    void forEachInRange(K fromKey, K toKey, BiConsumer<? super K, ? super V> action);
+}
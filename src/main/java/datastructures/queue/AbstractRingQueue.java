@@ -0,0 +1,204 @@
+package main.java.datastructures.queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Consumer;
+
+/*
+ * The JVM lays out a class's own fields after those of its superclasses, so the padding classes below
+ * keep the producer index and the consumer index on separate 64-byte cache lines.
+ * Without them, every write by the producer would invalidate the line the consumer is reading (false sharing).
+ */
+
+abstract class RingQueueFields<E> {
+    protected final E[] buffer;
+    protected final int mask;
+
+    @SuppressWarnings("unchecked")
+    RingQueueFields(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        }
+        int powerOfTwo = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.buffer = (E[]) new Object[powerOfTwo];
+        this.mask = powerOfTwo - 1;
+    }
+}
+
+abstract class RingQueuePad0<E> extends RingQueueFields<E> {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+
+    RingQueuePad0(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class RingQueueProducerFields<E> extends RingQueuePad0<E> {
+    protected volatile long producerIndex;
+    // Lowest index the producer cannot write to yet, cached so the producer rarely reads consumerIndex
+    protected long producerLimit;
+
+    RingQueueProducerFields(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class RingQueuePad1<E> extends RingQueueProducerFields<E> {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+
+    RingQueuePad1(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class RingQueueConsumerFields<E> extends RingQueuePad1<E> {
+    protected volatile long consumerIndex;
+
+    RingQueueConsumerFields(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class RingQueuePad2<E> extends RingQueueConsumerFields<E> {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+
+    RingQueuePad2(int capacity) {
+        super(capacity);
+    }
+}
+
+/**
+ * The consumer side shared by the single-consumer ring queues.
+ *
+ * <p>Indices only ever grow and are mapped onto the power-of-two buffer with {@code index & mask}.
+ * A slot holds {@code null} until its element is published with a release store, so the consumer
+ * learns that an element is ready from the slot itself, without reading {@code producerIndex}.
+ * The consumer clears the slot before it advances {@code consumerIndex}, and the producer never writes
+ * past {@code consumerIndex + capacity}, so a slot is never written while it still holds an element.
+ *
+ * @param <E> the type of elements in this queue
+ */
+abstract class AbstractRingQueue<E> extends RingQueuePad2<E> implements MyBoundedQueue<E> {
+
+    protected static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+    protected static final VarHandle PRODUCER_INDEX;
+    protected static final VarHandle PRODUCER_LIMIT;
+    protected static final VarHandle CONSUMER_INDEX;
+
+    /**
+     * Published into a claimed slot that will never get an element, for example because the supplier of a batch
+     * failed. The consumer frees such slots and moves past them as if they were never claimed.
+     */
+    protected static final Object SKIPPED = new Object();
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            PRODUCER_INDEX = lookup.findVarHandle(RingQueueProducerFields.class, "producerIndex", long.class);
+            PRODUCER_LIMIT = lookup.findVarHandle(RingQueueProducerFields.class, "producerLimit", long.class);
+            CONSUMER_INDEX = lookup.findVarHandle(RingQueueConsumerFields.class, "consumerIndex", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    AbstractRingQueue(int capacity) {
+        super(capacity);
+        this.producerLimit = buffer.length;
+    }
+
+    @Override
+    public void enqueue(E element) {
+        if (!this.offer(element)) {
+            throw new IllegalStateException("Queue is full.");
+        }
+    }
+
+    @Override
+    public E dequeue() {
+        return this.poll();
+    }
+
+    @Override
+    public E poll() {
+        long index = (long) CONSUMER_INDEX.getOpaque(this);
+        while (true) {
+            int offset = (int) index & mask;
+            E element = this.slotAt(offset, index);
+            if (element == null) return null;
+
+            SLOT.setOpaque(buffer, offset, null);
+            index += 1;
+            CONSUMER_INDEX.setRelease(this, index);
+            if (element != SKIPPED) return element;
+        }
+    }
+
+    @Override
+    public E peek() {
+        long index = (long) CONSUMER_INDEX.getOpaque(this);
+        while (true) {
+            int offset = (int) index & mask;
+            E element = this.slotAt(offset, index);
+            if (element != SKIPPED) return element;
+
+            // Peeking is a consumer operation, so it may discard the skipped slot itself
+            SLOT.setOpaque(buffer, offset, null);
+            index += 1;
+            CONSUMER_INDEX.setRelease(this, index);
+        }
+    }
+
+    @Override
+    public int drain(Consumer<? super E> consumer, int maxBatch) {
+        long index = (long) CONSUMER_INDEX.getOpaque(this);
+        int drained = 0;
+
+        try {
+            while (drained < maxBatch) {
+                int offset = (int) index & mask;
+                E element = this.slotAt(offset, index);
+                if (element == null) break;
+
+                SLOT.setOpaque(buffer, offset, null);
+                index += 1;
+                if (element == SKIPPED) continue;
+                drained += 1;
+                consumer.accept(element);
+            }
+        } finally {
+            // One release store for the whole batch; also runs if the consumer throws, so taken elements stay taken
+            CONSUMER_INDEX.setRelease(this, index);
+        }
+
+        return drained;
+    }
+
+    @Override
+    public int size() {
+        // Reading the consumer first means the producer index read afterwards is never behind it
+        long consumer = consumerIndex;
+        long producer = producerIndex;
+        return (int) Math.max(0, Math.min(buffer.length, producer - consumer));
+    }
+
+    @Override
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Reads the slot for the given consumer index, returning {@code null} if the queue is empty at that index.
+     * Subclasses with more than one producer override this to wait for a claimed but not yet published slot.
+     */
+    @SuppressWarnings("unchecked")
+    protected E slotAt(int offset, long index) {
+        return (E) SLOT.getAcquire(buffer, offset);
+    }
+
+    // Object
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + "[size=" + this.size() + ", capacity=" + this.capacity() + "]";
+    }
+}
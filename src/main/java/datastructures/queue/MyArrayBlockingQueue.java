@@ -0,0 +1,265 @@
+package main.java.datastructures.queue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A bounded blocking queue over a circular array, guarded by one {@link ReentrantLock} with a condition for
+ * "not empty" and one for "not full".
+ *
+ * <p>Waiting threads park on a {@link Condition} rather than in a {@code synchronized} block, so a virtual thread
+ * blocked in {@link #take()} or {@link #put(Object)} unmounts from its carrier and costs only its stack, which lets
+ * hundreds of thousands of them wait on queues at once. Each element wakes at most one waiter; batches wake as many
+ * waiters as elements or slots they move.
+ *
+ * <p>{@link #drain(Consumer, int)} passes elements to the consumer after releasing the lock. {@link #fill(Supplier, int)}
+ * calls the supplier while holding the lock, so the supplier should be quick.
+ *
+ * @param <E> the type of elements in this queue
+ */
+public class MyArrayBlockingQueue<E> implements MyBlockingQueue<E> {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final Object[] items;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private int head;
+    private int count;
+
+    /**
+     * @param capacity the maximum number of elements
+     * @throws IllegalArgumentException if the capacity is not between 1 and 2^30
+     */
+    public MyArrayBlockingQueue(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        }
+        this.items = new Object[capacity];
+    }
+
+    // Queue
+
+    @Override
+    public void enqueue(E element) {
+        if (!this.offer(element)) {
+            throw new IllegalStateException("Queue is full.");
+        }
+    }
+
+    @Override
+    public boolean offer(E element) {
+        checkNotNull(element);
+        lock.lock();
+        try {
+            if (count == items.length) return false;
+            this.insert(element);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(E element, long timeout, TimeUnit unit) throws InterruptedException {
+        checkNotNull(element);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == items.length) {
+                if (nanos <= 0) return false;
+                nanos = notFull.awaitNanos(nanos);
+            }
+            this.insert(element);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(E element) throws InterruptedException {
+        checkNotNull(element);
+        lock.lockInterruptibly();
+        try {
+            while (count == items.length) {
+                notFull.await();
+            }
+            this.insert(element);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E dequeue() {
+        return this.poll();
+    }
+
+    @Override
+    public E poll() {
+        lock.lock();
+        try {
+            return count == 0 ? null : this.extract();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0) return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return this.extract();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                notEmpty.await();
+            }
+            return this.extract();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        lock.lock();
+        try {
+            return (E) items[head];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<? super E> consumer, int maxBatch) {
+        Object[] batch;
+        lock.lock();
+        try {
+            int n = Math.min(maxBatch, count);
+            if (n <= 0) return 0;
+
+            batch = new Object[n];
+            for (int i = 0; i < n; i++) {
+                batch[i] = items[head];
+                items[head] = null;
+                head = this.next(head);
+            }
+            count -= n;
+            this.signal(notFull, n);
+        } finally {
+            lock.unlock();
+        }
+
+        for (Object element : batch) {
+            consumer.accept((E) element);
+        }
+        return batch.length;
+    }
+
+    @Override
+    public int fill(Supplier<? extends E> supplier, int count) {
+        lock.lock();
+        try {
+            int available = Math.min(count, items.length - this.count);
+            int filled = 0;
+            try {
+                while (filled < available) {
+                    E element = supplier.get();
+                    checkNotNull(element);
+                    items[this.tailIndex()] = element;
+                    this.count += 1;
+                    filled += 1;
+                }
+            } finally {
+                this.signal(notEmpty, filled);
+            }
+            return filled;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int capacity() {
+        return items.length;
+    }
+
+    // Object
+
+    @Override
+    public String toString() {
+        return "MyArrayBlockingQueue[size=" + this.size() + ", capacity=" + this.capacity() + "]";
+    }
+
+    // Helpers
+
+    private void insert(E element) {
+        items[this.tailIndex()] = element;
+        count += 1;
+        notEmpty.signal();
+    }
+
+    @SuppressWarnings("unchecked")
+    private E extract() {
+        E element = (E) items[head];
+        items[head] = null;
+        head = this.next(head);
+        count -= 1;
+        notFull.signal();
+        return element;
+    }
+
+    private int tailIndex() {
+        int tail = head + count;
+        return tail >= items.length ? tail - items.length : tail;
+    }
+
+    private int next(int index) {
+        return index + 1 == items.length ? 0 : index + 1;
+    }
+
+    /**
+     * Wakes one waiter per moved element or slot, stopping early once nobody is left waiting.
+     */
+    private void signal(Condition condition, int moved) {
+        for (int i = 0; i < moved && lock.hasWaiters(condition); i++) {
+            condition.signal();
+        }
+    }
+
+    private static void checkNotNull(Object element) {
+        if (element == null) {
+            throw new NullPointerException("MyArrayBlockingQueue does not permit null elements.");
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package main.java.datastructures.queue;
+
+import java.util.Objects;
+
+/**
+ * A resizable circular-array implementation of {@link MyDeque}.
+ *
+ * <p>Elements live in a power-of-two sized array between {@code head} (inclusive) and {@code tail} (exclusive),
+ * wrapping around the end. Because the capacity is a power of two, moving either end is a single
+ * {@code & (capacity - 1)} instead of a modulo or a branch, and no node is allocated per element.
+ *
+ * <p>The array doubles when full, up to 2^30 elements, the largest power-of-two array the JVM can allocate. If the deque is created with {@code shrinkOnDrain}, it also halves
+ * once it is only a quarter full, so a burst does not keep its peak capacity forever.
+ *
+ * @param <E> the type of elements in this deque
+ */
+public class MyArrayDeque<E> implements MyDeque<E> {
+
+    private static final int MIN_CAPACITY = 8;
+    // The largest power of two that is a valid array length
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private E[] elements;
+    private int head;
+    private int tail;
+    private int size;
+    private final int minCapacity;
+    private final boolean shrinkOnDrain;
+
+    public MyArrayDeque() {
+        this(16, false);
+    }
+
+    /**
+     * @param initialCapacity the number of elements the deque can hold before it has to grow, rounded up to a power of two
+     * @param shrinkOnDrain whether the backing array is halved when the deque drains to a quarter of its capacity;
+     *                      it never shrinks below the initial capacity
+     * @throws IllegalArgumentException if the initial capacity is negative or greater than 2^30
+     */
+    @SuppressWarnings("unchecked")
+    public MyArrayDeque(int initialCapacity, boolean shrinkOnDrain) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.minCapacity = roundUpToPowerOfTwo(Math.max(MIN_CAPACITY, initialCapacity));
+        this.elements = (E[]) new Object[minCapacity];
+        this.head = 0;
+        this.tail = 0;
+        this.size = 0;
+        this.shrinkOnDrain = shrinkOnDrain;
+    }
+
+    // Queue
+    @Override
+    public void enqueue(E element) {
+        this.ensureCapacity();
+        elements[tail] = element;
+        tail = (tail + 1) & (elements.length - 1);
+        size += 1;
+    }
+
+    @Override
+    public E peek() {
+        return size == 0 ? null : elements[head];
+    }
+
+    @Override
+    public E dequeue() {
+        if (size == 0) return null;
+
+        E firstElement = elements[head];
+        elements[head] = null;
+        head = (head + 1) & (elements.length - 1);
+        size -= 1;
+
+        this.shrinkIfDrained();
+        return firstElement;
+    }
+
+    // Deque
+    @Override
+    public E removeLast() {
+        if (size == 0) return null;
+
+        tail = (tail - 1) & (elements.length - 1);
+        E lastElement = elements[tail];
+        elements[tail] = null;
+        size -= 1;
+
+        this.shrinkIfDrained();
+        return lastElement;
+    }
+
+    @Override
+    public E getLast() {
+        return size == 0 ? null : elements[(tail - 1) & (elements.length - 1)];
+    }
+
+    // Deque (Stack functionality)
+    @Override
+    public void push(E element) {
+        this.ensureCapacity();
+        head = (head - 1) & (elements.length - 1);
+        elements[head] = element;
+        size += 1;
+    }
+
+    @Override
+    public E pop() {
+        return this.dequeue();
+    }
+
+    /**
+     * Returns the number of elements in this deque.
+     * Time Complexity: O(1)
+     *
+     * @return the number of elements in this deque
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the length of the backing array.
+     * Time Complexity: O(1)
+     *
+     * @return the number of elements this deque can hold before it has to grow
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    // Object
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+
+        for (int i = 0; i < size; i++) {
+            sb.append(this.elementAt(i));
+
+            if (i < size - 1) {
+                sb.append(",");
+            }
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+
+        if (obj == null || this.getClass() != obj.getClass()) return false;
+
+        MyArrayDeque<?> other = (MyArrayDeque<?>) obj;
+
+        if (this.size != other.size) return false;
+
+        for (int i = 0; i < size; i++) {
+            if (!Objects.equals(this.elementAt(i), other.elementAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Objects.hashCode(this.elementAt(i));
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the i-th element counting from the head.
+     */
+    private E elementAt(int i) {
+        return elements[(head + i) & (elements.length - 1)];
+    }
+
+    /**
+     * Doubles the capacity of the deque when full.
+     * Time Complexity: O(N)
+     *
+     * @throws OutOfMemoryError if the deque already holds 2^30 elements
+     */
+    private void ensureCapacity() {
+        if (size == elements.length) {
+            this.resize(grownCapacity(elements.length));
+        }
+    }
+
+    /**
+     * Halves the capacity once the deque is a quarter full, if shrinking is enabled.
+     * Halving at a quarter rather than at a half leaves room for the deque to grow again without resizing back.
+     * Time Complexity: O(N)
+     */
+    private void shrinkIfDrained() {
+        if (shrinkOnDrain && elements.length > minCapacity && size <= elements.length / 4) {
+            this.resize(elements.length / 2);
+        }
+    }
+
+    /**
+     * Copies the elements into a new array of the given capacity, unwrapping them so that head becomes 0.
+     */
+    @SuppressWarnings("unchecked")
+    private void resize(int newCapacity) {
+        E[] newElements = (E[]) new Object[newCapacity];
+
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, newElements, 0, firstPart);
+        System.arraycopy(elements, 0, newElements, firstPart, size - firstPart);
+
+        elements = newElements;
+        head = 0;
+        tail = size & (newCapacity - 1);
+    }
+
+    /**
+     * Returns the doubled capacity, which stays a power of two.
+     *
+     * @throws OutOfMemoryError if the capacity is already the maximum
+     */
+    private static int grownCapacity(int capacity) {
+        if (capacity >= MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required capacity " + (capacity + 1L) + " exceeds the maximum deque size.");
+        }
+        return capacity << 1;
+    }
+
+    private static int roundUpToPowerOfTwo(int value) {
+        int highestBit = Integer.highestOneBit(value);
+        return highestBit == value ? value : highestBit << 1;
+    }
+}
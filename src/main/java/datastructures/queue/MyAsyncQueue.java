@@ -0,0 +1,477 @@
+package main.java.datastructures.queue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A bounded queue whose consumers and producers wait with {@link CompletableFuture}s instead of threads.
+ *
+ * <p>{@link #pollAsync()} returns a future that completes with the head of the queue, at once if there is one, and
+ * otherwise when an element is offered: the element is then handed straight to the oldest waiting future and never
+ * enters the buffer. {@link #offerAsync(Object)} is the backpressure side: on a full queue it returns a future that
+ * completes once the element has been accepted. A waiting consumer or producer costs one future and no thread, so
+ * any number of them can wait, and chaining on the futures never blocks a carrier thread.
+ *
+ * <p>Futures are completed after the queue's lock is released, on the thread that offered or polled, so their
+ * dependent actions run on that thread unless they are attached with an {@code ...Async} method. They may call back
+ * into the queue.
+ *
+ * <p>Whether the queue settles a waiting future or its caller gives up on it is decided under the queue's lock.
+ * Cancelling, timing out with {@link CompletableFuture#orTimeout} or completing a future from {@link #pollAsync()}
+ * gives up the wait if, and only if, the call returns {@code true}; otherwise the future has been handed an element,
+ * which it will complete with, so no element is lost. Likewise, giving up on a future from
+ * {@link #offerAsync(Object)} withdraws the element if, and only if, the call returns {@code true}.
+ * {@code completeAsync} gives up the wait when it is called if the future is still waiting, and does nothing
+ * otherwise; {@code obtrudeValue} and {@code obtrudeException} throw {@link UnsupportedOperationException}. Given-up futures
+ * are unlinked in batches once they make up half of their waiting list, so abandoned waits do not accumulate on an
+ * idle queue.
+ *
+ * @param <E> the type of elements in this queue
+ */
+public class MyAsyncQueue<E> implements MyBoundedQueue<E> {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final MyArrayDeque<E> elements = new MyArrayDeque<>();
+    // Holds live futures only while elements is empty
+    private final MyArrayDeque<PendingPoll> consumers = new MyArrayDeque<>();
+    // Holds live futures only while elements is full
+    private final MyArrayDeque<PendingOffer> producers = new MyArrayDeque<>();
+    // Given-up futures still linked in consumers and producers
+    private int abandonedConsumers;
+    private int abandonedProducers;
+
+    /**
+     * @param capacity the maximum number of buffered elements
+     * @throws IllegalArgumentException if the capacity is not between 1 and 2^30
+     */
+    public MyAsyncQueue(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    // Queue
+
+    @Override
+    public void enqueue(E element) {
+        if (!this.offer(element)) {
+            throw new IllegalStateException("Queue is full.");
+        }
+    }
+
+    /**
+     * Hands the element to the oldest waiting consumer, or buffers it if no consumer is waiting.
+     * Time Complexity: O(1) amortized
+     */
+    @Override
+    public boolean offer(E element) {
+        checkNotNull(element);
+        PendingPoll consumer;
+        lock.lock();
+        try {
+            consumer = this.claimConsumer();
+            if (consumer == null) {
+                if (elements.size() == capacity) return false;
+                elements.enqueue(element);
+                return true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        consumer.deliver(element);
+        return true;
+    }
+
+    /**
+     * Offers the element, or waits for space without blocking the caller if the queue is full.
+     * Time Complexity: O(1) amortized
+     *
+     * @param element the element to enqueue
+     * @return a future that completes once the element is in the queue or has been handed to a consumer
+     * @throws NullPointerException if the element is null
+     */
+    public CompletableFuture<Void> offerAsync(E element) {
+        checkNotNull(element);
+        if (this.offer(element)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        lock.lock();
+        try {
+            // Recheck under the lock: a consumer may have made room since
+            if (consumers.size() == abandonedConsumers && elements.size() == capacity) {
+                PendingOffer pending = new PendingOffer(element);
+                producers.enqueue(pending);
+                return pending;
+            }
+        } finally {
+            lock.unlock();
+        }
+        return this.offerAsync(element);
+    }
+
+    @Override
+    public E dequeue() {
+        return this.poll();
+    }
+
+    @Override
+    public E poll() {
+        PendingOffer admitted;
+        E element;
+        lock.lock();
+        try {
+            element = elements.dequeue();
+            if (element == null) return null;
+            admitted = this.admitOne();
+        } finally {
+            lock.unlock();
+        }
+        if (admitted != null) admitted.deliver(null);
+        return element;
+    }
+
+    /**
+     * Retrieves and removes the head of this queue as soon as there is one.
+     * Time Complexity: O(1) amortized
+     *
+     * @return a future that completes with the head of this queue; already complete if the queue is not empty
+     */
+    public CompletableFuture<E> pollAsync() {
+        PendingOffer admitted;
+        E element;
+        lock.lock();
+        try {
+            element = elements.dequeue();
+            if (element == null) {
+                PendingPoll consumer = new PendingPoll();
+                consumers.enqueue(consumer);
+                return consumer;
+            }
+            admitted = this.admitOne();
+        } finally {
+            lock.unlock();
+        }
+        if (admitted != null) admitted.deliver(null);
+        return CompletableFuture.completedFuture(element);
+    }
+
+    @Override
+    public E peek() {
+        lock.lock();
+        try {
+            return elements.peek();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Passes the removed elements to the consumer after releasing the lock.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<? super E> consumer, int maxBatch) {
+        Object[] batch;
+        MyArrayDeque<PendingOffer> admitted = new MyArrayDeque<>();
+        lock.lock();
+        try {
+            int n = Math.min(maxBatch, elements.size());
+            if (n <= 0) return 0;
+
+            batch = new Object[n];
+            for (int i = 0; i < n; i++) {
+                batch[i] = elements.dequeue();
+                PendingOffer pending = this.admitOne();
+                if (pending != null) admitted.enqueue(pending);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        PendingOffer pending;
+        while ((pending = admitted.dequeue()) != null) {
+            pending.deliver(null);
+        }
+        for (Object element : batch) {
+            consumer.accept((E) element);
+        }
+        return batch.length;
+    }
+
+    /**
+     * Hands elements to waiting consumers first and buffers the rest. The supplier is called while the queue is
+     * locked, so that the room it fills cannot be taken in between, and should be quick; the consumers are completed
+     * after the lock is released.
+     */
+    @Override
+    public int fill(Supplier<? extends E> supplier, int count) {
+        MyArrayDeque<PendingPoll> claimed = new MyArrayDeque<>();
+        MyArrayDeque<E> handed = new MyArrayDeque<>();
+        int filled = 0;
+
+        lock.lock();
+        try {
+            while (filled < count) {
+                PendingPoll consumer = this.claimConsumer();
+                if (consumer == null && elements.size() == capacity) break;
+
+                E element;
+                try {
+                    element = supplier.get();
+                    checkNotNull(element);
+                } catch (RuntimeException | Error e) {
+                    // The consumer was claimed for this element; put it back at the front of the line
+                    if (consumer != null) this.unclaim(consumer);
+                    throw e;
+                }
+                if (consumer == null) {
+                    elements.enqueue(element);
+                } else {
+                    claimed.enqueue(consumer);
+                    handed.enqueue(element);
+                }
+                filled += 1;
+            }
+        } finally {
+            lock.unlock();
+            PendingPoll consumer;
+            while ((consumer = claimed.dequeue()) != null) {
+                consumer.deliver(handed.dequeue());
+            }
+        }
+        return filled;
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return elements.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of futures from {@link #pollAsync()} still waiting for an element.
+     * Time Complexity: O(1)
+     *
+     * @return the number of waiting consumers
+     */
+    public int waitingConsumers() {
+        lock.lock();
+        try {
+            return consumers.size() - abandonedConsumers;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of futures from {@link #offerAsync(Object)} still waiting for space.
+     * Time Complexity: O(1)
+     *
+     * @return the number of waiting producers
+     */
+    public int waitingProducers() {
+        lock.lock();
+        try {
+            return producers.size() - abandonedProducers;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Object
+
+    @Override
+    public String toString() {
+        return "MyAsyncQueue[size=" + this.size() + ", capacity=" + this.capacity() + "]";
+    }
+
+    // Helpers
+
+    /**
+     * Moves the oldest live pending offer into the buffer after an element has left it. Called with the lock held;
+     * the caller completes the returned offer after unlocking.
+     *
+     * @return the admitted offer, or null if no producer is waiting
+     */
+    private PendingOffer admitOne() {
+        PendingOffer pending;
+        while ((pending = producers.dequeue()) != null) {
+            if (pending.settled) {
+                abandonedProducers -= 1;
+                continue;
+            }
+            pending.settled = true;
+            elements.enqueue(pending.element);
+            return pending;
+        }
+        return null;
+    }
+
+    /**
+     * Takes the oldest live waiting consumer and settles it, so that it can no longer give up. Called with the lock
+     * held; the caller delivers the element after unlocking.
+     *
+     * @return the claimed consumer, or null if no consumer is waiting
+     */
+    private PendingPoll claimConsumer() {
+        PendingPoll consumer;
+        while ((consumer = consumers.dequeue()) != null) {
+            if (consumer.settled) {
+                abandonedConsumers -= 1;
+                continue;
+            }
+            consumer.settled = true;
+            return consumer;
+        }
+        return null;
+    }
+
+    /**
+     * Returns a consumer claimed by {@link #claimConsumer()} to the front of the waiting line. Called with the lock
+     * held.
+     */
+    private void unclaim(PendingPoll consumer) {
+        consumer.settled = false;
+        consumers.push(consumer);
+    }
+
+    /**
+     * Unlinks the settled futures by rotating the deque once. Called with the lock held.
+     */
+    private static <W extends Waiter<?>> void purge(MyArrayDeque<W> waiters) {
+        for (int i = waiters.size(); i > 0; i--) {
+            W waiter = waiters.dequeue();
+            if (!waiter.settled) waiters.enqueue(waiter);
+        }
+    }
+
+    private static void checkNotNull(Object element) {
+        if (element == null) {
+            throw new NullPointerException("MyAsyncQueue does not permit null elements.");
+        }
+    }
+
+    /**
+     * A future the queue keeps while it waits. Whether the queue settles it or its caller gives up on it is decided
+     * under the queue's lock: every public way to complete it first tries to withdraw it, and fails once the queue
+     * has settled it. The queue then completes it with {@link #deliver(Object)}, which cannot fail.
+     *
+     * <p>{@code completeAsync} completes the future through an internal path that bypasses {@link #complete}, so it
+     * withdraws up front and does nothing once the queue has settled the future. Obtruding a value would overwrite
+     * an element the queue has handed over, so the {@code obtrude} methods are not supported.
+     */
+    private abstract static class Waiter<T> extends CompletableFuture<T> {
+        // Guarded by the queue's lock: set once the queue has settled the future or its caller has given up
+        boolean settled;
+
+        @Override
+        public boolean complete(T value) {
+            return this.withdraw() && super.complete(value);
+        }
+
+        @Override
+        public boolean completeExceptionally(Throwable ex) {
+            return this.withdraw() && super.completeExceptionally(ex);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return this.withdraw() && super.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public CompletableFuture<T> completeAsync(Supplier<? extends T> supplier, Executor executor) {
+            if (supplier == null || executor == null) throw new NullPointerException();
+            return this.withdraw() ? super.completeAsync(supplier, executor) : this;
+        }
+
+        @Override
+        public CompletableFuture<T> completeAsync(Supplier<? extends T> supplier) {
+            return this.completeAsync(supplier, this.defaultExecutor());
+        }
+
+        @Override
+        public void obtrudeValue(T value) {
+            throw new UnsupportedOperationException("MyAsyncQueue futures cannot be obtruded.");
+        }
+
+        @Override
+        public void obtrudeException(Throwable ex) {
+            throw new UnsupportedOperationException("MyAsyncQueue futures cannot be obtruded.");
+        }
+
+        void deliver(T value) {
+            super.complete(value);
+        }
+
+        abstract boolean withdraw();
+    }
+
+    /**
+     * The future of a {@link #pollAsync()} waiting for an element.
+     */
+    private final class PendingPoll extends Waiter<E> {
+
+        @Override
+        boolean withdraw() {
+            lock.lock();
+            try {
+                if (settled) return false;
+                settled = true;
+                abandonedConsumers += 1;
+                if (2 * abandonedConsumers > consumers.size()) {
+                    purge(consumers);
+                    abandonedConsumers = 0;
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * The future of an {@link #offerAsync(Object)} waiting for space, with the element it offers.
+     */
+    private final class PendingOffer extends Waiter<Void> {
+        private final E element;
+
+        PendingOffer(E element) {
+            this.element = element;
+        }
+
+        @Override
+        boolean withdraw() {
+            lock.lock();
+            try {
+                if (settled) return false;
+                settled = true;
+                abandonedProducers += 1;
+                if (2 * abandonedProducers > producers.size()) {
+                    purge(producers);
+                    abandonedProducers = 0;
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
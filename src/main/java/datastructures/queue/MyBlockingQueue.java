@@ -0,0 +1,69 @@
+package main.java.datastructures.queue;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link MyBoundedQueue} whose producers can wait for space and whose consumers can wait for elements, instead of
+ * polling in a loop or sleeping.
+ *
+ * <p>A full queue makes {@link #put(Object)} wait, which slows producers down to the pace of their consumers. The
+ * non-blocking methods inherited from {@link MyBoundedQueue} keep their meaning.
+ *
+ * @param <E> the type of elements in this queue
+ */
+public interface MyBlockingQueue<E> extends MyBoundedQueue<E> {
+
+    /**
+     * Inserts the element, waiting for space if the queue is full.
+     * Time Complexity: O(1), plus the wait
+     *
+     * @param element the element to enqueue
+     * @throws InterruptedException if the thread is interrupted while waiting
+     * @throws NullPointerException if the element is null
+     */
+    void put(E element) throws InterruptedException;
+
+    /**
+     * Inserts the element, waiting up to the timeout for space if the queue is full.
+     * Time Complexity: O(1), plus the wait
+     *
+     * @param element the element to enqueue
+     * @param timeout how long to wait, in units of {@code unit}
+     * @param unit the unit of the timeout
+     * @return {@code true} if the element was added, {@code false} if the timeout elapsed first
+     * @throws InterruptedException if the thread is interrupted while waiting
+     * @throws NullPointerException if the element is null
+     */
+    boolean offer(E element, long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Retrieves and removes the head of this queue, waiting for an element if the queue is empty.
+     * Time Complexity: O(1), plus the wait
+     *
+     * @return the head of this queue
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    E take() throws InterruptedException;
+
+    /**
+     * Retrieves and removes the head of this queue, waiting up to the timeout for an element if the queue is empty.
+     * Time Complexity: O(1), plus the wait
+     *
+     * @param timeout how long to wait, in units of {@code unit}
+     * @param unit the unit of the timeout
+     * @return the head of this queue, or null if the timeout elapsed first
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    E poll(long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Returns the number of elements that can be added without waiting.
+     * While other threads modify the queue this is only an estimate.
+     * Time Complexity: O(1)
+     *
+     * @return the free capacity of this queue
+     */
+    default int remainingCapacity() {
+        return this.capacity() - this.size();
+    }
+}
@@ -0,0 +1,84 @@
+package main.java.datastructures.queue;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A {@link MyQueue} with a fixed capacity.
+ *
+ * <p>{@link #enqueue(Object)} throws when the queue is full; {@link #offer(Object)} and {@link #poll()} report
+ * a full or empty queue through their return value instead. {@link #drain(Consumer, int)} and
+ * {@link #fill(Supplier, int)} move several elements per call, so index updates and any cross-thread
+ * signalling are paid once per batch rather than once per element.
+ *
+ * @param <E> the type of elements in this queue
+ */
+public interface MyBoundedQueue<E> extends MyQueue<E> {
+
+    /**
+     * Inserts the specified element into this queue.
+     * Time Complexity: O(1)
+     *
+     * @param element the element to enqueue
+     * @throws IllegalStateException if the queue is full
+     * @throws NullPointerException if the element is null
+     */
+    @Override
+    void enqueue(E element);
+
+    /**
+     * Inserts the specified element into this queue if there is room for it.
+     * Time Complexity: O(1)
+     *
+     * @param element the element to enqueue
+     * @return {@code true} if the element was added, {@code false} if the queue is full
+     * @throws NullPointerException if the element is null
+     */
+    boolean offer(E element);
+
+    /**
+     * Retrieves and removes the head of this queue. Same as {@link #dequeue()}.
+     * Time Complexity: O(1)
+     *
+     * @return the head of this queue or null if this queue is empty
+     */
+    E poll();
+
+    /**
+     * Removes up to {@code maxBatch} elements and passes them to the consumer in FIFO order.
+     * Time Complexity: O(K)
+     *
+     * @param consumer receives each removed element
+     * @param maxBatch the maximum number of elements to remove
+     * @return the number of elements removed
+     */
+    int drain(Consumer<? super E> consumer, int maxBatch);
+
+    /**
+     * Adds up to {@code count} elements obtained from the supplier, stopping early if the queue becomes full.
+     * The supplier is only called for elements that fit, and must not return {@code null}.
+     * Time Complexity: O(K)
+     *
+     * @param supplier provides each element to add
+     * @param count the maximum number of elements to add
+     * @return the number of elements added
+     */
+    int fill(Supplier<? extends E> supplier, int count);
+
+    /**
+     * Returns the number of elements in this queue.
+     * While other threads modify the queue this is only an estimate.
+     * Time Complexity: O(1)
+     *
+     * @return the number of elements in this queue
+     */
+    int size();
+
+    /**
+     * Returns the maximum number of elements this queue can hold.
+     * Time Complexity: O(1)
+     *
+     * @return the capacity of this queue
+     */
+    int capacity();
+}
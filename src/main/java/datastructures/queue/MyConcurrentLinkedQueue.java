@@ -0,0 +1,174 @@
+package main.java.datastructures.queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe, non-blocking {@link MyQueue} based on the Michael-Scott algorithm.
+ *
+ * <p>The queue is a singly linked list that always starts with a dummy node. {@code head} points at the dummy
+ * and the first element is {@code head.next}; {@code tail} points at the last node or, briefly, at the node before it.
+ * Producers link a node with a CAS on {@code tail.next} and consumers unlink one with a CAS on {@code head},
+ * so producers and consumers contend on different words and no thread ever holds a lock.
+ * A thread that sees {@code tail} lagging swings it forward before retrying, which keeps the queue lock-free.
+ *
+ * <p>{@code null} elements are not permitted, since {@link #dequeue()} returns {@code null} for an empty queue.
+ *
+ * @param <E> the type of elements in this queue
+ */
+public class MyConcurrentLinkedQueue<E> implements MyQueue<E> {
+    private static class Node<E> {
+        private volatile E val;
+        private volatile Node<E> next;
+
+        public Node(E value) {
+            this.val = value;
+        }
+    }
+
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle NEXT;
+    private static final VarHandle VAL;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(MyConcurrentLinkedQueue.class, "head", Node.class);
+            TAIL = lookup.findVarHandle(MyConcurrentLinkedQueue.class, "tail", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+            VAL = lookup.findVarHandle(Node.class, "val", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Node<E> head;
+    private volatile Node<E> tail;
+    private final LongAdder size;
+
+    public MyConcurrentLinkedQueue() {
+        Node<E> dummy = new Node<>(null);
+        this.head = dummy;
+        this.tail = dummy;
+        this.size = new LongAdder();
+    }
+
+    /**
+     * Links the element after the last node.
+     * Time Complexity: O(1), lock-free
+     *
+     * @param element the element to enqueue
+     * @throws NullPointerException if the element is null
+     */
+    @Override
+    public void enqueue(E element) {
+        if (element == null) {
+            throw new NullPointerException("MyConcurrentLinkedQueue does not permit null elements.");
+        }
+
+        Node<E> newTail = new Node<>(element);
+
+        while (true) {
+            Node<E> last = tail;
+            Node<E> next = last.next;
+
+            if (last != tail) continue;
+
+            if (next == null) {
+                if (NEXT.compareAndSet(last, null, newTail)) {
+                    // Linearization point; failing to swing tail is fine, the next thread will do it
+                    TAIL.compareAndSet(this, last, newTail);
+                    size.increment();
+                    return;
+                }
+            } else {
+                // Another producer linked a node but has not swung tail yet
+                TAIL.compareAndSet(this, last, next);
+            }
+        }
+    }
+
+    @Override
+    public E peek() {
+        while (true) {
+            Node<E> first = head;
+            Node<E> next = first.next;
+
+            if (next == null) return null;
+
+            E element = next.val;
+            // A null value means a consumer took it between the two reads, so head has moved on
+            if (element != null && first == head) {
+                return element;
+            }
+        }
+    }
+
+    @Override
+    public E dequeue() {
+        while (true) {
+            Node<E> first = head;
+            Node<E> last = tail;
+            Node<E> next = first.next;
+
+            if (first != head) continue;
+
+            if (first == last) {
+                if (next == null) return null;
+
+                // Tail is lagging behind a linked node; help before unlinking, so tail never points at an unlinked node
+                TAIL.compareAndSet(this, last, next);
+            } else {
+                E element = next.val;
+                if (HEAD.compareAndSet(this, first, next)) {
+                    // next becomes the new dummy; drop its value so the queue does not retain it
+                    VAL.setOpaque(next, null);
+                    size.decrement();
+                    return element;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of elements in this queue.
+     * The count is exact when the queue is quiescent, but only an estimate while other threads modify it.
+     * Time Complexity: O(number of contending threads)
+     *
+     * @return the number of elements in this queue
+     */
+    public int size() {
+        return (int) Math.max(0, Math.min(Integer.MAX_VALUE, size.sum()));
+    }
+
+    /**
+     * @return {@code true} if this queue held no elements at the moment of the call
+     */
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+
+    // Object
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+
+        Node<E> curr = head.next;
+        while (curr != null) {
+            E element = curr.val;
+            if (element != null) {
+                if (sb.length() > 1) {
+                    sb.append(",");
+                }
+                sb.append(element);
+            }
+            curr = curr.next;
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,638 @@
+package main.java.datastructures.queue;
+
+import main.java.datastructures.codec.ElementCodec;
+import main.java.datastructures.list.MyArrayList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.zip.CRC32C;
+
+/**
+ * A durable {@link MyQueue} whose elements live in memory-mapped files in a directory, so they survive restarts.
+ *
+ * <p>Every enqueued element gets the next sequence number and is appended to the newest <em>segment</em>, a file of
+ * fixed size named after the sequence number of its first record. A record is a CRC32C checksum, a length and the
+ * bytes written by the {@link ElementCodec}. Each segment has an index file holding the offset of each of its
+ * records, so {@link #get(long)} finds any element with one binary search over the segments and one index read.
+ * When a record does not fit, the segment is sealed and a new one started. Once every record of a segment has
+ * been dequeued, its files are deleted.
+ *
+ * <p>The queue's position is kept in a small checkpoint file with two checksummed slots, written alternately, so a
+ * write torn by a power failure leaves the previous slot intact. Every dequeue updates the head in the checkpoint.
+ * {@link #flush()} forces the segments to disk and then records the tail. On opening, the queue resumes at the
+ * checkpointed tail and scans forward over the records written after it. It stops at the first record whose
+ * checksum does not match and erases everything after it. Opening after {@link #close()} scans nothing. After a
+ * crash, the work is proportional to the data written since the last flush, not to the size of the queue.
+ *
+ * <p>Because the files are mapped, a write is in the operating system's page cache as soon as the call returns.
+ * Elements therefore survive a crash of the process without any flush. Only a crash of the machine can lose elements
+ * enqueued after the last {@link #flush()}, or redeliver elements dequeued after it. Reads decode straight from the
+ * mapped pages, without copying a record onto the heap first.
+ *
+ * <p>Segment files are deleted as soon as the queue stops referencing them, but the mapping itself is only released
+ * when the garbage collector reclaims the buffer. Some platforms, notably Windows, refuse to delete a file that is
+ * still mapped. On those platforms a failed deletion is not an error: the files are retried whenever another segment
+ * is dropped and on {@link #close()}. Segments still left when the queue is next opened are cleaned up then. A sealed
+ * segment dropped during recovery is zeroed if it cannot be deleted, so that its records cannot come back.
+ *
+ * <p>This queue is not thread-safe, and a directory must be opened by at most one queue at a time.
+ *
+ * @param <E> the type of elements in this queue
+ */
+public class MyMappedQueue<E> implements MyQueue<E>, AutoCloseable {
+
+    /** 64 MB, so that one segment holds millions of small records. */
+    static final int DEFAULT_SEGMENT_BYTES = 1 << 26;
+    static final int MIN_SEGMENT_BYTES = 64;
+
+    // A record is: int checksum, int length, payload. The checksum covers the length and the payload.
+    private static final int RECORD_HEADER = 8;
+    // A length of -1 marks the end of a sealed segment
+    private static final int ROLLOVER = -1;
+
+    // A checkpoint slot is: long generation, long head, long tail segment, long tail, int tail offset, int clean,
+    // int checksum over the preceding 40 bytes
+    private static final int SLOT_BYTES = 48;
+    private static final int SLOT_CHECKSUMMED = 40;
+
+    private static final String CHECKPOINT_FILE = "queue.checkpoint";
+    private static final String DATA_SUFFIX = ".data";
+    private static final String INDEX_SUFFIX = ".index";
+
+    private final Path directory;
+    private final ElementCodec<E> codec;
+    private final int segmentBytes;
+    private final CRC32C checksum = new CRC32C();
+
+    // Oldest first; the head is always in the first segment and the tail in the last
+    private final MyArrayList<Segment> segments = new MyArrayList<>();
+    // First sequence numbers of dropped segments whose files could not be deleted yet
+    private final MyArrayList<Long> undeleted = new MyArrayList<>();
+    private MappedByteBuffer checkpoint;
+    private long generation;
+
+    private long head;
+    private long tail;
+    private int tailOffset;
+
+    // The tail as of the last flush; records up to here need no scan on recovery
+    private long flushedSegment;
+    private long flushedTail;
+    private int flushedOffset;
+
+    private MyMappedQueue(Path directory, ElementCodec<E> codec, int segmentBytes) {
+        this.directory = directory;
+        this.codec = codec;
+        this.segmentBytes = segmentBytes;
+    }
+
+    /**
+     * Opens the queue stored in the directory, or creates an empty one, with 64 MB segments.
+     *
+     * @see #open(Path, ElementCodec, int)
+     */
+    public static <E> MyMappedQueue<E> open(Path directory, ElementCodec<E> codec) throws IOException {
+        return open(directory, codec, DEFAULT_SEGMENT_BYTES);
+    }
+
+    /**
+     * Opens the queue stored in the directory, or creates an empty one, recovering the elements written after the
+     * last checkpoint if the queue was not closed.
+     * Time Complexity: O(segments + bytes written since the last flush)
+     *
+     * @param directory the directory holding the queue's files; it is created if missing
+     * @param codec converts elements to and from bytes; it must be the codec the queue was written with
+     * @param segmentBytes the size of new segment files, which bounds the size of a record; existing segments keep
+     *                     their size
+     * @return the open queue
+     * @throws IllegalArgumentException if the segment size is smaller than 64 bytes
+     * @throws IOException if the files cannot be read or created, or the checkpoint refers to a missing segment
+     */
+    public static <E> MyMappedQueue<E> open(Path directory, ElementCodec<E> codec, int segmentBytes) throws IOException {
+        Objects.requireNonNull(codec);
+        if (segmentBytes < MIN_SEGMENT_BYTES) {
+            throw new IllegalArgumentException("Illegal segment size: " + segmentBytes);
+        }
+
+        Files.createDirectories(directory);
+        MyMappedQueue<E> queue = new MyMappedQueue<>(directory, codec, segmentBytes);
+        queue.recover();
+        return queue;
+    }
+
+    // Queue
+    /**
+     * Appends the element to the newest segment, starting a new segment if it does not fit.
+     * Time Complexity: O(1), plus O(size of the record) to encode and checksum it
+     *
+     * @throws NullPointerException if the element is null
+     * @throws IllegalArgumentException if the encoded element does not fit in an empty segment
+     * @throws UncheckedIOException if a new segment cannot be created
+     */
+    @Override
+    public void enqueue(E element) {
+        Objects.requireNonNull(element);
+        this.checkOpen();
+
+        int length = codec.encodedSize(element);
+        if (length < 0 || length > segmentBytes - RECORD_HEADER) {
+            throw new IllegalArgumentException("Record of " + length + " bytes exceeds the segment size.");
+        }
+
+        Segment segment = segments.get(segments.size() - 1);
+        if (length > segment.data.capacity() - tailOffset - RECORD_HEADER) {
+            segment = this.roll(segment);
+        }
+
+        MappedByteBuffer data = segment.data;
+        int offset = tailOffset;
+        data.position(offset + RECORD_HEADER);
+        codec.encode(element, data);
+        if (data.position() != offset + RECORD_HEADER + length) {
+            throw new IllegalStateException("Codec wrote " + (data.position() - offset - RECORD_HEADER)
+                    + " bytes instead of " + length + ".");
+        }
+
+        data.putInt(offset + 4, length);
+        data.putInt(offset, this.checksum(data, offset + 4, length + 4));
+        segment.index.putInt(4 * (int) (tail - segment.first), offset);
+
+        tailOffset = offset + RECORD_HEADER + length;
+        tail += 1;
+    }
+
+    /**
+     * Time Complexity: O(log segments), plus decoding
+     */
+    @Override
+    public E peek() {
+        this.checkOpen();
+        return head == tail ? null : this.read(head);
+    }
+
+    /**
+     * Removes the head, records the new head in the checkpoint, and deletes the oldest segment once it is consumed.
+     * Time Complexity: O(log segments), plus decoding
+     */
+    @Override
+    public E dequeue() {
+        this.checkOpen();
+        if (head == tail) return null;
+
+        E element = this.read(head);
+        head += 1;
+
+        if (segments.size() > 1 && head >= segments.get(1).first) {
+            this.dropConsumedSegments();
+        } else {
+            this.writeCheckpoint(false);
+        }
+        return element;
+    }
+
+    /**
+     * Returns the element at the given position from the head, without removing it.
+     * Time Complexity: O(log segments), plus decoding
+     *
+     * @param position the distance from the head, 0 for the head itself
+     * @return the element
+     * @throws IndexOutOfBoundsException if the position is out of range (position < 0 || position >= size())
+     */
+    public E get(long position) {
+        this.checkOpen();
+        if (position < 0 || position >= tail - head) {
+            throw new IndexOutOfBoundsException("Index " + position + " is out of bounds.");
+        }
+        return this.read(head + position);
+    }
+
+    /**
+     * Time Complexity: O(1)
+     *
+     * @return the number of elements in this queue
+     */
+    public long size() {
+        return tail - head;
+    }
+
+    public boolean isEmpty() {
+        return head == tail;
+    }
+
+    /**
+     * Returns the number of segment files, including the one being written.
+     */
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Forces the records written since the last flush to disk, then records the tail in the checkpoint and forces
+     * it too. After this returns, the queue's contents survive a crash of the machine.
+     * Time Complexity: O(bytes written since the last flush)
+     */
+    public void flush() {
+        this.checkOpen();
+        this.force();
+        this.writeCheckpoint(false);
+        checkpoint.force();
+    }
+
+    /**
+     * Flushes the queue and marks it as closed cleanly, so the next {@link #open(Path, ElementCodec)} does not need
+     * to scan for records. The queue is unusable afterwards. Calling this method more than once has no further effect.
+     */
+    @Override
+    public void close() {
+        if (checkpoint == null) return;
+
+        this.force();
+        this.writeCheckpoint(true);
+        checkpoint.force();
+        checkpoint = null;
+        segments.clear();
+        this.retryDeletes();
+    }
+
+    // Object
+    @Override
+    public String toString() {
+        return "MyMappedQueue[" + directory + ", size=" + (tail - head) + ", segments=" + segments.size() + "]";
+    }
+
+    // Helpers
+
+    private E read(long sequence) {
+        Segment segment = this.segmentOf(sequence);
+        int offset = segment.index.getInt(4 * (int) (sequence - segment.first));
+        int length = segment.data.getInt(offset + 4);
+        return codec.decode(segment.data.slice(offset + RECORD_HEADER, length));
+    }
+
+    /**
+     * Returns the last segment whose first sequence is at most the given one.
+     */
+    private Segment segmentOf(long sequence) {
+        int low = 0;
+        int high = segments.size() - 1;
+
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (segments.get(mid).first <= sequence) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return segments.get(low);
+    }
+
+    private Segment roll(Segment current) {
+        if (tailOffset <= current.data.capacity() - RECORD_HEADER) {
+            current.data.putInt(tailOffset + 4, ROLLOVER);
+        }
+
+        try {
+            Segment next = this.createSegment(tail);
+            segments.add(next);
+            tailOffset = 0;
+            return next;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Deletes the segments whose records have all been dequeued, after checkpointing the head past them. The
+     * checkpoint is forced first: a file system may persist the deletions before the checkpoint page, and a
+     * checkpoint that still points into a deleted segment after a power failure would lose the queue's position.
+     */
+    private void dropConsumedSegments() {
+        int consumed = 0;
+        while (consumed + 1 < segments.size() && segments.get(consumed + 1).first <= head) {
+            consumed += 1;
+        }
+
+        // A checkpoint must never point into a deleted segment; every record before the next one was consumed anyway
+        Segment kept = segments.get(consumed);
+        if (flushedSegment < kept.first) {
+            flushedSegment = kept.first;
+            flushedTail = kept.first;
+            flushedOffset = 0;
+        }
+        this.writeCheckpoint(false);
+        checkpoint.force();
+
+        this.retryDeletes();
+        for (int i = 0; i < consumed; i++) {
+            this.deleteSegment(segments.remove(0).first);
+        }
+    }
+
+    private void force() {
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            Segment segment = segments.get(i);
+            segment.data.force();
+            segment.index.force();
+            if (segment.first <= flushedSegment) break;
+        }
+
+        Segment last = segments.get(segments.size() - 1);
+        flushedSegment = last.first;
+        flushedTail = tail;
+        flushedOffset = tailOffset;
+    }
+
+    private void writeCheckpoint(boolean clean) {
+        generation += 1;
+        int slot = (int) (generation & 1) * SLOT_BYTES;
+
+        checkpoint.putLong(slot, generation);
+        checkpoint.putLong(slot + 8, head);
+        checkpoint.putLong(slot + 16, flushedSegment);
+        checkpoint.putLong(slot + 24, flushedTail);
+        checkpoint.putInt(slot + 32, flushedOffset);
+        checkpoint.putInt(slot + 36, clean ? 1 : 0);
+        checkpoint.putInt(slot + SLOT_CHECKSUMMED, this.checksum(checkpoint, slot, SLOT_CHECKSUMMED));
+    }
+
+    /**
+     * Returns the start of the newest slot whose checksum matches, or -1 if neither does.
+     */
+    private int validSlot() {
+        int best = -1;
+        long bestGeneration = Long.MIN_VALUE;
+
+        for (int slot = 0; slot < 2 * SLOT_BYTES; slot += SLOT_BYTES) {
+            int stored = checkpoint.getInt(slot + SLOT_CHECKSUMMED);
+            long slotGeneration = checkpoint.getLong(slot);
+            if (stored == this.checksum(checkpoint, slot, SLOT_CHECKSUMMED) && slotGeneration > bestGeneration) {
+                best = slot;
+                bestGeneration = slotGeneration;
+            }
+        }
+        return best;
+    }
+
+    private void recover() throws IOException {
+        checkpoint = map(directory.resolve(CHECKPOINT_FILE), 2 * SLOT_BYTES, false);
+        MyArrayList<Long> firsts = this.listSegments();
+
+        int slot = this.validSlot();
+        boolean clean = false;
+        if (slot >= 0) {
+            generation = checkpoint.getLong(slot);
+            head = checkpoint.getLong(slot + 8);
+            flushedSegment = checkpoint.getLong(slot + 16);
+            flushedTail = checkpoint.getLong(slot + 24);
+            flushedOffset = checkpoint.getInt(slot + 32);
+            clean = checkpoint.getInt(slot + 36) == 1;
+        } else if (firsts.size() > 0) {
+            // No usable checkpoint: rescan everything that is still on disk
+            head = firsts.get(0);
+            flushedSegment = head;
+            flushedTail = head;
+            flushedOffset = 0;
+        }
+
+        if (firsts.size() == 0) {
+            if (head != 0 || flushedTail != 0) {
+                throw new IOException("Segment " + this.dataFile(flushedSegment) + " is missing.");
+            }
+            segments.add(this.createSegment(0));
+            this.writeCheckpoint(false);
+            return;
+        }
+
+        if (flushedSegment < firsts.get(0)) {
+            // The checkpoint was lost after its segment had been deleted, so every record before the oldest
+            // remaining segment was consumed: rescan from there
+            flushedSegment = firsts.get(0);
+            flushedTail = flushedSegment;
+            flushedOffset = 0;
+        }
+        head = Math.max(head, firsts.get(0));
+
+        // Consumed segments are deleted only once the checkpoint past them has been forced, below
+        MyArrayList<Long> consumedFirsts = new MyArrayList<>();
+        for (int i = 0; i < firsts.size(); i++) {
+            long first = firsts.get(i);
+            boolean consumed = i + 1 < firsts.size() && firsts.get(i + 1) <= Math.min(head, flushedSegment);
+            if (consumed) {
+                consumedFirsts.add(first);
+            } else {
+                segments.add(new Segment(first, map(this.dataFile(first), 0, true), map(this.indexFile(first), 0, true)));
+            }
+        }
+        if (!this.hasSegment(flushedSegment)) {
+            throw new IOException("Segment " + this.dataFile(flushedSegment) + " is missing.");
+        }
+
+        if (clean) {
+            // Closed cleanly: the checkpoint is exact
+            this.dropSegmentsAfter(flushedSegment);
+            tail = flushedTail;
+            tailOffset = flushedOffset;
+        } else {
+            this.scan();
+        }
+
+        head = Math.min(head, tail);
+        this.force();
+        this.writeCheckpoint(false);
+        checkpoint.force();
+
+        for (int i = 0; i < consumedFirsts.size(); i++) {
+            this.deleteSegment(consumedFirsts.get(i));
+        }
+    }
+
+    /**
+     * Walks the records after the flushed tail, rebuilding their index entries, and stops at the first record that
+     * is missing or torn. Everything after that point is erased, so a later crash cannot bring it back.
+     */
+    private void scan() throws IOException {
+        int i = 0;
+        while (segments.get(i).first != flushedSegment) {
+            i += 1;
+        }
+
+        Segment segment = segments.get(i);
+        long sequence = flushedTail;
+        int offset = flushedOffset;
+
+        while (true) {
+            MappedByteBuffer data = segment.data;
+            int capacity = data.capacity();
+
+            if (offset <= capacity - RECORD_HEADER) {
+                int length = data.getInt(offset + 4);
+                if (length != ROLLOVER) {
+                    boolean valid = length >= 0 && length <= capacity - offset - RECORD_HEADER
+                            && data.getInt(offset) == this.checksum(data, offset + 4, length + 4);
+                    if (!valid) break;
+
+                    segment.index.putInt(4 * (int) (sequence - segment.first), offset);
+                    sequence += 1;
+                    offset += RECORD_HEADER + length;
+                    continue;
+                }
+            }
+
+            // The segment was sealed: continue in the next one if it was created
+            if (i + 1 < segments.size() && segments.get(i + 1).first == sequence) {
+                i += 1;
+                segment = segments.get(i);
+                offset = 0;
+            } else {
+                offset = capacity;
+                break;
+            }
+        }
+
+        erase(segment.data, offset);
+        this.dropSegmentsAfter(segment.first);
+        tail = sequence;
+        tailOffset = offset;
+    }
+
+    private boolean hasSegment(long first) {
+        for (int i = 0; i < segments.size(); i++) {
+            if (segments.get(i).first == first) return true;
+        }
+        return false;
+    }
+
+    private void dropSegmentsAfter(long first) {
+        while (segments.get(segments.size() - 1).first > first) {
+            Segment stale = segments.remove(segments.size() - 1);
+            if (!this.deleteSegment(stale.first)) {
+                // Its records follow the new tail, so a recovery scan would otherwise resume them
+                erase(stale.data, 0);
+            }
+        }
+    }
+
+    /**
+     * Deletes the files of a segment that is no longer in {@link #segments}. The data file goes first, so a segment
+     * whose data is still on disk always has its index. If either file cannot be deleted, typically because it is
+     * still mapped, the segment is remembered for {@link #retryDeletes()}.
+     *
+     * @return true if both files are gone
+     */
+    private boolean deleteSegment(long first) {
+        try {
+            Files.deleteIfExists(this.dataFile(first));
+            Files.deleteIfExists(this.indexFile(first));
+            return true;
+        } catch (IOException e) {
+            undeleted.add(first);
+            return false;
+        }
+    }
+
+    private void retryDeletes() {
+        for (int i = undeleted.size(); i > 0; i--) {
+            this.deleteSegment(undeleted.remove(0));
+        }
+    }
+
+    private MyArrayList<Long> listSegments() throws IOException {
+        MyArrayList<Long> firsts = new MyArrayList<>();
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + DATA_SUFFIX)) {
+            for (Path file : stream) {
+                String name = file.getFileName().toString();
+                String digits = name.substring(0, name.length() - DATA_SUFFIX.length());
+                if (digits.length() == 20 && digits.chars().allMatch(Character::isDigit)) {
+                    firsts.add(Long.parseLong(digits));
+                }
+            }
+        }
+
+        firsts.sort(null);
+        return firsts;
+    }
+
+    private Segment createSegment(long first) throws IOException {
+        // A segment dropped during recovery may be recreated under the same name once the tail reaches it again
+        undeleted.removeIf(pending -> pending == first);
+        // A record is at least RECORD_HEADER bytes, so the index can never fill up before the data does
+        int indexBytes = 4 * (segmentBytes / RECORD_HEADER);
+        return new Segment(first, map(this.dataFile(first), segmentBytes, true), map(this.indexFile(first), indexBytes, true));
+    }
+
+    private Path dataFile(long first) {
+        return directory.resolve(String.format("%020d", first) + DATA_SUFFIX);
+    }
+
+    private Path indexFile(long first) {
+        return directory.resolve(String.format("%020d", first) + INDEX_SUFFIX);
+    }
+
+    private int checksum(ByteBuffer buffer, int offset, int length) {
+        checksum.reset();
+        checksum.update(buffer.slice(offset, length));
+        return (int) checksum.getValue();
+    }
+
+    private void checkOpen() {
+        if (checkpoint == null) {
+            throw new IllegalStateException("MyMappedQueue has been closed.");
+        }
+    }
+
+    /**
+     * Maps a whole file. A size of 0 maps the file at its current size. New files, and files created with
+     * {@code fresh}, read as zeros; the operating system allocates their pages lazily.
+     */
+    private static MappedByteBuffer map(Path file, int size, boolean fresh) throws IOException {
+        boolean truncate = fresh && size > 0;
+        try (FileChannel channel = truncate
+                ? FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                                   StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long length = size > 0 ? size : channel.size();
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+        }
+    }
+
+    /**
+     * Zeroes the buffer from {@code from} to its end. Only non-zero words are written, so pages that were never
+     * written are only read and stay unallocated.
+     */
+    private static void erase(MappedByteBuffer data, int from) {
+        int capacity = data.capacity();
+        int p = from;
+
+        for (; p < capacity && (p & 7) != 0; p++) {
+            if (data.get(p) != 0) data.put(p, (byte) 0);
+        }
+        for (; p <= capacity - 8; p += 8) {
+            if (data.getLong(p) != 0) data.putLong(p, 0);
+        }
+        for (; p < capacity; p++) {
+            if (data.get(p) != 0) data.put(p, (byte) 0);
+        }
+    }
+
+    private static final class Segment {
+        private final long first;
+        private final MappedByteBuffer data;
+        private final MappedByteBuffer index;
+
+        Segment(long first, MappedByteBuffer data, MappedByteBuffer index) {
+            this.first = first;
+            this.data = data;
+            this.index = index;
+        }
+    }
+}
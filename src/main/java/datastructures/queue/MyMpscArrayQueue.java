@@ -0,0 +1,137 @@
+package main.java.datastructures.queue;
+
+import java.util.function.Supplier;
+
+/**
+ * A bounded, lock-free ring queue for any number of producer threads and exactly one consumer thread.
+ *
+ * <p>Producers claim a slot by a CAS on {@code producerIndex} and then publish the element into it with a release
+ * store. Between those two steps the slot is claimed but still empty, so the consumer waits briefly when it finds
+ * an empty slot below {@code producerIndex}, instead of reporting the queue as empty.
+ * No objects are allocated after construction.
+ *
+ * <p>The consumer methods ({@code dequeue}, {@code poll}, {@code peek}, {@code drain}) must only be called from
+ * one thread at a time.
+ *
+ * @param <E> the type of elements in this queue
+ */
+public class MyMpscArrayQueue<E> extends AbstractRingQueue<E> {
+
+    private static final int SPINS_BEFORE_YIELD = 64;
+
+    /**
+     * @param capacity the maximum number of elements, rounded up to a power of two
+     * @throws IllegalArgumentException if the capacity is not between 1 and 2^30
+     */
+    public MyMpscArrayQueue(int capacity) {
+        super(capacity);
+    }
+
+    @Override
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("MyMpscArrayQueue does not permit null elements.");
+        }
+
+        long index = this.claim(1);
+        if (index < 0) return false;
+
+        SLOT.setRelease(buffer, (int) index & mask, element);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The slots are claimed before the supplier is called, so the consumer waits on them until they are written;
+     * the supplier should not block. If it throws or returns {@code null}, the slots it did not fill are marked as
+     * skipped, so the consumer moves past them, and the exception is rethrown ({@link NullPointerException} for a
+     * {@code null}). Skipped slots count towards {@link #size()} until the consumer reaches them.
+     */
+    @Override
+    public int fill(Supplier<? extends E> supplier, int count) {
+        long index;
+        long claimed;
+        long limit = (long) PRODUCER_LIMIT.getVolatile(this);
+
+        do {
+            index = (long) PRODUCER_INDEX.getVolatile(this);
+            if (index + count > limit) {
+                limit = this.refreshLimit();
+            }
+            claimed = Math.min(count, limit - index);
+            if (claimed <= 0) return 0;
+        } while (!PRODUCER_INDEX.compareAndSet(this, index, index + claimed));
+
+        int filled = 0;
+        try {
+            while (filled < claimed) {
+                E element = supplier.get();
+                if (element == null) {
+                    throw new NullPointerException("MyMpscArrayQueue does not permit null elements.");
+                }
+                SLOT.setRelease(buffer, (int) (index + filled) & mask, element);
+                filled += 1;
+            }
+        } finally {
+            // The consumer waits on every claimed slot, so the ones left empty must still be published
+            for (long i = filled; i < claimed; i++) {
+                SLOT.setRelease(buffer, (int) (index + i) & mask, SKIPPED);
+            }
+        }
+
+        return filled;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected E slotAt(int offset, long index) {
+        E element = (E) SLOT.getAcquire(buffer, offset);
+
+        if (element == null && index != (long) PRODUCER_INDEX.getVolatile(this)) {
+            // A producer has claimed this slot but not written it yet; it will within a few instructions,
+            // unless it was descheduled in between, in which case yielding lets it run
+            int spins = 0;
+            do {
+                if (++spins % SPINS_BEFORE_YIELD == 0) {
+                    Thread.yield();
+                } else {
+                    Thread.onSpinWait();
+                }
+                element = (E) SLOT.getAcquire(buffer, offset);
+            } while (element == null);
+        }
+
+        return element;
+    }
+
+    /**
+     * Claims {@code count} consecutive indices.
+     *
+     * @return the first claimed index, or -1 if there is not enough room
+     */
+    private long claim(int count) {
+        long limit = (long) PRODUCER_LIMIT.getVolatile(this);
+        long index;
+
+        do {
+            index = (long) PRODUCER_INDEX.getVolatile(this);
+            if (index + count > limit) {
+                limit = this.refreshLimit();
+                if (index + count > limit) return -1;
+            }
+        } while (!PRODUCER_INDEX.compareAndSet(this, index, index + count));
+
+        return index;
+    }
+
+    /**
+     * Recomputes the producer limit from the consumer index.
+     * Racing producers may store a slightly older limit, but any stored limit is at most the true one, so it is always safe.
+     */
+    private long refreshLimit() {
+        long limit = (long) CONSUMER_INDEX.getVolatile(this) + buffer.length;
+        PRODUCER_LIMIT.setVolatile(this, limit);
+        return limit;
+    }
+}
@@ -0,0 +1,72 @@
+package main.java.datastructures.queue;
+
+import java.util.function.Supplier;
+
+/**
+ * A bounded, lock-free ring queue for exactly one producer thread and one consumer thread.
+ *
+ * <p>Each index is written by only one thread, so neither side needs a CAS: the producer publishes an element
+ * with a release store into its slot and the consumer frees a slot with a release store of {@code consumerIndex}.
+ * The producer caches how far it may run ahead of the consumer and only reads {@code consumerIndex} when it reaches
+ * that limit, so in steady state the two threads share no cache lines except the slots themselves.
+ * No objects are allocated after construction.
+ *
+ * <p>Calling the producer methods ({@code enqueue}, {@code offer}, {@code fill}) from more than one thread,
+ * or the consumer methods ({@code dequeue}, {@code poll}, {@code peek}, {@code drain}) from more than one thread,
+ * corrupts the queue. Use {@link MyMpscArrayQueue} for several producers.
+ *
+ * @param <E> the type of elements in this queue
+ */
+public class MySpscArrayQueue<E> extends AbstractRingQueue<E> {
+
+    /**
+     * @param capacity the maximum number of elements, rounded up to a power of two
+     * @throws IllegalArgumentException if the capacity is not between 1 and 2^30
+     */
+    public MySpscArrayQueue(int capacity) {
+        super(capacity);
+    }
+
+    @Override
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("MySpscArrayQueue does not permit null elements.");
+        }
+
+        long index = (long) PRODUCER_INDEX.getOpaque(this);
+        if (index >= producerLimit) {
+            producerLimit = (long) CONSUMER_INDEX.getAcquire(this) + buffer.length;
+            if (index >= producerLimit) return false;
+        }
+
+        SLOT.setRelease(buffer, (int) index & mask, element);
+        PRODUCER_INDEX.setRelease(this, index + 1);
+        return true;
+    }
+
+    @Override
+    public int fill(Supplier<? extends E> supplier, int count) {
+        long index = (long) PRODUCER_INDEX.getOpaque(this);
+        if (index + count > producerLimit) {
+            producerLimit = (long) CONSUMER_INDEX.getAcquire(this) + buffer.length;
+        }
+
+        long available = Math.min(count, producerLimit - index);
+        int filled = 0;
+
+        try {
+            while (filled < available) {
+                E element = supplier.get();
+                if (element == null) {
+                    throw new NullPointerException("MySpscArrayQueue does not permit null elements.");
+                }
+                SLOT.setRelease(buffer, (int) (index + filled) & mask, element);
+                filled += 1;
+            }
+        } finally {
+            PRODUCER_INDEX.setRelease(this, index + filled);
+        }
+
+        return filled;
+    }
+}
@@ -0,0 +1,294 @@
+package main.java.datastructures.set;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A hash set that stores its elements directly in a power-of-two array, using open addressing with linear probing.
+ *
+ * <p>Unlike {@link java.util.HashSet}, there is no node object per element: a lookup hashes the element, jumps to its
+ * slot and scans forward through adjacent slots until it finds the element or an empty slot. The scan usually stays
+ * within one or two cache lines. Hash codes are spread with a multiplicative (Fibonacci) hash, so keys with
+ * patterned hash codes such as small integers do not pile up in neighbouring slots.
+ *
+ * <p>Removal uses backward-shift deletion: the elements after the removed one are moved back into the gap whenever
+ * that keeps them reachable from their home slot. This leaves no tombstones behind, so lookups never slow down
+ * after many removals.
+ *
+ * <p>{@code null} is a permitted element; it is stored as a private sentinel object.
+ *
+ * @param <E> the type of elements in this set
+ */
+public class MyHashSet<E> implements MySet<E> {
+
+    private static final Object NULL_ELEMENT = new Object();
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private Object[] table;
+    private int size;
+    private int threshold;
+    private int modCount;
+    private final float loadFactor;
+
+    public MyHashSet() {
+        this(16, 0.5f);
+    }
+
+    /**
+     * @param expectedSize the number of elements the set should hold without resizing
+     * @param loadFactor the maximum ratio of elements to slots before the table doubles, between 0 and 1 (exclusive).
+     *                   Lower values mean shorter probe sequences but more memory.
+     * @throws IllegalArgumentException if the expected size is negative or the load factor is out of range
+     */
+    public MyHashSet(int expectedSize, float loadFactor) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Illegal expected size: " + expectedSize);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+
+        this.loadFactor = loadFactor;
+        this.table = new Object[tableSizeFor(expectedSize, loadFactor)];
+        this.threshold = (int) (table.length * loadFactor);
+        this.size = 0;
+    }
+
+    @Override
+    public boolean add(E element) {
+        Object key = mask(element);
+        int index = this.indexOf(key);
+
+        if (index >= 0) return false;
+
+        table[-index - 1] = key;
+        size += 1;
+        modCount += 1;
+
+        if (size > threshold) {
+            this.resize(2 * table.length);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return this.indexOf(mask(element)) >= 0;
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        int index = this.indexOf(mask(element));
+        if (index < 0) return false;
+
+        this.shiftBack(index);
+        size -= 1;
+        modCount += 1;
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = null;
+        }
+        size = 0;
+        modCount += 1;
+    }
+
+    /**
+     * Returns the number of slots in the backing table.
+     * Time Complexity: O(1)
+     *
+     * @return the number of slots in the backing table
+     */
+    public int capacity() {
+        return table.length;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the elements in this set.
+     * The iterator does not support removal, since backward shifting could move an unvisited element behind it.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int next = this.advance(0);
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return next < table.length;
+            }
+
+            @Override
+            public E next() {
+                if (expectedModCount != modCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (next >= table.length) {
+                    throw new NoSuchElementException();
+                }
+
+                E element = unmask(table[next]);
+                next = this.advance(next + 1);
+                return element;
+            }
+
+            private int advance(int from) {
+                while (from < table.length && table[from] == null) {
+                    from += 1;
+                }
+                return from;
+            }
+        };
+    }
+
+    // Object
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+
+        for (Object key : table) {
+            if (key != null) {
+                if (sb.length() > 1) {
+                    sb.append(",");
+                }
+                sb.append(MyHashSet.<E>unmask(key));
+            }
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+
+        if (!(obj instanceof MySet)) return false;
+
+        MySet<?> other = (MySet<?>) obj;
+
+        if (this.size() != other.size()) return false;
+
+        for (Object key : table) {
+            if (key != null && !other.contains(unmask(key))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (Object key : table) {
+            if (key != null) {
+                hash += Objects.hashCode(unmask(key));
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Probes for the key.
+     *
+     * @return the slot holding the key, or {@code -(empty slot) - 1} where the key would be inserted
+     */
+    private int indexOf(Object key) {
+        Object[] tab = table;
+        int mask = tab.length - 1;
+        int index = spread(key.hashCode()) & mask;
+
+        while (true) {
+            Object current = tab[index];
+            if (current == null) return -index - 1;
+            if (current == key || current.equals(key)) return index;
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Empties the slot at {@code gap}, then moves later elements of the same probe run back into the gap
+     * as long as the move does not put an element before its home slot.
+     */
+    private void shiftBack(int gap) {
+        Object[] tab = table;
+        int mask = tab.length - 1;
+        int index = gap;
+
+        while (true) {
+            index = (index + 1) & mask;
+            Object current = tab[index];
+            if (current == null) break;
+
+            int home = spread(current.hashCode()) & mask;
+            // Move the element only if its home slot is not in the cyclic range (gap, index]
+            if (((index - home) & mask) >= ((index - gap) & mask)) {
+                tab[gap] = current;
+                gap = index;
+            }
+        }
+
+        tab[gap] = null;
+    }
+
+    private void resize(int newCapacity) {
+        if (newCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException("MyHashSet cannot grow beyond " + MAX_CAPACITY + " slots.");
+        }
+
+        Object[] oldTable = table;
+        Object[] newTable = new Object[newCapacity];
+        int mask = newCapacity - 1;
+
+        for (Object key : oldTable) {
+            if (key != null) {
+                int index = spread(key.hashCode()) & mask;
+                while (newTable[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                newTable[index] = key;
+            }
+        }
+
+        table = newTable;
+        threshold = (int) (newCapacity * loadFactor);
+    }
+
+    /**
+     * Multiplies by the golden ratio and folds the high bits down, so that every bit of the hash code
+     * influences the low bits used to pick a slot.
+     */
+    private static int spread(int hashCode) {
+        int h = hashCode * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSizeFor(int expectedSize, float loadFactor) {
+        long needed = (long) Math.ceil(expectedSize / (double) loadFactor) + 1;
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Expected size too large: " + expectedSize);
+        }
+        return Math.max(2, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    private static Object mask(Object element) {
+        return element == null ? NULL_ELEMENT : element;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E unmask(Object key) {
+        return key == NULL_ELEMENT ? null : (E) key;
+    }
+}
@@ -1,4 +1,83 @@
 package main.java.datastructures.set;
 
-public interface MySet {
+import java.util.Objects;
+
+/**
+ * A collection that contains no duplicate elements.
+ *
+ * <p>Two elements are duplicates if they are equal according to {@link Objects#equals(Object, Object)}.
+ * Iteration order is unspecified.
+ *
+ * @param <E> the type of elements in this set
+ */
+public interface MySet<E> extends Iterable<E> {
+
+    /**
+     * Adds the specified element to this set if it is not already present.
+     * Time Complexity: O(1) expected
+     *
+     * @param element the element to be added to this set
+     * @return {@code true} if this set did not already contain the element
+     */
+    boolean add(E element);
+
+    /**
+     * Returns {@code true} if this set contains the specified element.
+     * Time Complexity: O(1) expected
+     *
+     * @param element the element whose presence in this set is to be tested
+     * @return {@code true} if this set contains the element
+     */
+    boolean contains(Object element);
+
+    /**
+     * Removes the specified element from this set if it is present.
+     * Time Complexity: O(1) expected
+     *
+     * @param element the element to be removed from this set
+     * @return {@code true} if this set contained the element
+     */
+    boolean remove(Object element);
+
+    /**
+     * Returns the number of elements in this set.
+     * Time Complexity: O(1)
+     *
+     * @return the number of elements in this set
+     */
+    int size();
+
+    /**
+     * Returns {@code true} if this set contains no elements.
+     * Time Complexity: O(1)
+     *
+     * @return {@code true} if this set contains no elements
+     */
+    default boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    /**
+     * Removes all the elements from this set.
+     * Time Complexity: O(N)
+     */
+    void clear();
+
+    /**
+     * The method returns {@code true} if and only if the other object is also a MySet of the same size
+     * that contains every element of this set.
+     *
+     * @param obj the object to compare this set against
+     * @return {@code true} if the specified obj is equal to this set; {@code false} otherwise
+     */
+    boolean equals(Object obj);
+
+    /**
+     * Computes the hash code for this set as the sum of the hash codes of its elements,
+     * so that it does not depend on the iteration order.
+     * A {@code null} element counts as zero.
+     *
+     * @return the computed hash code value for this set
+     */
+    int hashCode();
 }
@@ -0,0 +1,833 @@
+package main.java.datastructures.trie;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * An adaptive radix tree (ART): a trie over the bytes of its keys whose inner nodes change representation with
+ * their fan-out, after Leis, Kemper and Neumann, "The Adaptive Radix Tree" (ICDE 2013).
+ *
+ * <p>An inner node with up to 4 or 16 children keeps their key bytes in a small sorted array; up to 48 children
+ * use a 256-entry byte index into a 48-slot child array; beyond that the node is a plain 256-slot array. Chains of
+ * single-child nodes are collapsed into a prefix stored in the node below them (path compression), and a subtree
+ * holding a single key is just its leaf (lazy expansion). A tree over millions of keys therefore has a few inner
+ * nodes per key instead of one node per character, and a lookup touches one node per distinguishing byte.
+ *
+ * <p>A tree is created for {@code byte[]} keys with {@link #forByteArrays()} or for {@link CharSequence} keys with
+ * {@link #forCharSequences()}. Character keys are read in place as UTF-16 code units, high byte first, so lookups
+ * never build a {@code String} or byte array, and iteration order matches {@link String#compareTo}. Byte keys are
+ * ordered as unsigned bytes. A key may be a prefix of another key.
+ *
+ * <p>{@code null} keys and values are not permitted.
+ *
+ * @param <K> the type of keys, {@code byte[]} or {@code CharSequence}
+ * @param <V> the type of mapped values
+ */
+public class MyAdaptiveRadixTree<K, V> {
+
+    private static final byte[] EMPTY_PREFIX = new byte[0];
+
+    private final boolean charKeys;
+    private Object root;
+    private int size;
+    private int modCount;
+
+    private MyAdaptiveRadixTree(boolean charKeys) {
+        this.charKeys = charKeys;
+    }
+
+    /**
+     * Creates an empty tree with {@code byte[]} keys. Keys are copied on insertion.
+     */
+    public static <V> MyAdaptiveRadixTree<byte[], V> forByteArrays() {
+        return new MyAdaptiveRadixTree<>(false);
+    }
+
+    /**
+     * Creates an empty tree with {@link CharSequence} keys. Keys are stored as {@code String}s on insertion
+     * and compared by content.
+     */
+    public static <V> MyAdaptiveRadixTree<CharSequence, V> forCharSequences() {
+        return new MyAdaptiveRadixTree<>(true);
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped.
+     * Time Complexity: O(L) where L is the key length in bytes
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value mapped to the key, or {@code null} if this tree contains no mapping for the key
+     */
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        int length = this.keyLength(key);
+        Object node = root;
+        int depth = 0;
+
+        while (node != null) {
+            if (node instanceof Leaf) {
+                Leaf leaf = (Leaf) node;
+                return this.leafEquals(leaf, key, length, depth) ? (V) leaf.value : null;
+            }
+
+            Inner inner = (Inner) node;
+            if (this.prefixMismatch(inner, key, length, depth) < inner.prefix.length) return null;
+            depth += inner.prefix.length;
+
+            if (depth == length) {
+                return inner.terminal == null ? null : (V) inner.terminal.value;
+            }
+            node = inner.findChild(this.keyByte(key, depth));
+            depth += 1;
+        }
+        return null;
+    }
+
+    /**
+     * Returns {@code true} if this tree contains a mapping for the specified key.
+     * Time Complexity: O(L) where L is the key length in bytes
+     *
+     * @param key the key whose presence in this tree is to be tested
+     * @return {@code true} if this tree contains a mapping for the key
+     */
+    public boolean containsKey(K key) {
+        return this.get(key) != null;
+    }
+
+    /**
+     * Associates the specified value with the specified key, replacing any previous value.
+     * Time Complexity: O(L) where L is the key length in bytes
+     *
+     * @param key the key with which the value is to be associated
+     * @param value the value to be associated with the key
+     * @return the previous value mapped to the key, or {@code null} if there was no mapping
+     * @throws NullPointerException if the key or the value is null
+     */
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        Objects.requireNonNull(key, "Key is null.");
+        Objects.requireNonNull(value, "Value is null.");
+
+        int length = this.keyLength(key);
+        if (root == null) {
+            root = new Leaf(this.storedKey(key), value);
+            this.added();
+            return null;
+        }
+
+        Inner parent = null;
+        int parentByte = -1;
+        Object node = root;
+        int depth = 0;
+
+        while (true) {
+            if (node instanceof Leaf) {
+                Leaf leaf = (Leaf) node;
+                if (this.leafEquals(leaf, key, length, depth)) {
+                    V previous = (V) leaf.value;
+                    leaf.value = value;
+                    return previous;
+                }
+
+                // Replace the leaf with a node that branches where the two keys first differ
+                int common = this.commonPrefix(leaf.key, key, length, depth);
+                Inner branch = new SmallNode(4, this.copyBytes(key, depth, depth + common));
+                this.attach(branch, leaf, depth + common);
+                this.attach(branch, new Leaf(this.storedKey(key), value), depth + common);
+                this.replace(parent, parentByte, branch);
+                this.added();
+                return null;
+            }
+
+            Inner inner = (Inner) node;
+            int mismatch = this.prefixMismatch(inner, key, length, depth);
+            if (mismatch < inner.prefix.length) {
+                // Split the compressed path at the mismatch; the old node keeps the rest of its prefix
+                Inner branch = new SmallNode(4, Arrays.copyOf(inner.prefix, mismatch));
+                int innerByte = inner.prefix[mismatch] & 0xFF;
+                inner.prefix = Arrays.copyOfRange(inner.prefix, mismatch + 1, inner.prefix.length);
+                branch.addChild(innerByte, inner);
+                this.attach(branch, new Leaf(this.storedKey(key), value), depth + mismatch);
+                this.replace(parent, parentByte, branch);
+                this.added();
+                return null;
+            }
+            depth += inner.prefix.length;
+
+            if (depth == length) {
+                if (inner.terminal != null) {
+                    V previous = (V) inner.terminal.value;
+                    inner.terminal.value = value;
+                    return previous;
+                }
+                inner.terminal = new Leaf(this.storedKey(key), value);
+                this.added();
+                return null;
+            }
+
+            int b = this.keyByte(key, depth);
+            Object child = inner.findChild(b);
+            if (child == null) {
+                Inner target = inner.isFull() ? inner.grow() : inner;
+                target.addChild(b, new Leaf(this.storedKey(key), value));
+                if (target != inner) {
+                    this.replace(parent, parentByte, target);
+                }
+                this.added();
+                return null;
+            }
+
+            parent = inner;
+            parentByte = b;
+            node = child;
+            depth += 1;
+        }
+    }
+
+    /**
+     * Removes the mapping for the specified key if it is present. Nodes left with a single entry are merged into
+     * their parent's path, and sparse nodes shrink to a smaller representation.
+     * Time Complexity: O(L) where L is the key length in bytes
+     *
+     * @param key the key whose mapping is to be removed
+     * @return the previous value mapped to the key, or {@code null} if there was no mapping
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(K key) {
+        int length = this.keyLength(key);
+        Inner grandparent = null;
+        int grandparentByte = -1;
+        Inner parent = null;
+        int parentByte = -1;
+        Object node = root;
+        int depth = 0;
+
+        while (node != null) {
+            if (node instanceof Leaf) {
+                Leaf leaf = (Leaf) node;
+                if (!this.leafEquals(leaf, key, length, depth)) return null;
+
+                if (parent == null) {
+                    root = null;
+                } else {
+                    parent.removeChild(parentByte);
+                    this.compact(parent, grandparent, grandparentByte);
+                }
+                this.removed();
+                return (V) leaf.value;
+            }
+
+            Inner inner = (Inner) node;
+            if (this.prefixMismatch(inner, key, length, depth) < inner.prefix.length) return null;
+            depth += inner.prefix.length;
+
+            if (depth == length) {
+                Leaf terminal = inner.terminal;
+                if (terminal == null) return null;
+
+                inner.terminal = null;
+                this.compact(inner, parent, parentByte);
+                this.removed();
+                return (V) terminal.value;
+            }
+
+            int b = this.keyByte(key, depth);
+            grandparent = parent;
+            grandparentByte = parentByte;
+            parent = inner;
+            parentByte = b;
+            node = inner.findChild(b);
+            depth += 1;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the value of the longest key in this tree that is a prefix of the given key, the lookup a routing
+     * table does. The key itself counts as its own prefix.
+     * Time Complexity: O(L) where L is the key length in bytes
+     *
+     * @param key the key to match
+     * @return the value mapped to the longest matching prefix, or {@code null} if no key in this tree is a prefix
+     */
+    @SuppressWarnings("unchecked")
+    public V longestPrefixValue(K key) {
+        Leaf leaf = this.longestPrefixLeaf(key);
+        return leaf == null ? null : (V) leaf.value;
+    }
+
+    /**
+     * Returns the longest key in this tree that is a prefix of the given key.
+     * Time Complexity: O(L) where L is the key length in bytes
+     *
+     * @param key the key to match
+     * @return the longest matching key as stored in this tree, or {@code null} if no key in this tree is a prefix
+     */
+    @SuppressWarnings("unchecked")
+    public K longestPrefixKey(K key) {
+        Leaf leaf = this.longestPrefixLeaf(key);
+        return leaf == null ? null : (K) leaf.key;
+    }
+
+    /**
+     * Performs the given action, in key order, for every mapping whose key starts with the given prefix.
+     * Keys are passed as stored in this tree and must not be modified.
+     * Time Complexity: O(P + M) where P is the prefix length and M is the size of the matching subtree
+     *
+     * @param prefix the prefix to match; an empty prefix matches every key
+     * @param action the action to be performed for each key and its value
+     * @throws ConcurrentModificationException if the action modified this tree
+     */
+    public void forEachWithPrefix(K prefix, BiConsumer<? super K, ? super V> action) {
+        int length = this.keyLength(prefix);
+        int expectedModCount = modCount;
+        Object node = root;
+        int depth = 0;
+
+        while (node != null) {
+            if (node instanceof Leaf) {
+                Leaf leaf = (Leaf) node;
+                if (this.keyLength(leaf.key) >= length && this.bytesEqual(leaf.key, prefix, depth, length)) {
+                    this.visit(leaf, action);
+                }
+                break;
+            }
+
+            Inner inner = (Inner) node;
+            int matched = Math.min(inner.prefix.length, length - depth);
+            if (this.prefixMismatch(inner, prefix, length, depth) < matched) break;
+            if (depth + inner.prefix.length >= length) {
+                this.visit(inner, action);
+                break;
+            }
+
+            depth += inner.prefix.length;
+            node = inner.findChild(this.keyByte(prefix, depth));
+            depth += 1;
+        }
+
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Performs the given action for every mapping in this tree, in key order.
+     * Keys are passed as stored in this tree and must not be modified.
+     * Time Complexity: O(N)
+     *
+     * @param action the action to be performed for each key and its value
+     * @throws ConcurrentModificationException if the action modified this tree
+     */
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        int expectedModCount = modCount;
+        if (root != null) {
+            this.visit(root, action);
+        }
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all the mappings from this tree.
+     * Time Complexity: O(1)
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+        modCount += 1;
+    }
+
+    /**
+     * Counts the inner nodes of each representation, to check how well the tree adapts to its keys.
+     * Time Complexity: O(N)
+     *
+     * @return the number of inner nodes with capacity 4, 16, 48 and 256, in that order
+     */
+    public int[] innerNodeCounts() {
+        int[] counts = new int[4];
+        this.countNodes(root, counts);
+        return counts;
+    }
+
+    // Object
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+        this.forEach((key, value) -> {
+            if (sb.length() > 1) {
+                sb.append(",");
+            }
+            sb.append(key instanceof byte[] ? Arrays.toString((byte[]) key) : key).append("=").append(value);
+        });
+        sb.append("}");
+
+        return sb.toString();
+    }
+
+    // Helpers
+    private void added() {
+        size += 1;
+        modCount += 1;
+    }
+
+    private void removed() {
+        size -= 1;
+        modCount += 1;
+    }
+
+    private Leaf longestPrefixLeaf(K key) {
+        int length = this.keyLength(key);
+        Leaf best = null;
+        Object node = root;
+        int depth = 0;
+
+        while (node != null) {
+            if (node instanceof Leaf) {
+                Leaf leaf = (Leaf) node;
+                int leafLength = this.keyLength(leaf.key);
+                if (leafLength <= length && this.bytesEqual(leaf.key, key, depth, leafLength)) {
+                    best = leaf;
+                }
+                break;
+            }
+
+            Inner inner = (Inner) node;
+            if (this.prefixMismatch(inner, key, length, depth) < inner.prefix.length) break;
+            depth += inner.prefix.length;
+
+            if (inner.terminal != null) {
+                best = inner.terminal;
+            }
+            if (depth == length) break;
+
+            node = inner.findChild(this.keyByte(key, depth));
+            depth += 1;
+        }
+        return best;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void visit(Object node, BiConsumer<? super K, ? super V> action) {
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            action.accept((K) leaf.key, (V) leaf.value);
+            return;
+        }
+
+        // A key ending at this node sorts before every longer key below it
+        Inner inner = (Inner) node;
+        if (inner.terminal != null) {
+            this.visit(inner.terminal, action);
+        }
+        for (int b = inner.nextByte(0); b >= 0; b = inner.nextByte(b + 1)) {
+            this.visit(inner.findChild(b), action);
+        }
+    }
+
+    private void countNodes(Object node, int[] counts) {
+        if (!(node instanceof Inner)) return;
+
+        Inner inner = (Inner) node;
+        int capacity = inner.capacity();
+        counts[capacity == 4 ? 0 : capacity == 16 ? 1 : capacity == 48 ? 2 : 3] += 1;
+        for (int b = inner.nextByte(0); b >= 0; b = inner.nextByte(b + 1)) {
+            this.countNodes(inner.findChild(b), counts);
+        }
+    }
+
+    /**
+     * Puts the leaf into the branch: as the branch's terminal if its key ends at {@code depth},
+     * otherwise under the key byte at {@code depth}.
+     */
+    private void attach(Inner branch, Leaf leaf, int depth) {
+        if (this.keyLength(leaf.key) == depth) {
+            branch.terminal = leaf;
+        } else {
+            branch.addChild(this.keyByte(leaf.key, depth), leaf);
+        }
+    }
+
+    private void replace(Inner parent, int parentByte, Object node) {
+        if (parent == null) {
+            root = node;
+        } else {
+            parent.replaceChild(parentByte, node);
+        }
+    }
+
+    /**
+     * Restores the invariant that every inner node has at least two entries after one was removed from it:
+     * a node left with only its terminal is replaced by that leaf, a node left with one child is merged into it,
+     * and a sparse node shrinks.
+     */
+    private void compact(Inner node, Inner parent, int parentByte) {
+        Object replacement;
+
+        if (node.count == 0) {
+            replacement = node.terminal;
+        } else if (node.count == 1 && node.terminal == null) {
+            int b = node.nextByte(0);
+            replacement = node.findChild(b);
+            if (replacement instanceof Inner) {
+                Inner child = (Inner) replacement;
+                byte[] merged = Arrays.copyOf(node.prefix, node.prefix.length + 1 + child.prefix.length);
+                merged[node.prefix.length] = (byte) b;
+                System.arraycopy(child.prefix, 0, merged, node.prefix.length + 1, child.prefix.length);
+                child.prefix = merged;
+            }
+        } else {
+            replacement = node.shrink();
+        }
+
+        if (replacement != node) {
+            this.replace(parent, parentByte, replacement);
+        }
+    }
+
+    /**
+     * Returns the index within the node's prefix of the first byte that differs from the key at {@code depth},
+     * or the prefix length if the whole prefix matches. Running out of key bytes counts as a mismatch.
+     */
+    private int prefixMismatch(Inner inner, Object key, int length, int depth) {
+        byte[] prefix = inner.prefix;
+        int limit = Math.min(prefix.length, length - depth);
+        for (int i = 0; i < limit; i++) {
+            if ((prefix[i] & 0xFF) != this.keyByte(key, depth + i)) return i;
+        }
+        return limit;
+    }
+
+    private int commonPrefix(Object a, Object b, int bLength, int depth) {
+        int limit = Math.min(this.keyLength(a), bLength);
+        int i = depth;
+        while (i < limit && this.keyByte(a, i) == this.keyByte(b, i)) {
+            i += 1;
+        }
+        return i - depth;
+    }
+
+    /**
+     * Compares the leaf's key with the given key; the bytes before {@code depth} already matched on the way down.
+     */
+    private boolean leafEquals(Leaf leaf, Object key, int length, int depth) {
+        return this.keyLength(leaf.key) == length && this.bytesEqual(leaf.key, key, depth, length);
+    }
+
+    private boolean bytesEqual(Object a, Object b, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (this.keyByte(a, i) != this.keyByte(b, i)) return false;
+        }
+        return true;
+    }
+
+    private byte[] copyBytes(Object key, int from, int to) {
+        if (from == to) return EMPTY_PREFIX;
+
+        byte[] bytes = new byte[to - from];
+        for (int i = from; i < to; i++) {
+            bytes[i - from] = (byte) this.keyByte(key, i);
+        }
+        return bytes;
+    }
+
+    private Object storedKey(K key) {
+        return charKeys ? key.toString() : ((byte[]) key).clone();
+    }
+
+    private int keyLength(Object key) {
+        return charKeys ? 2 * ((CharSequence) key).length() : ((byte[]) key).length;
+    }
+
+    /**
+     * Returns the unsigned byte of the key at the given index; a character key yields the high byte of each char
+     * followed by its low byte.
+     */
+    private int keyByte(Object key, int index) {
+        if (charKeys) {
+            char c = ((CharSequence) key).charAt(index >>> 1);
+            return (index & 1) == 0 ? c >>> 8 : c & 0xFF;
+        }
+        return ((byte[]) key)[index] & 0xFF;
+    }
+
+    private static final class Leaf {
+        final Object key;
+        Object value;
+
+        Leaf(Object key, Object value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * An inner node: a compressed path {@code prefix}, an optional leaf for the key that ends right after the prefix,
+     * and children keyed by the next byte. Children are {@link Leaf}s or inner nodes.
+     */
+    private abstract static class Inner {
+        byte[] prefix;
+        Leaf terminal;
+        int count;
+
+        Inner(byte[] prefix) {
+            this.prefix = prefix;
+        }
+
+        abstract int capacity();
+
+        abstract Object findChild(int b);
+
+        /**
+         * Adds a child under a byte that has none; the node must not be full.
+         */
+        abstract void addChild(int b, Object child);
+
+        abstract void replaceChild(int b, Object child);
+
+        abstract void removeChild(int b);
+
+        /**
+         * Returns the smallest byte at or after {@code from} that has a child, or -1 if there is none.
+         */
+        abstract int nextByte(int from);
+
+        /**
+         * Returns a copy of this node in the next larger representation.
+         */
+        abstract Inner grow();
+
+        /**
+         * Returns a copy of this node in the next smaller representation if it has become sparse, otherwise itself.
+         */
+        abstract Inner shrink();
+
+        boolean isFull() {
+            return count == this.capacity();
+        }
+
+        /**
+         * Copies the prefix, terminal and every child of this node into the given empty node.
+         */
+        Inner copyInto(Inner target) {
+            target.terminal = terminal;
+            for (int b = this.nextByte(0); b >= 0; b = this.nextByte(b + 1)) {
+                target.addChild(b, this.findChild(b));
+            }
+            return target;
+        }
+    }
+
+    /**
+     * Node4 and Node16: the key bytes of up to 4 or 16 children in a sorted array, searched linearly.
+     */
+    private static final class SmallNode extends Inner {
+        final byte[] keys;
+        final Object[] children;
+
+        SmallNode(int capacity, byte[] prefix) {
+            super(prefix);
+            this.keys = new byte[capacity];
+            this.children = new Object[capacity];
+        }
+
+        @Override
+        int capacity() {
+            return keys.length;
+        }
+
+        @Override
+        Object findChild(int b) {
+            for (int i = 0; i < count; i++) {
+                if ((keys[i] & 0xFF) == b) return children[i];
+            }
+            return null;
+        }
+
+        @Override
+        void addChild(int b, Object child) {
+            int index = 0;
+            while (index < count && (keys[index] & 0xFF) < b) {
+                index += 1;
+            }
+            System.arraycopy(keys, index, keys, index + 1, count - index);
+            System.arraycopy(children, index, children, index + 1, count - index);
+            keys[index] = (byte) b;
+            children[index] = child;
+            count += 1;
+        }
+
+        @Override
+        void replaceChild(int b, Object child) {
+            for (int i = 0; i < count; i++) {
+                if ((keys[i] & 0xFF) == b) {
+                    children[i] = child;
+                    return;
+                }
+            }
+        }
+
+        @Override
+        void removeChild(int b) {
+            for (int i = 0; i < count; i++) {
+                if ((keys[i] & 0xFF) == b) {
+                    System.arraycopy(keys, i + 1, keys, i, count - i - 1);
+                    System.arraycopy(children, i + 1, children, i, count - i - 1);
+                    count -= 1;
+                    children[count] = null;
+                    return;
+                }
+            }
+        }
+
+        @Override
+        int nextByte(int from) {
+            for (int i = 0; i < count; i++) {
+                if ((keys[i] & 0xFF) >= from) return keys[i] & 0xFF;
+            }
+            return -1;
+        }
+
+        @Override
+        Inner grow() {
+            return this.copyInto(keys.length == 4 ? new SmallNode(16, prefix) : new Node48(prefix));
+        }
+
+        @Override
+        Inner shrink() {
+            return keys.length == 16 && count <= 3 ? this.copyInto(new SmallNode(4, prefix)) : this;
+        }
+    }
+
+    /**
+     * Node48: a 256-entry index from key byte to a slot in a 48-entry child array; index 0 means no child.
+     */
+    private static final class Node48 extends Inner {
+        final byte[] index = new byte[256];
+        final Object[] children = new Object[48];
+
+        Node48(byte[] prefix) {
+            super(prefix);
+        }
+
+        @Override
+        int capacity() {
+            return 48;
+        }
+
+        @Override
+        Object findChild(int b) {
+            int slot = index[b];
+            return slot == 0 ? null : children[slot - 1];
+        }
+
+        @Override
+        void addChild(int b, Object child) {
+            int slot = 0;
+            while (children[slot] != null) {
+                slot += 1;
+            }
+            children[slot] = child;
+            index[b] = (byte) (slot + 1);
+            count += 1;
+        }
+
+        @Override
+        void replaceChild(int b, Object child) {
+            children[index[b] - 1] = child;
+        }
+
+        @Override
+        void removeChild(int b) {
+            children[index[b] - 1] = null;
+            index[b] = 0;
+            count -= 1;
+        }
+
+        @Override
+        int nextByte(int from) {
+            for (int b = from; b < 256; b++) {
+                if (index[b] != 0) return b;
+            }
+            return -1;
+        }
+
+        @Override
+        Inner grow() {
+            return this.copyInto(new Node256(prefix));
+        }
+
+        @Override
+        Inner shrink() {
+            return count <= 12 ? this.copyInto(new SmallNode(16, prefix)) : this;
+        }
+    }
+
+    /**
+     * Node256: one child slot per key byte.
+     */
+    private static final class Node256 extends Inner {
+        final Object[] children = new Object[256];
+
+        Node256(byte[] prefix) {
+            super(prefix);
+        }
+
+        @Override
+        int capacity() {
+            return 256;
+        }
+
+        @Override
+        Object findChild(int b) {
+            return children[b];
+        }
+
+        @Override
+        void addChild(int b, Object child) {
+            children[b] = child;
+            count += 1;
+        }
+
+        @Override
+        void replaceChild(int b, Object child) {
+            children[b] = child;
+        }
+
+        @Override
+        void removeChild(int b) {
+            children[b] = null;
+            count -= 1;
+        }
+
+        @Override
+        int nextByte(int from) {
+            for (int b = from; b < 256; b++) {
+                if (children[b] != null) return b;
+            }
+            return -1;
+        }
+
+        @Override
+        Inner grow() {
+            throw new IllegalStateException("Node256 cannot grow.");
+        }
+
+        @Override
+        Inner shrink() {
+            return count <= 36 ? this.copyInto(new Node48(prefix)) : this;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package test.java.datastructures.cache;
+
+import main.java.datastructures.cache.MyClockCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyClockCacheTest {
+
+    private MyClockCache<String, Integer> cache;
+    private List<String> evicted;
+
+    @BeforeEach
+    public void setUp() {
+        evicted = new ArrayList<>();
+        cache = new MyClockCache<>(3, (key, value) -> 1, (key, value) -> evicted.add(key));
+    }
+
+    @Test
+    void testEvictsInInsertionOrderWithoutHits() {
+        for (int i = 0; i < 6; i++) {
+            cache.put("k" + i, i);
+        }
+        assertEquals(List.of("k0", "k1", "k2"), evicted);
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    void testReferencedEntryGetsSecondChance() {
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+
+        // Every entry is new, so the hand clears all the bits and comes back to the oldest
+        cache.put("d", 4);
+        assertEquals(List.of("a"), evicted);
+
+        cache.get("c");
+        cache.put("e", 5);
+        cache.put("f", 6);
+        assertEquals(List.of("a", "b", "d"), evicted);
+        assertTrue(cache.containsKey("c"));
+        assertEquals(1, cache.stats().hitCount());
+    }
+
+    @Test
+    void testRemoveUnlinks() {
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        assertEquals(2, cache.remove("b"));
+
+        cache.put("d", 4);
+        assertTrue(evicted.isEmpty());
+        cache.put("e", 5);
+        assertEquals(List.of("a"), evicted);
+        assertEquals(3, cache.size());
+    }
+}
@@ -0,0 +1,98 @@
+package test.java.datastructures.cache;
+
+import main.java.datastructures.cache.CacheStats;
+import main.java.datastructures.cache.MyConcurrentCache;
+import main.java.datastructures.cache.MyLruCache;
+import main.java.datastructures.cache.MyTinyLfuCache;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyConcurrentCacheTest {
+
+    @Test
+    void testSegmentsShareTheMaximum() {
+        MyConcurrentCache<Integer, Integer> cache = new MyConcurrentCache<>(3, 10, MyLruCache::new);
+        assertEquals(4, cache.segmentCount());
+        assertEquals(10, cache.maximumWeight());
+
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, i);
+        }
+        assertEquals(10, cache.size());
+        assertEquals(990, cache.stats().evictionCount());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testSingleSegment() {
+        MyConcurrentCache<String, Integer> cache = new MyConcurrentCache<>(1, 2, MyLruCache::new);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.put("c", 3);
+
+        assertTrue(cache.containsKey("a"));
+        assertFalse(cache.containsKey("b"));
+        assertEquals(3, cache.remove("c"));
+    }
+
+    @Test
+    void testIllegalArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new MyConcurrentCache<String, Integer>(0, 10, MyLruCache::new));
+        assertThrows(IllegalArgumentException.class, () -> new MyConcurrentCache<String, Integer>(4, -1, MyLruCache::new));
+    }
+
+    /**
+     * Threads hammer overlapping keys; every lookup and eviction is counted, values always match their keys and the
+     * loader runs once per miss.
+     */
+    @Test
+    void testConcurrentAccess() throws InterruptedException {
+        int threads = 4;
+        int operations = 20_000;
+        MyConcurrentCache<Integer, Integer> cache = new MyConcurrentCache<>(threads, 256, MyTinyLfuCache::new);
+        AtomicInteger loads = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            long seed = t;
+            workers[t] = new Thread(() -> {
+                SplittableRandom random = new SplittableRandom(seed);
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < operations; i++) {
+                    int key = random.nextInt(1024);
+                    int value = cache.computeIfAbsent(key, k -> {
+                        loads.incrementAndGet();
+                        return k * 2;
+                    });
+                    if (value != key * 2) failures.incrementAndGet();
+                }
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        CacheStats stats = cache.stats();
+        assertEquals(0, failures.get());
+        assertEquals((long) threads * operations, stats.requestCount());
+        assertEquals(loads.get(), stats.missCount());
+        assertEquals(loads.get() - cache.size(), stats.evictionCount());
+        assertTrue(cache.weightedSize() <= 256);
+    }
+}
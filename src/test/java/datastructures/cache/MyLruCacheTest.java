@@ -0,0 +1,138 @@
+package test.java.datastructures.cache;
+
+import main.java.datastructures.cache.CacheStats;
+import main.java.datastructures.cache.MyLruCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyLruCacheTest {
+
+    private MyLruCache<String, Integer> cache;
+    private List<String> evicted;
+
+    @BeforeEach
+    public void setUp() {
+        evicted = new ArrayList<>();
+        cache = new MyLruCache<>(3, (key, value) -> 1, (key, value) -> evicted.add(key));
+    }
+
+    @Test
+    void testGetPutRemove() {
+        assertNull(cache.put("a", 1));
+        assertEquals(1, cache.put("a", 2));
+        assertEquals(2, cache.get("a"));
+        assertNull(cache.get("b"));
+        assertTrue(cache.containsKey("a"));
+
+        assertEquals(2, cache.remove("a"));
+        assertNull(cache.remove("a"));
+        assertEquals(0, cache.size());
+        assertTrue(evicted.isEmpty());
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsed() {
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        cache.get("a");
+        cache.put("d", 4);
+        cache.put("c", 5);
+        cache.put("e", 6);
+
+        assertEquals(List.of("b", "a"), evicted);
+        assertEquals(3, cache.size());
+        assertTrue(cache.containsKey("c"));
+        assertFalse(cache.containsKey("a"));
+    }
+
+    @Test
+    void testStats() {
+        cache.put("a", 1);
+        cache.get("a");
+        cache.get("a");
+        cache.get("z");
+        for (int i = 0; i < 5; i++) {
+            cache.put("k" + i, i);
+        }
+
+        CacheStats stats = cache.stats();
+        assertEquals(2, stats.hitCount());
+        assertEquals(1, stats.missCount());
+        assertEquals(3, stats.evictionCount());
+        assertEquals(2.0 / 3, stats.hitRate(), 1e-9);
+        assertEquals(new CacheStats(2, 1, 3, 3), stats);
+    }
+
+    @Test
+    void testComputeIfAbsent() {
+        assertEquals(3, cache.computeIfAbsent("abc", String::length));
+        assertEquals(3, cache.computeIfAbsent("abc", key -> 99));
+        assertThrows(NullPointerException.class, () -> cache.computeIfAbsent("x", key -> null));
+    }
+
+    @Test
+    void testWeightedEviction() {
+        MyLruCache<String, String> weighted = new MyLruCache<>(10, (key, value) -> value.length(),
+                (key, value) -> evicted.add(key));
+        weighted.put("a", "aaaa");
+        weighted.put("b", "bbbb");
+        weighted.put("c", "cc");
+        assertEquals(10, weighted.weightedSize());
+
+        weighted.put("d", "ddddd");
+        assertEquals(List.of("a", "b"), evicted);
+        assertEquals(7, weighted.weightedSize());
+
+        // Growing an entry counts its new weight
+        weighted.put("c", "cccccc");
+        assertEquals(List.of("a", "b", "d"), evicted);
+        assertEquals(6, weighted.weightedSize());
+    }
+
+    @Test
+    void testOversizedEntryIsRejected() {
+        MyLruCache<String, String> weighted = new MyLruCache<>(4, (key, value) -> value.length(),
+                (key, value) -> evicted.add(key));
+        weighted.put("a", "a");
+        weighted.put("b", "bb");
+
+        assertEquals("bb", weighted.put("b", "bbbbbb"));
+        assertEquals(List.of("b"), evicted);
+        assertFalse(weighted.containsKey("b"));
+        assertTrue(weighted.containsKey("a"));
+        assertEquals(1, weighted.weightedSize());
+        assertEquals(1, weighted.stats().evictionCount());
+    }
+
+    @Test
+    void testClear() {
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.weightedSize());
+
+        cache.put("c", 3);
+        cache.put("d", 4);
+        cache.put("e", 5);
+        cache.put("f", 6);
+        assertEquals(List.of("c"), evicted);
+    }
+
+    @Test
+    void testIllegalArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new MyLruCache<String, Integer>(-1));
+        assertThrows(NullPointerException.class, () -> cache.put(null, 1));
+        assertThrows(NullPointerException.class, () -> cache.put("a", null));
+        assertThrows(NullPointerException.class, () -> cache.get(null));
+
+        MyLruCache<String, Integer> negative = new MyLruCache<>(3, (key, value) -> -1, null);
+        assertThrows(IllegalArgumentException.class, () -> negative.put("a", 1));
+    }
+}
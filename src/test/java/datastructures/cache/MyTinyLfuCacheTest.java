@@ -0,0 +1,122 @@
+package test.java.datastructures.cache;
+
+import main.java.datastructures.cache.MyCache;
+import main.java.datastructures.cache.MyLruCache;
+import main.java.datastructures.cache.MyTinyLfuCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyTinyLfuCacheTest {
+
+    private MyTinyLfuCache<Integer, Integer> cache;
+
+    @BeforeEach
+    public void setUp() {
+        cache = new MyTinyLfuCache<>(100);
+    }
+
+    @Test
+    void testNeverExceedsMaximum() {
+        SplittableRandom random = new SplittableRandom(1);
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(1000);
+            if (cache.get(key) == null) {
+                cache.put(key, key);
+            }
+            assertTrue(cache.size() <= 100);
+        }
+        assertEquals(100, cache.size());
+        assertEquals(cache.size(), cache.weightedSize());
+    }
+
+    @Test
+    void testGetPutRemove() {
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, i);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, cache.get(i));
+        }
+        assertEquals(50, cache.remove(50));
+        assertNull(cache.get(50));
+        assertEquals(99, cache.size());
+        assertEquals(1, cache.put(1, -1));
+        assertEquals(-1, cache.get(1));
+    }
+
+    @Test
+    void testEvictionListenerSeesEveryEviction() {
+        List<Integer> evicted = new ArrayList<>();
+        MyTinyLfuCache<Integer, Integer> listened = new MyTinyLfuCache<>(50, (key, value) -> 1,
+                (key, value) -> evicted.add(key));
+        for (int i = 0; i < 500; i++) {
+            listened.put(i, i);
+        }
+
+        assertEquals(450, evicted.size());
+        assertEquals(450, listened.stats().evictionCount());
+        for (int key : evicted) {
+            assertFalse(listened.containsKey(key));
+        }
+    }
+
+    /**
+     * A hot set that fits in the cache survives a scan of keys seen once, which flushes an LRU cache of the same size.
+     */
+    @Test
+    void testResistsScan() {
+        MyCache<Integer, Integer> lru = new MyLruCache<>(100);
+        double lfuHitRate = this.hotSetHitRateAfterScan(cache);
+        double lruHitRate = this.hotSetHitRateAfterScan(lru);
+
+        assertTrue(lfuHitRate > 0.9, "TinyLFU hit rate " + lfuHitRate);
+        assertTrue(lruHitRate < 0.1, "LRU hit rate " + lruHitRate);
+    }
+
+    @Test
+    void testWeightedEntries() {
+        MyTinyLfuCache<Integer, String> weighted = new MyTinyLfuCache<>(1000, (key, value) -> value.length(), null);
+        for (int i = 0; i < 1000; i++) {
+            weighted.put(i, "x".repeat(1 + i % 20));
+            assertTrue(weighted.weightedSize() <= 1000);
+        }
+        assertNull(weighted.put(-1, "x".repeat(1001)));
+        assertFalse(weighted.containsKey(-1));
+    }
+
+    /**
+     * With a weigher the sketch is sized from the entries actually held, not the maximum weight, and still protects
+     * the hot set as it grows.
+     */
+    @Test
+    void testWeighedInBytesResistsScan() {
+        MyCache<Integer, Integer> megabytes = new MyTinyLfuCache<>(100L << 20, (key, value) -> 1 << 20, null);
+        double hitRate = this.hotSetHitRateAfterScan(megabytes);
+        assertTrue(hitRate > 0.9, "TinyLFU hit rate " + hitRate);
+    }
+
+    // Helpers
+
+    private double hotSetHitRateAfterScan(MyCache<Integer, Integer> target) {
+        for (int round = 0; round < 5; round++) {
+            for (int key = 0; key < 80; key++) {
+                target.computeIfAbsent(key, k -> k);
+            }
+        }
+        for (int key = 1000; key < 11_000; key++) {
+            target.computeIfAbsent(key, k -> k);
+        }
+
+        int hits = 0;
+        for (int key = 0; key < 80; key++) {
+            if (target.containsKey(key)) hits++;
+        }
+        return hits / 80.0;
+    }
+}
@@ -0,0 +1,118 @@
+package test.java.datastructures.codec;
+
+import main.java.datastructures.codec.ChunkedReader;
+import main.java.datastructures.codec.ChunkedWriter;
+import main.java.datastructures.codec.ElementCodec;
+import main.java.datastructures.codec.PrimitiveListCodec;
+import main.java.datastructures.list.IntArrayList;
+import main.java.datastructures.list.MyArrayList;
+import main.java.datastructures.list.MyLinkedList;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChunkedWriterTest {
+
+    @Test
+    void testRoundTripAcrossChunks() throws IOException {
+        MyLinkedList<String> list = new MyLinkedList<>();
+        for (int i = 0; i < 5_000; i++) {
+            list.add(i % 7 == 0 ? "" : "element-" + i);
+        }
+        list.add("x".repeat(1_000)); // larger than a whole chunk
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ChunkedWriter<String> writer = new ChunkedWriter<>(Channels.newChannel(bytes), ElementCodec.STRING, 256)) {
+            writer.writeAll(list);
+            assertEquals(5_001, writer.count());
+        }
+
+        MyArrayList<String> read = new MyArrayList<>();
+        ChunkedReader<String> reader = new ChunkedReader<>(channel(bytes.toByteArray()), ElementCodec.STRING);
+        assertEquals(5_001, reader.readAll(read::add));
+        assertEquals(list.size(), read.size());
+        for (int i = 0; i < read.size(); i++) {
+            assertEquals(list.get(i), read.get(i));
+        }
+        assertEquals(-1, reader.readChunk(read::add));
+    }
+
+    @Test
+    void testReadsIncrementally() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ChunkedWriter<Long> writer = new ChunkedWriter<>(Channels.newChannel(bytes), ElementCodec.LONG, 90)) {
+            for (long i = 0; i < 100; i++) {
+                writer.write(i);
+            }
+        }
+
+        // Each element takes 9 bytes, so 10 fit in a 90-byte chunk
+        ChunkedReader<Long> reader = new ChunkedReader<>(channel(bytes.toByteArray()), ElementCodec.LONG);
+        List<Long> first = new ArrayList<>();
+        assertEquals(10, reader.readChunk(first::add));
+        assertEquals(9L, first.get(9));
+        assertEquals(90, reader.readAll(value -> { }));
+    }
+
+    @Test
+    void testEmptyStream() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ChunkedWriter<String> writer = new ChunkedWriter<>(Channels.newChannel(bytes), ElementCodec.STRING);
+        writer.close();
+        writer.close();
+        assertThrows(IllegalStateException.class, () -> writer.write("late"));
+
+        ChunkedReader<String> reader = new ChunkedReader<>(channel(bytes.toByteArray()), ElementCodec.STRING);
+        assertEquals(0, reader.readAll(element -> fail()));
+    }
+
+    @Test
+    void testRejectsDamagedStreams() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ChunkedWriter<String> writer = new ChunkedWriter<>(Channels.newChannel(bytes), ElementCodec.STRING)) {
+            writer.write("alpha");
+            writer.write("beta");
+        }
+        byte[] valid = bytes.toByteArray();
+
+        byte[] flipped = valid.clone();
+        flipped[valid.length - 14] ^= 1; // inside the body of the only chunk
+        IOException corrupted = assertThrows(IOException.class,
+                () -> new ChunkedReader<>(channel(flipped), ElementCodec.STRING).readAll(element -> fail()));
+        assertEquals("Chunk checksum mismatch.", corrupted.getMessage());
+
+        byte[] zeroCount = valid.clone();
+        Arrays.fill(zeroCount, 10, 14, (byte) 0); // the count of the only chunk, after the 6-byte stream header
+        IOException damagedHeader = assertThrows(IOException.class,
+                () -> new ChunkedReader<>(channel(zeroCount), ElementCodec.STRING).readAll(element -> fail()));
+        assertEquals("Corrupted chunk header.", damagedHeader.getMessage());
+
+        byte[] wrongCount = valid.clone();
+        wrongCount[13] = 1; // two elements claimed as one: the checksum covers the count
+        IOException miscounted = assertThrows(IOException.class,
+                () -> new ChunkedReader<>(channel(wrongCount), ElementCodec.STRING).readAll(element -> fail()));
+        assertEquals("Chunk checksum mismatch.", miscounted.getMessage());
+
+        byte[] truncated = Arrays.copyOf(valid, valid.length - 5);
+        assertThrows(IOException.class,
+                () -> new ChunkedReader<>(channel(truncated), ElementCodec.STRING).readAll(element -> { }));
+
+        assertThrows(IOException.class, () -> new ChunkedReader<>(channel(new byte[] {1, 2, 3, 4, 5, 6}), ElementCodec.STRING));
+
+        ByteArrayOutputStream ints = new ByteArrayOutputStream();
+        PrimitiveListCodec.write(new IntArrayList(), Channels.newChannel(ints));
+        assertThrows(IOException.class, () -> new ChunkedReader<>(channel(ints.toByteArray()), ElementCodec.STRING));
+    }
+
+    private static java.nio.channels.ReadableByteChannel channel(byte[] bytes) {
+        return Channels.newChannel(new ByteArrayInputStream(bytes));
+    }
+}
@@ -0,0 +1,57 @@
+package test.java.datastructures.codec;
+
+import main.java.datastructures.codec.ElementCodec;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ElementCodecTest {
+
+    @Test
+    void testStringMatchesJdkEncoding() {
+        String[] samples = {"", "plain ascii", "caf\u00e9", "\u20ac 100", "emoji \ud83d\ude00!", "\u00ff\u0800\uffff"};
+        for (String sample : samples) {
+            byte[] expected = sample.getBytes(StandardCharsets.UTF_8);
+            assertEquals(expected.length, ElementCodec.STRING.encodedSize(sample));
+            assertEquals(sample, roundTrip(ElementCodec.STRING, sample, expected.length));
+        }
+    }
+
+    @Test
+    void testUnpairedSurrogateBecomesQuestionMark() {
+        String broken = "a\ud83db";
+        assertEquals(3, ElementCodec.STRING.encodedSize(broken));
+        assertEquals("a?b", roundTrip(ElementCodec.STRING, broken, 3));
+    }
+
+    @Test
+    void testFixedWidthCodecs() {
+        assertEquals(Integer.MIN_VALUE, roundTrip(ElementCodec.INT, Integer.MIN_VALUE, 4));
+        assertEquals(Long.MAX_VALUE, roundTrip(ElementCodec.LONG, Long.MAX_VALUE, 8));
+        assertArrayEquals(new byte[] {1, 2, 3}, roundTrip(ElementCodec.BYTES, new byte[] {1, 2, 3}, 3));
+    }
+
+    @Test
+    void testDecodesFromDirectBuffer() {
+        ByteBuffer direct = ByteBuffer.allocateDirect(16);
+        ElementCodec.STRING.encode("d\u00e9j\u00e0", direct);
+        direct.flip();
+        assertEquals("d\u00e9j\u00e0", ElementCodec.STRING.decode(direct));
+        assertFalse(direct.hasRemaining());
+    }
+
+    private static <E> E roundTrip(ElementCodec<E> codec, E element, int expectedSize) {
+        ByteBuffer buffer = ByteBuffer.allocate(expectedSize + 3);
+        buffer.position(3);
+        codec.encode(element, buffer);
+        assertEquals(expectedSize + 3, buffer.position());
+
+        buffer.position(3);
+        E decoded = codec.decode(buffer);
+        assertFalse(buffer.hasRemaining());
+        return decoded;
+    }
+}
@@ -0,0 +1,164 @@
+package test.java.datastructures.codec;
+
+import main.java.datastructures.codec.PrimitiveListCodec;
+import main.java.datastructures.list.DoubleArrayList;
+import main.java.datastructures.list.IntArrayList;
+import main.java.datastructures.list.LongArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Random;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrimitiveListCodecTest {
+
+    @Test
+    void testIntsRoundTrip() throws IOException {
+        IntArrayList list = new IntArrayList();
+        Random random = new Random(1);
+        list.addAll(new int[] {Integer.MIN_VALUE, Integer.MAX_VALUE, 0, -1});
+        for (int i = 0; i < 100_000; i++) {
+            list.addInt(random.nextInt());
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrimitiveListCodec.write(list, Channels.newChannel(bytes));
+        assertEquals(list, PrimitiveListCodec.readInts(channel(bytes.toByteArray())));
+    }
+
+    @Test
+    void testSortedLongsAreCompact() throws IOException {
+        LongArrayList timestamps = new LongArrayList();
+        long time = 1_700_000_000_000L;
+        Random random = new Random(2);
+        for (int i = 0; i < 100_000; i++) {
+            time += random.nextInt(64);
+            timestamps.addLong(time);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrimitiveListCodec.write(timestamps, Channels.newChannel(bytes));
+        // One byte per increment, plus the first value of each chunk and the framing
+        assertTrue(bytes.size() < 110_000, "encoded size " + bytes.size());
+
+        long[] sum = new long[1];
+        assertEquals(100_000, PrimitiveListCodec.readLongs(channel(bytes.toByteArray()), value -> sum[0] += value));
+        long expected = 0;
+        for (int i = 0; i < timestamps.size(); i++) {
+            expected += timestamps.getLong(i);
+        }
+        assertEquals(expected, sum[0]);
+        assertEquals(timestamps, PrimitiveListCodec.readLongs(channel(bytes.toByteArray())));
+    }
+
+    @Test
+    void testDoublesRoundTripBitForBit() throws IOException {
+        DoubleArrayList list = new DoubleArrayList();
+        list.addAll(new double[] {0.0, -0.0, Double.NaN, Double.POSITIVE_INFINITY, Double.MIN_VALUE, 1.5});
+        for (int i = 0; i < 50_000; i++) {
+            list.addDouble(100 + i * 0.25);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrimitiveListCodec.write(list, Channels.newChannel(bytes));
+        assertTrue(bytes.size() < 8 * list.size());
+
+        DoubleArrayList read = PrimitiveListCodec.readDoubles(channel(bytes.toByteArray()));
+        assertEquals(list.size(), read.size());
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(Double.doubleToRawLongBits(list.getDouble(i)), Double.doubleToRawLongBits(read.getDouble(i)));
+        }
+
+        assertThrows(IOException.class, () -> PrimitiveListCodec.readInts(channel(bytes.toByteArray())));
+    }
+
+    /**
+     * Slowly changing series must encode smaller than 8 raw bytes per value, and repeats cost one byte.
+     */
+    @Test
+    void testSlowlyChangingDoublesAreCompact() throws IOException {
+        DoubleArrayList drift = new DoubleArrayList();
+        DoubleArrayList walk = new DoubleArrayList();
+        DoubleArrayList steady = new DoubleArrayList();
+        Random random = new Random(3);
+        double price = 100;
+        for (int i = 0; i < 100_000; i++) {
+            drift.addDouble(1 + i * 1e-6);
+            price += random.nextInt(3) - 1;
+            walk.addDouble(price / 4);
+            steady.addDouble(i / 1000);
+        }
+
+        assertTrue(encodedSize(drift) < 6.5 * drift.size(), "drift: " + encodedSize(drift));
+        assertTrue(encodedSize(walk) < 3.5 * walk.size(), "walk: " + encodedSize(walk));
+        assertTrue(encodedSize(steady) < 1.1 * steady.size(), "steady: " + encodedSize(steady));
+        assertEquals(drift, PrimitiveListCodec.readDoubles(channel(encode(drift))));
+        assertEquals(walk, PrimitiveListCodec.readDoubles(channel(encode(walk))));
+    }
+
+    /**
+     * A damaged element count is caught by the checksum; a forged count with a matching checksum is caught because
+     * the body then does not decode into exactly that many values.
+     */
+    @Test
+    void testRejectsWrongElementCount() throws IOException {
+        IntArrayList list = new IntArrayList();
+        for (int i = 0; i < 100; i++) {
+            list.addInt(i * 1000);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrimitiveListCodec.write(list, Channels.newChannel(bytes));
+        byte[] valid = bytes.toByteArray();
+
+        for (int count : new int[] {40, 120}) {
+            byte[] damaged = withCount(valid, count, false);
+            IOException e = assertThrows(IOException.class, () -> PrimitiveListCodec.readInts(channel(damaged)));
+            assertEquals("Chunk checksum mismatch.", e.getMessage());
+        }
+
+        IOException tooFew = assertThrows(IOException.class,
+                () -> PrimitiveListCodec.readInts(channel(withCount(valid, 40, true))));
+        assertTrue(tooFew.getMessage().endsWith("bytes after its last element."), tooFew.getMessage());
+        IOException tooMany = assertThrows(IOException.class,
+                () -> PrimitiveListCodec.readInts(channel(withCount(valid, 120, true))));
+        assertEquals("Corrupted chunk body.", tooMany.getMessage());
+    }
+
+    /**
+     * Rewrites the count of the first chunk, which follows the 6-byte stream header and the 4-byte body length, and
+     * optionally recomputes the chunk's checksum over the length, count and body to match.
+     */
+    private static byte[] withCount(byte[] stream, int count, boolean rechecksum) {
+        byte[] copy = stream.clone();
+        ByteBuffer buffer = ByteBuffer.wrap(copy);
+        buffer.putInt(10, count);
+        if (rechecksum) {
+            CRC32C crc = new CRC32C();
+            crc.update(copy, 6, 8);
+            crc.update(copy, 18, buffer.getInt(6));
+            buffer.putInt(14, (int) crc.getValue());
+        }
+        return copy;
+    }
+
+    private static byte[] encode(DoubleArrayList list) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrimitiveListCodec.write(list, Channels.newChannel(bytes));
+        return bytes.toByteArray();
+    }
+
+    private static int encodedSize(DoubleArrayList list) throws IOException {
+        return encode(list).length;
+    }
+
+    private static ReadableByteChannel channel(byte[] bytes) {
+        return Channels.newChannel(new ByteArrayInputStream(bytes));
+    }
+}
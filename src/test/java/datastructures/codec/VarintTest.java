@@ -0,0 +1,62 @@
+package test.java.datastructures.codec;
+
+import main.java.datastructures.codec.Varint;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VarintTest {
+
+    @Test
+    void testSizes() {
+        assertEquals(1, Varint.size(0));
+        assertEquals(1, Varint.size(127));
+        assertEquals(2, Varint.size(128));
+        assertEquals(5, Varint.size(0xFFFFFFFFL));
+        assertEquals(10, Varint.size(-1));
+    }
+
+    @Test
+    void testRoundTrip() {
+        ByteBuffer buffer = ByteBuffer.allocate(Varint.MAX_BYTES);
+        Random random = new Random(5);
+        long[] specials = {0, 1, -1, 300, Long.MIN_VALUE, Long.MAX_VALUE};
+
+        for (int i = 0; i < 10_000; i++) {
+            long value = i < specials.length ? specials[i] : random.nextLong() >> random.nextInt(64);
+
+            buffer.clear();
+            Varint.putUnsigned(buffer, value);
+            assertEquals(Varint.size(value), buffer.position());
+            buffer.flip();
+            assertEquals(value, Varint.getUnsigned(buffer));
+
+            buffer.clear();
+            Varint.putSigned(buffer, value);
+            buffer.flip();
+            assertEquals(value, Varint.getSigned(buffer));
+        }
+    }
+
+    @Test
+    void testZigZagKeepsSmallNegativesShort() {
+        assertEquals(0, Varint.zigZag(0));
+        assertEquals(1, Varint.zigZag(-1));
+        assertEquals(2, Varint.zigZag(1));
+        assertEquals(-1, Varint.zigZag(Long.MIN_VALUE));
+        assertEquals(1, Varint.size(Varint.zigZag(-64)));
+    }
+
+    @Test
+    void testRejectsOverlongValue() {
+        ByteBuffer buffer = ByteBuffer.allocate(11);
+        for (int i = 0; i < 11; i++) {
+            buffer.put((byte) 0x80);
+        }
+        buffer.flip();
+        assertThrows(IllegalArgumentException.class, () -> Varint.getUnsigned(buffer));
+    }
+}
@@ -0,0 +1,84 @@
+package test.java.datastructures.graph;
+
+import main.java.datastructures.graph.CsrGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsrGraphTest {
+
+    private CsrGraph graph;
+
+    @BeforeEach
+    public void setUp() {
+        graph = CsrGraph.builder()
+                .addEdge(0, 2)
+                .addEdge(0, 1)
+                .addEdge(2, 0)
+                .addEdge(3, 1)
+                .ensureVertices(5)
+                .freeze();
+    }
+
+    @Test
+    void testRowsAreSorted() {
+        assertEquals(5, graph.vertexCount());
+        assertEquals(4, graph.edgeCount());
+        assertEquals(2, graph.outDegree(0));
+        assertEquals(1, graph.neighbor(0, 0));
+        assertEquals(2, graph.neighbor(0, 1));
+        assertEquals(0, graph.outDegree(4));
+
+        List<Integer> neighbors = new ArrayList<>();
+        graph.forEachNeighbor(0, neighbors::add);
+        assertEquals(List.of(1, 2), neighbors);
+
+        assertTrue(graph.hasEdge(3, 1));
+        assertFalse(graph.hasEdge(1, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> graph.outDegree(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> graph.neighbor(0, 2));
+    }
+
+    @Test
+    void testTranspose() {
+        CsrGraph transpose = graph.transpose();
+        assertSame(transpose, graph.transpose());
+        assertSame(graph, transpose.transpose());
+        assertFalse(graph.isSymmetric());
+
+        assertEquals(2, transpose.outDegree(1));
+        assertEquals(0, transpose.neighbor(1, 0));
+        assertEquals(3, transpose.neighbor(1, 1));
+        assertTrue(transpose.hasEdge(2, 0));
+        assertEquals(graph.edgeCount(), transpose.edgeCount());
+    }
+
+    @Test
+    void testUndirectedBuilder() {
+        CsrGraph undirected = CsrGraph.builder(true).addEdge(0, 1).addEdge(1, 2).addEdge(2, 2).freeze();
+        assertTrue(undirected.isSymmetric());
+        assertSame(undirected, undirected.transpose());
+        assertEquals(5, undirected.edgeCount());
+        assertTrue(undirected.hasEdge(1, 0));
+        assertTrue(undirected.hasEdge(2, 1));
+        assertEquals(2, undirected.outDegree(2));
+        assertEquals(16 + 4 * 4 + 16 + 4 * 5, undirected.footprint());
+    }
+
+    @Test
+    void testBuilderFreezesOnce() {
+        CsrGraph.Builder builder = CsrGraph.builder().addEdge(1, 0);
+        assertThrows(IllegalArgumentException.class, () -> builder.addEdge(-1, 0));
+        builder.freeze();
+        assertThrows(IllegalStateException.class, () -> builder.addEdge(0, 1));
+        assertThrows(IllegalStateException.class, builder::freeze);
+
+        CsrGraph empty = CsrGraph.builder().freeze();
+        assertEquals(0, empty.vertexCount());
+        assertEquals(0, empty.edgeCount());
+    }
+}
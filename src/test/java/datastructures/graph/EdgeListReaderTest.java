@@ -0,0 +1,68 @@
+package test.java.datastructures.graph;
+
+import main.java.datastructures.graph.CsrGraph;
+import main.java.datastructures.graph.EdgeListReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EdgeListReaderTest {
+
+    @Test
+    void testReadsCommentsSeparatorsAndExtraColumns() throws IOException {
+        String text = "# Directed graph\n"
+                + "% another comment\n"
+                + "0\t1\n"
+                + "\n"
+                + "  1 2 0.75 1700000000\r\n"
+                + "2,0\n"
+                + "3 1";
+        CsrGraph graph = EdgeListReader.read(stream(text), false);
+
+        assertEquals(4, graph.vertexCount());
+        assertEquals(4, graph.edgeCount());
+        assertTrue(graph.hasEdge(1, 2));
+        assertTrue(graph.hasEdge(2, 0));
+        assertTrue(graph.hasEdge(3, 1));
+        assertFalse(graph.hasEdge(2, 1));
+    }
+
+    @Test
+    void testRejectsMalformedLines() {
+        IOException single = assertThrows(IOException.class, () -> EdgeListReader.read(stream("0 1\n2\n"), false));
+        assertEquals("Malformed edge list at line 2.", single.getMessage());
+        assertThrows(IOException.class, () -> EdgeListReader.read(stream("0 -1\n"), false));
+        assertThrows(IOException.class, () -> EdgeListReader.read(stream("a b\n"), false));
+        assertThrows(IOException.class, () -> EdgeListReader.read(stream("0 99999999999\n"), false));
+    }
+
+    @Test
+    void testReadsFileLargerThanBuffer() throws IOException {
+        Path file = Files.createTempFile("edges", ".txt");
+        try {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 50_000; i++) {
+                sb.append(i).append(' ').append(i + 1).append('\n');
+            }
+            Files.writeString(file, sb);
+
+            CsrGraph graph = EdgeListReader.read(file, true);
+            assertEquals(50_001, graph.vertexCount());
+            assertEquals(100_000, graph.edgeCount());
+            assertTrue(graph.hasEdge(12_345, 12_344));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,143 @@
+package test.java.datastructures.graph;
+
+import main.java.datastructures.graph.CsrGraph;
+import main.java.datastructures.graph.GraphKernels;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GraphKernelsTest {
+
+    @Test
+    void testBfsOnPath() {
+        CsrGraph path = CsrGraph.builder().addEdge(0, 1).addEdge(1, 2).addEdge(2, 3).ensureVertices(5).freeze();
+        assertArrayEquals(new int[] {0, 1, 2, 3, -1}, GraphKernels.bfs(path, 0));
+        assertArrayEquals(new int[] {-1, -1, 0, 1, -1}, GraphKernels.bfs(path, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> GraphKernels.bfs(path, 5));
+    }
+
+    @Test
+    void testBfsMatchesSequentialSearch() {
+        // Dense enough for the search to switch to bottom-up and back
+        for (boolean undirected : new boolean[] {true, false}) {
+            CsrGraph graph = randomGraph(20_000, 200_000, undirected, 29);
+            for (int source : new int[] {0, 7, 19_999}) {
+                assertArrayEquals(sequentialBfs(graph, source), GraphKernels.bfs(graph, source));
+            }
+        }
+    }
+
+    @Test
+    void testConnectedComponents() {
+        CsrGraph graph = CsrGraph.builder()
+                .addEdge(5, 4).addEdge(3, 4)
+                .addEdge(1, 2)
+                .ensureVertices(7)
+                .freeze();
+        assertArrayEquals(new int[] {0, 1, 1, 3, 3, 3, 6}, GraphKernels.connectedComponents(graph));
+
+        CsrGraph random = randomGraph(30_000, 20_000, false, 31);
+        int[] labels = GraphKernels.connectedComponents(random);
+        int[] expected = sequentialComponents(random);
+        assertArrayEquals(expected, labels);
+    }
+
+    @Test
+    void testPageRank() {
+        // Vertex 3 has no out-arcs, so its rank is spread over every vertex
+        CsrGraph graph = CsrGraph.builder().addEdge(0, 1).addEdge(1, 2).addEdge(2, 0).addEdge(2, 3).freeze();
+        double[] rank = GraphKernels.pageRank(graph, 0.85, 1e-12, 1_000);
+
+        assertEquals(1.0, Arrays.stream(rank).sum(), 1e-9);
+        assertArrayEquals(sequentialPageRank(graph, 0.85, 1_000), rank, 1e-9);
+        assertTrue(rank[2] > rank[3]);
+
+        CsrGraph large = randomGraph(5_000, 40_000, false, 37);
+        assertArrayEquals(sequentialPageRank(large, 0.85, 30), GraphKernels.pageRank(large, 0.85, 0, 30), 1e-12);
+
+        assertThrows(IllegalArgumentException.class, () -> GraphKernels.pageRank(graph, 1.0, 0, 1));
+    }
+
+    private static CsrGraph randomGraph(int vertices, int edges, boolean undirected, long seed) {
+        Random random = new Random(seed);
+        CsrGraph.Builder builder = CsrGraph.builder(undirected).ensureVertices(vertices);
+        for (int i = 0; i < edges; i++) {
+            builder.addEdge(random.nextInt(vertices), random.nextInt(vertices));
+        }
+        return builder.freeze();
+    }
+
+    private static int[] sequentialBfs(CsrGraph graph, int source) {
+        int[] depth = new int[graph.vertexCount()];
+        Arrays.fill(depth, -1);
+        depth[source] = 0;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(source);
+
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+            graph.forEachNeighbor(u, v -> {
+                if (depth[v] == -1) {
+                    depth[v] = depth[u] + 1;
+                    queue.add(v);
+                }
+            });
+        }
+        return depth;
+    }
+
+    private static int[] sequentialComponents(CsrGraph graph) {
+        int n = graph.vertexCount();
+        int[] labels = new int[n];
+        Arrays.fill(labels, -1);
+        CsrGraph transpose = graph.transpose();
+
+        for (int start = 0; start < n; start++) {
+            if (labels[start] != -1) continue;
+            ArrayDeque<Integer> stack = new ArrayDeque<>();
+            stack.push(start);
+            labels[start] = start;
+            while (!stack.isEmpty()) {
+                int u = stack.pop();
+                for (CsrGraph g : new CsrGraph[] {graph, transpose}) {
+                    g.forEachNeighbor(u, v -> {
+                        if (labels[v] == -1) {
+                            labels[v] = labels[u];
+                            stack.push(v);
+                        }
+                    });
+                }
+            }
+        }
+        return labels;
+    }
+
+    private static double[] sequentialPageRank(CsrGraph graph, double damping, int iterations) {
+        int n = graph.vertexCount();
+        double[] rank = new double[n];
+        Arrays.fill(rank, 1.0 / n);
+
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            double[] next = new double[n];
+            double dangling = 0;
+            for (int u = 0; u < n; u++) {
+                int degree = graph.outDegree(u);
+                if (degree == 0) {
+                    dangling += rank[u];
+                }
+                for (int i = 0; i < degree; i++) {
+                    next[graph.neighbor(u, i)] += damping * rank[u] / degree;
+                }
+            }
+            for (int v = 0; v < n; v++) {
+                next[v] += (1 - damping) / n + damping * dangling / n;
+            }
+            rank = next;
+        }
+        return rank;
+    }
+}
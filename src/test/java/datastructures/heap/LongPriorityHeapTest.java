@@ -0,0 +1,49 @@
+package test.java.datastructures.heap;
+
+import main.java.datastructures.heap.LongPriorityHeap;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongPriorityHeapTest {
+
+    @Test
+    void testDequeuesLowestPriorityFirst() {
+        LongPriorityHeap<String> heap = new LongPriorityHeap<>();
+        heap.enqueue("later", 300L);
+        heap.enqueue("now", Long.MIN_VALUE);
+        heap.enqueue("soon", 20L);
+
+        assertEquals(3, heap.size());
+        assertEquals("now", heap.peek());
+        assertEquals(Long.MIN_VALUE, heap.peekPriority());
+        assertEquals("now", heap.dequeue());
+        assertEquals("soon", heap.dequeue());
+        assertEquals("later", heap.dequeue());
+
+        assertNull(heap.dequeue());
+        assertNull(heap.peek());
+        assertThrows(NoSuchElementException.class, heap::peekPriority);
+    }
+
+    @Test
+    void testManyRandomPriorities() {
+        LongPriorityHeap<Long> heap = new LongPriorityHeap<>(8);
+        Random random = new Random(5);
+        for (int i = 0; i < 10_000; i++) {
+            long priority = random.nextLong();
+            heap.enqueue(priority, priority);
+        }
+
+        long previous = Long.MIN_VALUE;
+        while (!heap.isEmpty()) {
+            long priority = heap.peekPriority();
+            assertEquals(priority, heap.dequeue());
+            assertTrue(priority >= previous);
+            previous = priority;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package test.java.datastructures.heap;
+
+import main.java.datastructures.heap.MyDaryHeap;
+import main.java.datastructures.list.MyArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyDaryHeapTest {
+
+    @Test
+    void testDequeuesInPriorityOrder() {
+        MyDaryHeap<Integer> heap = new MyDaryHeap<>();
+        heap.enqueue(5);
+        heap.enqueue(1);
+        heap.enqueue(4);
+        heap.enqueue(1);
+
+        assertEquals(4, heap.size());
+        assertEquals(1, heap.peek());
+        assertEquals(1, heap.dequeue());
+        assertEquals(1, heap.dequeue());
+        assertEquals(4, heap.dequeue());
+        assertEquals(5, heap.dequeue());
+        assertNull(heap.dequeue());
+        assertNull(heap.peek());
+        assertTrue(heap.isEmpty());
+
+        assertThrows(NullPointerException.class, () -> heap.enqueue(null));
+        assertThrows(IllegalArgumentException.class, () -> new MyDaryHeap<Integer>(1, null));
+    }
+
+    @Test
+    void testMatchesPriorityQueueForEveryArity() {
+        for (int arity = 2; arity <= 8; arity++) {
+            MyDaryHeap<Integer> heap = new MyDaryHeap<>(arity, Comparator.reverseOrder());
+            PriorityQueue<Integer> expected = new PriorityQueue<>(Comparator.reverseOrder());
+            Random random = new Random(arity);
+
+            for (int step = 0; step < 10_000; step++) {
+                if (random.nextInt(3) > 0 || expected.isEmpty()) {
+                    int value = random.nextInt(1000);
+                    heap.enqueue(value);
+                    expected.add(value);
+                } else {
+                    assertEquals(expected.poll(), heap.dequeue());
+                }
+                assertEquals(expected.size(), heap.size());
+                assertEquals(expected.peek(), heap.peek());
+            }
+        }
+    }
+
+    @Test
+    void testHeapify() {
+        MyArrayList<Integer> values = new MyArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            values.add((i * 7919) % 1_000);
+        }
+
+        MyDaryHeap<Integer> heap = MyDaryHeap.heapify(values);
+        assertEquals(1_000, heap.size());
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(i, heap.dequeue());
+        }
+        assertEquals(1_000, values.size());
+
+        assertTrue(MyDaryHeap.heapify(new MyArrayList<Integer>()).isEmpty());
+        MyDaryHeap<Integer> maxHeap = MyDaryHeap.heapify(values, 3, Comparator.reverseOrder());
+        assertEquals(999, maxHeap.peek());
+    }
+}
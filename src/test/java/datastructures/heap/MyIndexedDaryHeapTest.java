@@ -0,0 +1,90 @@
+package test.java.datastructures.heap;
+
+import main.java.datastructures.heap.MyIndexedDaryHeap;
+import main.java.datastructures.heap.MyIndexedDaryHeap.Handle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyIndexedDaryHeapTest {
+
+    private MyIndexedDaryHeap<Integer> heap;
+
+    @BeforeEach
+    public void setUp() {
+        heap = new MyIndexedDaryHeap<>();
+    }
+
+    @Test
+    void testDecreaseKey() {
+        Handle<Integer> ten = heap.insert(10);
+        heap.insert(5);
+        Handle<Integer> twenty = heap.insert(20);
+
+        heap.decreaseKey(twenty, 1);
+        assertEquals(1, heap.peek());
+        assertEquals(1, twenty.element());
+
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(ten, 11));
+        heap.decreaseKey(ten, 10);
+
+        assertEquals(1, heap.dequeue());
+        assertFalse(twenty.isQueued());
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(twenty, 0));
+        assertEquals(5, heap.dequeue());
+        assertEquals(10, heap.dequeue());
+        assertNull(heap.dequeue());
+    }
+
+    @Test
+    void testRemoveByHandle() {
+        List<Handle<Integer>> handles = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            handles.add(heap.insert(i));
+        }
+
+        for (int i = 0; i < 100; i += 3) {
+            assertTrue(heap.remove(handles.get(i)));
+        }
+        assertFalse(heap.remove(handles.get(0)));
+
+        MyIndexedDaryHeap<Integer> other = new MyIndexedDaryHeap<>();
+        assertFalse(other.remove(handles.get(1)));
+
+        for (int i = 0; i < 100; i++) {
+            if (i % 3 != 0) {
+                assertEquals(i, heap.dequeue());
+            }
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    void testRandomDecreaseKeyAndRemoveKeepHeapOrder() {
+        Random random = new Random(3);
+        List<Handle<Integer>> queued = new ArrayList<>();
+
+        for (int step = 0; step < 20_000; step++) {
+            int op = random.nextInt(4);
+            if (op == 0 || queued.isEmpty()) {
+                queued.add(heap.insert(random.nextInt(1_000_000)));
+            } else if (op == 1) {
+                Handle<Integer> handle = queued.get(random.nextInt(queued.size()));
+                heap.decreaseKey(handle, handle.element() - random.nextInt(1000));
+            } else if (op == 2) {
+                Handle<Integer> handle = queued.remove(random.nextInt(queued.size()));
+                assertTrue(heap.remove(handle));
+            } else {
+                int min = queued.stream().mapToInt(Handle::element).min().getAsInt();
+                assertEquals(min, heap.dequeue());
+                queued.removeIf(handle -> !handle.isQueued());
+            }
+            assertEquals(queued.size(), heap.size());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package test.java.datastructures.list;
+
+import main.java.datastructures.list.DoubleArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DoubleArrayListTest {
+
+    private DoubleArrayList list;
+
+    @BeforeEach
+    public void setUp() {
+        list = new DoubleArrayList();
+        list.addDouble(1.5);
+        list.addDouble(-2.25);
+        list.addDouble(3.0);
+    }
+
+    @Test
+    void testAddAndGet() {
+        assertEquals(1.5, list.getDouble(0));
+        assertEquals(3.0, list.getDouble(2));
+        assertEquals(3, list.size());
+    }
+
+    @Test
+    void testInsertAndRemove() {
+        list.addDouble(1, 10.0);
+        assertArrayEquals(new double[]{1.5, 10.0, -2.25, 3.0}, list.toArray());
+
+        assertEquals(10.0, list.removeDouble(1));
+        assertArrayEquals(new double[]{1.5, -2.25, 3.0}, list.toArray());
+    }
+
+    @Test
+    void testSet() {
+        assertEquals(-2.25, list.setDouble(1, 0.1));
+        assertEquals(0.1, list.getDouble(1));
+    }
+
+    @Test
+    void testAddAllGrowsPastInitialCapacity() {
+        double[] values = new double[25];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i / 4.0;
+        }
+
+        list.addAll(values);
+
+        assertEquals(28, list.size());
+        assertEquals(6.0, list.getDouble(27));
+    }
+
+    @Test
+    void testIndexOutOfBounds() {
+        list.clear();
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getDouble(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeDouble(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.setDouble(0, 1.0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addDouble(1, 1.0));
+    }
+
+    /**
+     * indexOf and equals compare bits: NaN matches NaN, which == never does, and -0.0 is not 0.0.
+     */
+    @Test
+    void testNaNAndNegativeZero() {
+        list.addDouble(Double.NaN);
+        list.addDouble(-0.0);
+        assertEquals(3, list.indexOf(Double.NaN));
+        assertEquals(3, list.indexOf(0.0 / 0.0));
+        assertEquals(4, list.indexOf(-0.0));
+        assertEquals(-1, list.indexOf(0.0));
+        assertEquals(1, list.indexOf(-2.25));
+
+        DoubleArrayList other = new DoubleArrayList(100);
+        other.addAll(new double[]{1.5, -2.25, 3.0, Double.NaN, -0.0});
+        assertEquals(list, other);
+        assertEquals(list.hashCode(), other.hashCode());
+
+        other.setDouble(4, 0.0);
+        assertNotEquals(list, other);
+    }
+
+    @Test
+    void testSortOrdersNegativeZeroAndNaN() {
+        list.addDouble(Double.NaN);
+        list.addDouble(0.0);
+        list.addDouble(-0.0);
+        list.sort();
+        assertArrayEquals(new double[]{-2.25, -0.0, 0.0, 1.5, 3.0, Double.NaN}, list.toArray());
+
+        DoubleArrayList values = new DoubleArrayList();
+        for (int i = 0; i < 100_000; i++) {
+            values.addDouble(((i * 7919) % 100_000) / 8.0);
+        }
+        values.parallelSort();
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals(i / 8.0, values.getDouble(i));
+        }
+    }
+}
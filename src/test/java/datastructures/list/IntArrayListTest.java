@@ -0,0 +1,100 @@
+package test.java.datastructures.list;
+
+import main.java.datastructures.list.IntArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntArrayListTest {
+
+    private IntArrayList list;
+
+    @BeforeEach
+    public void setUp() {
+        list = new IntArrayList();
+        list.addInt(1);
+        list.addInt(2);
+        list.addInt(3);
+    }
+
+    @Test
+    void testAddAndGet() {
+        assertEquals(1, list.getInt(0));
+        assertEquals(3, list.getInt(2));
+        assertEquals(3, list.size());
+    }
+
+    @Test
+    void testInsertAndRemove() {
+        list.addInt(1, 10);
+        assertArrayEquals(new int[]{1, 10, 2, 3}, list.toArray());
+
+        assertEquals(10, list.removeInt(1));
+        assertArrayEquals(new int[]{1, 2, 3}, list.toArray());
+    }
+
+    @Test
+    void testSet() {
+        assertEquals(2, list.setInt(1, 20));
+        assertEquals(20, list.getInt(1));
+    }
+
+    @Test
+    void testIndexOf() {
+        list.addInt(2);
+        assertEquals(1, list.indexOf(2));
+        assertEquals(-1, list.indexOf(4));
+    }
+
+    @Test
+    void testAddAllGrowsPastInitialCapacity() {
+        int[] values = new int[25];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 2;
+        }
+
+        list.addAll(values);
+
+        assertEquals(28, list.size());
+        assertEquals(48, list.getInt(27));
+    }
+
+    @Test
+    void testIndexOutOfBounds() {
+        list.clear();
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeInt(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.setInt(0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addInt(1, 1));
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        IntArrayList other = new IntArrayList(100);
+        other.addAll(new int[]{1, 2, 3});
+
+        assertEquals(list, other);
+        assertEquals(list.hashCode(), other.hashCode());
+
+        other.addInt(4);
+        assertNotEquals(list, other);
+    }
+
+    @Test
+    void testSortAndParallelSort() {
+        IntArrayList values = new IntArrayList();
+        for (int i = 0; i < 100_000; i++) {
+            values.addInt((i * 7919) % 100_000);
+        }
+
+        values.parallelSort();
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals(i, values.getInt(i));
+        }
+
+        list.addInt(0, 9);
+        list.sort();
+        assertArrayEquals(new int[]{1, 2, 3, 9}, list.toArray());
+    }
+}
@@ -0,0 +1,149 @@
+package test.java.datastructures.list;
+
+import main.java.datastructures.list.ListListener;
+import main.java.datastructures.list.ListMetrics;
+import main.java.datastructures.list.LogHistogram;
+import main.java.datastructures.list.MyArrayList;
+import main.java.datastructures.list.MyLinkedList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ListMetricsTest {
+
+    private ListMetrics metrics;
+
+    @BeforeEach
+    public void setUp() {
+        metrics = new ListMetrics();
+    }
+
+    @Test
+    void testArrayListResizesAndShifts() {
+        MyArrayList<Integer> list = new MyArrayList<>(2);
+        list.setListener(metrics);
+
+        list.add(1);
+        list.add(2);
+        list.add(3);       // resize 2 -> 4, copies 2 elements
+        list.add(0, 0);    // shifts 3
+        list.remove(3);    // shifts 0
+        list.removeRange(0, 1); // shifts 2
+        list.trimToSize(); // resize 4 -> 2, copies 2 elements
+
+        assertEquals(2, metrics.getResizeCount());
+        assertEquals(4L * (2 + 3 + 0 + 2 + 2), metrics.getBytesCopied());
+
+        LogHistogram shifts = metrics.shiftHistogram();
+        assertEquals(3, shifts.count());
+        assertEquals(5, shifts.sum());
+        long[] buckets = metrics.getShiftHistogram();
+        assertEquals(1, buckets[0]);
+        assertEquals(2, buckets[2]);
+
+        Map<String, Long> counts = metrics.getOperationCounts();
+        assertEquals(3, counts.get("APPEND"));
+        assertEquals(1, counts.get("INSERT"));
+        assertEquals(1, counts.get("REMOVE"));
+        assertEquals(0, counts.get("GET"));
+
+        list.setListener(null);
+        list.add(4);
+        assertEquals(3, metrics.getOperationCounts().get("APPEND"));
+    }
+
+    @Test
+    void testLinkedListTraversals() {
+        MyLinkedList<Integer> list = new MyLinkedList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        list.setListener(metrics);
+
+        list.get(40); // 40 steps from head
+        list.get(41); // 1 step from the finger
+        list.set(98, -1); // 1 step from tail
+        list.remove(50); // 48 steps from the finger
+
+        LogHistogram traversals = metrics.traversalHistogram();
+        assertEquals(4, traversals.count());
+        assertEquals(40 + 1 + 1 + 48, traversals.sum());
+        assertEquals(63, traversals.percentile(1.0));
+        assertEquals(1, traversals.percentile(0.5));
+        assertEquals(2, metrics.latencyHistogram(ListListener.Operation.GET).count());
+        assertEquals(0, metrics.getResizeCount());
+    }
+
+    @Test
+    void testCustomListener() {
+        List<String> events = new ArrayList<>();
+        MyArrayList<String> list = new MyArrayList<>(1);
+        list.setListener(new ListListener() {
+            @Override
+            public void onResize(int oldCapacity, int newCapacity, int copiedElements) {
+                events.add("resize " + oldCapacity + "->" + newCapacity);
+            }
+        });
+
+        list.add("a");
+        list.add("b");
+        list.add("c");
+        assertEquals(List.of("resize 1->2", "resize 2->4"), events);
+    }
+
+    @Test
+    void testLogHistogram() {
+        LogHistogram histogram = new LogHistogram();
+        assertEquals(0, histogram.percentile(0.99));
+
+        histogram.record(0);
+        histogram.record(1);
+        histogram.record(5);
+        histogram.record(1000);
+        histogram.record(-3);
+        histogram.record(Long.MAX_VALUE);
+
+        long[] buckets = histogram.buckets();
+        assertEquals(2, buckets[0]);
+        assertEquals(1, buckets[1]);
+        assertEquals(1, buckets[3]);
+        assertEquals(1, buckets[10]);
+        assertEquals(1, buckets[63]);
+        assertEquals(6, histogram.count());
+        assertEquals(0, histogram.percentile(0.2));
+        assertEquals(7, histogram.percentile(0.6));
+        assertEquals(Long.MAX_VALUE, histogram.percentile(1.0));
+        assertThrows(IllegalArgumentException.class, () -> histogram.percentile(1.5));
+
+        histogram.reset();
+        assertEquals(0, histogram.count());
+    }
+
+    @Test
+    void testJmxRegistration() throws Exception {
+        MyArrayList<Integer> list = new MyArrayList<>(1);
+        list.setListener(metrics);
+        list.add(1);
+        list.add(2);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = metrics.register("ListMetricsTest");
+        try {
+            assertEquals(1L, server.getAttribute(name, "ResizeCount"));
+            assertEquals(4L, server.getAttribute(name, "BytesCopied"));
+            server.invoke(name, "reset", null, null);
+            assertEquals(0, metrics.getResizeCount());
+            assertThrows(Exception.class, () -> metrics.register("ListMetricsTest"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
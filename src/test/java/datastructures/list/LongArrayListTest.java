@@ -0,0 +1,107 @@
+package test.java.datastructures.list;
+
+import main.java.datastructures.list.LongArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongArrayListTest {
+
+    private LongArrayList list;
+
+    @BeforeEach
+    public void setUp() {
+        list = new LongArrayList();
+        list.addLong(1L);
+        list.addLong(Long.MAX_VALUE);
+        list.addLong(Long.MIN_VALUE);
+    }
+
+    @Test
+    void testAddAndGet() {
+        assertEquals(1L, list.getLong(0));
+        assertEquals(Long.MAX_VALUE, list.getLong(1));
+        assertEquals(Long.MIN_VALUE, list.getLong(2));
+        assertEquals(3, list.size());
+    }
+
+    @Test
+    void testInsertAndRemove() {
+        list.addLong(1, 10L);
+        assertArrayEquals(new long[]{1L, 10L, Long.MAX_VALUE, Long.MIN_VALUE}, list.toArray());
+
+        assertEquals(10L, list.removeLong(1));
+        assertArrayEquals(new long[]{1L, Long.MAX_VALUE, Long.MIN_VALUE}, list.toArray());
+    }
+
+    @Test
+    void testSet() {
+        assertEquals(Long.MAX_VALUE, list.setLong(1, 1L << 40));
+        assertEquals(1L << 40, list.getLong(1));
+    }
+
+    @Test
+    void testIndexOf() {
+        list.addLong(1L);
+        assertEquals(0, list.indexOf(1L));
+        assertEquals(2, list.indexOf(Long.MIN_VALUE));
+        // Differs from an existing value only in the upper 32 bits
+        assertEquals(-1, list.indexOf(1L + (1L << 32)));
+    }
+
+    @Test
+    void testAddAllGrowsPastInitialCapacity() {
+        long[] values = new long[25];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 3_000_000_000L;
+        }
+
+        list.addAll(values);
+
+        assertEquals(28, list.size());
+        assertEquals(24 * 3_000_000_000L, list.getLong(27));
+
+        LongArrayList empty = new LongArrayList(0);
+        empty.addLong(5L);
+        assertEquals(5L, empty.getLong(0));
+    }
+
+    @Test
+    void testIndexOutOfBounds() {
+        list.clear();
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getLong(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeLong(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.setLong(0, 1L));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addLong(1, 1L));
+        assertThrows(IllegalArgumentException.class, () -> new LongArrayList(-1));
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        LongArrayList other = new LongArrayList(100);
+        other.addAll(new long[]{1L, Long.MAX_VALUE, Long.MIN_VALUE});
+
+        assertEquals(list, other);
+        assertEquals(list.hashCode(), other.hashCode());
+
+        other.addLong(4L);
+        assertNotEquals(list, other);
+    }
+
+    @Test
+    void testSortAndParallelSort() {
+        LongArrayList values = new LongArrayList();
+        for (int i = 0; i < 100_000; i++) {
+            values.addLong(((i * 7919L) % 100_000) << 32);
+        }
+
+        values.parallelSort();
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals((long) i << 32, values.getLong(i));
+        }
+
+        list.sort();
+        assertArrayEquals(new long[]{Long.MIN_VALUE, 1L, Long.MAX_VALUE}, list.toArray());
+    }
+}
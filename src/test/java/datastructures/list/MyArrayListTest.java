@@ -1,8 +1,17 @@
 package test.java.datastructures.list;
 
+import main.java.datastructures.list.GrowthPolicy;
 import main.java.datastructures.list.MyArrayList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class MyArrayListTest {
@@ -111,4 +120,248 @@ public class MyArrayListTest {
         // Equal objects must have equal hash codes (the converse is not necessarily true)
         assertEquals(list1.hashCode(), list2.hashCode());
     }
+
+    @Test
+    void testAddAll() {
+        list1.addAll(List.of("cherry", "date"));
+        list1.addAll(new String[]{"elder"});
+
+        assertEquals(5, list1.size());
+        assertEquals("cherry", list1.get(2));
+        assertEquals("elder", list1.get(4));
+    }
+
+    @Test
+    void testAddAllAtIndexGrowsOnce() {
+        String[] many = new String[30];
+        for (int i = 0; i < many.length; i++) {
+            many[i] = "x" + i;
+        }
+
+        list1.addAll(1, many);
+
+        assertEquals(32, list1.size());
+        assertEquals("apple", list1.get(0));
+        assertEquals("x0", list1.get(1));
+        assertEquals("x29", list1.get(30));
+        assertEquals("banana", list1.get(31));
+        assertThrows(IndexOutOfBoundsException.class, () -> list1.addAll(40, List.of("oops")));
+    }
+
+    @Test
+    void testRemoveRange() {
+        list1.addAll(List.of("cherry", "date", "elder"));
+        list1.removeRange(1, 4);
+
+        assertEquals(2, list1.size());
+        assertEquals("apple", list1.get(0));
+        assertEquals("elder", list1.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list1.removeRange(1, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list1.removeRange(2, 1));
+    }
+
+    @Test
+    void testRemoveIf() {
+        list1.addAll(List.of("avocado", "cherry", "apricot"));
+
+        assertTrue(list1.removeIf(s -> s.startsWith("a")));
+        assertFalse(list1.removeIf(s -> s.startsWith("a")));
+
+        assertEquals(2, list1.size());
+        assertEquals("banana", list1.get(0));
+        assertEquals("cherry", list1.get(1));
+    }
+
+    @Test
+    void testRemoveIfKeepsListConsistentWhenPredicateThrows() {
+        list1.addAll(List.of("cherry", "date"));
+
+        assertThrows(IllegalStateException.class, () -> list1.removeIf(s -> {
+            if (s.equals("cherry")) throw new IllegalStateException();
+            return s.equals("apple");
+        }));
+
+        assertEquals(3, list1.size());
+        assertEquals("banana", list1.get(0));
+        assertEquals("date", list1.get(2));
+    }
+
+    @Test
+    void testInitialCapacityAndTrimToSize() {
+        MyArrayList<String> presized = new MyArrayList<>(100);
+        assertEquals(100, presized.capacity());
+
+        presized.add("a");
+        presized.add("b");
+        presized.trimToSize();
+
+        assertEquals(2, presized.capacity());
+        assertEquals("b", presized.get(1));
+        assertEquals(16 + 4 * 2, presized.footprint());
+
+        presized.add("c");
+        assertEquals(4, presized.capacity());
+        assertThrows(IllegalArgumentException.class, () -> new MyArrayList<String>(-1));
+    }
+
+    @Test
+    void testEnsureCapacity() {
+        list1.ensureCapacity(1000);
+        assertEquals(1000, list1.capacity());
+        assertEquals("banana", list1.get(1));
+
+        list1.ensureCapacity(5);
+        assertEquals(1000, list1.capacity());
+    }
+
+    @Test
+    void testGrowthPolicies() {
+        MyArrayList<Integer> oneAndAHalf = new MyArrayList<>(10, GrowthPolicy.ONE_AND_A_HALF);
+        MyArrayList<Integer> chunked = new MyArrayList<>(10, GrowthPolicy.chunked(100));
+        MyArrayList<Integer> fromEmpty = new MyArrayList<>(0);
+
+        for (int i = 0; i < 11; i++) {
+            oneAndAHalf.add(i);
+            chunked.add(i);
+            fromEmpty.add(i);
+        }
+
+        assertEquals(15, oneAndAHalf.capacity());
+        assertEquals(110, chunked.capacity());
+        assertEquals(16, fromEmpty.capacity());
+        assertEquals(10, chunked.get(10));
+    }
+
+    @Test
+    void testForEachLoopAndIteratorRemove() {
+        List<String> seen = new ArrayList<>();
+        for (String s : list3) {
+            seen.add(s);
+        }
+        assertEquals(List.of("apple", "orange"), seen);
+
+        Iterator<String> iterator = list3.iterator();
+        iterator.next();
+        iterator.remove();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        assertEquals("orange", iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals(1, list3.size());
+    }
+
+    @Test
+    void testIteratorAndForEachAreFailFast() {
+        Iterator<String> iterator = list1.iterator();
+        iterator.next();
+        list1.add("cherry");
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+
+        assertThrows(ConcurrentModificationException.class, () -> list1.forEach(s -> list1.remove(0)));
+    }
+
+    @Test
+    void testStreams() {
+        MyArrayList<Integer> numbers = new MyArrayList<>();
+        for (int i = 1; i <= 100_000; i++) {
+            numbers.add(i);
+        }
+
+        assertEquals(5_000_050_000L, numbers.stream().mapToLong(Integer::longValue).sum());
+        assertEquals(5_000_050_000L, numbers.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(50_000, numbers.parallelStream().filter(i -> i % 2 == 0).count());
+    }
+
+    @Test
+    void testSpliteratorSplitsEvenly() {
+        MyArrayList<Integer> numbers = new MyArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            numbers.add(i);
+        }
+
+        Spliterator<Integer> right = numbers.spliterator();
+        assertTrue(right.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+
+        Spliterator<Integer> left = right.trySplit();
+        assertEquals(5, left.estimateSize());
+        assertEquals(5, right.estimateSize());
+
+        List<Integer> seen = new ArrayList<>();
+        left.forEachRemaining(seen::add);
+        right.forEachRemaining(seen::add);
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), seen);
+    }
+
+    @Test
+    void testSortAndParallelSort() {
+        MyArrayList<Integer> numbers = new MyArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            numbers.add((i * 7919) % 100_000);
+        }
+
+        numbers.parallelSort(null);
+        for (int i = 0; i < numbers.size(); i++) {
+            assertEquals(i, numbers.get(i));
+        }
+
+        numbers.sort(Comparator.reverseOrder());
+        assertEquals(99_999, numbers.get(0));
+        assertEquals(0, numbers.get(99_999));
+
+        list1.addAll(new String[]{"plum", "fig", "pear"});
+        list1.sort(Comparator.comparing(String::length));
+        assertEquals("[fig, plum, pear, apple, banana]", list1.toString());
+
+        Iterator<Integer> iterator = numbers.iterator();
+        numbers.sort(null);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void testParallelPrefix() {
+        MyArrayList<Integer> numbers = new MyArrayList<>();
+        numbers.addAll(new Integer[]{2, 1, 0, 3});
+
+        numbers.parallelPrefix(Integer::sum);
+
+        assertEquals("[2, 3, 3, 6]", numbers.toString());
+    }
+
+    @Test
+    void testParallelReplaceAllRemoveIfAndReduce() {
+        MyArrayList<Integer> numbers = new MyArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            numbers.add(i);
+        }
+
+        numbers.parallelReplaceAll(i -> i * 2, 1000);
+        assertEquals(199_998, numbers.get(99_999));
+
+        assertTrue(numbers.parallelRemoveIf(i -> i % 4 == 0, 1000));
+        assertEquals(50_000, numbers.size());
+        assertEquals(2, numbers.get(0));
+        assertEquals(6, numbers.get(1));
+        assertFalse(numbers.parallelRemoveIf(i -> i % 4 == 0));
+
+        assertEquals(199_998, numbers.parallelReduce(0, Integer::max, 1000));
+        assertEquals(numbers.stream().reduce(0, Integer::sum), numbers.parallelReduce(0, Integer::sum, 1000));
+        assertEquals(0, new MyArrayList<Integer>().parallelReduce(0, Integer::sum));
+
+        assertThrows(IllegalArgumentException.class, () -> numbers.parallelReduce(0, Integer::sum, 0));
+    }
+
+    @Test
+    void testParallelRemoveIfLeavesListUnchangedWhenPredicateThrows() {
+        MyArrayList<Integer> numbers = new MyArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            numbers.add(i);
+        }
+
+        assertThrows(IllegalStateException.class, () -> numbers.parallelRemoveIf(i -> {
+            if (i == 5_000) throw new IllegalStateException();
+            return i % 2 == 0;
+        }, 100));
+
+        assertEquals(10_000, numbers.size());
+        assertEquals(0, numbers.get(0));
+    }
 }
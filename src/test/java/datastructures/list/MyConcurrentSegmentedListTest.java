@@ -0,0 +1,163 @@
+package test.java.datastructures.list;
+
+import main.java.datastructures.list.MyConcurrentSegmentedList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyConcurrentSegmentedListTest {
+
+    private MyConcurrentSegmentedList<Integer> list;
+
+    @BeforeEach
+    public void setUp() {
+        list = new MyConcurrentSegmentedList<>(4);
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+    }
+
+    @Test
+    void testListOperationsAcrossSegments() {
+        assertEquals(10, list.size());
+        assertEquals(7, list.get(7));
+
+        list.add(5, 100);
+        assertEquals("[0, 1, 2, 3, 4, 100, 5, 6, 7, 8, 9]", list.toString());
+
+        assertEquals(100, list.remove(5));
+        assertEquals(3, list.set(3, 33));
+        list.removeRange(0, 2);
+        assertEquals("[2, 33, 4, 5, 6, 7, 8, 9]", list.toString());
+
+        assertTrue(list.removeIf(i -> i % 2 == 1));
+        assertEquals("[2, 4, 6, 8]", list.toString());
+        list.add(10);
+        assertEquals(10, list.get(4));
+
+        list.clear();
+        assertEquals(0, list.size());
+        list.add(1);
+        assertEquals("[1]", list.toString());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new MyConcurrentSegmentedList<>(3));
+    }
+
+    @Test
+    void testIteratorWalksASnapshot() {
+        Iterator<Integer> snapshot = list.iterator();
+
+        list.set(0, -1);
+        list.remove(1);
+        list.add(11);
+        list.clear();
+
+        List<Integer> seen = new ArrayList<>();
+        snapshot.forEachRemaining(seen::add);
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), seen);
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        MyConcurrentSegmentedList<Integer> other = new MyConcurrentSegmentedList<>();
+        for (int i = 0; i < 10; i++) {
+            other.add(i);
+        }
+
+        assertEquals(list, other);
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9).hashCode(), list.hashCode());
+        assertEquals(45, list.stream().mapToInt(Integer::intValue).sum());
+
+        other.set(9, 0);
+        assertNotEquals(list, other);
+    }
+
+    /**
+     * Appenders race each other while readers check that every index below the observed size is already written,
+     * and that snapshots never change.
+     */
+    @Test
+    void testConcurrentAppendsAndReads() throws InterruptedException {
+        int appenders = 4;
+        int readers = 2;
+        int perAppender = 50_000;
+        MyConcurrentSegmentedList<Integer> shared = new MyConcurrentSegmentedList<>(64);
+
+        AtomicInteger failures = new AtomicInteger();
+        AtomicBoolean done = new AtomicBoolean();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> writers = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+
+        for (int a = 0; a < appenders; a++) {
+            int appender = a;
+            writers.add(new Thread(() -> {
+                await(start);
+                for (int i = 0; i < perAppender; i++) {
+                    shared.add(appender * perAppender + i);
+                }
+            }));
+        }
+
+        for (int r = 0; r < readers; r++) {
+            threads.add(new Thread(() -> {
+                await(start);
+                for (int loop = 1; !done.get(); loop++) {
+                    int n = shared.size();
+                    if (n > 0 && shared.get(n - 1) == null) failures.incrementAndGet();
+
+                    // Walking a snapshot is O(N), so only do it now and then
+                    if (loop % 256 != 0) {
+                        Thread.yield();
+                        continue;
+                    }
+                    int counted = 0;
+                    for (Integer element : shared) {
+                        if (element == null) failures.incrementAndGet();
+                        counted += 1;
+                    }
+                    if (counted < n) failures.incrementAndGet();
+                    Thread.yield();
+                }
+            }));
+        }
+
+        threads.addAll(writers);
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        done.set(true);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, failures.get());
+        assertEquals(appenders * perAppender, shared.size());
+
+        boolean[] seen = new boolean[appenders * perAppender];
+        for (Integer element : shared) {
+            assertFalse(seen[element]);
+            seen[element] = true;
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,5 +1,184 @@
 package test.java.datastructures.list;
 
+import main.java.datastructures.list.MyLinkedList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 public class MyLinkedListTest {
 
+    private MyLinkedList<String> list;
+
+    @BeforeEach
+    public void setUp() {
+        list = new MyLinkedList<>();
+        list.add("apple");
+        list.add("banana");
+    }
+
+    @Test
+    void testAddAndGet() {
+        assertEquals("apple", list.get(0));
+        assertEquals("banana", list.get(1));
+        assertEquals(2, list.size());
+    }
+
+    @Test
+    void testAddAllAtEnds() {
+        list.addAll(List.of("cherry", "date"));
+        list.addAll(0, new String[]{"aa", "ab"});
+
+        assertEquals("[aa,ab,apple,banana,cherry,date]", list.toString());
+        assertEquals("aa", list.pop());
+        assertEquals("date", list.removeLast());
+        assertEquals(4, list.size());
+    }
+
+    @Test
+    void testAddAllInMiddle() {
+        list.addAll(1, List.of("x", "y"));
+
+        assertEquals("[apple,x,y,banana]", list.toString());
+        assertEquals("banana", list.getLast());
+        assertFalse(list.addAll(1, List.of()));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(5, List.of("oops")));
+    }
+
+    @Test
+    void testRemoveRange() {
+        list.addAll(List.of("cherry", "date", "elder"));
+
+        list.removeRange(1, 3);
+        assertEquals("[apple,date,elder]", list.toString());
+
+        list.removeRange(0, 3);
+        assertEquals(0, list.size());
+        assertNull(list.dequeue());
+
+        list.add("fig");
+        assertEquals("fig", list.getLast());
+    }
+
+    @Test
+    void testRemoveIf() {
+        list.addAll(List.of("avocado", "cherry", "apricot"));
+
+        assertTrue(list.removeIf(s -> s.startsWith("a")));
+
+        assertEquals("[banana,cherry]", list.toString());
+        assertEquals("cherry", list.getLast());
+        assertEquals("banana", list.peek());
+    }
+
+    @Test
+    void testPositionalAccessFromBothEnds() {
+        list.addAll(List.of("cherry", "date", "elder"));
+
+        assertEquals("date", list.get(3));
+        assertEquals("banana", list.get(1));
+        assertEquals("elder", list.set(4, "fig"));
+        assertEquals("cherry", list.remove(2));
+        list.add(3, "grape");
+
+        assertEquals("[apple,banana,date,grape,fig]", list.toString());
+    }
+
+    @Test
+    void testRandomOperationsMatchArrayList() {
+        // Interleaves positional access with every kind of modification, so a stale finger would show up as a wrong element
+        MyLinkedList<Integer> mine = new MyLinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            int size = expected.size();
+            switch (random.nextInt(9)) {
+                case 0: mine.add(i); expected.add(i); break;
+                case 1: mine.push(i); expected.add(0, i); break;
+                case 2: assertEquals(size == 0 ? null : expected.remove(0), mine.dequeue()); break;
+                case 3: assertEquals(size == 0 ? null : expected.remove(size - 1), mine.removeLast()); break;
+                case 4: {
+                    int index = random.nextInt(size + 1);
+                    mine.add(index, i);
+                    expected.add(index, i);
+                    break;
+                }
+                case 5: if (size > 0) { int index = random.nextInt(size); assertEquals(expected.remove(index), mine.remove(index)); } break;
+                case 6: if (size > 0) { int index = random.nextInt(size); assertEquals(expected.set(index, i), mine.set(index, i)); } break;
+                default: if (size > 0) { int index = random.nextInt(size); assertEquals(expected.get(index), mine.get(index)); } break;
+            }
+            assertEquals(expected.size(), mine.size());
+        }
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), mine.get(i));
+        }
+    }
+
+    @Test
+    void testListIteratorInsertAndRemove() {
+        list.addAll(List.of("cherry", "date"));
+
+        ListIterator<String> cursor = list.listIterator(1);
+        assertEquals("banana", cursor.next());
+        cursor.remove();
+        cursor.add("blueberry");
+        assertEquals("cherry", cursor.next());
+        cursor.set("CHERRY");
+
+        assertEquals("CHERRY", cursor.previous());
+        assertEquals("blueberry", cursor.previous());
+        cursor.remove();
+        assertEquals(1, cursor.nextIndex());
+
+        assertEquals("[apple,CHERRY,date]", list.toString());
+        assertEquals("date", list.get(2));
+        assertEquals("date", list.getLast());
+    }
+
+    @Test
+    void testListIteratorIsFailFast() {
+        ListIterator<String> cursor = list.listIterator();
+        cursor.next();
+        list.add("cherry");
+
+        assertThrows(ConcurrentModificationException.class, cursor::next);
+        assertThrows(IllegalStateException.class, () -> list.listIterator().remove());
+    }
+
+    @Test
+    void testForEachLoopAndStream() {
+        list.add("cherry");
+
+        List<String> seen = new ArrayList<>();
+        for (String s : list) {
+            seen.add(s);
+        }
+        list.forEach(seen::add);
+
+        assertEquals(List.of("apple", "banana", "cherry", "apple", "banana", "cherry"), seen);
+        assertEquals(2, list.stream().filter(s -> s.contains("e")).count());
+        assertThrows(ConcurrentModificationException.class, () -> list.forEach(s -> list.dequeue()));
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        MyLinkedList<String> other = new MyLinkedList<>();
+        other.add("apple");
+        other.add("banana");
+
+        assertEquals(list, other);
+        assertEquals(list.hashCode(), other.hashCode());
+
+        other.add("cherry");
+        assertNotEquals(list, other);
+        assertNotEquals(null, list);
+    }
 }
@@ -0,0 +1,111 @@
+package test.java.datastructures.list;
+
+import main.java.datastructures.list.MyOffHeapList;
+import main.java.datastructures.list.RecordCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyOffHeapListTest {
+
+    private MyOffHeapList<Long> list;
+
+    @BeforeEach
+    public void setUp() {
+        // Tiny chunks so that every test crosses chunk boundaries
+        list = new MyOffHeapList<>(RecordCodec.LONG, 4);
+        for (long i = 0; i < 10; i++) {
+            list.add(i);
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        list.close();
+    }
+
+    @Test
+    void testAddAndGet() {
+        assertEquals(10, list.size());
+        assertEquals(0L, list.get(0));
+        assertEquals(9L, list.get(9));
+        assertEquals(3 * 4 * Long.BYTES, list.footprint());
+    }
+
+    @Test
+    void testInsertAndRemoveAcrossChunks() {
+        list.add(2, 100L);
+        assertEquals(100L, list.get(2));
+        assertEquals(2L, list.get(3));
+        assertEquals(9L, list.get(10));
+
+        assertEquals(100L, list.remove(2));
+        for (int i = 0; i < 10; i++) {
+            assertEquals((long) i, list.get(i));
+        }
+    }
+
+    @Test
+    void testSet() {
+        assertEquals(5L, list.set(5, -5L));
+        assertEquals(-5L, list.get(5));
+    }
+
+    @Test
+    void testIndexOutOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(10));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(11, 0L));
+    }
+
+    @Test
+    void testClosedListRejectsAccess() {
+        list.close();
+        assertThrows(IllegalStateException.class, () -> list.add(1L));
+        assertThrows(IllegalStateException.class, () -> list.add(0, 1L));
+        assertThrows(IllegalStateException.class, () -> list.get(0));
+        assertThrows(IllegalStateException.class, () -> list.set(0, 1L));
+        assertThrows(IllegalStateException.class, () -> list.remove(0));
+        assertThrows(IllegalStateException.class, () -> list.clear());
+        assertThrows(IllegalStateException.class, () -> list.footprint());
+        assertEquals(0, list.size());
+        list.close();
+    }
+
+    @Test
+    void testCustomCodec() {
+        // A point record: two ints packed into 8 bytes
+        RecordCodec<int[]> points = new RecordCodec<>() {
+            public int width() { return 8; }
+            public void write(ByteBuffer buffer, int offset, int[] p) {
+                buffer.putInt(offset, p[0]);
+                buffer.putInt(offset + 4, p[1]);
+            }
+            public int[] read(ByteBuffer buffer, int offset) {
+                return new int[]{buffer.getInt(offset), buffer.getInt(offset + 4)};
+            }
+        };
+
+        try (MyOffHeapList<int[]> pointList = new MyOffHeapList<>(points)) {
+            pointList.add(new int[]{1, 2});
+            pointList.add(new int[]{3, 4});
+            assertArrayEquals(new int[]{3, 4}, pointList.get(1));
+        }
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        MyOffHeapList<Long> other = new MyOffHeapList<>(RecordCodec.LONG);
+        for (long i = 0; i < 10; i++) {
+            other.add(i);
+        }
+
+        assertEquals(list, other);
+        assertEquals(list.hashCode(), other.hashCode());
+        other.close();
+    }
+}
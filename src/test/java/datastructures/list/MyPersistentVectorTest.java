@@ -0,0 +1,109 @@
+package test.java.datastructures.list;
+
+import main.java.datastructures.list.MyPersistentVector;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyPersistentVectorTest {
+
+    @Test
+    void testWithAddedAcrossTrieLevels() {
+        // 32 * 32 + 32 elements need a second trie level, 32 * 32 * 32 + 32 a third
+        int count = 40_000;
+        MyPersistentVector<Integer> vector = MyPersistentVector.empty();
+        for (int i = 0; i < count; i++) {
+            vector = vector.withAdded(i);
+        }
+
+        assertEquals(count, vector.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, vector.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> MyPersistentVector.empty().get(0));
+    }
+
+    @Test
+    void testOldVersionsAreUnchanged() {
+        MyPersistentVector<String> v1 = MyPersistentVector.of("a", "b", "c");
+        MyPersistentVector<String> v2 = v1.withSet(1, "B");
+        MyPersistentVector<String> v3 = v2.withAdded("d");
+        MyPersistentVector<String> v4 = v3.withoutLast().withoutLast();
+
+        assertEquals("[a, b, c]", v1.toString());
+        assertEquals("[a, B, c]", v2.toString());
+        assertEquals("[a, B, c, d]", v3.toString());
+        assertEquals("[a, B]", v4.toString());
+    }
+
+    @Test
+    void testWithSetAndWithoutLastInTheTrie() {
+        MyPersistentVector<Integer> original = MyPersistentVector.copyOf(range(2_000));
+
+        MyPersistentVector<Integer> changed = original.withSet(5, -5).withSet(1_500, -1_500);
+        assertEquals(-5, changed.get(5));
+        assertEquals(-1_500, changed.get(1_500));
+        assertEquals(5, original.get(5));
+        assertEquals(1_500, original.get(1_500));
+
+        MyPersistentVector<Integer> shrinking = original;
+        for (int i = 2_000; i > 0; i--) {
+            assertEquals(i - 1, shrinking.get(i - 1));
+            shrinking = shrinking.withoutLast();
+        }
+        assertEquals(0, shrinking.size());
+        assertThrows(IllegalStateException.class, shrinking::withoutLast);
+        assertEquals(2_000, original.size());
+    }
+
+    @Test
+    void testBuilder() {
+        MyPersistentVector.Builder<Integer> builder = MyPersistentVector.builder();
+        for (int i = 0; i < 5_000; i++) {
+            builder.add(i);
+        }
+        builder.set(10, -10).set(4_999, -1);
+        MyPersistentVector<Integer> built = builder.build();
+
+        assertEquals(5_000, built.size());
+        assertEquals(-10, built.get(10));
+        assertEquals(-1, built.get(4_999));
+        assertThrows(IllegalStateException.class, () -> builder.add(1));
+
+        // A builder started from a vector leaves that vector alone
+        MyPersistentVector<Integer> extended = built.toBuilder().set(10, 10).add(5_000).build();
+        assertEquals(-10, built.get(10));
+        assertEquals(5_000, built.size());
+        assertEquals(10, extended.get(10));
+        assertEquals(5_000, extended.get(5_000));
+    }
+
+    @Test
+    void testReadSideOfMyList() {
+        MyPersistentVector<Integer> vector = MyPersistentVector.copyOf(range(100));
+
+        List<Integer> seen = new ArrayList<>();
+        vector.forEach(seen::add);
+        assertEquals(range(100), seen);
+        assertEquals(4_950, vector.stream().mapToInt(Integer::intValue).sum());
+
+        assertEquals(MyPersistentVector.copyOf(range(100)), vector);
+        assertEquals(range(100).hashCode(), vector.hashCode());
+        assertNotEquals(vector.withoutLast(), vector);
+
+        assertThrows(UnsupportedOperationException.class, () -> vector.add(1));
+        assertThrows(UnsupportedOperationException.class, () -> vector.set(0, 1));
+        assertThrows(UnsupportedOperationException.class, () -> vector.remove(0));
+    }
+
+    private static List<Integer> range(int count) {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            values.add(i);
+        }
+        return values;
+    }
+}
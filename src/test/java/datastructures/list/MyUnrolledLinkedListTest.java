@@ -0,0 +1,173 @@
+package test.java.datastructures.list;
+
+import main.java.datastructures.list.MyUnrolledLinkedList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyUnrolledLinkedListTest {
+
+    private MyUnrolledLinkedList<Integer> list;
+
+    @BeforeEach
+    public void setUp() {
+        list = new MyUnrolledLinkedList<>(4);
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+    }
+
+    @Test
+    void testAddAndGetAcrossNodes() {
+        assertEquals(10, list.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, list.get(i));
+        }
+        assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9]", list.toString());
+    }
+
+    @Test
+    void testInsertSplitsFullNode() {
+        list.add(2, 100);
+        list.add(3, 101);
+        list.add(0, 102);
+
+        assertEquals("[102, 0, 1, 100, 101, 2, 3, 4, 5, 6, 7, 8, 9]", list.toString());
+        assertEquals(13, list.size());
+    }
+
+    @Test
+    void testDequeOperations() {
+        list.push(-1);
+        list.push(-2);
+        assertEquals(-2, list.peek());
+        assertEquals(9, list.getLast());
+
+        assertEquals(-2, list.pop());
+        assertEquals(-1, list.dequeue());
+        assertEquals(9, list.removeLast());
+        list.enqueue(42);
+        assertEquals(42, list.getLast());
+        assertEquals(0, list.get(0));
+
+        list.clear();
+        assertNull(list.peek());
+        assertNull(list.dequeue());
+        assertNull(list.removeLast());
+        assertNull(list.getLast());
+    }
+
+    @Test
+    void testRemoveRangeAndRemoveIf() {
+        list.removeRange(2, 7);
+        assertEquals("[0, 1, 7, 8, 9]", list.toString());
+
+        assertTrue(list.removeIf(i -> i % 2 == 1));
+        assertEquals("[0, 8]", list.toString());
+        assertFalse(list.removeIf(i -> i > 100));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(1, 3));
+    }
+
+    @Test
+    void testRemoveIfKeepsListConsistentWhenPredicateThrows() {
+        assertThrows(IllegalStateException.class, () -> list.removeIf(i -> {
+            if (i == 6) throw new IllegalStateException();
+            return i % 2 == 0;
+        }));
+
+        assertEquals("[1, 3, 5, 6, 7, 8, 9]", list.toString());
+        assertEquals(7, list.size());
+        assertEquals(6, list.get(3));
+    }
+
+    @Test
+    void testMatchesArrayListUnderRandomOperations() {
+        MyUnrolledLinkedList<Integer> actual = new MyUnrolledLinkedList<>(4);
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(11);
+
+        for (int step = 0; step < 20_000; step++) {
+            int op = random.nextInt(9);
+            int value = random.nextInt(1000);
+
+            if (op <= 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                actual.add(index, value);
+                expected.add(index, value);
+            } else if (op == 3) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), actual.remove(index));
+            } else if (op == 4) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, value), actual.set(index, value));
+            } else if (op == 5) {
+                actual.push(value);
+                expected.add(0, value);
+            } else if (op == 6) {
+                assertEquals(expected.remove(0), actual.dequeue());
+            } else if (op == 7) {
+                assertEquals(expected.remove(expected.size() - 1), actual.removeLast());
+            } else {
+                int from = random.nextInt(expected.size());
+                int to = Math.min(expected.size(), from + random.nextInt(10));
+                actual.removeRange(from, to);
+                expected.subList(from, to).clear();
+            }
+
+            assertEquals(expected.size(), actual.size());
+            if (!expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), actual.get(index));
+            }
+        }
+
+        List<Integer> seen = new ArrayList<>();
+        actual.forEach(seen::add);
+        assertEquals(expected, seen);
+    }
+
+    @Test
+    void testIteratorIsFailFast() {
+        Iterator<Integer> iterator = list.iterator();
+        assertEquals(0, iterator.next());
+
+        list.add(10);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+        assertThrows(ConcurrentModificationException.class, () -> list.forEach(i -> list.dequeue()));
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        MyUnrolledLinkedList<Integer> other = new MyUnrolledLinkedList<>(64);
+        for (int i = 0; i < 10; i++) {
+            other.add(i);
+        }
+
+        assertEquals(list, other);
+        assertEquals(list.hashCode(), other.hashCode());
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9).hashCode(), list.hashCode());
+
+        other.removeLast();
+        assertNotEquals(list, other);
+    }
+
+    @Test
+    void testFootprintIsAFractionOfOneNodePerElement() {
+        MyUnrolledLinkedList<Integer> large = new MyUnrolledLinkedList<>();
+        for (int i = 0; i < 100_000; i++) {
+            large.add(i);
+        }
+
+        // A MyLinkedList node takes 24 bytes per element
+        assertTrue(large.footprint() < 5L * large.size());
+        assertThrows(IllegalArgumentException.class, () -> new MyUnrolledLinkedList<>(3));
+    }
+}
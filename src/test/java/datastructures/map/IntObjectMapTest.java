@@ -0,0 +1,97 @@
+package test.java.datastructures.map;
+
+import main.java.datastructures.map.IntObjectMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntObjectMapTest {
+
+    private IntObjectMap<String> map;
+
+    @BeforeEach
+    public void setUp() {
+        map = new IntObjectMap<>();
+        map.put(1, "one");
+        map.put(-2, "minus two");
+    }
+
+    @Test
+    void testPutGetRemove() {
+        assertEquals("one", map.get(1));
+        assertNull(map.get(3));
+        assertEquals("none", map.getOrDefault(3, "none"));
+
+        assertEquals("one", map.put(1, "uno"));
+        assertEquals("uno", map.remove(1));
+        assertNull(map.remove(1));
+        assertFalse(map.containsKey(1));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void testZeroKey() {
+        assertFalse(map.containsKey(0));
+        assertNull(map.put(0, "zero"));
+        assertEquals("zero", map.get(0));
+        assertEquals(3, map.size());
+        assertEquals("zero", map.remove(0));
+        assertFalse(map.containsKey(0));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void testComputeIfAbsent() {
+        assertEquals("one", map.computeIfAbsent(1, key -> "other"));
+        assertEquals("7", map.computeIfAbsent(7, Integer::toString));
+        assertEquals("0", map.computeIfAbsent(0, Integer::toString));
+        assertNull(map.computeIfAbsent(8, key -> null));
+        assertFalse(map.containsKey(8));
+        assertEquals(4, map.size());
+    }
+
+    @Test
+    void testForEachAndEquals() {
+        map.put(0, "zero");
+        Map<Integer, String> seen = new HashMap<>();
+        map.forEach(seen::put);
+        assertEquals(Map.of(0, "zero", 1, "one", -2, "minus two"), seen);
+
+        IntObjectMap<String> other = new IntObjectMap<>(1_000, 0.75f);
+        other.put(-2, "minus two");
+        other.put(1, "one");
+        assertNotEquals(map, other);
+        other.put(0, "zero");
+        assertEquals(map, other);
+        assertEquals(map.hashCode(), other.hashCode());
+    }
+
+    @Test
+    void testMatchesHashMapUnderRandomOperations() {
+        IntObjectMap<Integer> actual = new IntObjectMap<>();
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(13);
+
+        for (int step = 0; step < 50_000; step++) {
+            int key = random.nextInt(2_000) - 1_000;
+            if (random.nextBoolean()) {
+                assertEquals(expected.put(key, step), actual.put(key, step));
+            } else {
+                assertEquals(expected.remove(key), actual.remove(key));
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+        for (int key = -1_000; key < 1_000; key++) {
+            assertEquals(expected.get(key), actual.get(key));
+        }
+
+        actual.clear();
+        assertTrue(actual.isEmpty());
+        assertFalse(actual.containsKey(0));
+    }
+}
@@ -0,0 +1,97 @@
+package test.java.datastructures.map;
+
+import main.java.datastructures.map.LongLongMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongLongMapTest {
+
+    private LongLongMap map;
+
+    @BeforeEach
+    public void setUp() {
+        map = new LongLongMap(0, 0.5f, -1L);
+        map.put(10L, 100L);
+        map.put(Long.MIN_VALUE, 7L);
+    }
+
+    @Test
+    void testPutGetRemove() {
+        assertEquals(100L, map.get(10L));
+        assertEquals(-1L, map.get(11L));
+        assertEquals(5L, map.getOrDefault(11L, 5L));
+
+        assertEquals(100L, map.put(10L, 200L));
+        assertEquals(-1L, map.put(11L, 300L));
+        assertEquals(200L, map.remove(10L));
+        assertEquals(-1L, map.remove(10L));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void testZeroKeyAndMissingValue() {
+        assertEquals(-1L, map.put(0L, -1L));
+        assertTrue(map.containsKey(0L));
+        assertEquals(-1L, map.get(0L));
+        assertEquals(3, map.size());
+        assertEquals(-1L, map.remove(0L));
+        assertFalse(map.containsKey(0L));
+        assertEquals(0L, new LongLongMap().get(42L));
+    }
+
+    @Test
+    void testComputeIfAbsent() {
+        assertEquals(100L, map.computeIfAbsent(10L, key -> 0L));
+        assertEquals(24L, map.computeIfAbsent(12L, key -> key * 2));
+        assertEquals(5L, map.computeIfAbsent(0L, key -> 5L));
+        assertEquals(5L, map.computeIfAbsent(0L, key -> 6L));
+        assertEquals(4, map.size());
+    }
+
+    @Test
+    void testForEachAndEquals() {
+        map.put(0L, 0L);
+        Map<Long, Long> seen = new HashMap<>();
+        map.forEach(seen::put);
+        assertEquals(Map.of(0L, 0L, 10L, 100L, Long.MIN_VALUE, 7L), seen);
+
+        LongLongMap other = new LongLongMap();
+        other.put(Long.MIN_VALUE, 7L);
+        other.put(10L, 100L);
+        other.put(0L, 0L);
+        assertEquals(map, other);
+        assertEquals(map.hashCode(), other.hashCode());
+        other.put(10L, 101L);
+        assertNotEquals(map, other);
+    }
+
+    @Test
+    void testMatchesHashMapUnderRandomOperations() {
+        LongLongMap actual = new LongLongMap();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(17);
+
+        for (int step = 0; step < 50_000; step++) {
+            long key = (random.nextInt(2_000) - 1_000) * 0x1_0000_0000L;
+            if (random.nextBoolean()) {
+                assertEquals(expected.getOrDefault(key, 0L), actual.put(key, step));
+                expected.put(key, (long) step);
+            } else {
+                assertEquals(expected.getOrDefault(key, 0L), actual.remove(key));
+                expected.remove(key);
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+        expected.forEach((key, value) -> assertEquals(value, actual.get(key)));
+
+        actual.clear();
+        assertTrue(actual.isEmpty());
+        assertFalse(actual.containsKey(0L));
+    }
+}
@@ -0,0 +1,153 @@
+package test.java.datastructures.map;
+
+import main.java.datastructures.list.MyArrayList;
+import main.java.datastructures.map.MyBTreeMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyBTreeMapTest {
+
+    private MyBTreeMap<Integer, String> map;
+
+    @BeforeEach
+    public void setUp() {
+        map = new MyBTreeMap<>(4, null);
+        for (int i = 0; i < 20; i += 2) {
+            map.put(i, "v" + i);
+        }
+    }
+
+    @Test
+    void testPutGetAndOrder() {
+        assertEquals(10, map.size());
+        assertEquals("v4", map.get(4));
+        assertNull(map.get(5));
+        assertEquals("v4", map.put(4, "four"));
+        assertEquals("four", map.get(4));
+        assertTrue(map.height() > 1);
+
+        assertEquals("{0=v0,2=v2,4=four,6=v6,8=v8,10=v10,12=v12,14=v14,16=v16,18=v18}", map.toString());
+        assertThrows(NullPointerException.class, () -> map.put(null, "x"));
+        assertThrows(IllegalArgumentException.class, () -> new MyBTreeMap<Integer, String>(3, null));
+    }
+
+    @Test
+    void testFloorCeilingFirstLast() {
+        assertEquals(0, map.firstKey());
+        assertEquals(18, map.lastKey());
+        assertEquals(6, map.floorKey(7));
+        assertEquals(6, map.floorKey(6));
+        assertNull(map.floorKey(-1));
+        assertEquals(8, map.ceilingKey(7));
+        assertNull(map.ceilingKey(19));
+
+        map.clear();
+        assertNull(map.firstKey());
+        assertNull(map.lastKey());
+        assertNull(map.floorKey(3));
+    }
+
+    @Test
+    void testForEachInRange() {
+        List<Integer> keys = new ArrayList<>();
+        map.forEachInRange(3, 13, (key, value) -> keys.add(key));
+        assertEquals(List.of(4, 6, 8, 10, 12), keys);
+
+        keys.clear();
+        map.forEachInRange(4, 4, (key, value) -> keys.add(key));
+        assertTrue(keys.isEmpty());
+
+        assertThrows(IllegalArgumentException.class, () -> map.forEachInRange(5, 4, (key, value) -> { }));
+        assertThrows(ConcurrentModificationException.class,
+                () -> map.forEachInRange(0, 10, (key, value) -> map.put(key + 1, value)));
+    }
+
+    @Test
+    void testComparator() {
+        MyBTreeMap<String, Integer> reversed = new MyBTreeMap<>(Comparator.reverseOrder());
+        reversed.put("apple", 1);
+        reversed.put("cherry", 3);
+        reversed.put("banana", 2);
+
+        assertEquals("cherry", reversed.firstKey());
+        assertEquals("banana", reversed.floorKey("b"));
+        assertEquals("cherry", reversed.floorKey("blueberry"));
+        assertEquals(4, reversed.computeIfAbsent("date", String::length));
+        assertEquals(4, reversed.size());
+    }
+
+    @Test
+    void testBulkLoad() {
+        MyArrayList<Integer> keys = new MyArrayList<>();
+        MyArrayList<String> values = new MyArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            keys.add(3 * i);
+            values.add("v" + i);
+        }
+
+        MyBTreeMap<Integer, String> loaded = MyBTreeMap.bulkLoad(keys, values, 8, null);
+        assertEquals(1_000, loaded.size());
+        assertEquals(4, loaded.height());
+        assertEquals("v10", loaded.get(30));
+        assertEquals(27, loaded.floorKey(29));
+        assertEquals(2_997, loaded.lastKey());
+
+        // The loaded tree keeps working as a normal map
+        for (int i = 0; i < 1_000; i += 2) {
+            assertEquals("v" + i, loaded.remove(3 * i));
+        }
+        loaded.put(1, "one");
+        assertEquals(501, loaded.size());
+        assertEquals(1, loaded.firstKey());
+
+        assertTrue(MyBTreeMap.bulkLoad(new MyArrayList<Integer>(), new MyArrayList<String>()).isEmpty());
+        keys.add(0);
+        values.add("bad");
+        assertThrows(IllegalArgumentException.class, () -> MyBTreeMap.bulkLoad(keys, values));
+        values.add("extra");
+        assertThrows(IllegalArgumentException.class, () -> MyBTreeMap.bulkLoad(keys, values));
+    }
+
+    @Test
+    void testMatchesTreeMapUnderRandomOperations() {
+        for (int capacity : new int[] {4, 5, 64}) {
+            MyBTreeMap<Integer, Integer> actual = new MyBTreeMap<>(capacity, null);
+            TreeMap<Integer, Integer> expected = new TreeMap<>();
+            Random random = new Random(capacity);
+
+            for (int step = 0; step < 30_000; step++) {
+                int key = random.nextInt(3_000);
+                int op = random.nextInt(10);
+                if (op < 5) {
+                    assertEquals(expected.put(key, step), actual.put(key, step));
+                } else if (op < 9) {
+                    assertEquals(expected.remove(key), actual.remove(key));
+                } else {
+                    assertEquals(expected.floorKey(key), actual.floorKey(key));
+                    assertEquals(expected.ceilingKey(key), actual.ceilingKey(key));
+                }
+                assertEquals(expected.size(), actual.size());
+            }
+
+            List<Integer> range = new ArrayList<>();
+            actual.forEachInRange(1_000, 2_000, (key, value) -> range.add(key));
+            assertEquals(new ArrayList<>(expected.subMap(1_000, 2_000).keySet()), range);
+
+            Map<Integer, Integer> all = new TreeMap<>();
+            actual.forEach(all::put);
+            assertEquals(expected, all);
+            assertEquals(expected.firstKey(), actual.firstKey());
+            assertEquals(expected.lastKey(), actual.lastKey());
+        }
+    }
+}
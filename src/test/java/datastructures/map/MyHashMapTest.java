@@ -0,0 +1,115 @@
+package test.java.datastructures.map;
+
+import main.java.datastructures.map.MyHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyHashMapTest {
+
+    private MyHashMap<String, Integer> map;
+
+    @BeforeEach
+    public void setUp() {
+        map = new MyHashMap<>();
+        map.put("apple", 1);
+        map.put("banana", 2);
+    }
+
+    @Test
+    void testPutAndGet() {
+        assertEquals(1, map.get("apple"));
+        assertNull(map.get("cherry"));
+        assertEquals(7, map.getOrDefault("cherry", 7));
+
+        assertEquals(1, map.put("apple", 10));
+        assertNull(map.put("cherry", 3));
+        assertEquals(10, map.get("apple"));
+        assertEquals(3, map.size());
+    }
+
+    @Test
+    void testRemove() {
+        assertEquals(1, map.remove("apple"));
+        assertNull(map.remove("apple"));
+        assertFalse(map.containsKey("apple"));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void testNullKeyAndValue() {
+        assertNull(map.put(null, 5));
+        assertEquals(5, map.get(null));
+        map.put("empty", null);
+        assertTrue(map.containsKey("empty"));
+        assertNull(map.getOrDefault("empty", 9));
+        assertEquals(5, map.remove(null));
+        assertFalse(map.containsKey(null));
+    }
+
+    @Test
+    void testComputeIfAbsent() {
+        assertEquals(1, map.computeIfAbsent("apple", key -> 99));
+        assertEquals(6, map.computeIfAbsent("cherry", String::length));
+        assertNull(map.computeIfAbsent("date", key -> null));
+        assertFalse(map.containsKey("date"));
+
+        map.put("empty", null);
+        assertEquals(5, map.computeIfAbsent("empty", String::length));
+
+        assertThrows(ConcurrentModificationException.class, () -> map.computeIfAbsent("fig", key -> map.put("x", 0)));
+    }
+
+    @Test
+    void testForEachEqualsAndHashCode() {
+        Map<String, Integer> seen = new HashMap<>();
+        map.forEach(seen::put);
+        assertEquals(Map.of("apple", 1, "banana", 2), seen);
+        assertEquals(seen.hashCode(), map.hashCode());
+
+        MyHashMap<String, Integer> other = new MyHashMap<>(100, 0.75f);
+        other.put("banana", 2);
+        other.put("apple", 1);
+        assertEquals(map, other);
+        other.put("banana", 3);
+        assertNotEquals(map, other);
+
+        assertThrows(ConcurrentModificationException.class, () -> map.forEach((key, value) -> map.remove(key)));
+    }
+
+    @Test
+    void testMatchesHashMapUnderRandomOperations() {
+        MyHashMap<Integer, Integer> actual = new MyHashMap<>();
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(11);
+
+        for (int step = 0; step < 50_000; step++) {
+            Integer key = random.nextInt(2_000);
+            if (random.nextBoolean()) {
+                assertEquals(expected.put(key, step), actual.put(key, step));
+            } else {
+                assertEquals(expected.remove(key), actual.remove(key));
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+        for (int key = 0; key < 2_000; key++) {
+            assertEquals(expected.get(key), actual.get(key));
+        }
+    }
+
+    @Test
+    void testClear() {
+        int capacity = map.capacity();
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get("apple"));
+        assertEquals(capacity, map.capacity());
+        assertEquals("{}", map.toString());
+    }
+}
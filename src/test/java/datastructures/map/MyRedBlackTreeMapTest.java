@@ -0,0 +1,110 @@
+package test.java.datastructures.map;
+
+import main.java.datastructures.list.MyArrayList;
+import main.java.datastructures.map.MyBTreeMap;
+import main.java.datastructures.map.MyRedBlackTreeMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyRedBlackTreeMapTest {
+
+    private MyRedBlackTreeMap<Integer, String> map;
+
+    @BeforeEach
+    public void setUp() {
+        map = new MyRedBlackTreeMap<>();
+        for (int i = 0; i < 20; i += 2) {
+            map.put(i, "v" + i);
+        }
+    }
+
+    @Test
+    void testPutGetRemove() {
+        assertEquals("v4", map.get(4));
+        assertNull(map.get(5));
+        assertEquals("v4", map.remove(4));
+        assertNull(map.remove(4));
+        assertEquals(9, map.size());
+        assertThrows(NullPointerException.class, () -> map.put(null, "x"));
+    }
+
+    @Test
+    void testNavigationAndRange() {
+        assertEquals(0, map.firstKey());
+        assertEquals(18, map.lastKey());
+        assertEquals(6, map.floorKey(7));
+        assertNull(map.floorKey(-1));
+        assertEquals(8, map.ceilingKey(7));
+        assertNull(map.ceilingKey(19));
+
+        List<Integer> keys = new ArrayList<>();
+        map.forEachInRange(3, 13, (key, value) -> keys.add(key));
+        assertEquals(List.of(4, 6, 8, 10, 12), keys);
+    }
+
+    @Test
+    void testEqualsBTreeMap() {
+        MyBTreeMap<Integer, String> other = new MyBTreeMap<>();
+        map.forEach(other::put);
+        assertEquals(map, other);
+        assertEquals(other, map);
+        assertEquals(map.hashCode(), other.hashCode());
+        assertEquals(map.toString(), other.toString());
+    }
+
+    @Test
+    void testStaysBalanced() {
+        MyRedBlackTreeMap<Integer, Integer> ascending = new MyRedBlackTreeMap<>();
+        for (int i = 0; i < 1 << 14; i++) {
+            ascending.put(i, i);
+        }
+        // Height of a Red-Black tree is at most 2 * log2(N + 1)
+        assertTrue(ascending.height() <= 2 * 15);
+
+        MyArrayList<Integer> keys = new MyArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            keys.add(i);
+        }
+        MyRedBlackTreeMap<Integer, Integer> loaded = MyRedBlackTreeMap.bulkLoad(keys, keys);
+        assertEquals(10, loaded.height());
+        for (int i = 0; i < 1_000; i += 3) {
+            assertEquals(i, loaded.remove(i));
+        }
+        loaded.put(5_000, 0);
+        assertEquals(5_000, loaded.lastKey());
+        assertEquals(667, loaded.size());
+    }
+
+    @Test
+    void testMatchesTreeMapUnderRandomOperations() {
+        MyRedBlackTreeMap<Integer, Integer> actual = new MyRedBlackTreeMap<>();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        Random random = new Random(19);
+
+        for (int step = 0; step < 30_000; step++) {
+            int key = random.nextInt(3_000);
+            int op = random.nextInt(10);
+            if (op < 5) {
+                assertEquals(expected.put(key, step), actual.put(key, step));
+            } else if (op < 9) {
+                assertEquals(expected.remove(key), actual.remove(key));
+            } else {
+                assertEquals(expected.floorKey(key), actual.floorKey(key));
+                assertEquals(expected.ceilingKey(key), actual.ceilingKey(key));
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+
+        List<Integer> range = new ArrayList<>();
+        actual.forEachInRange(1_000, 2_000, (key, value) -> range.add(key));
+        assertEquals(new ArrayList<>(expected.subMap(1_000, 2_000).keySet()), range);
+        assertTrue(actual.height() <= 2 * 12);
+    }
+}
@@ -0,0 +1,191 @@
+package test.java.datastructures.queue;
+
+import main.java.datastructures.queue.MyArrayBlockingQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyArrayBlockingQueueTest {
+
+    private MyArrayBlockingQueue<Integer> queue;
+
+    @BeforeEach
+    public void setUp() {
+        queue = new MyArrayBlockingQueue<>(3);
+    }
+
+    @Test
+    void testOfferPollWrapsAround() {
+        for (int round = 0; round < 5; round++) {
+            assertTrue(queue.offer(round));
+            assertTrue(queue.offer(round + 10));
+            assertEquals(round, queue.peek());
+            assertEquals(round, queue.poll());
+            assertEquals(round + 10, queue.dequeue());
+        }
+        assertNull(queue.poll());
+        assertNull(queue.peek());
+
+        for (int i = 0; i < 3; i++) {
+            queue.enqueue(i);
+        }
+        assertFalse(queue.offer(3));
+        assertThrows(IllegalStateException.class, () -> queue.enqueue(3));
+        assertEquals(3, queue.size());
+        assertEquals(0, queue.remainingCapacity());
+    }
+
+    @Test
+    void testIllegalArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new MyArrayBlockingQueue<Integer>(0));
+        assertThrows(NullPointerException.class, () -> queue.offer(null));
+        assertThrows(NullPointerException.class, () -> queue.put(null));
+    }
+
+    @Test
+    void testTimedOperationsTimeOut() throws InterruptedException {
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+        assertNull(queue.poll(0, TimeUnit.MILLISECONDS));
+
+        queue.fill(() -> 1, 3);
+        long start = System.nanoTime();
+        assertFalse(queue.offer(4, 20, TimeUnit.MILLISECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    void testTakeWaitsForPut() throws InterruptedException {
+        AtomicReference<Integer> taken = new AtomicReference<>();
+        Thread consumer = new Thread(() -> {
+            try {
+                taken.set(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.start();
+
+        Thread.sleep(20);
+        assertNull(taken.get());
+        queue.put(7);
+        consumer.join(5000);
+        assertEquals(7, taken.get());
+    }
+
+    @Test
+    void testPutWaitsForSpace() throws InterruptedException {
+        queue.fill(() -> 0, 3);
+        CountDownLatch done = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            try {
+                queue.put(9);
+                done.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        assertFalse(done.await(20, TimeUnit.MILLISECONDS));
+        assertEquals(0, queue.take());
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(3, queue.size());
+    }
+
+    @Test
+    void testTakeIsInterruptible() throws InterruptedException {
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        Thread consumer = new Thread(() -> {
+            try {
+                queue.take();
+            } catch (InterruptedException e) {
+                thrown.set(e);
+            }
+        });
+        consumer.start();
+        Thread.sleep(20);
+        consumer.interrupt();
+        consumer.join(5000);
+        assertInstanceOf(InterruptedException.class, thrown.get());
+    }
+
+    @Test
+    void testFillAndDrainWakeWaiters() throws InterruptedException {
+        List<Integer> drained = new ArrayList<>();
+        AtomicInteger next = new AtomicInteger();
+        assertEquals(3, queue.fill(next::getAndIncrement, 10));
+        assertEquals(2, queue.drain(drained::add, 2));
+        assertEquals(List.of(0, 1), drained);
+        assertEquals(1, queue.size());
+
+        queue.drain(drained::add, 10);
+        CountDownLatch taken = new CountDownLatch(2);
+        for (int i = 0; i < 2; i++) {
+            new Thread(() -> {
+                try {
+                    queue.take();
+                    taken.countDown();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }).start();
+        }
+        Thread.sleep(20);
+        assertEquals(2, queue.fill(() -> 5, 2));
+        assertTrue(taken.await(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Producers blocked on a small queue hand every element to the consumers exactly once.
+     */
+    @Test
+    void testProducersAndConsumers() throws InterruptedException {
+        int producers = 3;
+        int perProducer = 10_000;
+        AtomicInteger sum = new AtomicInteger();
+        AtomicInteger received = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+
+        for (int p = 0; p < producers; p++) {
+            threads.add(new Thread(() -> {
+                try {
+                    for (int i = 1; i <= perProducer; i++) {
+                        queue.put(i);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+        for (int c = 0; c < 2; c++) {
+            threads.add(new Thread(() -> {
+                try {
+                    Integer element;
+                    while ((element = queue.poll(1, TimeUnit.SECONDS)) != null) {
+                        sum.addAndGet(element);
+                        received.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(producers * perProducer, received.get());
+        assertEquals(producers * perProducer * (perProducer + 1) / 2, sum.get());
+    }
+}
@@ -0,0 +1,105 @@
+package test.java.datastructures.queue;
+
+import main.java.datastructures.queue.MyArrayDeque;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyArrayDequeTest {
+
+    private MyArrayDeque<Integer> deque;
+
+    @BeforeEach
+    public void setUp() {
+        deque = new MyArrayDeque<>();
+    }
+
+    @Test
+    void testEnqueueDequeue() {
+        deque.enqueue(1);
+        deque.enqueue(2);
+        deque.enqueue(3);
+
+        assertEquals(1, deque.peek());
+        assertEquals(1, deque.dequeue());
+        assertEquals(2, deque.dequeue());
+        assertEquals(3, deque.dequeue());
+        assertNull(deque.dequeue());
+        assertNull(deque.peek());
+    }
+
+    @Test
+    void testPushPop() {
+        deque.push(1);
+        deque.push(2);
+
+        assertEquals(2, deque.pop());
+        assertEquals(1, deque.pop());
+        assertNull(deque.pop());
+    }
+
+    @Test
+    void testRemoveLastAndGetLast() {
+        deque.enqueue(1);
+        deque.enqueue(2);
+
+        assertEquals(2, deque.getLast());
+        assertEquals(2, deque.removeLast());
+        assertEquals(1, deque.removeLast());
+        assertNull(deque.removeLast());
+        assertNull(deque.getLast());
+    }
+
+    @Test
+    void testGrowthKeepsOrderAcrossWrapAround() {
+        // Move head away from index 0 so the elements wrap before the deque has to grow
+        for (int i = 0; i < 10; i++) {
+            deque.enqueue(-1);
+            deque.dequeue();
+        }
+        for (int i = 0; i < 100; i++) {
+            deque.enqueue(i);
+        }
+        deque.push(-1);
+
+        assertEquals(101, deque.size());
+        assertEquals(-1, deque.pop());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, deque.dequeue());
+        }
+    }
+
+    @Test
+    void testShrinkOnDrain() {
+        MyArrayDeque<Integer> shrinking = new MyArrayDeque<>(8, true);
+        for (int i = 0; i < 1000; i++) {
+            shrinking.enqueue(i);
+        }
+        assertEquals(1024, shrinking.capacity());
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, shrinking.dequeue());
+        }
+        assertEquals(8, shrinking.capacity());
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        MyArrayDeque<Integer> other = new MyArrayDeque<>(64, false);
+        deque.push(2);
+        deque.push(1);
+        other.enqueue(1);
+        other.enqueue(2);
+
+        assertEquals(deque, other);
+        assertEquals(deque.hashCode(), other.hashCode());
+        assertEquals("[1,2]", deque.toString());
+    }
+
+    @Test
+    void testIllegalCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new MyArrayDeque<Integer>(-1, false));
+        // Would round up past the largest power-of-two array length
+        assertThrows(IllegalArgumentException.class, () -> new MyArrayDeque<Integer>((1 << 30) + 1, false));
+    }
+}
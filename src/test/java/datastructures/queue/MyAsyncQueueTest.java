@@ -0,0 +1,241 @@
+package test.java.datastructures.queue;
+
+import main.java.datastructures.queue.MyAsyncQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyAsyncQueueTest {
+
+    private MyAsyncQueue<Integer> queue;
+
+    @BeforeEach
+    public void setUp() {
+        queue = new MyAsyncQueue<>(2);
+    }
+
+    @Test
+    void testPollAsyncCompletesAtOnceWhenNotEmpty() {
+        queue.enqueue(1);
+        CompletableFuture<Integer> future = queue.pollAsync();
+        assertTrue(future.isDone());
+        assertEquals(1, future.join());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void testOfferHandsOffToWaitersInOrder() {
+        CompletableFuture<Integer> first = queue.pollAsync();
+        CompletableFuture<Integer> second = queue.pollAsync();
+        assertFalse(first.isDone());
+        assertEquals(2, queue.waitingConsumers());
+
+        assertTrue(queue.offer(10));
+        assertTrue(queue.offer(20));
+        assertEquals(10, first.join());
+        assertEquals(20, second.join());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void testCancelledWaiterIsSkipped() {
+        CompletableFuture<Integer> cancelled = queue.pollAsync();
+        CompletableFuture<Integer> timedOut = queue.pollAsync().orTimeout(1, TimeUnit.MILLISECONDS);
+        CompletableFuture<Integer> live = queue.pollAsync();
+        assertTrue(cancelled.cancel(false));
+        ExecutionException e = assertThrows(ExecutionException.class, timedOut::get);
+        assertInstanceOf(TimeoutException.class, e.getCause());
+
+        assertTrue(queue.offer(5));
+        assertEquals(5, live.join());
+        assertEquals(0, queue.waitingConsumers());
+        assertEquals(0, queue.size());
+    }
+
+    /**
+     * Abandoned waits on an idle queue are unlinked instead of piling up in front of the next offer.
+     */
+    @Test
+    void testAbandonedWaitersAreUnlinked() {
+        for (int i = 0; i < 1_000_000; i++) {
+            assertTrue(queue.pollAsync().cancel(false));
+        }
+        assertEquals(0, queue.waitingConsumers());
+
+        CompletableFuture<Integer> live = queue.pollAsync();
+        for (int i = 0; i < 1000; i++) {
+            queue.pollAsync().completeExceptionally(new IllegalStateException());
+        }
+        assertEquals(1, queue.waitingConsumers());
+        assertTrue(queue.offer(1));
+        assertEquals(1, live.join());
+
+        queue.fill(() -> 0, 2);
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(queue.offerAsync(i).cancel(false));
+        }
+        assertEquals(0, queue.waitingProducers());
+        assertEquals(0, queue.poll());
+        assertEquals(0, queue.poll());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void testSettledWaiterCannotBeCancelled() {
+        CompletableFuture<Integer> consumer = queue.pollAsync();
+        assertTrue(queue.offer(3));
+        assertFalse(consumer.cancel(false));
+        assertFalse(consumer.complete(99));
+        assertEquals(3, consumer.join());
+    }
+
+    /**
+     * completeAsync completes through an internal path, so it must give up the wait itself or an offered element
+     * would be handed to a future that is already done.
+     */
+    @Test
+    void testCompleteAsyncGivesUpTheWait() {
+        CompletableFuture<Integer> abandoned = queue.pollAsync();
+        abandoned.completeAsync(() -> -1, Runnable::run);
+        assertEquals(-1, abandoned.join());
+        assertEquals(0, queue.waitingConsumers());
+        assertTrue(queue.offer(7));
+        assertEquals(7, queue.poll());
+
+        CompletableFuture<Integer> served = queue.pollAsync();
+        assertTrue(queue.offer(8));
+        served.completeAsync(() -> -1, Runnable::run);
+        assertEquals(8, served.join());
+
+        CompletableFuture<Integer> waiting = queue.pollAsync();
+        assertThrows(UnsupportedOperationException.class, () -> waiting.obtrudeValue(-1));
+        assertThrows(UnsupportedOperationException.class, () -> waiting.obtrudeException(new IllegalStateException()));
+        assertTrue(queue.offer(9));
+        assertEquals(9, waiting.join());
+
+        assertEquals(2, queue.fill(() -> 0, 2));
+        CompletableFuture<Void> offer = queue.offerAsync(10);
+        offer.completeAsync(() -> null, Runnable::run);
+        assertEquals(0, queue.waitingProducers());
+        assertEquals(0, queue.poll());
+        assertEquals(0, queue.poll());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void testOfferAsyncWaitsForSpace() {
+        assertTrue(queue.offerAsync(1).isDone());
+        assertTrue(queue.offerAsync(2).isDone());
+        assertFalse(queue.offer(3));
+        CompletableFuture<Void> pending = queue.offerAsync(3);
+        assertFalse(pending.isDone());
+        assertThrows(IllegalStateException.class, () -> queue.enqueue(4));
+
+        assertEquals(1, queue.poll());
+        assertTrue(pending.isDone());
+        assertEquals(2, queue.size());
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(2, queue.drain(drained::add, 5));
+        assertEquals(List.of(2, 3), drained);
+    }
+
+    @Test
+    void testCancelledOfferIsWithdrawn() {
+        queue.fill(() -> 0, 2);
+        CompletableFuture<Void> withdrawn = queue.offerAsync(1);
+        CompletableFuture<Void> kept = queue.offerAsync(2);
+        assertTrue(withdrawn.cancel(false));
+
+        assertEquals(0, queue.poll());
+        assertTrue(kept.isDone());
+        // Already admitted, so it can no longer be cancelled
+        assertFalse(kept.cancel(false));
+        assertEquals(0, queue.poll());
+        assertEquals(2, queue.poll());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void testFillStopsWhenFull() {
+        AtomicInteger next = new AtomicInteger();
+        assertEquals(2, queue.fill(next::getAndIncrement, 5));
+        assertEquals(2, next.get());
+        assertEquals(0, queue.fill(next::getAndIncrement, 5));
+        assertEquals(2, next.get());
+    }
+
+    @Test
+    void testFillHandsToWaitersThenBuffers() {
+        CompletableFuture<Integer> first = queue.pollAsync();
+        CompletableFuture<Integer> second = queue.pollAsync();
+        AtomicInteger next = new AtomicInteger();
+
+        assertEquals(4, queue.fill(next::getAndIncrement, 10));
+        assertEquals(4, next.get());
+        assertEquals(0, first.join());
+        assertEquals(1, second.join());
+        assertEquals(2, queue.size());
+        assertEquals(0, queue.waitingProducers());
+    }
+
+    @Test
+    void testFailingSupplierKeepsConsumerWaiting() {
+        CompletableFuture<Integer> consumer = queue.pollAsync();
+        assertThrows(NullPointerException.class, () -> queue.fill(() -> null, 1));
+        assertFalse(consumer.isDone());
+        assertEquals(1, queue.waitingConsumers());
+
+        assertTrue(queue.offer(8));
+        assertEquals(8, consumer.join());
+    }
+
+    @Test
+    void testIllegalArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new MyAsyncQueue<Integer>(0));
+        assertThrows(NullPointerException.class, () -> queue.offer(null));
+        assertThrows(NullPointerException.class, () -> queue.offerAsync(null));
+    }
+
+    /**
+     * Many more waiting consumers than threads: every consumer gets exactly one element.
+     */
+    @Test
+    void testManyWaitersAcrossThreads() throws InterruptedException {
+        int consumers = 20_000;
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < consumers; i++) {
+            futures.add(queue.pollAsync());
+        }
+
+        Thread[] producers = new Thread[4];
+        for (int p = 0; p < producers.length; p++) {
+            int base = p * (consumers / producers.length);
+            producers[p] = new Thread(() -> {
+                for (int i = 0; i < consumers / producers.length; i++) {
+                    queue.offerAsync(base + i + 1).join();
+                }
+            });
+            producers[p].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        long sum = 0;
+        for (CompletableFuture<Integer> future : futures) {
+            sum += future.join();
+        }
+        assertEquals((long) consumers * (consumers + 1) / 2, sum);
+        assertEquals(0, queue.size());
+    }
+}
@@ -0,0 +1,118 @@
+package test.java.datastructures.queue;
+
+import main.java.datastructures.queue.MyConcurrentLinkedQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyConcurrentLinkedQueueTest {
+
+    private MyConcurrentLinkedQueue<Integer> queue;
+
+    @BeforeEach
+    public void setUp() {
+        queue = new MyConcurrentLinkedQueue<>();
+    }
+
+    @Test
+    void testFifoSingleThread() {
+        assertTrue(queue.isEmpty());
+        assertNull(queue.peek());
+        assertNull(queue.dequeue());
+
+        queue.enqueue(1);
+        queue.enqueue(2);
+
+        assertEquals(2, queue.size());
+        assertEquals(1, queue.peek());
+        assertEquals(1, queue.dequeue());
+        assertEquals(2, queue.dequeue());
+        assertNull(queue.dequeue());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void testNullRejected() {
+        assertThrows(NullPointerException.class, () -> queue.enqueue(null));
+    }
+
+    /**
+     * Stress test for the linearizability properties a consumer can observe:
+     * every element is dequeued exactly once, and elements of a single producer come out in the order they went in.
+     */
+    @Test
+    void testConcurrentProducersAndConsumers() throws InterruptedException {
+        int producers = 4;
+        int consumers = 4;
+        int perProducer = 100_000;
+
+        // Element value encodes (producer, sequence number)
+        boolean[] seen = new boolean[producers * perProducer];
+        AtomicInteger consumed = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            threads.add(new Thread(() -> {
+                await(start);
+                for (int i = 0; i < perProducer; i++) {
+                    queue.enqueue(producer * perProducer + i);
+                }
+            }));
+        }
+
+        for (int c = 0; c < consumers; c++) {
+            threads.add(new Thread(() -> {
+                await(start);
+                int[] lastSeen = new int[producers];
+                Arrays.fill(lastSeen, -1);
+
+                while (consumed.get() < producers * perProducer) {
+                    Integer element = queue.dequeue();
+                    if (element == null) continue;
+
+                    int producer = element / perProducer;
+                    int sequence = element % perProducer;
+                    if (sequence <= lastSeen[producer]) {
+                        failures.incrementAndGet();
+                    }
+                    lastSeen[producer] = sequence;
+
+                    synchronized (seen) {
+                        if (seen[element]) failures.incrementAndGet();
+                        seen[element] = true;
+                    }
+                    consumed.incrementAndGet();
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, failures.get());
+        assertEquals(producers * perProducer, consumed.get());
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
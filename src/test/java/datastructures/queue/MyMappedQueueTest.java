@@ -0,0 +1,218 @@
+package test.java.datastructures.queue;
+
+import main.java.datastructures.codec.ElementCodec;
+import main.java.datastructures.queue.MyMappedQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyMappedQueueTest {
+
+    private static final int SEGMENT_BYTES = 4096;
+
+    @TempDir
+    Path directory;
+
+    private MyMappedQueue<String> queue;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        queue = MyMappedQueue.open(directory, ElementCodec.STRING, SEGMENT_BYTES);
+    }
+
+    @Test
+    void testFifo() {
+        assertNull(queue.peek());
+        assertNull(queue.dequeue());
+
+        queue.enqueue("a");
+        queue.enqueue("");
+        queue.enqueue("c\u00e9");
+        assertEquals(3, queue.size());
+        assertEquals("a", queue.peek());
+        assertEquals("c\u00e9", queue.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> queue.get(3));
+        assertThrows(NullPointerException.class, () -> queue.enqueue(null));
+
+        assertEquals("a", queue.dequeue());
+        assertEquals("", queue.dequeue());
+        assertEquals("c\u00e9", queue.get(0));
+        assertEquals("c\u00e9", queue.dequeue());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void testRolloverAndSegmentDeletion() throws IOException {
+        for (int i = 0; i < 1000; i++) {
+            queue.enqueue("element-" + i);
+        }
+        int segments = queue.segmentCount();
+        assertTrue(segments > 3);
+        assertEquals(segments, countDataFiles());
+        assertEquals("element-777", queue.get(777));
+
+        for (int i = 0; i < 900; i++) {
+            assertEquals("element-" + i, queue.dequeue());
+        }
+        assertTrue(queue.segmentCount() < segments);
+        assertEquals(queue.segmentCount(), countDataFiles());
+        assertEquals("element-950", queue.get(50));
+
+        assertThrows(IllegalArgumentException.class, () -> queue.enqueue("x".repeat(SEGMENT_BYTES)));
+    }
+
+    @Test
+    void testReopenAfterClose() throws IOException {
+        for (int i = 0; i < 500; i++) {
+            queue.enqueue("element-" + i);
+        }
+        for (int i = 0; i < 200; i++) {
+            queue.dequeue();
+        }
+        queue.close();
+        queue.close();
+        assertThrows(IllegalStateException.class, () -> queue.enqueue("late"));
+
+        MyMappedQueue<String> reopened = MyMappedQueue.open(directory, ElementCodec.STRING, SEGMENT_BYTES);
+        assertEquals(300, reopened.size());
+        assertEquals("element-200", reopened.peek());
+        reopened.enqueue("element-500");
+        for (int i = 200; i <= 500; i++) {
+            assertEquals("element-" + i, reopened.dequeue());
+        }
+        reopened.close();
+    }
+
+    @Test
+    void testRecoversWithoutClose() throws IOException {
+        // Dropping the queue without closing it leaves the records in the mapped pages, as a killed process would
+        for (int i = 0; i < 300; i++) {
+            queue.enqueue("element-" + i);
+        }
+        queue.flush();
+        for (int i = 300; i < 700; i++) {
+            queue.enqueue("element-" + i);
+        }
+        for (int i = 0; i < 100; i++) {
+            queue.dequeue();
+        }
+
+        MyMappedQueue<String> recovered = MyMappedQueue.open(directory, ElementCodec.STRING, SEGMENT_BYTES);
+        assertEquals(600, recovered.size());
+        for (int i = 100; i < 700; i++) {
+            assertEquals("element-" + i, recovered.dequeue());
+        }
+        recovered.close();
+    }
+
+    /**
+     * A power failure may persist the deletion of consumed segments but not the checkpoint written before it. The
+     * queue must then resume at the oldest remaining segment, redelivering some elements but losing none.
+     */
+    @Test
+    void testRecoversFromCheckpointOlderThanDeletedSegments() throws IOException {
+        for (int i = 0; i < 100; i++) {
+            queue.enqueue("element-" + i);
+        }
+        queue.flush();
+        Path checkpointFile = directory.resolve("queue.checkpoint");
+        byte[] staleCheckpoint = Files.readAllBytes(checkpointFile);
+
+        for (int i = 100; i < 1000; i++) {
+            queue.enqueue("element-" + i);
+        }
+        for (int i = 0; i < 900; i++) {
+            queue.dequeue();
+        }
+        assertFalse(Files.exists(directory.resolve(String.format("%020d.data", 0))));
+        try (FileChannel channel = FileChannel.open(checkpointFile, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(staleCheckpoint), 0);
+        }
+
+        long oldest;
+        try (Stream<Path> files = Files.list(directory)) {
+            oldest = files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(".data"))
+                    .mapToLong(name -> Long.parseLong(name.substring(0, 20)))
+                    .min().getAsLong();
+        }
+        assertTrue(oldest > 0 && oldest <= 900);
+
+        MyMappedQueue<String> recovered = MyMappedQueue.open(directory, ElementCodec.STRING, SEGMENT_BYTES);
+        assertEquals(1000 - oldest, recovered.size());
+        for (long i = oldest; i < 1000; i++) {
+            assertEquals("element-" + i, recovered.dequeue());
+        }
+        assertNull(recovered.dequeue());
+        recovered.close();
+    }
+
+    @Test
+    void testTornRecordIsDropped() throws IOException {
+        queue.enqueue("first");
+        queue.enqueue("second");
+        queue.enqueue("third");
+
+        // Records are 8 header bytes plus the payload; flip a byte inside "third"
+        Path segment = directory.resolve(String.format("%020d.data", 0));
+        int thirdPayload = (8 + 5) + (8 + 6) + 8;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {'T'}), thirdPayload);
+        }
+
+        MyMappedQueue<String> recovered = MyMappedQueue.open(directory, ElementCodec.STRING, SEGMENT_BYTES);
+        assertEquals(2, recovered.size());
+        recovered.enqueue("fourth");
+        recovered.close();
+
+        MyMappedQueue<String> reopened = MyMappedQueue.open(directory, ElementCodec.STRING, SEGMENT_BYTES);
+        assertEquals("first", reopened.dequeue());
+        assertEquals("second", reopened.dequeue());
+        assertEquals("fourth", reopened.dequeue());
+        assertNull(reopened.dequeue());
+        reopened.close();
+    }
+
+    @Test
+    void testMatchesArrayDeque() throws IOException {
+        MyMappedQueue<Long> longs = MyMappedQueue.open(directory.resolve("longs"), ElementCodec.LONG, 256);
+        ArrayDeque<Long> expected = new ArrayDeque<>();
+        Random random = new Random(3);
+
+        for (int i = 0; i < 20_000; i++) {
+            if (random.nextInt(3) > 0) {
+                long value = random.nextLong();
+                longs.enqueue(value);
+                expected.add(value);
+            } else {
+                assertEquals(expected.poll(), longs.dequeue());
+            }
+            if (i % 5_000 == 0) {
+                longs.close();
+                longs = MyMappedQueue.open(directory.resolve("longs"), ElementCodec.LONG, 256);
+            }
+        }
+
+        assertEquals(expected.size(), longs.size());
+        assertEquals(expected.peek(), longs.peek());
+        longs.close();
+    }
+
+    private long countDataFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".data")).count();
+        }
+    }
+}
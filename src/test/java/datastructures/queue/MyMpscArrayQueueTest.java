@@ -0,0 +1,127 @@
+package test.java.datastructures.queue;
+
+import main.java.datastructures.queue.MyMpscArrayQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyMpscArrayQueueTest {
+
+    private MyMpscArrayQueue<Integer> queue;
+
+    @BeforeEach
+    public void setUp() {
+        queue = new MyMpscArrayQueue<>(4);
+    }
+
+    @Test
+    void testOfferPollUntilFull() {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertFalse(queue.offer(4));
+
+        assertEquals(0, queue.poll());
+        assertTrue(queue.offer(4));
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(4, queue.drain(drained::add, 10));
+        assertEquals(List.of(1, 2, 3, 4), drained);
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void testFillStopsAtCapacity() {
+        assertEquals(4, queue.fill(() -> 7, 6));
+        assertEquals(0, queue.fill(() -> 7, 6));
+        assertEquals(4, queue.size());
+    }
+
+    /**
+     * Every element is consumed exactly once, and elements of a single producer keep their order.
+     */
+    @Test
+    void testFillWithNullElementSkipsUnfilledSlots() {
+        Iterator<Integer> values = Arrays.asList(1, 2, null, 4).iterator();
+        assertThrows(NullPointerException.class, () -> queue.fill(values::next, 4));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            assertEquals(1, queue.poll());
+            assertEquals(2, queue.poll());
+            assertNull(queue.peek());
+            assertNull(queue.poll());
+        });
+        assertEquals(0, queue.size());
+        assertTrue(queue.offer(5));
+        assertEquals(5, queue.poll());
+    }
+
+    @Test
+    void testFillWithThrowingSupplierSkipsUnfilledSlots() {
+        AtomicInteger next = new AtomicInteger();
+        Supplier<Integer> failing = () -> {
+            if (next.get() == 1) throw new IllegalStateException("boom");
+            return next.getAndIncrement();
+        };
+        assertThrows(IllegalStateException.class, () -> queue.fill(failing, 3));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            assertTrue(queue.offer(7));
+            assertEquals(0, queue.peek());
+            List<Integer> drained = new ArrayList<>();
+            assertEquals(2, queue.drain(drained::add, 10));
+            assertEquals(List.of(0, 7), drained);
+        });
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void testConcurrentProducers() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 50_000;
+        MyMpscArrayQueue<Integer> shared = new MyMpscArrayQueue<>(1024);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!shared.offer(producer * perProducer + i)) {
+                        Thread.yield();
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+
+        int[] lastSeen = {-1, -1, -1, -1};
+        int consumed = 0;
+        while (consumed < producers * perProducer) {
+            Integer element = shared.poll();
+            if (element == null) {
+                Thread.yield();
+                continue;
+            }
+
+            int producer = element / perProducer;
+            int sequence = element % perProducer;
+            assertEquals(lastSeen[producer] + 1, sequence);
+            lastSeen[producer] = sequence;
+            consumed += 1;
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(shared.poll());
+    }
+}
@@ -0,0 +1,97 @@
+package test.java.datastructures.queue;
+
+import main.java.datastructures.queue.MySpscArrayQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MySpscArrayQueueTest {
+
+    private MySpscArrayQueue<Integer> queue;
+
+    @BeforeEach
+    public void setUp() {
+        queue = new MySpscArrayQueue<>(4);
+    }
+
+    @Test
+    void testOfferPollUntilFull() {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertFalse(queue.offer(4));
+        assertThrows(IllegalStateException.class, () -> queue.enqueue(4));
+        assertEquals(4, queue.size());
+
+        assertEquals(0, queue.peek());
+        assertEquals(0, queue.poll());
+        assertTrue(queue.offer(4));
+
+        for (int i = 1; i <= 4; i++) {
+            assertEquals(i, queue.dequeue());
+        }
+        assertNull(queue.poll());
+        assertNull(queue.peek());
+    }
+
+    @Test
+    void testCapacityRoundsUpToPowerOfTwo() {
+        assertEquals(8, new MySpscArrayQueue<Integer>(5).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new MySpscArrayQueue<Integer>(0));
+    }
+
+    @Test
+    void testNullRejected() {
+        assertThrows(NullPointerException.class, () -> queue.offer(null));
+    }
+
+    @Test
+    void testFillAndDrain() {
+        AtomicInteger next = new AtomicInteger();
+        assertEquals(4, queue.fill(next::getAndIncrement, 10));
+        assertEquals(4, next.get());
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(3, queue.drain(drained::add, 3));
+        assertEquals(List.of(0, 1, 2), drained);
+
+        assertEquals(3, queue.fill(next::getAndIncrement, 10));
+        assertEquals(4, queue.drain(drained::add, 10));
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6), drained);
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void testProducerConsumerHandoff() throws InterruptedException {
+        int count = 200_000;
+        MySpscArrayQueue<Integer> handoff = new MySpscArrayQueue<>(1024);
+
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                while (!handoff.offer(i)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+
+        int expected = 0;
+        while (expected < count) {
+            Integer element = handoff.poll();
+            if (element == null) {
+                Thread.yield();
+            } else {
+                assertEquals(expected, element);
+                expected += 1;
+            }
+        }
+        producer.join();
+
+        assertNull(handoff.poll());
+    }
+}
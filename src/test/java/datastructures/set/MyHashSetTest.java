@@ -0,0 +1,116 @@
+package test.java.datastructures.set;
+
+import main.java.datastructures.set.MyHashSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyHashSetTest {
+
+    private MyHashSet<String> set;
+
+    @BeforeEach
+    public void setUp() {
+        set = new MyHashSet<>();
+        set.add("apple");
+        set.add("banana");
+    }
+
+    @Test
+    void testAddAndContains() {
+        assertTrue(set.contains("apple"));
+        assertFalse(set.contains("cherry"));
+
+        assertFalse(set.add("apple"));
+        assertTrue(set.add("cherry"));
+        assertEquals(3, set.size());
+    }
+
+    @Test
+    void testRemove() {
+        assertTrue(set.remove("apple"));
+        assertFalse(set.remove("apple"));
+        assertFalse(set.contains("apple"));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void testNullElement() {
+        assertFalse(set.contains(null));
+        assertTrue(set.add(null));
+        assertTrue(set.contains(null));
+        assertTrue(set.remove(null));
+        assertFalse(set.contains(null));
+    }
+
+    @Test
+    void testClear() {
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains("apple"));
+    }
+
+    @Test
+    void testRandomOperationsMatchHashSet() {
+        // Small key range and a high load factor force long probe runs, wrap-around and many backward shifts
+        MyHashSet<Integer> mine = new MyHashSet<>(4, 0.9f);
+        Set<Integer> expected = new HashSet<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            int key = random.nextInt(2_000);
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(key), mine.add(key));
+            } else {
+                assertEquals(expected.remove(key), mine.remove(key));
+            }
+        }
+
+        assertEquals(expected.size(), mine.size());
+        for (int key = 0; key < 2_000; key++) {
+            assertEquals(expected.contains(key), mine.contains(key));
+        }
+
+        Set<Integer> iterated = new HashSet<>();
+        for (Integer key : mine) {
+            assertTrue(iterated.add(key));
+        }
+        assertEquals(expected, iterated);
+    }
+
+    @Test
+    void testIteratorIsFailFast() {
+        Iterator<String> iterator = set.iterator();
+        iterator.next();
+        set.add("cherry");
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        MyHashSet<String> other = new MyHashSet<>(1000, 0.25f);
+        other.add("banana");
+        other.add("apple");
+
+        assertEquals(set, other);
+        assertEquals(set.hashCode(), other.hashCode());
+
+        other.add("cherry");
+        assertNotEquals(set, other);
+    }
+
+    @Test
+    void testIllegalArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new MyHashSet<String>(-1, 0.5f));
+        assertThrows(IllegalArgumentException.class, () -> new MyHashSet<String>(10, 1f));
+        assertThrows(IllegalArgumentException.class, () -> new MyHashSet<String>(10, 0f));
+    }
+}
@@ -0,0 +1,172 @@
+package test.java.datastructures.trie;
+
+import main.java.datastructures.trie.MyAdaptiveRadixTree;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyAdaptiveRadixTreeTest {
+
+    private MyAdaptiveRadixTree<CharSequence, Integer> tree;
+
+    @BeforeEach
+    public void setUp() {
+        tree = MyAdaptiveRadixTree.forCharSequences();
+        tree.put("romane", 1);
+        tree.put("romanus", 2);
+        tree.put("romulus", 3);
+        tree.put("rubens", 4);
+        tree.put("ruber", 5);
+        tree.put("rubicon", 6);
+        tree.put("rubicundus", 7);
+    }
+
+    @Test
+    void testGetPutRemove() {
+        assertEquals(7, tree.size());
+        assertEquals(3, tree.get("romulus"));
+        assertEquals(3, tree.get(new StringBuilder("romulus")));
+        assertNull(tree.get("roman"));
+        assertNull(tree.get("romanesque"));
+
+        assertEquals(5, tree.put("ruber", 50));
+        assertEquals(50, tree.get("ruber"));
+        assertEquals(50, tree.remove("ruber"));
+        assertNull(tree.remove("ruber"));
+        assertNull(tree.remove("rub"));
+        assertEquals(6, tree.size());
+
+        assertThrows(NullPointerException.class, () -> tree.put("x", null));
+    }
+
+    @Test
+    void testKeysThatArePrefixesOfOtherKeys() {
+        tree.put("rom", 10);
+        tree.put("", 0);
+        tree.put("romanes", 11);
+
+        assertEquals(10, tree.get("rom"));
+        assertEquals(0, tree.get(""));
+        assertEquals(1, tree.get("romane"));
+        assertEquals(11, tree.get("romanes"));
+
+        assertEquals(10, tree.remove("rom"));
+        assertEquals(1, tree.remove("romane"));
+        assertEquals(11, tree.get("romanes"));
+        assertEquals(2, tree.get("romanus"));
+    }
+
+    @Test
+    void testLongestPrefixMatch() {
+        MyAdaptiveRadixTree<CharSequence, String> routes = MyAdaptiveRadixTree.forCharSequences();
+        routes.put("/", "root");
+        routes.put("/api", "api");
+        routes.put("/api/users", "users");
+
+        assertEquals("users", routes.longestPrefixValue("/api/users/42"));
+        assertEquals("api", routes.longestPrefixValue("/api/orders"));
+        assertEquals("api", routes.longestPrefixValue("/api"));
+        assertEquals("root", routes.longestPrefixValue("/static/app.js"));
+        assertEquals("/api", routes.longestPrefixKey("/apix"));
+        assertNull(routes.longestPrefixValue("api"));
+    }
+
+    @Test
+    void testPrefixIterationInKeyOrder() {
+        List<String> keys = new ArrayList<>();
+        tree.forEachWithPrefix("rubic", (key, value) -> keys.add(key.toString()));
+        assertEquals(List.of("rubicon", "rubicundus"), keys);
+
+        keys.clear();
+        tree.forEachWithPrefix("ro", (key, value) -> keys.add(key.toString()));
+        assertEquals(List.of("romane", "romanus", "romulus"), keys);
+
+        keys.clear();
+        tree.forEachWithPrefix("rubicons", (key, value) -> keys.add(key.toString()));
+        assertTrue(keys.isEmpty());
+
+        keys.clear();
+        tree.forEachWithPrefix("", (key, value) -> keys.add(key.toString()));
+        assertEquals(List.of("romane", "romanus", "romulus", "rubens", "ruber", "rubicon", "rubicundus"), keys);
+    }
+
+    @Test
+    void testNodesGrowAndShrink() {
+        MyAdaptiveRadixTree<byte[], Integer> bytes = MyAdaptiveRadixTree.forByteArrays();
+        for (int b = 0; b < 256; b++) {
+            bytes.put(new byte[] {7, (byte) b}, b);
+        }
+        assertArrayEquals(new int[] {0, 0, 0, 1}, bytes.innerNodeCounts());
+        assertEquals(200, bytes.get(new byte[] {7, (byte) 200}));
+
+        for (int b = 0; b < 250; b++) {
+            assertEquals(b, bytes.remove(new byte[] {7, (byte) b}));
+        }
+        assertArrayEquals(new int[] {0, 1, 0, 0}, bytes.innerNodeCounts());
+        for (int b = 250; b < 255; b++) {
+            bytes.remove(new byte[] {7, (byte) b});
+        }
+        assertArrayEquals(new int[] {0, 0, 0, 0}, bytes.innerNodeCounts());
+        assertEquals(255, bytes.get(new byte[] {7, (byte) 255}));
+        assertEquals(1, bytes.size());
+    }
+
+    @Test
+    void testByteKeysAreCopied() {
+        MyAdaptiveRadixTree<byte[], String> bytes = MyAdaptiveRadixTree.forByteArrays();
+        byte[] key = {1, 2, 3};
+        bytes.put(key, "a");
+        key[0] = 9;
+        assertEquals("a", bytes.get(new byte[] {1, 2, 3}));
+        assertNull(bytes.get(key));
+    }
+
+    @Test
+    void testMatchesTreeMapUnderRandomOperations() {
+        MyAdaptiveRadixTree<byte[], Integer> actual = MyAdaptiveRadixTree.forByteArrays();
+        TreeMap<byte[], Integer> expected = new TreeMap<>(Arrays::compareUnsigned);
+        Random random = new Random(23);
+
+        for (int step = 0; step < 40_000; step++) {
+            // Short keys over a small alphabet produce shared prefixes, prefix keys and every node size
+            byte[] key = new byte[random.nextInt(5)];
+            for (int i = 0; i < key.length; i++) {
+                key[i] = (byte) (random.nextInt(3) == 0 ? random.nextInt(256) : random.nextInt(4));
+            }
+            if (random.nextInt(3) > 0) {
+                assertEquals(expected.put(key, step), actual.put(key, step));
+            } else {
+                assertEquals(expected.remove(key), actual.remove(key));
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+
+        List<byte[]> keys = new ArrayList<>();
+        actual.forEach((key, value) -> {
+            keys.add(key);
+            assertEquals(expected.get(key), value);
+        });
+        assertEquals(expected.size(), keys.size());
+        int i = 0;
+        for (Map.Entry<byte[], Integer> entry : expected.entrySet()) {
+            assertArrayEquals(entry.getKey(), keys.get(i++));
+        }
+
+        byte[] probe = {1, 2, 3, 0, 1, 2};
+        byte[] longest = null;
+        for (byte[] key : expected.keySet()) {
+            if (key.length <= probe.length && Arrays.equals(key, 0, key.length, probe, 0, key.length)) {
+                longest = key;
+            }
+        }
+        assertArrayEquals(longest, actual.longestPrefixKey(probe));
+    }
+}